@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.benchmarks;
+
+import java.util.Random;
+
+import com.ait.lienzo.client.core.shape.Group;
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridCellValue;
+import org.kie.grid.client.model.impl.BaseGridCellValue;
+import org.kie.grid.client.model.impl.BaseGridColumn;
+import org.kie.grid.client.model.impl.BaseGridData;
+import org.kie.grid.client.model.impl.BaseGridRow;
+import org.kie.grid.client.model.impl.BaseHeaderMetaData;
+import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
+import org.kie.grid.client.widget.grid.renderers.columns.impl.BaseGridColumnRenderer;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A grid populated for each trial, parameterised by its size and the number of distinct values in each column.
+ * Values are in runs of one to {@link #MAX_RUN_LENGTH} rows, chosen at random but the same for every trial, such
+ * that merged data has blocks of varying size. Benchmarks leave the grid the same size, or restore it, so that
+ * each invocation is comparable.
+ */
+@State(Scope.Thread)
+public abstract class BaseGridDataState {
+
+    static final int MAX_RUN_LENGTH = 8;
+    private static final long SEED = 42L;
+
+    @Param({"1000", "10000", "100000"})
+    public int rowCount;
+
+    @Param({"5", "20"})
+    public int columnCount;
+
+    @Param({"2", "100", "10000"})
+    public int cardinality;
+
+    public BaseGridData gridData;
+
+    //Distinct values, shared by all columns
+    protected GridCellValue<?>[] values;
+
+    protected final Random random = new Random(SEED);
+
+    @Setup
+    public void setup() {
+        values = new GridCellValue<?>[cardinality];
+        for (int i = 0; i < cardinality; i++) {
+            values[i] = new BaseGridCellValue<>("Value " + i);
+        }
+
+        //Populated unmerged so the grid is indexed once, rather than as each cell is set
+        gridData = new BaseGridData(false);
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            gridData.appendColumn(new BenchmarkGridColumn("Column " + columnIndex));
+        }
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            gridData.appendRow(new BaseGridRow());
+        }
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            int rowIndex = 0;
+            while (rowIndex < rowCount) {
+                final GridCellValue<?> value = nextValue();
+                final int runLength = 1 + random.nextInt(MAX_RUN_LENGTH);
+                for (int i = 0; i < runLength && rowIndex < rowCount; i++) {
+                    gridData.setCellValue(rowIndex++,
+                                          columnIndex,
+                                          value);
+                }
+            }
+        }
+        gridData.setMerged(isMerged());
+    }
+
+    protected abstract boolean isMerged();
+
+    protected GridCellValue<?> nextValue() {
+        return values[random.nextInt(cardinality)];
+    }
+
+    /**
+     * A column that renders nothing; the model neither renders nor edits cells.
+     */
+    public static class BenchmarkGridColumn extends BaseGridColumn<String> {
+
+        public BenchmarkGridColumn(final String title) {
+            super(new BaseHeaderMetaData(title),
+                  new BaseGridColumnRenderer<String>() {
+                      @Override
+                      public Group renderCell(final GridCell<String> cell,
+                                              final GridBodyCellRenderContext context) {
+                          return null;
+                      }
+                  },
+                  100);
+        }
+    }
+}
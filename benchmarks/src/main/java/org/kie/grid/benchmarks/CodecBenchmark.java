@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridColumn;
+import org.kie.grid.client.model.GridRow;
+import org.kie.grid.client.model.impl.BaseGridData;
+import org.kie.grid.client.model.impl.GridDataCodec;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding a grid with {@link GridDataCodec}, and decoding it into a grid with the same columns; compared with a naive
+ * encoding of the height and value of every cell of every row. Decoding replaces the rows of the grid, so each
+ * invocation restores the same data. The size of both encodings is reported, in bytes, by {@link EncodedSize}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Benchmark
+    public byte[] encode(final EncodedState state,
+                         final EncodedSize size) {
+        final byte[] data = GridDataCodec.encode(state.gridData);
+        size.codecBytes = data.length;
+        size.naiveBytes = state.naiveData.length;
+        return data;
+    }
+
+    @Benchmark
+    public byte[] encodeNaive(final EncodedState state) {
+        return encodeNaive(state.gridData);
+    }
+
+    @Benchmark
+    public BaseGridData decode(final EncodedState state) {
+        GridDataCodec.decode(state.data,
+                             state.decodedGridData);
+        return state.decodedGridData;
+    }
+
+    //Each row's height followed by the value of each of its cells, as text
+    static byte[] encodeNaive(final BaseGridData gridData) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (GridRow row : gridData.getRows()) {
+                out.writeDouble(row.getHeight());
+                for (GridColumn<?> column : gridData.getColumns()) {
+                    final GridCell<?> cell = row.getCells().get(column.getIndex());
+                    final boolean hasValue = cell != null && cell.getValue() != null && cell.getValue().getValue() != null;
+                    out.writeBoolean(hasValue);
+                    if (hasValue) {
+                        out.writeUTF(cell.getValue().getValue().toString());
+                    }
+                }
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * A grid, its encoded data and a grid with the same columns into which the data is decoded.
+     */
+    public static class EncodedState extends GridDataState {
+
+        public byte[] data;
+
+        public byte[] naiveData;
+
+        public BaseGridData decodedGridData;
+
+        @Setup
+        public void encode() {
+            data = GridDataCodec.encode(gridData);
+            naiveData = encodeNaive(gridData);
+            decodedGridData = new BaseGridData(false);
+            for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                decodedGridData.appendColumn(new BenchmarkGridColumn("Column " + columnIndex));
+            }
+        }
+    }
+
+    /**
+     * The size, in bytes, of the data encoded by {@link GridDataCodec} and of the naive encoding of the same grid.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long codecBytes;
+
+        public long naiveBytes;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.impl.BaseGridCell;
+import org.kie.grid.client.model.impl.BaseGridCellValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Indexing merged cells, with values shared through the dictionary of each column or not, and collapsing and
+ * expanding a merged block.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeBenchmark {
+
+    @Benchmark
+    public void setMerged(final UnmergedState state) {
+        state.gridData.setMerged(true);
+    }
+
+    @Benchmark
+    public void collapseAndExpandCell(final MergedState state) {
+        state.gridData.collapseCell(state.leadRowIndex,
+                                    0);
+        state.gridData.expandCell(state.leadRowIndex,
+                                  0);
+    }
+
+    /**
+     * A grid that is unmerged before each invocation; which is long enough, when indexing every cell, for the
+     * cost of doing so to be immaterial. Values set through {@link org.kie.grid.client.model.GridData#setCellValue}
+     * are shared by cells of the column holding an equal value, and so are compared by their code when indexed;
+     * unless {@link #sharedValues} is false, in which case every cell is replaced with one holding its own value.
+     */
+    public static class UnmergedState extends BaseGridDataState {
+
+        @Param({"true", "false"})
+        public boolean sharedValues;
+
+        @Override
+        protected boolean isMerged() {
+            return false;
+        }
+
+        @Setup
+        public void unshareValues() {
+            if (sharedValues) {
+                return;
+            }
+            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                    //Values are constructed anew, as if read from a data source
+                    final String value = new String((String) gridData.getCell(rowIndex,
+                                                                              columnIndex).getValue().getValue());
+                    gridData.setCell(rowIndex,
+                                     columnIndex,
+                                     () -> new BaseGridCell<>(new BaseGridCellValue<>(value)));
+                }
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void unmerge() {
+            gridData.setMerged(false);
+        }
+    }
+
+    /**
+     * A merged grid, with the "lead" row of a block in the middle of the first column.
+     */
+    public static class MergedState extends BaseGridDataState {
+
+        public int leadRowIndex;
+
+        @Override
+        protected boolean isMerged() {
+            return true;
+        }
+
+        @Setup
+        public void findMergedBlock() {
+            for (leadRowIndex = rowCount / 2; leadRowIndex < rowCount; leadRowIndex++) {
+                final GridCell<?> cell = gridData.getCell(leadRowIndex,
+                                                          0);
+                if (cell != null && cell.getMergedCellCount() > 1) {
+                    return;
+                }
+            }
+            throw new IllegalStateException("There are no merged blocks in the first column.");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.GridRow;
+import org.kie.grid.client.model.impl.BaseGridRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Adding, removing and moving rows; at the start, middle and end of the grid. Rows added are removed in the same
+ * invocation, and rows moved to the end of the grid are those from its start, so the grid's size is unchanged however
+ * many invocations there are.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowBenchmark {
+
+    private static final int MOVED_ROW_COUNT = 10;
+
+    @Benchmark
+    public GridData.Range appendAndDeleteRow(final GridDataState state) {
+        state.gridData.appendRow(new BaseGridRow());
+        return state.gridData.deleteRow(state.rowCount);
+    }
+
+    @Benchmark
+    public GridData.Range insertAndDeleteFirstRow(final GridDataState state) {
+        state.gridData.insertRow(0,
+                                 new BaseGridRow());
+        return state.gridData.deleteRow(0);
+    }
+
+    @Benchmark
+    public GridData.Range insertAndDeleteRow(final GridDataState state) {
+        final int rowIndex = state.rowCount / 2;
+        state.gridData.insertRow(rowIndex,
+                                 new BaseGridRow());
+        return state.gridData.deleteRow(rowIndex);
+    }
+
+    @Benchmark
+    public void moveRowsTo(final GridDataState state) {
+        final List<GridRow> rows = new ArrayList<>(state.gridData.getRows().subList(0,
+                                                                                    MOVED_ROW_COUNT));
+        state.gridData.moveRowsTo(state.rowCount - MOVED_ROW_COUNT,
+                                  rows);
+    }
+}
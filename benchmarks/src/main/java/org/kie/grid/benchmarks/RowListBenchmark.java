@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.grid.client.model.GridRow;
+import org.kie.grid.client.model.impl.BaseGridRow;
+import org.kie.grid.client.model.impl.GridRowList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Adding, removing and getting rows at the start, middle and end of the list holding a grid's rows; comparing
+ * {@link GridRowList} with an {@link ArrayList}. Rows added are removed in the same invocation, so the list's size
+ * is unchanged however many invocations there are.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowListBenchmark {
+
+    @Benchmark
+    public GridRow addAndRemove(final RowListState state) {
+        final int index = state.getIndex();
+        state.rows.add(index,
+                       state.row);
+        return state.rows.remove(index);
+    }
+
+    @Benchmark
+    public GridRow get(final RowListState state) {
+        return state.rows.get(state.getIndex());
+    }
+
+    public enum Position {
+        START,
+        MIDDLE,
+        END
+    }
+
+    /**
+     * A list of rows, of either type, parameterised by its size and the position at which it is changed.
+     */
+    @State(Scope.Thread)
+    public static class RowListState {
+
+        @Param({"GridRowList", "ArrayList"})
+        public String listType;
+
+        @Param({"10000", "100000", "1000000"})
+        public int rowCount;
+
+        @Param({"START", "MIDDLE", "END"})
+        public Position position;
+
+        public List<GridRow> rows;
+
+        public GridRow row;
+
+        @Setup
+        public void setup() {
+            rows = "GridRowList".equals(listType) ? new GridRowList() : new ArrayList<>();
+            for (int i = 0; i < rowCount; i++) {
+                rows.add(new BaseGridRow());
+            }
+            row = new BaseGridRow();
+        }
+
+        //Rows are added before, and removed at, the last row at the end so that the same index is used by each benchmark
+        int getIndex() {
+            switch (position) {
+                case START:
+                    return 0;
+                case MIDDLE:
+                    return rowCount / 2;
+                default:
+                    return rowCount - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.grid.client.model.GridData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Selecting cells, having cleared the previous selection. In merged data the selection is extended to include
+ * whole merged blocks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionBenchmark {
+
+    private static final int SELECTED_ROW_COUNT = 100;
+
+    @Benchmark
+    public GridData.Range selectCell(final GridDataState state) {
+        state.gridData.clearSelections();
+        return state.gridData.selectCell(state.random.nextInt(state.rowCount),
+                                         state.random.nextInt(state.columnCount));
+    }
+
+    @Benchmark
+    public GridData.Range selectCells(final GridDataState state) {
+        state.gridData.clearSelections();
+        return state.gridData.selectCells(state.random.nextInt(state.rowCount - SELECTED_ROW_COUNT),
+                                          0,
+                                          state.columnCount,
+                                          SELECTED_ROW_COUNT);
+    }
+}
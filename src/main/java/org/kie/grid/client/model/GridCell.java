@@ -51,17 +51,27 @@ public interface GridCell<T> {
      * block this should return false. For cells that are not the top of a collapsed block
      * but are contained in a collapsed block this should return false.
      * @return true is collapsed.
+     * @deprecated Cells are no longer marked as collapsed by {@link GridData#collapseCell(int, int)}; this only
+     * reflects calls to {@link #collapse()} and {@link #expand()}. Use {@link GridRow#isCollapsed()} for whether the
+     * cell's row is hidden. Collapsed blocks are held by {@link org.kie.grid.client.model.impl.GridCollapsedRegions}.
      */
+    @Deprecated
     boolean isCollapsed();
 
     /**
      * Collapse the cell.
+     * @deprecated Collapsing a cell has no effect on the grid. Use {@link GridData#collapseCell(int, int)}, which
+     * records the block collapsed in {@link org.kie.grid.client.model.impl.GridCollapsedRegions}.
      */
+    @Deprecated
     void collapse();
 
     /**
      * Expand the cell.
+     * @deprecated Expanding a cell has no effect on the grid. Use {@link GridData#expandCell(int, int)}, which
+     * removes the block expanded from {@link org.kie.grid.client.model.impl.GridCollapsedRegions}.
      */
+    @Deprecated
     void expand();
 
     /**
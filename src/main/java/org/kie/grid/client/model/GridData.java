@@ -15,7 +15,10 @@
  */
 package org.kie.grid.client.model;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -129,12 +132,137 @@ public interface GridData {
     void moveRowsTo(final int index,
                     final List<GridRow> rows);
 
+    /**
+     * Sorts rows by the values of cells in the given columns. The sort is stable; rows with equal values retain
+     * their relative order. Cells without a value are sorted last. Collapsed cells are expanded beforehand. The
+     * sort order is maintained as values of cells in the sorted columns change, by moving the affected rows,
+     * until rows are added, removed or moved.
+     * @param criteria The columns to sort by, in order of precedence. An empty list clears the sort order.
+     */
+    void sort(final List<SortCriterion> criteria);
+
+    /**
+     * Returns the criteria by which rows are sorted.
+     * @return The criteria, in order of precedence. An empty list if rows are not sorted.
+     */
+    List<SortCriterion> getSortCriteria();
+
+    /**
+     * Filters rows. Rows that do not match the filter are hidden and all methods that accept or return a row index,
+     * including {@link #getRowCount()}, address visible rows only. Collapsed cells are expanded beforehand and merged
+     * cells are indexed over visible rows. Rows added whilst a filter is active remain visible, and edited rows remain
+     * visible or hidden, until the filter is next changed.
+     * @param filter The filter. null to clear the filter and show all rows.
+     */
+    void setFilter(final Predicate<GridRow> filter);
+
+    /**
+     * Changes the filter to one that matches no more rows than the current filter; for example after adding a
+     * condition. Only rows that are visible are evaluated. If no filter is active this is equivalent to {@link #setFilter(Predicate)}.
+     * @param filter The narrower filter.
+     */
+    void narrowFilter(final Predicate<GridRow> filter);
+
+    /**
+     * Changes the filter to one that matches no fewer rows than the current filter; for example after removing a
+     * condition. Only rows that are hidden are evaluated. If no filter is active this is equivalent to {@link #setFilter(Predicate)}.
+     * @param filter The wider filter.
+     */
+    void widenFilter(final Predicate<GridRow> filter);
+
+    /**
+     * Returns the active filter.
+     * @return The filter or null if rows are not filtered.
+     */
+    Predicate<GridRow> getFilter();
+
+    /**
+     * Finds cells whose display text contains a word starting with each word of the search text, ignoring case.
+     * For example "ja sm" finds "Smith, Jane". Cells in hidden columns and collapsed rows are not included. Cells
+     * are indexed the first time they are searched and the index is maintained as cells are changed through this
+     * interface; the first search therefore takes longer than subsequent searches.
+     * @param text The search text.
+     * @param minRowIndex The index of the first row to search (inclusive).
+     * @param maxRowIndex The index of the last row to search (inclusive).
+     * @return Matching cells ordered as displayed; by row and then by the column's position. The column index of
+     * each cell is the column's model index, consistent with {@link #getSelectedCells()}.
+     */
+    List<SelectedCell> findAll(final String text,
+                               final int minRowIndex,
+                               final int maxRowIndex);
+
+    /**
+     * Finds the next cell, as displayed, after the given cell whose display text matches the search text. The search
+     * wraps around to the first row and finally to the given cell itself. See {@link #findAll(String, int, int)}.
+     * @param text The search text.
+     * @param rowIndex The index of the row containing the cell from which to search, or -1 to search from the first cell.
+     * @param columnIndex The model index of the column containing the cell from which to search; i.e.
+     * {@link GridColumn#getIndex()}. A cell returned by a previous search can therefore be passed to continue searching.
+     * @return The matching cell, with the column's model index, or null if no cell matches.
+     */
+    SelectedCell findNext(final String text,
+                          final int rowIndex,
+                          final int columnIndex);
+
+    /**
+     * Takes a snapshot of the rows, the values of their cells and the order of columns, in O(1). Snapshots share
+     * unchanged rows and cells with the grid, hence the memory used by a snapshot grows with the size of subsequent
+     * changes rather than the size of the grid. Changes must be made through this interface to be isolated from
+     * snapshots. The state of the view, e.g. collapsed cells, selections, filters and sort order, is not included.
+     * Cells are retained for a snapshot until it is released with {@link Snapshot#release()}.
+     * @return The snapshot.
+     */
+    Snapshot snapshot();
+
+    /**
+     * Restores rows, the values of their cells and the order of columns to those of a snapshot. Merged cells are
+     * indexed again, collapsed cells are expanded, selections are cleared and rows are no longer sorted. An active
+     * filter is evaluated again. Snapshots taken before or after this snapshot remain valid; for example to redo changes.
+     * @param snapshot A snapshot taken from this grid with {@link #snapshot()} that has not been released.
+     */
+    void restore(final Snapshot snapshot);
+
     /**
      * Returns the total number of rows in the grid, including collapsed rows.
      * @return
      */
     int getRowCount();
 
+    /**
+     * Returns the y-offset of the top of the row at the specified index relative to the top of the first row.
+     * Implementations that know their row heights in advance can override this to avoid visiting every row.
+     * @param rowIndex Index of the row. Can be equal to {@link #getRowCount()} to return the height of all rows.
+     * @return
+     */
+    default double getRowOffset(final int rowIndex) {
+        double rowOffset = 0;
+        for (int i = 0; i < rowIndex; i++) {
+            rowOffset = rowOffset + getRow(i).getHeight();
+        }
+        return rowOffset;
+    }
+
+    /**
+     * Returns the index of the first row whose bottom edge is at or below the specified y-offset. The y-offset is
+     * relative to the top of the first row. Implementations that know their row heights in advance can override
+     * this to avoid visiting every row.
+     * @param offsetY y-offset relative to the top of the first row.
+     * @return The index of the row; the last row if the offset is beyond the last row or -1 if there are no rows.
+     */
+    default int findRowIndex(final double offsetY) {
+        if (getRowCount() == 0) {
+            return -1;
+        }
+        GridRow row;
+        int rowIndex = 0;
+        double y = offsetY;
+        while ((row = getRow(rowIndex)).getHeight() < y && rowIndex < getRowCount() - 1) {
+            y = y - row.getHeight();
+            rowIndex++;
+        }
+        return rowIndex;
+    }
+
     /**
      * Returns the number of rows in the grid's header.
      * @return The number of rows in the header; greater than zero.
@@ -156,6 +284,21 @@ public interface GridData {
     GridCell<?> getCell(final int rowIndex,
                         final int columnIndex);
 
+    /**
+     * Returns a description of the merged block containing the cell at the specified physical coordinate.
+     * Cells that are not merged are described by a block containing a single row. Implementations that maintain
+     * merge meta-data can override this to avoid back-tracking to the "lead" cell of the block.
+     * @param rowIndex
+     * @param columnIndex
+     * @return
+     */
+    default MergedBlock getMergedBlock(final int rowIndex,
+                                       final int columnIndex) {
+        return MergedBlock.find(this,
+                                rowIndex,
+                                columnIndex);
+    }
+
     /**
      * Sets a cell at the specified physical coordinate.
      * @param rowIndex
@@ -187,6 +330,21 @@ public interface GridData {
     Range deleteCell(final int rowIndex,
                      final int columnIndex);
 
+    /**
+     * Sets the values of a block of cells in a single update; for example when pasting. Values are consumed a row at
+     * a time, hence they can be supplied as they are parsed. Unlike {@link #setCellValue(int, int, GridCellValue)}
+     * only the given cells are changed, rather than all cells in their merged block, and merged cells are indexed
+     * once all values have been set. Collapsed cells are expanded beforehand.
+     * @param rowIndex The index of the row containing the top-left cell.
+     * @param columnIndex The index of the column containing the top-left cell.
+     * @param values The values of each row, in order. Each row's values are set in consecutive visible columns.
+     * A null value deletes the cell. Values beyond the last row or column are ignored.
+     * @return The Range of rows affected by the operation.
+     */
+    Range setCellValues(final int rowIndex,
+                        final int columnIndex,
+                        final Iterator<List<GridCellValue<?>>> values);
+
     /**
      * Selects a cell at the specified physical coordinate.
      * @param rowIndex
@@ -280,6 +438,159 @@ public interface GridData {
     void expandCell(final int rowIndex,
                     final int columnIndex);
 
+    /**
+     * Collapses all merged blocks in a column. Unlike {@link #collapseCell(int, int)} the rows hidden are given
+     * zero height, rather than leaving this to an animation, so the grid can be redrawn once afterwards.
+     * @param columnIndex
+     */
+    void collapseAll(final int columnIndex);
+
+    /**
+     * Expands all collapsed cells in a column. Nested collapsed cells in other columns remain collapsed.
+     * @param columnIndex
+     */
+    void expandAll(final int columnIndex);
+
+    /**
+     * Expands all collapsed cells in columns before the given level and collapses all merged blocks in
+     * columns at and after it. Level zero therefore collapses all columns and a level equal to the number
+     * of columns expands all columns.
+     * @param level
+     */
+    void collapseToLevel(final int level);
+
+    /**
+     * A block of merged cells within a single column.
+     */
+    class MergedBlock {
+
+        private final int leadRowIndex;
+        private final int rowCount;
+        private final double height;
+        private final boolean isMixedValue;
+
+        public MergedBlock(final int leadRowIndex,
+                           final int rowCount,
+                           final double height,
+                           final boolean isMixedValue) {
+            this.leadRowIndex = leadRowIndex;
+            this.rowCount = rowCount;
+            this.height = height;
+            this.isMixedValue = isMixedValue;
+        }
+
+        /**
+         * Returns the index of the row containing the "lead" cell; i.e. the top of the merged block.
+         * @return
+         */
+        public int getLeadRowIndex() {
+            return leadRowIndex;
+        }
+
+        /**
+         * Returns the number of rows spanned by the merged block.
+         * @return
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Returns the sum of the heights of the rows spanned by the merged block.
+         * @return
+         */
+        public double getHeight() {
+            return height;
+        }
+
+        /**
+         * Returns whether collapsed rows following the "lead" row contain different values.
+         * @return true if the block should be highlighted as containing mixed values.
+         */
+        public boolean isMixedValue() {
+            return isMixedValue;
+        }
+
+        /**
+         * Finds the merged block containing the given cell by back-tracking to the "lead" cell of the block.
+         * @param model
+         * @param rowIndex
+         * @param columnIndex
+         * @return
+         */
+        public static MergedBlock find(final GridData model,
+                                       final int rowIndex,
+                                       final int columnIndex) {
+            //Back-track to the "lead" cell of the merged block
+            int leadRowIndex = rowIndex;
+            GridCell<?> leadCell = model.getCell(leadRowIndex,
+                                                 columnIndex);
+            while (leadRowIndex > 0 && leadCell != null && leadCell.getMergedCellCount() == 0) {
+                leadRowIndex--;
+                leadCell = model.getCell(leadRowIndex,
+                                         columnIndex);
+            }
+            final int rowCount = Math.min(leadCell == null ? 1 : Math.max(1,
+                                                                          leadCell.getMergedCellCount()),
+                                          model.getRowCount() - leadRowIndex);
+
+            //Check whether collapsed rows following the "lead" row contain different values
+            boolean isMixedValue = false;
+            for (int i = leadRowIndex + 1; i < model.getRowCount() && model.getRow(i).isCollapsed(); i++) {
+                if (!Objects.equals(leadCell,
+                                    model.getCell(i,
+                                                  columnIndex))) {
+                    isMixedValue = true;
+                    break;
+                }
+            }
+
+            double height = 0;
+            for (int i = leadRowIndex; i < leadRowIndex + rowCount; i++) {
+                height = height + model.getRow(i).getHeight();
+            }
+            return new MergedBlock(leadRowIndex,
+                                   rowCount,
+                                   height,
+                                   isMixedValue);
+        }
+    }
+
+    /**
+     * An immutable version of the grid. See {@link #snapshot()}.
+     */
+    interface Snapshot {
+
+        /**
+         * Releases cells retained for the snapshot by rows changed since it was taken. A released snapshot can no
+         * longer be restored. Releasing a snapshot more than once has no effect.
+         */
+        void release();
+    }
+
+    /**
+     * A column by which rows are sorted.
+     */
+    class SortCriterion {
+
+        private final int columnIndex;
+        private final boolean isAscending;
+
+        public SortCriterion(final int columnIndex,
+                             final boolean isAscending) {
+            this.columnIndex = columnIndex;
+            this.isAscending = isAscending;
+        }
+
+        public int getColumnIndex() {
+            return columnIndex;
+        }
+
+        public boolean isAscending() {
+            return isAscending;
+        }
+    }
+
     /**
      * A range of rows.
      */
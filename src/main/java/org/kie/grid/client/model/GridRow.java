@@ -63,12 +63,12 @@ public interface GridRow {
     boolean isCollapsed();
 
     /**
-     * Collapses all cells on the row.
+     * Collapses the row. The row holds the collapsed state for all of its cells.
      */
     void collapse();
 
     /**
-     * Expands all cells on the row.
+     * Expands the row.
      */
     void expand();
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A source of rows for grids whose data is loaded on demand; rather than held in its entirety.
+ */
+public interface GridRowProvider {
+
+    /**
+     * Returns the total number of rows available from the provider.
+     * @return
+     */
+    int getRowCount();
+
+    /**
+     * Returns the height of rows that have not yet been loaded. This is used to position rows before they are
+     * available and should be the actual height of rows if known or otherwise a reasonable estimate.
+     * @return
+     */
+    double getRowHeight();
+
+    /**
+     * Requests a range of rows. The request may complete asynchronously.
+     * @param fromIndex Index of the first row to return.
+     * @param count Number of rows to return. The range never extends beyond {@link #getRowCount()}.
+     * @param callback Invoked with the rows once they are available. Cell keys are physical column indexes.
+     */
+    void getRows(final int fromIndex,
+                 final int count,
+                 final Consumer<List<GridRow>> callback);
+}
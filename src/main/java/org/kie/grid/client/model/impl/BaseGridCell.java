@@ -28,10 +28,15 @@ import org.kie.grid.client.widget.grid.selections.impl.RangeSelectionStrategy;
 public class BaseGridCell<T> implements GridCell<T> {
 
     protected GridCellValue<T> value;
+    //Only changed by the deprecated collapse() and expand(); collapsed blocks are held by GridCollapsedRegions
     private int collapseLevel = 0;
     private int mergedCellCount = 1;
     private CellSelectionStrategy selectionStrategy = RangeSelectionStrategy.INSTANCE;
 
+    //Dictionary of the column in which the value is shared, if any, and the value's code therein
+    private GridCellValueDictionary dictionary = null;
+    private int valueCode = GridCellValueDictionary.NO_CODE;
+
     public BaseGridCell(final GridCellValue<T> value) {
         this.value = value;
     }
@@ -44,6 +49,33 @@ public class BaseGridCell<T> implements GridCell<T> {
     //This is not part of the GridCell interface as we don't want to expose this for general use
     void setValue(final GridCellValue<T> value) {
         this.value = value;
+        this.dictionary = null;
+        this.valueCode = GridCellValueDictionary.NO_CODE;
+    }
+
+    //Sets the value to that shared by cells in the column holding an equal value, if the dictionary permits
+    void setValue(final GridCellValue<T> value,
+                  final GridCellValueDictionary dictionary) {
+        final int code = dictionary.getCode(value);
+        if (code == GridCellValueDictionary.NO_CODE) {
+            setValue(value);
+            return;
+        }
+        setValue(dictionary,
+                 code);
+    }
+
+    //Sets the value to that with a code in the dictionary of the column
+    @SuppressWarnings("unchecked")
+    void setValue(final GridCellValueDictionary dictionary,
+                  final int code) {
+        this.value = (GridCellValue<T>) dictionary.getValue(code);
+        this.dictionary = dictionary;
+        this.valueCode = code;
+    }
+
+    int getValueCode() {
+        return valueCode;
     }
 
     @Override
@@ -62,16 +94,19 @@ public class BaseGridCell<T> implements GridCell<T> {
     }
 
     @Override
+    @Deprecated
     public boolean isCollapsed() {
         return collapseLevel > 0;
     }
 
     @Override
+    @Deprecated
     public void collapse() {
         collapseLevel++;
     }
 
     @Override
+    @Deprecated
     public void expand() {
         collapseLevel--;
     }
@@ -103,6 +138,11 @@ public class BaseGridCell<T> implements GridCell<T> {
 
         BaseGridCell<?> that = (BaseGridCell<?>) o;
 
+        //Values shared through the same dictionary are equal only if their codes are
+        if (dictionary != null && dictionary == that.dictionary) {
+            return valueCode == that.valueCode;
+        }
+
         return !(value != null ? !value.equals(that.value) : that.value != null);
     }
 
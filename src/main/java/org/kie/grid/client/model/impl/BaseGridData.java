@@ -17,13 +17,20 @@ package org.kie.grid.client.model.impl;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
@@ -37,6 +44,8 @@ import org.kie.grid.client.model.GridCellValue;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
 import org.kie.grid.client.model.GridRow;
+import org.kie.grid.client.util.ColumnIndexUtilities;
+import org.kie.grid.client.util.GridTracer;
 import org.kie.grid.client.widget.dom.HasDOMElementResources;
 
 /**
@@ -47,7 +56,7 @@ public class BaseGridData implements GridData {
     protected boolean isMerged = true;
     protected boolean isRowDraggingEnabled = true;
     protected boolean isColumnDraggingEnabled = true;
-    protected List<GridRow> rows = new ArrayList<GridRow>();
+    protected List<GridRow> rows = new GridRowList();
     protected List<GridColumn<?>> columns = new ArrayList<GridColumn<?>>();
     protected List<SelectedCell> selectedCells = new ArrayList<SelectedCell>();
     protected int headerRowCount = 1;
@@ -55,6 +64,18 @@ public class BaseGridData implements GridData {
     protected BaseGridDataIndexManager indexManager = new BaseGridDataIndexManager(this);
     protected BaseGridDataSelectionsManager selectionsManager = new BaseGridDataSelectionsManager(this);
 
+    private final GridRowHeights rowHeights = new GridRowHeights(new BaseGridRow().getHeight());
+    private final Runnable rowHeightChangedCallback = () -> isRowHeightsDetected = false;
+    private boolean isRowHeightsDetected = false;
+    private int unobservedRowCount = 0;
+    private GridRowSorter sorter = null;
+    private GridRowFilter rowFilter = null;
+    private final GridSearchIndex searchIndex = new GridSearchIndex();
+    private final Map<GridColumn<?>, GridCellValueDictionary> valueDictionaries = new IdentityHashMap<>();
+
+    //Versions of the data of which live snapshots were taken; rows retain cells changed since for the snapshots
+    final GridSnapshotVersions versions = new GridSnapshotVersions();
+
     public BaseGridData() {
         this(true);
     }
@@ -75,52 +96,81 @@ public class BaseGridData implements GridData {
 
     @Override
     public void appendColumn(final GridColumn<?> column) {
-        column.setIndex(columns.size());
-        columns.add(column);
-
-        selectionsManager.onInsertColumn(columns.size() - 1);
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            column.setIndex(columns.size());
+            columns.add(column);
+
+            selectionsManager.onInsertColumn(columns.size() - 1);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "appendColumn",
+                       traceStart);
+        }
     }
 
     @Override
     public void insertColumn(final int index,
                              final GridColumn<?> column) {
-        column.setIndex(columns.size());
-        columns.add(index,
-                    column);
-
-        selectionsManager.onInsertColumn(index);
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            column.setIndex(columns.size());
+            columns.add(index,
+                        column);
+
+            selectionsManager.onInsertColumn(index);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "insertColumn",
+                       traceStart);
+        }
     }
 
     @Override
     public void deleteColumn(final GridColumn<?> column) {
-        final int index = column.getIndex();
-        for (GridColumn<?> c : columns) {
-            if (c.getIndex() > index) {
-                c.setIndex(c.getIndex() - 1);
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            final int index = column.getIndex();
+            for (GridColumn<?> c : columns) {
+                if (c.getIndex() > index) {
+                    c.setIndex(c.getIndex() - 1);
+                }
             }
-        }
 
-        //Destroy column
-        if (column.getColumnRenderer() instanceof HasDOMElementResources) {
-            ((HasDOMElementResources) column.getColumnRenderer()).destroyResources();
-        }
-
-        removeColumn(column);
+            //Destroy column
+            if (column.getColumnRenderer() instanceof HasDOMElementResources) {
+                ((HasDOMElementResources) column.getColumnRenderer()).destroyResources();
+            }
 
-        //Destroy column data
-        for (GridRow row : rows) {
-            ((BaseGridRow) row).deleteCell(index);
-            final Map<Integer, GridCell<?>> clone = new HashMap<Integer, GridCell<?>>(row.getCells());
-            for (Map.Entry<Integer, GridCell<?>> e : clone.entrySet()) {
-                if (e.getKey() > index) {
-                    ((BaseGridRow) row).deleteCell(e.getKey());
-                    ((BaseGridRow) row).setCell(e.getKey() - 1,
-                                                e.getValue());
+            removeColumn(column);
+            sorter = null;
+            searchIndex.deleteColumn(index);
+            valueDictionaries.remove(column);
+
+            //Destroy column data
+            for (GridRow row : getRowsHoldingCells()) {
+                ((BaseGridRow) row).onChangeCells(versions);
+                ((BaseGridRow) row).deleteCell(index);
+                final Map<Integer, GridCell<?>> clone = new HashMap<Integer, GridCell<?>>(row.getCells());
+                for (Map.Entry<Integer, GridCell<?>> e : clone.entrySet()) {
+                    if (e.getKey() > index) {
+                        ((BaseGridRow) row).deleteCell(e.getKey());
+                        ((BaseGridRow) row).setCell(e.getKey() - 1,
+                                                    e.getValue());
+                    }
                 }
             }
-        }
 
-        selectionsManager.onDeleteColumn(index);
+            indexManager.invalidateMergedBlocks();
+            selectionsManager.onDeleteColumn(index);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "deleteColumn",
+                       traceStart);
+        }
     }
 
     void removeColumn(final GridColumn<?> column) {
@@ -147,23 +197,31 @@ public class BaseGridData implements GridData {
     @Override
     public void moveColumnsTo(final int index,
                               final List<GridColumn<?>> columns) {
-        if (columns == null || columns.isEmpty()) {
-            return;
-        }
-        final int currentIndex = this.columns.indexOf(columns.get(0));
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            if (columns == null || columns.isEmpty()) {
+                return;
+            }
+            final int currentIndex = this.columns.indexOf(columns.get(0));
 
-        //Moving left
-        if (index < currentIndex) {
-            this.columns.removeAll(columns);
-            this.columns.addAll(index,
-                                columns);
-        }
+            //Moving left
+            if (index < currentIndex) {
+                this.columns.removeAll(columns);
+                this.columns.addAll(index,
+                                    columns);
+            }
 
-        //Moving right
-        if (index > currentIndex) {
-            this.columns.removeAll(columns);
-            this.columns.addAll(index - columns.size() + 1,
-                                columns);
+            //Moving right
+            if (index > currentIndex) {
+                this.columns.removeAll(columns);
+                this.columns.addAll(index - columns.size() + 1,
+                                    columns);
+            }
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "moveColumnsTo",
+                       traceStart);
         }
     }
 
@@ -179,47 +237,92 @@ public class BaseGridData implements GridData {
 
     @Override
     public void appendRow(final GridRow row) {
-        this.rows.add(row);
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            this.rows.add(row);
+            if (rowFilter != null) {
+                rowFilter.appendRow(row);
+            }
+            observeRowHeight(row);
+            searchIndex.addRow(row);
+            sorter = null;
+
+            indexManager.invalidateMergedBlocks();
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "appendRow",
+                       traceStart);
+        }
     }
 
     @Override
     public void insertRow(final int rowIndex,
                           final GridRow row) {
-        this.rows.add(rowIndex,
-                      row);
-
-        indexManager.onInsertRow(rowIndex);
-        selectionsManager.onInsertRow(rowIndex);
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            this.rows.add(rowIndex,
+                          row);
+            if (rowFilter != null) {
+                rowFilter.insertRow(rowIndex,
+                                    row);
+            }
+            observeRowHeight(row);
+            searchIndex.addRow(row);
+            sorter = null;
+
+            indexManager.onInsertRow(rowIndex);
+            selectionsManager.onInsertRow(rowIndex);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "insertRow",
+                       traceStart);
+        }
     }
 
     @Override
     public Range deleteRow(final int rowIndex) {
-        //Find row that is the "lead" in a merged collapsed block
-        GridRow row;
-        int minRowIndex = rowIndex;
-        int maxRowIndex = rowIndex;
-        while ((row = rows.get(minRowIndex)).isMerged() && row.isCollapsed() && minRowIndex > 0) {
-            minRowIndex--;
-        }
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            //Find row that is the "lead" in a merged collapsed block
+            GridRow row;
+            int minRowIndex = rowIndex;
+            int maxRowIndex = rowIndex;
+            while ((row = rows.get(minRowIndex)).isMerged() && row.isCollapsed() && minRowIndex > 0) {
+                minRowIndex--;
+            }
 
-        //Find last row in a merged collapsed block
-        do {
-            maxRowIndex++;
-        }
-        while (maxRowIndex < rows.size() && rows.get(maxRowIndex).isCollapsed());
-        maxRowIndex--;
+            //Find last row in a merged collapsed block
+            do {
+                maxRowIndex++;
+            }
+            while (maxRowIndex < rows.size() && rows.get(maxRowIndex).isCollapsed());
+            maxRowIndex--;
 
-        final Range range = new Range(minRowIndex,
-                                      maxRowIndex);
+            final Range range = new Range(minRowIndex,
+                                          maxRowIndex);
 
-        for (int _rowIndex = minRowIndex; _rowIndex <= maxRowIndex; _rowIndex++) {
-            rows.remove(minRowIndex);
+            for (int _rowIndex = minRowIndex; _rowIndex <= maxRowIndex; _rowIndex++) {
+                final GridRow deletedRow = rows.remove(minRowIndex);
+                unobserveRowHeight(deletedRow);
+                searchIndex.removeRow(deletedRow);
+            }
+            if (rowFilter != null) {
+                rowFilter.deleteRows(minRowIndex,
+                                     maxRowIndex);
+            }
+            sorter = null;
+
+            indexManager.onDeleteRow(range);
+            selectionsManager.onDeleteRow(range);
+            return range;
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "deleteRow",
+                       traceStart);
         }
-
-        indexManager.onDeleteRow(range);
-        selectionsManager.onDeleteRow(range);
-
-        return range;
     }
 
     @Override
@@ -234,35 +337,379 @@ public class BaseGridData implements GridData {
     @Override
     public void moveRowsTo(final int index,
                            final List<GridRow> rows) {
-        if (rows == null || rows.isEmpty()) {
-            return;
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            if (rows == null || rows.isEmpty()) {
+                return;
+            }
+
+            //Get extent of block being moved
+            final int oldBlockStart = this.rows.indexOf(rows.get(0));
+            final int oldBlockEnd = this.rows.indexOf(rows.get(rows.size() - 1));
+
+            //If we're attempting to move it to its current index just exit
+            if (index == oldBlockStart) {
+                return;
+            }
+
+            this.rows.removeAll(rows);
+
+            if (index < oldBlockStart) {
+                this.rows.addAll(index,
+                                 rows);
+            } else if (index > oldBlockStart) {
+                this.rows.addAll(index - rows.size() + 1,
+                                 rows);
+            }
+
+            if (rowFilter != null) {
+                rowFilter.reorderVisibleRows(this.rows);
+            }
+            isRowHeightsDetected = false;
+            sorter = null;
+
+            final Range oldBlockExtent = new Range(oldBlockStart,
+                                                   oldBlockEnd);
+            indexManager.onMoveRows(rows,
+                                    oldBlockExtent);
+            selectionsManager.onMoveRows(rows,
+                                         oldBlockExtent);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "moveRowsTo",
+                       traceStart);
         }
+    }
 
-        //Get extent of block being moved
-        final int oldBlockStart = this.rows.indexOf(rows.get(0));
-        final int oldBlockEnd = this.rows.indexOf(rows.get(rows.size() - 1));
+    @Override
+    public void sort(final List<SortCriterion> criteria) {
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            Objects.requireNonNull(criteria, "criteria");
+            if (criteria.isEmpty()) {
+                sorter = null;
+                return;
+            }
+            final int[] columnIndexes = new int[criteria.size()];
+            for (int i = 0; i < columnIndexes.length; i++) {
+                columnIndexes[i] = columns.get(criteria.get(i).getColumnIndex()).getIndex();
+            }
+            sorter = new GridRowSorter(criteria,
+                                       columnIndexes);
+            sortRows();
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "sort",
+                       traceStart);
+        }
+    }
 
-        //If we're attempting to move it to its current index just exit
-        if (index == oldBlockStart) {
+    @Override
+    public List<SortCriterion> getSortCriteria() {
+        return sorter == null ? Collections.emptyList() : sorter.getCriteria();
+    }
+
+    private void sortRows() {
+        final Map<Integer, GridRow> selectedRows = getSelectedRows();
+        expandCollapsedCells();
+
+        if (rowFilter == null) {
+            reorderRows(sorter.sort(rows));
+        } else {
+            //Sort all rows so the order is retained as the filter changes; retaining sort keys of visible rows only
+            rowFilter.reorderRows(sorter.sort(rowFilter.getAllRows()));
+            rowFilter.copyVisibleRows(rows);
+            sorter.sort(rows);
+        }
+        isRowHeightsDetected = false;
+
+        indexManager.onReorderRows();
+        onReorderRows(selectedRows);
+    }
+
+    //Move rows whose value, in a sorted column, has changed to their sorted position
+    private void resortRows(final int minRowIndex,
+                            final int maxRowIndex,
+                            final int _columnIndex) {
+        if (sorter == null || !sorter.isSortedBy(_columnIndex)) {
             return;
         }
 
-        this.rows.removeAll(rows);
+        //Moving rows into or out of collapsed blocks is not supported; nor are values that cannot be compared with existing keys
+        boolean isIncremental = indexManager.getCollapsedRegions().isEmpty();
+        for (int i = minRowIndex; isIncremental && i <= maxRowIndex; i++) {
+            isIncremental = sorter.isCompatible(rows.get(i));
+        }
+        if (!isIncremental) {
+            sortRows();
+            return;
+        }
+
+        final List<GridRow> changedRows = new ArrayList<>();
+        for (int i = minRowIndex; i <= maxRowIndex; i++) {
+            changedRows.add(rows.remove(minRowIndex));
+        }
+        sorter.remove(minRowIndex,
+                      maxRowIndex);
+        indexManager.onDeleteRow(new Range(minRowIndex,
+                                           maxRowIndex));
+
+        //Reinsert rows, tracking their final indexes so that selections can follow them
+        final int[] newRowIndexes = new int[changedRows.size()];
+        for (int i = 0; i < changedRows.size(); i++) {
+            final GridRow row = changedRows.get(i);
+            final int rowIndex = sorter.insert(row);
+            for (int j = 0; j < i; j++) {
+                if (newRowIndexes[j] >= rowIndex) {
+                    newRowIndexes[j]++;
+                }
+            }
+            newRowIndexes[i] = rowIndex;
+            if (isMerged) {
+                for (GridCell<?> cell : row.getCells().values()) {
+                    cell.reset();
+                }
+                ((BaseGridRow) row).setHasMergedCells(false);
+            }
+            rows.add(rowIndex,
+                     row);
+            indexManager.onInsertRow(rowIndex);
+        }
+        if (rowFilter != null) {
+            rowFilter.reorderVisibleRows(rows);
+        }
+        isRowHeightsDetected = false;
+
+        final int[] sortedNewRowIndexes = newRowIndexes.clone();
+        Arrays.sort(sortedNewRowIndexes);
+        selectionsManager.onReorderRows((rowIndex) -> {
+            if (rowIndex >= minRowIndex && rowIndex <= maxRowIndex) {
+                return newRowIndexes[rowIndex - minRowIndex];
+            }
+            //Rows not moved retain their order, filling the indexes not occupied by rows that were
+            int newRowIndex = rowIndex > maxRowIndex ? rowIndex - changedRows.size() : rowIndex;
+            for (int movedRowIndex : sortedNewRowIndexes) {
+                if (movedRowIndex > newRowIndex) {
+                    break;
+                }
+                newRowIndex++;
+            }
+            return newRowIndex;
+        });
+    }
+
+    @Override
+    public void setFilter(final Predicate<GridRow> filter) {
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            if (filter == null && rowFilter == null) {
+                return;
+            }
+            final Map<Integer, GridRow> selectedRows = getSelectedRows();
+            expandCollapsedCells();
+
+            if (filter == null) {
+                final List<GridRow> allRows = rowFilter.getAllRows();
+                rowFilter = null;
+                rows.clear();
+                rows.addAll(allRows);
+            } else if (rowFilter == null) {
+                rowFilter = new GridRowFilter(rows,
+                                              filter);
+                rowFilter.copyVisibleRows(rows);
+            } else {
+                rowFilter.setFilter(filter);
+                rowFilter.copyVisibleRows(rows);
+            }
+            onFilterRows(selectedRows);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "setFilter",
+                       traceStart);
+        }
+    }
+
+    @Override
+    public void narrowFilter(final Predicate<GridRow> filter) {
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            Objects.requireNonNull(filter, "filter");
+            if (rowFilter == null) {
+                setFilter(filter);
+                return;
+            }
+            expandCollapsedCells();
+            final int[] hiddenRowIndexes = rowFilter.narrowFilter(filter);
+            if (hiddenRowIndexes.length == 0) {
+                return;
+            }
+
+            //Rows that remain visible retain their order, so only those hidden are removed
+            if (hiddenRowIndexes.length > rows.size() / 2) {
+                rowFilter.copyVisibleRows(rows);
+            } else {
+                for (int i = hiddenRowIndexes.length - 1; i >= 0; i--) {
+                    rows.remove(hiddenRowIndexes[i]);
+                }
+            }
+            if (sorter != null) {
+                sorter.remove(hiddenRowIndexes);
+            }
+            onFilterRowsChanged((rowIndex) -> {
+                final int i = Arrays.binarySearch(hiddenRowIndexes,
+                                                  rowIndex);
+                return i >= 0 ? -1 : rowIndex + i + 1;
+            });
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "narrowFilter",
+                       traceStart);
+        }
+    }
+
+    @Override
+    public void widenFilter(final Predicate<GridRow> filter) {
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            Objects.requireNonNull(filter, "filter");
+            if (rowFilter == null) {
+                setFilter(filter);
+                return;
+            }
+            if (sorter != null) {
+                //Rows that have been shown are sorted together with those already visible
+                final Map<Integer, GridRow> selectedRows = getSelectedRows();
+                expandCollapsedCells();
+                rowFilter.widenFilter(filter);
+                rowFilter.copyVisibleRows(rows);
+                onFilterRows(selectedRows);
+                return;
+            }
+            expandCollapsedCells();
+            final int[] shownRowIndexes = rowFilter.widenFilter(filter);
+            if (shownRowIndexes.length == 0) {
+                return;
+            }
+
+            //Rows that were visible retain their order, so only those shown are inserted
+            if (shownRowIndexes.length > rows.size()) {
+                rowFilter.copyVisibleRows(rows);
+            } else {
+                final List<GridRow> allRows = rowFilter.getAllRows();
+                for (int rowIndex : shownRowIndexes) {
+                    rows.add(rowIndex,
+                             allRows.get(rowFilter.getRowIndex(rowIndex)));
+                }
+            }
+            onFilterRowsChanged((rowIndex) -> {
+                int newRowIndex = rowIndex;
+                for (int shownRowIndex : shownRowIndexes) {
+                    if (shownRowIndex > newRowIndex) {
+                        break;
+                    }
+                    newRowIndex++;
+                }
+                return newRowIndex;
+            });
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "widenFilter",
+                       traceStart);
+        }
+    }
+
+    @Override
+    public Predicate<GridRow> getFilter() {
+        return rowFilter == null ? null : rowFilter.getFilter();
+    }
+
+    private void onFilterRows(final Map<Integer, GridRow> selectedRows) {
+        //Rows that have become visible may not be in order should rows have been moved since being sorted
+        if (sorter != null) {
+            reorderRows(sorter.sort(rows));
+            if (rowFilter != null) {
+                rowFilter.reorderVisibleRows(rows);
+            }
+        }
+        isRowHeightsDetected = false;
+
+        indexManager.onReorderRows();
+        onReorderRows(selectedRows);
+    }
+
+    //Rows hidden by narrowing, or shown by widening, the filter leave the order of other visible rows unchanged
+    private void onFilterRowsChanged(final IntUnaryOperator newRowIndexes) {
+        isRowHeightsDetected = false;
+
+        //Merged blocks are indexed again only if the data is merged
+        indexManager.onReorderRows();
+        selectionsManager.onReorderRows(newRowIndexes);
+    }
 
-        if (index < oldBlockStart) {
-            this.rows.addAll(index,
-                             rows);
-        } else if (index > oldBlockStart) {
-            this.rows.addAll(index - rows.size() + 1,
-                             rows);
+    //All rows, both visible and hidden by a filter
+    private List<GridRow> getAllRows() {
+        return rowFilter == null ? rows : rowFilter.getAllRows();
+    }
+
+    /**
+     * Returns the rows whose cells are changed when a column is deleted or replaced.
+     * @return All rows, both visible and hidden by a filter.
+     */
+    protected List<GridRow> getRowsHoldingCells() {
+        return getAllRows();
+    }
+
+    //Collapsed cells would otherwise hide rows unrelated to them once rows are reordered or filtered
+    private void expandCollapsedCells() {
+        if (!indexManager.getCollapsedRegions().isEmpty()) {
+            for (GridColumn<?> column : columns) {
+                indexManager.onExpandAll(column.getIndex());
+            }
         }
+    }
 
-        final Range oldBlockExtent = new Range(oldBlockStart,
-                                               oldBlockEnd);
-        indexManager.onMoveRows(rows,
-                                oldBlockExtent);
-        selectionsManager.onMoveRows(rows,
-                                     oldBlockExtent);
+    //Reorder rows in a single pass
+    private void reorderRows(final int[] order) {
+        final GridRow[] unorderedRows = rows.toArray(new GridRow[rows.size()]);
+        rows.clear();
+        for (int index : order) {
+            rows.add(unorderedRows[index]);
+        }
+    }
+
+    //Rows of selected cells, captured before rows are reordered or filtered, so that selections can follow them
+    private Map<Integer, GridRow> getSelectedRows() {
+        final Map<Integer, GridRow> selectedRows = new HashMap<>();
+        for (SelectedCell sc : selectedCells) {
+            selectedRows.put(sc.getRowIndex(),
+                             rows.get(sc.getRowIndex()));
+        }
+        return selectedRows;
+    }
+
+    private void onReorderRows(final Map<Integer, GridRow> selectedRows) {
+        if (selectedRows.isEmpty()) {
+            return;
+        }
+        final Map<GridRow, Integer> newRowIndexes = new IdentityHashMap<>();
+        for (GridRow row : selectedRows.values()) {
+            newRowIndexes.put(row,
+                              -1);
+        }
+        int rowIndex = 0;
+        for (GridRow row : rows) {
+            if (newRowIndexes.containsKey(row)) {
+                newRowIndexes.put(row,
+                                  rowIndex);
+            }
+            rowIndex++;
+        }
+        selectionsManager.onReorderRows((oldRowIndex) -> newRowIndexes.get(selectedRows.get(oldRowIndex)));
     }
 
     @Override
@@ -270,6 +717,51 @@ public class BaseGridData implements GridData {
         return rows.size();
     }
 
+    @Override
+    public double getRowOffset(final int rowIndex) {
+        return getRowHeights().getRowOffset(rowIndex);
+    }
+
+    @Override
+    public int findRowIndex(final double offsetY) {
+        return getRowHeights().findRowIndex(offsetY,
+                                            getRowCount());
+    }
+
+    /**
+     * Returns the row height policy used for geometry calculations. The uniform row height and overrides are
+     * detected from the rows whenever a row is added, removed or moved or the height of a {@link BaseGridRow}
+     * changes. Heights of other {@link GridRow} implementations cannot be observed and hence are detected on
+     * every call. Subclasses that know their row heights in advance can override this to declare them instead.
+     * @return
+     */
+    protected GridRowHeights getRowHeights() {
+        if (!isRowHeightsDetected || unobservedRowCount > 0) {
+            rowHeights.detect(rows);
+            isRowHeightsDetected = true;
+        }
+        return rowHeights;
+    }
+
+    private void observeRowHeight(final GridRow row) {
+        isRowHeightsDetected = false;
+        if (row instanceof BaseGridRow) {
+            ((BaseGridRow) row).setHeightChangedCallback(rowHeightChangedCallback);
+        } else {
+            unobservedRowCount++;
+        }
+    }
+
+    private void unobserveRowHeight(final GridRow row) {
+        isRowHeightsDetected = false;
+        if (row instanceof BaseGridRow) {
+            ((BaseGridRow) row).setHeightChangedCallback(() -> {
+            });
+        } else {
+            unobservedRowCount--;
+        }
+    }
+
     @Override
     public int getHeaderRowCount() {
         return headerRowCount;
@@ -321,11 +813,17 @@ public class BaseGridData implements GridData {
         column.setIndex(columns.get(index).getIndex());
         columns.set(index,
                     column);
+        valueDictionaries.remove(existing);
 
         //Clear column data
-        for (GridRow row : rows) {
+        for (GridRow row : getRowsHoldingCells()) {
+            ((BaseGridRow) row).onChangeCells(versions);
             ((BaseGridRow) row).deleteCell(column.getIndex());
         }
+        sorter = null;
+        searchIndex.clearColumn(column.getIndex());
+
+        indexManager.invalidateMergedBlocks(column.getIndex());
     }
 
     @Override
@@ -335,12 +833,52 @@ public class BaseGridData implements GridData {
 
     @Override
     public void setMerged(final boolean isMerged) {
-        if (this.isMerged == isMerged) {
-            return;
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            if (this.isMerged == isMerged) {
+                return;
+            }
+            this.isMerged = isMerged;
+            indexManager.onMerge(isMerged);
+            selectionsManager.onMerge(isMerged);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "setMerged",
+                       traceStart);
         }
-        this.isMerged = isMerged;
-        indexManager.onMerge(isMerged);
-        selectionsManager.onMerge(isMerged);
+    }
+
+    /**
+     * Merges the data with merge meta-data indexed incrementally, rather than in a single pass as with
+     * {@link #setMerged(boolean)}. The returned {@link BaseGridDataIndexManager.IncrementalIndex} should be
+     * executed repeatedly until it returns false; the data can be rendered between executions and rows
+     * that have not been indexed appear not merged. Cells cannot be collapsed or expanded until indexing
+     * completes. Indexing is cancelled should {@link #setMerged(boolean)} be invoked beforehand.
+     * @param callback Notified of progress, completion or cancellation.
+     * @return
+     */
+    public BaseGridDataIndexManager.IncrementalIndex setMergedIncrementally(final BaseGridDataIndexManager.IndexingCallback callback) {
+        Objects.requireNonNull(callback, "callback");
+        this.isMerged = true;
+        return indexManager.onMergeIncrementally(BaseGridDataIndexManager.DEFAULT_SLICE_SIZE,
+                                                 new BaseGridDataIndexManager.IndexingCallback() {
+                                                     @Override
+                                                     public void onProgress(final double progress) {
+                                                         callback.onProgress(progress);
+                                                     }
+
+                                                     @Override
+                                                     public void onComplete() {
+                                                         selectionsManager.onMerge(true);
+                                                         callback.onComplete();
+                                                     }
+
+                                                     @Override
+                                                     public void onCancelled() {
+                                                         callback.onCancelled();
+                                                     }
+                                                 });
     }
 
     @Override
@@ -363,13 +901,36 @@ public class BaseGridData implements GridData {
         this.isColumnDraggingEnabled = enabled;
     }
 
+    @Override
+    public MergedBlock getMergedBlock(final int rowIndex,
+                                      final int columnIndex) {
+        //Data that is not merged has no merged blocks
+        if (!isMerged) {
+            return new MergedBlock(rowIndex,
+                                   1,
+                                   rows.get(rowIndex).getHeight(),
+                                   false);
+        }
+        final int _columnIndex = columns.get(columnIndex).getIndex();
+        return indexManager.getMergedBlock(rowIndex,
+                                           _columnIndex);
+    }
+
     @Override
     public Range setCell(final int rowIndex,
                          final int columnIndex,
                          final Supplier<GridCell<?>> cellSupplier) {
-        return doSetCell(rowIndex,
-                         columnIndex,
-                         (pair) -> cellSupplier.get());
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            return doSetCell(rowIndex,
+                             columnIndex,
+                             (pair) -> cellSupplier.get());
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "setCell",
+                       traceStart);
+        }
     }
 
     @Override
@@ -377,14 +938,32 @@ public class BaseGridData implements GridData {
     public Range setCellValue(final int rowIndex,
                               final int columnIndex,
                               final GridCellValue<?> value) {
-        return doSetCell(rowIndex,
-                         columnIndex,
-                         (pair) -> {
-                             final Optional<BaseGridCell> cell = Optional.ofNullable((BaseGridCell) getCell(pair.getKey(), pair.getValue()));
-                             final BaseGridCell c = cell.orElse(new BaseGridCell<>(value));
-                             c.setValue(value);
-                             return c;
-                         });
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            return doSetCell(rowIndex,
+                             columnIndex,
+                             (pair) -> {
+                                 final GridCellValueDictionary dictionary = getValueDictionary(columns.get(pair.getValue()));
+                                 final Optional<BaseGridCell> cell = Optional.ofNullable((BaseGridCell) getCell(pair.getKey(), pair.getValue()));
+                                 //Cells that may be shared with a snapshot are replaced rather than changed
+                                 if (cell.isPresent() && ((BaseGridRow) rows.get(pair.getKey())).onChangeCells(versions)) {
+                                     final BaseGridCell c = new BaseGridCell<>(value);
+                                     c.setValue(value,
+                                                dictionary);
+                                     c.setSelectionStrategy(cell.get().getSelectionStrategy());
+                                     return c;
+                                 }
+                                 final BaseGridCell c = cell.orElse(new BaseGridCell<>(value));
+                                 c.setValue(value,
+                                            dictionary);
+                                 return c;
+                             });
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "setCellValue",
+                       traceStart);
+        }
     }
 
     protected Range doSetCell(final int rowIndex,
@@ -401,8 +980,17 @@ public class BaseGridData implements GridData {
 
         //If we're not merged just set the value of a single cell
         if (!isMerged) {
-            ((BaseGridRow) rows.get(rowIndex)).setCell(_columnIndex,
-                                                       cellSupplier.apply(new AbstractMap.SimpleEntry<>(rowIndex, columnIndex)));
+            final GridRow row = rows.get(rowIndex);
+            searchIndex.removeCell(row,
+                                   _columnIndex);
+            ((BaseGridRow) row).onChangeCells(versions);
+            ((BaseGridRow) row).setCell(_columnIndex,
+                                        cellSupplier.apply(new AbstractMap.SimpleEntry<>(rowIndex, columnIndex)));
+            searchIndex.addCell(row,
+                                _columnIndex);
+            resortRows(rowIndex,
+                       rowIndex,
+                       _columnIndex);
             return new Range(rowIndex);
         }
 
@@ -417,12 +1005,20 @@ public class BaseGridData implements GridData {
                                       maxRowIndex);
         for (int i = minRowIndex; i <= maxRowIndex; i++) {
             final GridRow row = rows.get(i);
+            searchIndex.removeCell(row,
+                                   _columnIndex);
+            ((BaseGridRow) row).onChangeCells(versions);
             ((BaseGridRow) row).setCell(_columnIndex,
                                         cellSupplier.apply(new AbstractMap.SimpleEntry<>(i, columnIndex)));
+            searchIndex.addCell(row,
+                                _columnIndex);
         }
 
         indexManager.onSetCell(range,
                                _columnIndex);
+        resortRows(minRowIndex,
+                   maxRowIndex,
+                   _columnIndex);
 
         return range;
     }
@@ -430,40 +1026,337 @@ public class BaseGridData implements GridData {
     @Override
     public Range deleteCell(final int rowIndex,
                             final int columnIndex) {
-        if (rowIndex < 0 || rowIndex > rows.size() - 1) {
-            return new Range(rowIndex);
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            if (rowIndex < 0 || rowIndex > rows.size() - 1) {
+                return new Range(rowIndex);
+            }
+            if (columnIndex < 0 || columnIndex > columns.size() - 1) {
+                return new Range(rowIndex);
+            }
+
+            final int _columnIndex = columns.get(columnIndex).getIndex();
+
+            //If we're not merged just set the value of a single cell
+            if (!isMerged) {
+                final GridRow row = rows.get(rowIndex);
+                searchIndex.removeCell(row,
+                                       _columnIndex);
+                ((BaseGridRow) row).onChangeCells(versions);
+                ((BaseGridRow) row).deleteCell(_columnIndex);
+                resortRows(rowIndex,
+                           rowIndex,
+                           _columnIndex);
+                return new Range(rowIndex);
+            }
+
+            //Find affected rows for merged data
+            final int minRowIndex = findMinRowIndexForCellUpdate(rowIndex,
+                                                                 _columnIndex);
+            final int maxRowIndex = findMaxRowIndexForCellUpdate(rowIndex,
+                                                                 _columnIndex);
+
+            //Update all rows' value
+            final Range range = new Range(minRowIndex,
+                                          maxRowIndex);
+            for (int i = minRowIndex; i <= maxRowIndex; i++) {
+                final GridRow row = rows.get(i);
+                searchIndex.removeCell(row,
+                                       _columnIndex);
+                ((BaseGridRow) row).onChangeCells(versions);
+                ((BaseGridRow) row).deleteCell(_columnIndex);
+                row.expand();
+            }
+
+            indexManager.onDeleteCell(range,
+                                      _columnIndex);
+            resortRows(minRowIndex,
+                       maxRowIndex,
+                       _columnIndex);
+
+            return range;
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "deleteCell",
+                       traceStart);
         }
-        if (columnIndex < 0 || columnIndex > columns.size() - 1) {
-            return new Range(rowIndex);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Range setCellValues(final int rowIndex,
+                               final int columnIndex,
+                               final Iterator<List<GridCellValue<?>>> values) {
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            Objects.requireNonNull(values, "values");
+            if (rowIndex < 0 || rowIndex > rows.size() - 1) {
+                return new Range(rowIndex);
+            }
+            if (columnIndex < 0 || columnIndex > columns.size() - 1) {
+                return new Range(rowIndex);
+            }
+            if (isMerged) {
+                expandCollapsedCells();
+            }
+
+            //Model indexes of visible columns from that containing the top-left cell
+            final List<Integer> _columnIndexes = new ArrayList<>();
+            final List<GridCellValueDictionary> dictionaries = new ArrayList<>();
+            for (int i = columnIndex; i < columns.size(); i++) {
+                if (columns.get(i).isVisible()) {
+                    _columnIndexes.add(columns.get(i).getIndex());
+                    dictionaries.add(getValueDictionary(columns.get(i)));
+                }
+            }
+
+            int maxRowIndex = rowIndex - 1;
+            boolean isSortedColumnChanged = false;
+            final Iterator<GridRow> rowIterator = rows instanceof GridRowList ? ((GridRowList) rows).iterator(rowIndex,
+                                                                                                              rows.size()) : rows.listIterator(rowIndex);
+            while (values.hasNext() && rowIterator.hasNext()) {
+                final BaseGridRow row = (BaseGridRow) rowIterator.next();
+                final List<GridCellValue<?>> rowValues = values.next();
+                final int columnCount = Math.min(rowValues.size(),
+                                                 _columnIndexes.size());
+                for (int i = 0; i < columnCount; i++) {
+                    final int _columnIndex = _columnIndexes.get(i);
+                    final GridCellValue<?> value = rowValues.get(i);
+                    searchIndex.removeCell(row,
+                                           _columnIndex);
+                    //Cells that may be shared with a snapshot are replaced rather than changed
+                    final boolean isShared = row.onChangeCells(versions);
+                    final BaseGridCell cell = (BaseGridCell) row.getCells().get(_columnIndex);
+                    if (value == null) {
+                        row.deleteCell(_columnIndex);
+                    } else if (cell == null || isShared) {
+                        final BaseGridCell c = new BaseGridCell<>(value);
+                        c.setValue(value,
+                                   dictionaries.get(i));
+                        if (cell != null) {
+                            c.setSelectionStrategy(cell.getSelectionStrategy());
+                        }
+                        row.setCell(_columnIndex,
+                                    c);
+                    } else {
+                        cell.setValue(value,
+                                      dictionaries.get(i));
+                    }
+                    searchIndex.addCell(row,
+                                        _columnIndex);
+                    isSortedColumnChanged = isSortedColumnChanged || (sorter != null && sorter.isSortedBy(_columnIndex));
+                }
+                maxRowIndex++;
+            }
+            if (maxRowIndex < rowIndex) {
+                return new Range(rowIndex);
+            }
+
+            //Re-sort, or index merged cells, once for all changes
+            if (isSortedColumnChanged) {
+                sortRows();
+            } else {
+                indexManager.onReorderRows();
+            }
+
+            return new Range(rowIndex,
+                             maxRowIndex);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "setCellValues",
+                       traceStart);
         }
+    }
 
-        final int _columnIndex = columns.get(columnIndex).getIndex();
+    @Override
+    public Snapshot snapshot() {
+        final List<GridRow> allRows = getAllRows();
+        final GridRowList snapshotRows = allRows instanceof GridRowList ? ((GridRowList) allRows).snapshot() : new GridRowList(allRows);
+        final int[] columnIndexes = new int[columns.size()];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            columnIndexes[i] = columns.get(i).getIndex();
+        }
+        return new BaseGridDataSnapshot(this,
+                                        versions.take(),
+                                        snapshotRows,
+                                        new ArrayList<>(columns),
+                                        columnIndexes);
+    }
 
-        //If we're not merged just set the value of a single cell
-        if (!isMerged) {
-            ((BaseGridRow) rows.get(rowIndex)).deleteCell(_columnIndex);
-            return new Range(rowIndex);
+    @Override
+    public void restore(final Snapshot snapshot) {
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            Objects.requireNonNull(snapshot, "snapshot");
+            if (!(snapshot instanceof BaseGridDataSnapshot) || ((BaseGridDataSnapshot) snapshot).gridData != this) {
+                throw new IllegalArgumentException("The snapshot was not taken from this grid.");
+            }
+            final BaseGridDataSnapshot restored = (BaseGridDataSnapshot) snapshot;
+            if (!versions.isLive(restored.version)) {
+                throw new IllegalStateException("The snapshot has been released.");
+            }
+            expandCollapsedCells();
+
+            //Restore columns, and their model indexes that may have changed if columns were deleted
+            for (GridColumn<?> column : columns) {
+                if (!restored.columns.contains(column) && column.getColumnRenderer() instanceof HasDOMElementResources) {
+                    ((HasDOMElementResources) column.getColumnRenderer()).destroyResources();
+                }
+            }
+            columns.clear();
+            for (int i = 0; i < restored.columns.size(); i++) {
+                final GridColumn<?> column = restored.columns.get(i);
+                column.setIndex(restored.columnIndexes[i]);
+                columns.add(column);
+            }
+
+            //Restore rows, and the cells of those changed since the snapshot was taken
+            for (GridRow row : getAllRows()) {
+                unobserveRowHeight(row);
+            }
+            final GridRowList allRows = rowFilter == null && rows instanceof GridRowList ? (GridRowList) rows : new GridRowList();
+            allRows.restore(restored.rows);
+            for (GridRow row : allRows) {
+                ((BaseGridRow) row).restoreCells(restored.version,
+                                                 versions);
+                if (row.isCollapsed()) {
+                    row.reset();
+                }
+                observeRowHeight(row);
+            }
+            if (rowFilter != null) {
+                rowFilter = new GridRowFilter(allRows,
+                                              rowFilter.getFilter());
+                rowFilter.copyVisibleRows(rows);
+            } else if (allRows != rows) {
+                rows.clear();
+                rows.addAll(allRows);
+            }
+
+            sorter = null;
+            searchIndex.clear();
+            isRowHeightsDetected = false;
+            clearSelections();
+            indexManager.onReorderRows();
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "restore",
+                       traceStart);
         }
+    }
 
-        //Find affected rows for merged data
-        final int minRowIndex = findMinRowIndexForCellUpdate(rowIndex,
-                                                             _columnIndex);
-        final int maxRowIndex = findMaxRowIndexForCellUpdate(rowIndex,
-                                                             _columnIndex);
+    //Dictionaries are held for columns, rather than their index in the model, as cells move when columns are deleted
+    GridCellValueDictionary getValueDictionary(final GridColumn<?> column) {
+        return valueDictionaries.computeIfAbsent(column,
+                                                 (c) -> new GridCellValueDictionary());
+    }
 
-        //Update all rows' value
-        final Range range = new Range(minRowIndex,
-                                      maxRowIndex);
-        for (int i = minRowIndex; i <= maxRowIndex; i++) {
-            final GridRow row = rows.get(i);
-            ((BaseGridRow) row).deleteCell(_columnIndex);
-            row.expand();
+    //Replaces all rows with those whose merge meta-data has already been set, e.g. when decoded, without indexing them
+    void loadRows(final List<GridRow> loadedRows,
+                  final boolean isMerged) {
+        for (GridRow row : getAllRows()) {
+            unobserveRowHeight(row);
+        }
+        rowFilter = null;
+        rows.clear();
+        rows.addAll(loadedRows);
+        for (GridRow row : rows) {
+            observeRowHeight(row);
         }
 
-        indexManager.onDeleteCell(range,
-                                  _columnIndex);
+        this.isMerged = isMerged;
+        sorter = null;
+        searchIndex.clear();
+        isRowHeightsDetected = false;
+        clearSelections();
+        indexManager.getCollapsedRegions().clear();
+        indexManager.invalidateMergedBlocks();
+    }
 
-        return range;
+    @Override
+    public List<SelectedCell> findAll(final String text,
+                                      final int minRowIndex,
+                                      final int maxRowIndex) {
+        Objects.requireNonNull(text, "text");
+        final Map<Integer, Set<GridRow>> matches = searchIndex.find(text,
+                                                                    getAllRows());
+        final List<SelectedCell> hits = new ArrayList<>();
+        for (int rowIndex = Math.max(0, minRowIndex); rowIndex <= Math.min(maxRowIndex, rows.size() - 1); rowIndex++) {
+            final GridRow row = rows.get(rowIndex);
+            if (row.isCollapsed()) {
+                continue;
+            }
+            for (GridColumn<?> column : columns) {
+                if (column.isVisible() && isMatch(matches,
+                                                  row,
+                                                  column.getIndex(),
+                                                  text)) {
+                    hits.add(new SelectedCell(rowIndex,
+                                              column.getIndex()));
+                }
+            }
+        }
+        return hits;
+    }
+
+    @Override
+    public SelectedCell findNext(final String text,
+                                 final int rowIndex,
+                                 final int columnIndex) {
+        Objects.requireNonNull(text, "text");
+        final int rowCount = rows.size();
+        final int columnCount = columns.size();
+        if (rowCount == 0 || columnCount == 0) {
+            return null;
+        }
+        final Map<Integer, Set<GridRow>> matches = searchIndex.find(text,
+                                                                    getAllRows());
+        if (matches != null && matches.isEmpty()) {
+            return null;
+        }
+
+        //Search from the cell after the given cell, wrapping around to finish with the given cell itself. The given
+        //column index is that of the model and hence needs converting to the column's position as displayed.
+        final int startRowIndex = rowIndex < 0 ? 0 : rowIndex;
+        final int startColumnIndex = rowIndex < 0 ? 0 : ColumnIndexUtilities.findUiColumnIndex(columns,
+                                                                                               columnIndex) + 1;
+        for (int i = 0; i <= rowCount; i++) {
+            final int _rowIndex = (startRowIndex + i) % rowCount;
+            final GridRow row = rows.get(_rowIndex);
+            if (row.isCollapsed()) {
+                continue;
+            }
+            final int minColumnIndex = i == 0 ? startColumnIndex : 0;
+            final int maxColumnIndex = i == rowCount ? startColumnIndex - 1 : columnCount - 1;
+            for (int _columnIndex = minColumnIndex; _columnIndex <= maxColumnIndex; _columnIndex++) {
+                final GridColumn<?> column = columns.get(_columnIndex);
+                if (column.isVisible() && isMatch(matches,
+                                                  row,
+                                                  column.getIndex(),
+                                                  text)) {
+                    return new SelectedCell(_rowIndex,
+                                            column.getIndex());
+                }
+            }
+        }
+        return null;
+    }
+
+    //Check the index for a match, or the cell itself should the index have overflowed
+    private static boolean isMatch(final Map<Integer, Set<GridRow>> matches,
+                                   final GridRow row,
+                                   final int _columnIndex,
+                                   final String text) {
+        if (matches == null) {
+            return GridSearchIndex.isMatch(row,
+                                           _columnIndex,
+                                           text);
+        }
+        final Set<GridRow> rows = matches.get(_columnIndex);
+        return rows != null && rows.contains(row);
     }
 
     @Override
@@ -501,40 +1394,114 @@ public class BaseGridData implements GridData {
     @Override
     public void collapseCell(final int rowIndex,
                              final int columnIndex) {
-        //Data needs to be merged to collapse cells
-        if (!isMerged) {
-            return;
-        }
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            //Data needs to be merged, and fully indexed, to collapse cells
+            if (!isMerged || indexManager.isIndexing()) {
+                return;
+            }
 
-        final int _columnIndex = columns.get(columnIndex).getIndex();
-        final GridRow row = rows.get(rowIndex);
-        final GridCell<?> cell = row.getCells().get(_columnIndex);
-        if (cell == null) {
-            return;
-        }
-        if (!cell.isMerged()) {
-            return;
+            final int _columnIndex = columns.get(columnIndex).getIndex();
+            final GridRow row = rows.get(rowIndex);
+            final GridCell<?> cell = row.getCells().get(_columnIndex);
+            if (cell == null) {
+                return;
+            }
+            if (!cell.isMerged()) {
+                return;
+            }
+            indexManager.onCollapseCell(rowIndex,
+                                        _columnIndex);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "collapseCell",
+                       traceStart);
         }
-        indexManager.onCollapseCell(rowIndex,
-                                    _columnIndex);
     }
 
     @Override
     public void expandCell(final int rowIndex,
                            final int columnIndex) {
-        //Data needs to be merged to expand cells
-        if (!isMerged) {
-            return;
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            //Data needs to be merged, and fully indexed, to expand cells
+            if (!isMerged || indexManager.isIndexing()) {
+                return;
+            }
+
+            final int _columnIndex = columns.get(columnIndex).getIndex();
+            final GridRow row = rows.get(rowIndex);
+            final GridCell<?> cell = row.getCells().get(_columnIndex);
+            if (cell == null) {
+                return;
+            }
+            indexManager.onExpandCell(rowIndex,
+                                      _columnIndex);
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "expandCell",
+                       traceStart);
         }
+    }
 
-        final int _columnIndex = columns.get(columnIndex).getIndex();
-        final GridRow row = rows.get(rowIndex);
-        final GridCell<?> cell = row.getCells().get(_columnIndex);
-        if (cell == null) {
-            return;
+    @Override
+    public void collapseAll(final int columnIndex) {
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            //Data needs to be merged, and fully indexed, to collapse cells
+            if (!isMerged || indexManager.isIndexing()) {
+                return;
+            }
+            indexManager.onCollapseAll(columns.get(columnIndex).getIndex());
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "collapseAll",
+                       traceStart);
+        }
+    }
+
+    @Override
+    public void expandAll(final int columnIndex) {
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            //Data needs to be merged, and fully indexed, to expand cells
+            if (!isMerged || indexManager.isIndexing()) {
+                return;
+            }
+            indexManager.onExpandAll(columns.get(columnIndex).getIndex());
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "expandAll",
+                       traceStart);
+        }
+    }
+
+    @Override
+    public void collapseToLevel(final int level) {
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            if (!isMerged || indexManager.isIndexing()) {
+                return;
+            }
+            for (int columnIndex = 0; columnIndex < Math.min(level,
+                                                             columns.size()); columnIndex++) {
+                indexManager.onExpandAll(columns.get(columnIndex).getIndex());
+            }
+            //Collapse inner columns first so outer collapsed regions enclose them
+            for (int columnIndex = columns.size() - 1; columnIndex >= Math.max(level,
+                                                                              0); columnIndex--) {
+                indexManager.onCollapseAll(columns.get(columnIndex).getIndex());
+            }
+        } finally {
+            tracer.end(GridTracer.MODEL,
+                       "collapseToLevel",
+                       traceStart);
         }
-        indexManager.onExpandCell(rowIndex,
-                                  _columnIndex);
     }
 
     private int findMinRowIndexForCellUpdate(final int rowIndex,
@@ -552,7 +1519,7 @@ public class BaseGridData implements GridData {
                 if (previousRowCell == null) {
                     break;
                 }
-                if (previousRowCell.isCollapsed() && foundTopSplitMarker) {
+                if (previousRow.isCollapsed() && foundTopSplitMarker) {
                     break;
                 }
                 if (!previousRowCell.equals(currentRowCell)) {
@@ -582,7 +1549,7 @@ public class BaseGridData implements GridData {
                 if (nextRowCell == null) {
                     break;
                 }
-                if (nextRowCell.isCollapsed() && foundBottomSplitMarker) {
+                if (nextRow.isCollapsed() && foundBottomSplitMarker) {
                     maxRowIndex--;
                     break;
                 }
@@ -597,4 +1564,30 @@ public class BaseGridData implements GridData {
         }
         return maxRowIndex - 1;
     }
+
+    private static class BaseGridDataSnapshot implements Snapshot {
+
+        private final BaseGridData gridData;
+        private final int version;
+        private final GridRowList rows;
+        private final List<GridColumn<?>> columns;
+        private final int[] columnIndexes;
+
+        private BaseGridDataSnapshot(final BaseGridData gridData,
+                                     final int version,
+                                     final GridRowList rows,
+                                     final List<GridColumn<?>> columns,
+                                     final int[] columnIndexes) {
+            this.gridData = gridData;
+            this.version = version;
+            this.rows = rows;
+            this.columns = columns;
+            this.columnIndexes = columnIndexes;
+        }
+
+        @Override
+        public void release() {
+            gridData.versions.release(version);
+        }
+    }
 }
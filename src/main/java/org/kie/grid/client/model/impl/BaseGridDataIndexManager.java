@@ -16,7 +16,12 @@
 
 package org.kie.grid.client.model.impl;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.kie.grid.client.model.GridCell;
 import org.kie.grid.client.model.GridColumn;
@@ -32,13 +37,108 @@ import org.kie.grid.client.model.GridRow;
  */
 public class BaseGridDataIndexManager {
 
+    /**
+     * Default number of cells indexed each time an {@link IncrementalIndex} is executed.
+     */
+    public static final int DEFAULT_SLICE_SIZE = 10000;
+
     private final GridData gridData;
 
+    //Merged block descriptors keyed on column index; built on demand and patched as merge meta-data or collapsed rows change
+    private final Map<Integer, MergedBlockIndex> mergedBlockIndexes = new HashMap<>();
+
+    private IncrementalIndex incrementalIndex = null;
+
+    private final GridCollapsedRegions collapsedRegions = new GridCollapsedRegions();
+
     public BaseGridDataIndexManager(final GridData gridData) {
         this.gridData = gridData;
     }
 
+    /**
+     * Returns a description of the merged block containing the given cell. Descriptors for all blocks in the
+     * column are built in a single pass on first use so subsequent lookups do not need to back-track to the
+     * "lead" cell of the block or scan collapsed rows. Changes to cells or collapsed rows only cause the rows
+     * affected to be rescanned; changes to the number or order of rows cause the descriptors to be rebuilt.
+     * @param rowIndex
+     * @param columnIndex Index of the column in the model; i.e. {@link GridColumn#getIndex()}.
+     * @return
+     */
+    public GridData.MergedBlock getMergedBlock(final int rowIndex,
+                                               final int columnIndex) {
+        MergedBlockIndex index = mergedBlockIndexes.get(columnIndex);
+        if (index == null || index.rowCount != gridData.getRowCount()) {
+            index = new MergedBlockIndex(columnIndex);
+            mergedBlockIndexes.put(columnIndex,
+                                   index);
+        }
+        return index.getMergedBlock(rowIndex);
+    }
+
+    /**
+     * Discards merged block descriptors. This should be invoked following changes to the data that are
+     * not otherwise notified to this class. Incremental indexing in progress is restarted.
+     */
+    public void invalidateMergedBlocks() {
+        mergedBlockIndexes.clear();
+        restartIncrementalIndex();
+    }
+
+    /**
+     * Discards merged block descriptors for a single column. This should be invoked following changes to the
+     * column's data that are not otherwise notified to this class. Incremental indexing in progress is restarted.
+     * @param columnIndex Index of the column in the model; i.e. {@link GridColumn#getIndex()}.
+     */
+    public void invalidateMergedBlocks(final int columnIndex) {
+        mergedBlockIndexes.remove(columnIndex);
+        restartIncrementalIndex();
+    }
+
+    //Marks rows of a column's merged block descriptors to be rescanned when next used
+    private void invalidateMergedBlockRows(final int minRowIndex,
+                                           final int maxRowIndex,
+                                           final int columnIndex) {
+        final MergedBlockIndex index = mergedBlockIndexes.get(columnIndex);
+        if (index != null) {
+            index.invalidate(minRowIndex,
+                             maxRowIndex);
+        }
+    }
+
+    //Marks rows of all columns' merged block descriptors to be rescanned when next used; e.g. when rows are collapsed
+    private void invalidateMergedBlockRows(final int minRowIndex,
+                                           final int maxRowIndex) {
+        for (MergedBlockIndex index : mergedBlockIndexes.values()) {
+            index.invalidate(minRowIndex,
+                             maxRowIndex);
+        }
+    }
+
+    private void restartIncrementalIndex() {
+        if (incrementalIndex != null) {
+            incrementalIndex.restart();
+        }
+    }
+
+    /**
+     * Returns the collapsed regions of the data.
+     * @return
+     */
+    public GridCollapsedRegions getCollapsedRegions() {
+        return collapsedRegions;
+    }
+
+    /**
+     * Returns whether merge meta-data is being indexed incrementally.
+     * @return true if an {@link IncrementalIndex} is in progress.
+     */
+    public boolean isIndexing() {
+        return incrementalIndex != null;
+    }
+
     public void onMerge(final boolean isMerged) {
+        cancelIncrementalIndex();
+        invalidateMergedBlocks();
         if (isMerged) {
             fullIndex();
         } else {
@@ -46,6 +146,30 @@ public class BaseGridDataIndexManager {
         }
     }
 
+    /**
+     * Starts indexing all merge meta-data incrementally. Nothing is indexed until the returned
+     * {@link IncrementalIndex} is executed; which is expected to be repeated until it returns false.
+     * @param sliceSize Maximum number of cells to index each time the {@link IncrementalIndex} is executed.
+     * @param callback Notified of progress, completion or cancellation.
+     * @return
+     */
+    public IncrementalIndex onMergeIncrementally(final int sliceSize,
+                                                 final IndexingCallback callback) {
+        cancelIncrementalIndex();
+        mergedBlockIndexes.clear();
+        incrementalIndex = new IncrementalIndex(sliceSize,
+                                                callback);
+        return incrementalIndex;
+    }
+
+    private void cancelIncrementalIndex() {
+        if (incrementalIndex != null) {
+            final IncrementalIndex cancelled = incrementalIndex;
+            incrementalIndex = null;
+            cancelled.cancel();
+        }
+    }
+
     //Update all merge meta-data
     private void fullIndex() {
         final List<GridColumn<?>> columns = gridData.getColumns();
@@ -56,59 +180,48 @@ public class BaseGridDataIndexManager {
 
     //Update merge meta-data for a single column
     public void indexColumn(final int columnIndex) {
-        final List<GridRow> rows = gridData.getRows();
-        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
-            final GridCell<?> currentRowCell = gridData.getCell(rowIndex,
-                                                                columnIndex);
-            if (currentRowCell == null) {
-                continue;
-            }
-
-            currentRowCell.reset();
-
-            int maxRowIndex = rowIndex + 1;
-            while (maxRowIndex < rows.size()) {
-                final GridCell<?> nextRowCell = gridData.getCell(maxRowIndex,
-                                                                 columnIndex);
-                if (nextRowCell == null) {
-                    break;
-                }
-                if (!nextRowCell.equals(currentRowCell)) {
-                    break;
-                }
-                maxRowIndex++;
-            }
-
-            //Update merge meta-data
-            if (maxRowIndex - rowIndex > 1) {
-                for (int i = rowIndex; i < maxRowIndex; i++) {
-                    final GridRow row = rows.get(i);
-                    final GridCell<?> cell = gridData.getCell(i,
-                                                              columnIndex);
-                    ((BaseGridCell) cell).setMergedCellCount(0);
-                    updateRowMergedCells(row);
-                }
-
-                final GridRow row = rows.get(rowIndex);
-                final GridCell<?> cell = gridData.getCell(rowIndex,
-                                                          columnIndex);
-                ((BaseGridCell) cell).setMergedCellCount(maxRowIndex - rowIndex);
-                updateRowMergedCells(row);
-
-                rowIndex = maxRowIndex - 1;
-            }
+        final int _columnIndex = gridData.getColumns().get(columnIndex).getIndex();
+        invalidateMergedBlocks(_columnIndex);
+        final ColumnIndexer indexer = new ColumnIndexer(_columnIndex);
+        final int rowCount = gridData.getRowCount();
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            indexer.indexRow(rowIndex);
         }
+        indexer.finish(rowCount);
     }
 
     //Clear all merge meta-data
     private void reset() {
+        collapsedRegions.clear();
         final List<GridRow> rows = gridData.getRows();
         for (GridRow row : rows) {
             row.reset();
         }
     }
 
+    /**
+     * Rebuilds all merge meta-data, once, following rows being reordered by a sort or filtered. Rows are
+     * expected to have been expanded beforehand. Incremental indexing in progress is restarted instead.
+     */
+    public void onReorderRows() {
+        invalidateMergedBlocks();
+        collapsedRegions.clear();
+        if (!gridData.isMerged() || isIndexing()) {
+            return;
+        }
+        for (GridRow row : gridData.getRows()) {
+            for (GridCell<?> cell : row.getCells().values()) {
+                cell.reset();
+            }
+            ((BaseGridRow) row).setHasMergedCells(false);
+        }
+        fullIndex();
+    }
+
     public void onInsertRow(final int rowIndex) {
+        invalidateMergedBlocks();
+        collapsedRegions.onInsertRow(rowIndex,
+                                     gridData.getRow(rowIndex).getHeight());
         if (!gridData.isMerged()) {
             return;
         }
@@ -128,6 +241,9 @@ public class BaseGridDataIndexManager {
     }
 
     public void onDeleteRow(final GridData.Range range) {
+        invalidateMergedBlocks();
+        collapsedRegions.onDeleteRows(range.getMinRowIndex(),
+                                      range.getMaxRowIndex());
         if (!gridData.isMerged()) {
             return;
         }
@@ -184,6 +300,7 @@ public class BaseGridDataIndexManager {
 
     public void onSetCell(final GridData.Range range,
                           final int columnIndex) {
+        restartIncrementalIndex();
         final int minRowIndex = range.getMinRowIndex();
         updateMergeMetaData(minRowIndex,
                             columnIndex);
@@ -191,23 +308,35 @@ public class BaseGridDataIndexManager {
 
     public void onDeleteCell(final GridData.Range range,
                              final int columnIndex) {
+        restartIncrementalIndex();
         final int minRowIndex = range.getMinRowIndex();
         final int maxRowIndex = range.getMaxRowIndex();
+        invalidateMergedBlockRows(minRowIndex,
+                                  maxRowIndex + 1);
         for (int i = minRowIndex; i <= maxRowIndex; i++) {
             final GridRow row = gridData.getRow(i);
             updateRowMergedCells(row);
         }
 
+        //Rows in the range have been expanded
+        for (GridCollapsedRegions.Region region : collapsedRegions.getRegions(minRowIndex,
+                                                                               maxRowIndex)) {
+            if (region.getColumnIndex() == columnIndex) {
+                collapsedRegions.remove(columnIndex,
+                                        region.getMinRowIndex());
+            }
+        }
+
         updateMergeMetaData(minRowIndex,
                             columnIndex);
     }
 
     public void onCollapseCell(final int rowIndex,
                                final int columnIndex) {
+        restartIncrementalIndex();
         int minRowIndex = rowIndex;
         int maxRowIndex = rowIndex + 1;
         final List<GridRow> rows = gridData.getRows();
-        final List<GridColumn<?>> columns = gridData.getColumns();
         final GridRow currentRow = rows.get(rowIndex);
         final GridCell<?> currentRowCell = currentRow.getCells().get(columnIndex);
 
@@ -239,8 +368,77 @@ public class BaseGridDataIndexManager {
             maxRowIndex++;
         }
 
+        collapseRows(minRowIndex,
+                     maxRowIndex,
+                     columnIndex,
+                     false);
+    }
+
+    /**
+     * Collapses all merged blocks in a column that are not already collapsed. The column is scanned once, moving
+     * from the "lead" row of one merged block to the next. Rows hidden are given zero height as there is no
+     * animation to do so.
+     * @param columnIndex Index of the column in the model; i.e. {@link GridColumn#getIndex()}.
+     */
+    public void onCollapseAll(final int columnIndex) {
+        restartIncrementalIndex();
+        int rowIndex = 0;
+        while (rowIndex < gridData.getRowCount()) {
+            final GridCell<?> cell = gridData.getRow(rowIndex).getCells().get(columnIndex);
+            final int mergedCellCount = cell == null ? 1 : Math.max(1,
+                                                                    cell.getMergedCellCount());
+            if (mergedCellCount > 1 && collapsedRegions.getRegion(columnIndex,
+                                                                  rowIndex) == null) {
+                collapseRows(rowIndex,
+                             rowIndex + mergedCellCount,
+                             columnIndex,
+                             true);
+            }
+            rowIndex = rowIndex + mergedCellCount;
+        }
+    }
+
+    /**
+     * Collapses a region of rows without animation; the rows hidden are given zero height. This is intended to
+     * restore collapsed regions, in the order in which they were collapsed, once merge meta-data has been indexed.
+     * @param minRowIndex Index of the "lead" row; that remains visible.
+     * @param maxRowIndex Index of the last hidden row.
+     * @param columnIndex Index of the column in the model; i.e. {@link GridColumn#getIndex()}.
+     */
+    public void onCollapseRows(final int minRowIndex,
+                               final int maxRowIndex,
+                               final int columnIndex) {
+        restartIncrementalIndex();
+        collapseRows(minRowIndex,
+                     maxRowIndex + 1,
+                     columnIndex,
+                     true);
+    }
+
+    private void collapseRows(final int minRowIndex,
+                              final int maxRowIndex,
+                              final int columnIndex,
+                              final boolean isHeightCleared) {
+        final List<GridRow> rows = gridData.getRows();
+        final List<GridColumn<?>> columns = gridData.getColumns();
+        invalidateMergedBlockRows(minRowIndex,
+                                  maxRowIndex);
+
+        //Record the heights of the rows being hidden once, for the region as a whole
+        final double[] heights = new double[maxRowIndex - minRowIndex - 1];
         for (int i = minRowIndex + 1; i < maxRowIndex; i++) {
-            rows.get(i).collapse();
+            final GridRow row = rows.get(i);
+            heights[i - minRowIndex - 1] = getExpandedHeight(row,
+                                                             i);
+            row.collapse();
+            if (isHeightCleared && row.getHeight() != 0.0) {
+                row.setHeight(0.0);
+            }
+        }
+        if (heights.length > 0) {
+            collapsedRegions.add(columnIndex,
+                                 minRowIndex,
+                                 heights);
         }
 
         for (int i = 0; i < columns.size(); i++) {
@@ -311,6 +509,9 @@ public class BaseGridDataIndexManager {
 
             //Update merge meta-data for top part of split cell
             if (minRowIndex > checkMinRowIndex) {
+                invalidateMergedBlockRows(checkMinRowIndex,
+                                          minRowIndex,
+                                          columnIndex);
                 for (int i = checkMinRowIndex; i < minRowIndex; i++) {
                     final GridRow row = rows.get(i);
                     final BaseGridCell cell = ((BaseGridCell) row.getCells().get(columnIndex));
@@ -337,7 +538,7 @@ public class BaseGridDataIndexManager {
                 if (nextRowCell == null) {
                     break;
                 }
-                if (nextRowCell.isCollapsed() && foundBottomSplitMarker) {
+                if (nextRow.isCollapsed() && foundBottomSplitMarker) {
                     checkMaxRowIndex--;
                     break;
                 }
@@ -352,6 +553,9 @@ public class BaseGridDataIndexManager {
 
             //Update merge meta-data for bottom part of split cell
             if (checkMaxRowIndex > minRowIndex) {
+                invalidateMergedBlockRows(minRowIndex,
+                                          checkMaxRowIndex,
+                                          columnIndex);
                 for (int i = minRowIndex; i < checkMaxRowIndex; i++) {
                     final GridRow row = rows.get(i);
                     final BaseGridCell cell = ((BaseGridCell) row.getCells().get(columnIndex));
@@ -425,6 +629,9 @@ public class BaseGridDataIndexManager {
 
             //Update merge meta-data for top part of split cell
             if (maxRowIndex > checkMinRowIndex) {
+                invalidateMergedBlockRows(checkMinRowIndex,
+                                          maxRowIndex,
+                                          columnIndex);
                 for (int i = checkMinRowIndex; i < maxRowIndex; i++) {
                     final GridRow row = rows.get(i);
                     final BaseGridCell cell = ((BaseGridCell) row.getCells().get(columnIndex));
@@ -451,7 +658,7 @@ public class BaseGridDataIndexManager {
                 if (nextRowCell == null) {
                     break;
                 }
-                if (nextRowCell.isCollapsed() && foundBottomSplitMarker) {
+                if (nextRow.isCollapsed() && foundBottomSplitMarker) {
                     checkMaxRowIndex--;
                     break;
                 }
@@ -466,6 +673,9 @@ public class BaseGridDataIndexManager {
 
             //Update merge meta-data for bottom part of split cell
             if (checkMaxRowIndex > maxRowIndex) {
+                invalidateMergedBlockRows(maxRowIndex,
+                                          checkMaxRowIndex,
+                                          columnIndex);
                 for (int i = maxRowIndex; i < checkMaxRowIndex; i++) {
                     final GridRow row = rows.get(i);
                     final BaseGridCell cell = ((BaseGridCell) row.getCells().get(columnIndex));
@@ -490,10 +700,10 @@ public class BaseGridDataIndexManager {
 
     public void onExpandCell(final int rowIndex,
                              final int columnIndex) {
+        restartIncrementalIndex();
         int minRowIndex = rowIndex;
         int maxRowIndex = rowIndex + 1;
         final List<GridRow> rows = gridData.getRows();
-        final List<GridColumn<?>> columns = gridData.getColumns();
         final GridRow currentRow = rows.get(rowIndex);
         final GridCell<?> currentRowCell = currentRow.getCells().get(columnIndex);
 
@@ -528,8 +738,41 @@ public class BaseGridDataIndexManager {
             maxRowIndex++;
         }
 
+        expandRows(minRowIndex,
+                   maxRowIndex,
+                   columnIndex);
+    }
+
+    /**
+     * Expands all collapsed regions in a column. Nested regions in other columns remain collapsed.
+     * @param columnIndex Index of the column in the model; i.e. {@link GridColumn#getIndex()}.
+     */
+    public void onExpandAll(final int columnIndex) {
+        restartIncrementalIndex();
+        //Iterate a copy as expanding a region removes it
+        for (GridCollapsedRegions.Region region : collapsedRegions.getRegions(columnIndex)) {
+            expandRows(region.getMinRowIndex(),
+                       region.getMaxRowIndex() + 1,
+                       columnIndex);
+        }
+    }
+
+    private void expandRows(final int minRowIndex,
+                            final int maxRowIndex,
+                            final int columnIndex) {
+        final List<GridRow> rows = gridData.getRows();
+        final List<GridColumn<?>> columns = gridData.getColumns();
+        final GridCollapsedRegions.Region region = collapsedRegions.remove(columnIndex,
+                                                                          minRowIndex);
+        invalidateMergedBlockRows(minRowIndex,
+                                  maxRowIndex);
         for (int i = minRowIndex + 1; i < maxRowIndex; i++) {
-            rows.get(i).expand();
+            final GridRow row = rows.get(i);
+            row.expand();
+            if (region != null && region.isHidden(i)) {
+                restoreHeight(row,
+                              region.getHeight(i));
+            }
         }
 
         for (int i = 0; i < columns.size(); i++) {
@@ -579,6 +822,14 @@ public class BaseGridDataIndexManager {
                 }
                 updateRowMergedCells(bottomSplitRow);
                 bottomSplitRow.expand();
+                invalidateMergedBlockRows(expandMaxRowIndex,
+                                          expandMaxRowIndex + 1);
+                final GridCollapsedRegions.Region region = collapsedRegions.getHidingRegion(expandMaxRowIndex);
+                if (region != null) {
+                    restoreHeight(bottomSplitRow,
+                                  collapsedRegions.split(region,
+                                                         expandMaxRowIndex));
+                }
                 if (cell != null) {
                     cell.setMergedCellCount(expandMaxRowIndex - minRowIndex);
                 }
@@ -589,6 +840,7 @@ public class BaseGridDataIndexManager {
 
     public void onMoveRows(final List<GridRow> rowsMoved,
                            final GridData.Range oldBlockExtent) {
+        invalidateMergedBlocks();
         if (!gridData.isMerged()) {
             return;
         }
@@ -598,6 +850,9 @@ public class BaseGridDataIndexManager {
         final int oldBlockEnd = oldBlockExtent.getMaxRowIndex();
         final int newBlockStart = rows.indexOf(rowsMoved.get(0));
         final int newBlockEnd = rows.indexOf(rowsMoved.get(rowsMoved.size() - 1));
+        collapsedRegions.onMoveRows(oldBlockExtent.getMinRowIndex(),
+                                    newBlockStart,
+                                    rowsMoved.size());
 
         boolean isCollapsedBlock = false;
         for (GridRow rowMoved : rowsMoved) {
@@ -712,7 +967,7 @@ public class BaseGridDataIndexManager {
                 if (previousRowCell == null) {
                     break;
                 }
-                if (previousRowCell.isCollapsed() && foundTopSplitMarker) {
+                if (previousRow.isCollapsed() && foundTopSplitMarker) {
                     break;
                 }
                 if (!previousRowCell.equals(currentRowCell)) {
@@ -742,7 +997,7 @@ public class BaseGridDataIndexManager {
             if (nextRowCell == null) {
                 break;
             }
-            if (nextRowCell.isCollapsed() && foundBottomSplitMarker) {
+            if (nextRow.isCollapsed() && foundBottomSplitMarker) {
                 maxBlockRowIndex--;
                 break;
             }
@@ -761,6 +1016,9 @@ public class BaseGridDataIndexManager {
     private void updateMergeMetaData(final int minBlockRowIndex,
                                      final int maxBlockRowIndex,
                                      final int columnIndex) {
+        invalidateMergedBlockRows(minBlockRowIndex,
+                                  maxBlockRowIndex,
+                                  columnIndex);
         for (int i = minBlockRowIndex; i < maxBlockRowIndex; i++) {
             final GridRow row = gridData.getRow(i);
             final BaseGridCell cell = ((BaseGridCell) row.getCells().get(columnIndex));
@@ -778,6 +1036,26 @@ public class BaseGridDataIndexManager {
         updateRowMergedCells(row);
     }
 
+    //Height of a row when not hidden by any collapsed region
+    private double getExpandedHeight(final GridRow row,
+                                     final int rowIndex) {
+        if (row.isCollapsed()) {
+            final GridCollapsedRegions.Region hidingRegion = collapsedRegions.getHidingRegion(rowIndex);
+            if (hidingRegion != null) {
+                return hidingRegion.getHeight(rowIndex);
+            }
+        }
+        return row.getHeight();
+    }
+
+    //Restore the height of an expanded row. Rows that remain hidden by other regions keep their height.
+    private void restoreHeight(final GridRow row,
+                               final double height) {
+        if (!row.isCollapsed() && row.getHeight() != height) {
+            row.setHeight(height);
+        }
+    }
+
     private void updateRowMergedCells(final GridRow row) {
         for (GridCell<?> cell : row.getCells().values()) {
             if (cell.isMerged()) {
@@ -787,4 +1065,358 @@ public class BaseGridDataIndexManager {
         }
         ((BaseGridRow) row).setHasMergedCells(false);
     }
+
+    /**
+     * Receives notifications of the progress of an {@link IncrementalIndex}.
+     */
+    public interface IndexingCallback {
+
+        /**
+         * Invoked after each slice of cells has been indexed.
+         * @param progress Fraction of cells indexed; between 0.0 and 1.0.
+         */
+        void onProgress(final double progress);
+
+        /**
+         * Invoked when all cells have been indexed.
+         */
+        default void onComplete() {
+        }
+
+        /**
+         * Invoked if indexing is abandoned; e.g. because the data is no longer to be merged.
+         */
+        default void onCancelled() {
+        }
+    }
+
+    /**
+     * Indexes merge meta-data in bounded slices. Each execution indexes at most a fixed number of cells
+     * and returns whether further executions are required; so it can be driven by GWT's
+     * {@code Scheduler.scheduleIncremental()}. Merged blocks are only marked once all of their rows have been
+     * indexed hence rows not yet reached are presented as not merged. Should the data change while indexing
+     * is in progress the meta-data already indexed may be stale and indexing restarts from the first column.
+     */
+    public class IncrementalIndex {
+
+        private final int sliceSize;
+        private final IndexingCallback callback;
+
+        private ColumnIndexer indexer;
+        private int columnIndex = 0;
+        private int rowIndex = 0;
+        private boolean isCancelled = false;
+        private boolean isColumnIndexed = false;
+        private int minIndexedRowIndex = -1;
+        private int maxIndexedRowIndex = -1;
+
+        private IncrementalIndex(final int sliceSize,
+                                 final IndexingCallback callback) {
+            if (sliceSize < 1) {
+                throw new IllegalArgumentException("sliceSize");
+            }
+            this.sliceSize = sliceSize;
+            this.callback = Objects.requireNonNull(callback, "callback");
+        }
+
+        /**
+         * Indexes the next slice of cells.
+         * @return true if there are more cells to index; false if indexing has completed or been cancelled.
+         */
+        public boolean execute() {
+            if (isCancelled) {
+                return false;
+            }
+
+            final List<GridColumn<?>> columns = gridData.getColumns();
+            final int rowCount = gridData.getRowCount();
+            final int columnCount = columns.size();
+            int budget = sliceSize;
+            isColumnIndexed = false;
+            minIndexedRowIndex = -1;
+            maxIndexedRowIndex = -1;
+            while (budget > 0 && columnIndex < columnCount) {
+                if (indexer == null) {
+                    indexer = new ColumnIndexer(columns.get(columnIndex).getIndex());
+                }
+                if (rowIndex < rowCount) {
+                    //A slice finishing one column and starting the next can index rows at both ends of the data
+                    if (minIndexedRowIndex < 0 || rowIndex < minIndexedRowIndex) {
+                        minIndexedRowIndex = rowIndex;
+                    }
+                    maxIndexedRowIndex = Math.max(maxIndexedRowIndex,
+                                                  Math.min(rowCount,
+                                                           rowIndex + budget) - 1);
+                }
+                while (budget > 0 && rowIndex < rowCount) {
+                    indexer.indexRow(rowIndex++);
+                    budget--;
+                }
+                if (rowIndex >= rowCount) {
+                    //Only the merged blocks of the column just indexed have changed
+                    indexer.finish(rowCount);
+                    mergedBlockIndexes.remove(indexer.columnIndex);
+                    indexer = null;
+                    columnIndex++;
+                    rowIndex = 0;
+                    isColumnIndexed = true;
+                }
+            }
+
+            if (columnIndex >= columnCount) {
+                incrementalIndex = null;
+                callback.onProgress(1.0);
+                callback.onComplete();
+                return false;
+            }
+            final double cellCount = (double) rowCount * columnCount;
+            callback.onProgress(((double) columnIndex * rowCount + rowIndex) / cellCount);
+            return true;
+        }
+
+        /**
+         * Returns whether the last execution finished indexing a column. Merged blocks presented by columns
+         * part way through indexing are incomplete; so there is no need to redraw until a column has finished.
+         * @return true if at least one column was finished by the last execution.
+         */
+        public boolean isColumnIndexed() {
+            return isColumnIndexed;
+        }
+
+        /**
+         * Returns whether the last execution indexed any of the given rows. Merged blocks ending in rows
+         * that are visible change their presentation; so a redraw need not wait for the column to finish.
+         * @param minRowIndex Index of the first row.
+         * @param maxRowIndex Index of the last row.
+         * @return true if the last execution indexed at least one row between those given, inclusive.
+         */
+        public boolean isAnyRowIndexed(final int minRowIndex,
+                                       final int maxRowIndex) {
+            return minIndexedRowIndex >= 0 && minIndexedRowIndex <= maxRowIndex && maxIndexedRowIndex >= minRowIndex;
+        }
+
+        /**
+         * Returns whether indexing has been cancelled.
+         * @return
+         */
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+
+        private void restart() {
+            indexer = null;
+            columnIndex = 0;
+            rowIndex = 0;
+        }
+
+        private void cancel() {
+            isCancelled = true;
+            callback.onCancelled();
+        }
+    }
+
+    //Scans a column row by row, updating merge meta-data as each run of equal cells ends
+    private class ColumnIndexer {
+
+        private final int columnIndex;
+
+        private int blockMinRowIndex = 0;
+        private GridCell<?> blockCell = null;
+
+        private ColumnIndexer(final int columnIndex) {
+            this.columnIndex = columnIndex;
+        }
+
+        private void indexRow(final int rowIndex) {
+            final GridCell<?> cell = gridData.getRow(rowIndex).getCells().get(columnIndex);
+            if (blockCell != null && cell != null && cell.equals(blockCell)) {
+                return;
+            }
+            finish(rowIndex);
+            if (cell != null) {
+                cell.reset();
+                blockMinRowIndex = rowIndex;
+                blockCell = cell;
+            }
+        }
+
+        private void finish(final int maxRowIndex) {
+            if (blockCell != null && maxRowIndex - blockMinRowIndex > 1) {
+                updateMergeMetaData(blockMinRowIndex,
+                                    maxRowIndex,
+                                    columnIndex);
+            }
+            blockCell = null;
+        }
+    }
+
+    private class MergedBlockIndex {
+
+        private final int columnIndex;
+        private final int rowCount;
+
+        //Lead rows of blocks spanning more than one row, with their spans
+        private int[] leadRowIndexes = new int[16];
+        private int[] leadRowCounts = new int[16];
+        private int leadCount = 0;
+
+        //Lead rows followed by collapsed rows containing different values
+        private final BitSet mixedValueRowIndexes = new BitSet();
+
+        //Rows to be rescanned before the next lookup, if any
+        private int minInvalidRowIndex = Integer.MAX_VALUE;
+        private int maxInvalidRowIndex = Integer.MIN_VALUE;
+
+        private MergedBlockIndex(final int columnIndex) {
+            this.columnIndex = columnIndex;
+            this.rowCount = gridData.getRowCount();
+            scan(0,
+                 rowCount);
+        }
+
+        private void invalidate(final int minRowIndex,
+                                final int maxRowIndex) {
+            minInvalidRowIndex = Math.min(minInvalidRowIndex,
+                                          minRowIndex);
+            maxInvalidRowIndex = Math.max(maxInvalidRowIndex,
+                                          maxRowIndex);
+        }
+
+        private void validate() {
+            int minRowIndex = Math.max(0,
+                                       minInvalidRowIndex);
+            int maxRowIndex = Math.min(rowCount,
+                                       maxInvalidRowIndex);
+            minInvalidRowIndex = Integer.MAX_VALUE;
+            maxInvalidRowIndex = Integer.MIN_VALUE;
+            if (minRowIndex >= maxRowIndex) {
+                return;
+            }
+
+            //Whether a row is of mixed value depends on the run of collapsed rows below it, so extend the rows
+            //rescanned upwards to those whose run reaches the first row and downwards to the end of any run
+            if (minRowIndex > 0) {
+                minRowIndex--;
+                while (minRowIndex > 0 && gridData.getRow(minRowIndex).isCollapsed()) {
+                    minRowIndex--;
+                }
+            }
+            while (maxRowIndex < rowCount && gridData.getRow(maxRowIndex).isCollapsed()) {
+                maxRowIndex++;
+            }
+            scan(minRowIndex,
+                 maxRowIndex);
+        }
+
+        //Replaces the descriptors of rows minRowIndex (inclusive) to maxRowIndex (exclusive)
+        private void scan(final int minRowIndex,
+                          final int maxRowIndex) {
+            final int firstLead = findLead(minRowIndex);
+            final int lastLead = findLead(maxRowIndex);
+            final int[] tailRowIndexes = Arrays.copyOfRange(leadRowIndexes,
+                                                            lastLead,
+                                                            leadCount);
+            final int[] tailRowCounts = Arrays.copyOfRange(leadRowCounts,
+                                                           lastLead,
+                                                           leadCount);
+            leadCount = firstLead;
+
+            final GridCell<?>[] cells = new GridCell<?>[maxRowIndex - minRowIndex];
+            final boolean[] collapsed = new boolean[maxRowIndex - minRowIndex];
+            int rowIndex = minRowIndex;
+            for (GridRow row : gridData.getRows().subList(minRowIndex,
+                                                          maxRowIndex)) {
+                final GridCell<?> cell = row.getCells().get(columnIndex);
+                cells[rowIndex - minRowIndex] = cell;
+                collapsed[rowIndex - minRowIndex] = row.isCollapsed();
+                if (cell != null && cell.getMergedCellCount() > 1) {
+                    addLead(rowIndex,
+                            Math.min(cell.getMergedCellCount(),
+                                     rowCount - rowIndex));
+                }
+                rowIndex++;
+            }
+            for (int i = 0; i < tailRowIndexes.length; i++) {
+                addLead(tailRowIndexes[i],
+                        tailRowCounts[i]);
+            }
+
+            //Walk upwards tracking whether the run of collapsed rows below each row all hold the same value. The
+            //last row scanned is either the last row or followed by a row that is not collapsed.
+            mixedValueRowIndexes.clear(minRowIndex,
+                                       maxRowIndex);
+            boolean hasCollapsedRows = false;
+            boolean isCollapsedRowsSameValue = true;
+            GridCell<?> collapsedRowsValue = null;
+            for (rowIndex = maxRowIndex - 1; rowIndex >= minRowIndex; rowIndex--) {
+                final GridCell<?> cell = cells[rowIndex - minRowIndex];
+                if (hasCollapsedRows && !(isCollapsedRowsSameValue && Objects.equals(collapsedRowsValue,
+                                                                                     cell))) {
+                    mixedValueRowIndexes.set(rowIndex);
+                }
+                if (collapsed[rowIndex - minRowIndex]) {
+                    isCollapsedRowsSameValue = !hasCollapsedRows || (isCollapsedRowsSameValue && Objects.equals(collapsedRowsValue,
+                                                                                                                cell));
+                    collapsedRowsValue = cell;
+                    hasCollapsedRows = true;
+                } else {
+                    hasCollapsedRows = false;
+                    isCollapsedRowsSameValue = true;
+                    collapsedRowsValue = null;
+                }
+            }
+        }
+
+        //Index of the first lead row at or after the given row
+        private int findLead(final int rowIndex) {
+            final int i = Arrays.binarySearch(leadRowIndexes,
+                                              0,
+                                              leadCount,
+                                              rowIndex);
+            return i >= 0 ? i : -i - 1;
+        }
+
+        private void addLead(final int rowIndex,
+                             final int span) {
+            if (leadCount == leadRowIndexes.length) {
+                leadRowIndexes = Arrays.copyOf(leadRowIndexes,
+                                               leadCount * 2);
+                leadRowCounts = Arrays.copyOf(leadRowCounts,
+                                              leadCount * 2);
+            }
+            leadRowIndexes[leadCount] = rowIndex;
+            leadRowCounts[leadCount] = span;
+            leadCount++;
+        }
+
+        private GridData.MergedBlock getMergedBlock(final int rowIndex) {
+            validate();
+            int leadRowIndex = rowIndex;
+            int span = 1;
+
+            //Cells that are not the "lead" of a block belong to the closest preceding block that spans them
+            final GridCell<?> cell = gridData.getRow(rowIndex).getCells().get(columnIndex);
+            if (cell != null) {
+                final int i = Arrays.binarySearch(leadRowIndexes,
+                                                  0,
+                                                  leadCount,
+                                                  rowIndex);
+                if (i >= 0) {
+                    span = leadRowCounts[i];
+                } else if (cell.getMergedCellCount() == 0 && i < -1) {
+                    final int j = -i - 2;
+                    if (rowIndex < leadRowIndexes[j] + leadRowCounts[j]) {
+                        leadRowIndex = leadRowIndexes[j];
+                        span = leadRowCounts[j];
+                    }
+                }
+            }
+
+            final double height = gridData.getRowOffset(leadRowIndex + span) - gridData.getRowOffset(leadRowIndex);
+            return new GridData.MergedBlock(leadRowIndex,
+                                            span,
+                                            height,
+                                            mixedValueRowIndexes.get(leadRowIndex));
+        }
+    }
 }
@@ -18,6 +18,8 @@ package org.kie.grid.client.model.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
 
 import org.kie.grid.client.model.GridCell;
@@ -58,6 +60,31 @@ public class BaseGridDataSelectionsManager {
         }
     }
 
+    /**
+     * Moves selections to follow rows reordered by a sort or filtered.
+     * @param newRowIndexes Maps the index of a row beforehand to its index afterwards; or -1 if the row is hidden.
+     */
+    public void onReorderRows(final IntUnaryOperator newRowIndexes) {
+        final List<GridData.SelectedCell> selectedCells = gridData.getSelectedCells();
+        if (selectedCells.isEmpty()) {
+            return;
+        }
+        final ListIterator<GridData.SelectedCell> itr = selectedCells.listIterator();
+        while (itr.hasNext()) {
+            final GridData.SelectedCell sc = itr.next();
+            final int rowIndex = newRowIndexes.applyAsInt(sc.getRowIndex());
+            if (rowIndex < 0) {
+                itr.remove();
+            } else {
+                itr.set(new GridData.SelectedCell(rowIndex,
+                                                  sc.getColumnIndex()));
+            }
+        }
+
+        //Selections in merged data extend to the merged blocks in which the rows now reside
+        onMerge(gridData.isMerged());
+    }
+
     public void onInsertColumn(final int index) {
         final List<GridData.SelectedCell> selectedCells = gridData.getSelectedCells();
         final List<Integer> rowsWithASelection = selectedCells.stream()
@@ -94,18 +121,15 @@ public class BaseGridDataSelectionsManager {
     }
 
     public void onInsertRow(final int rowIndex) {
-        final List<GridData.SelectedCell> selectedCells = gridData.getSelectedCells();
-        final List<GridData.SelectedCell> selectedCellsToUpdate = new ArrayList<GridData.SelectedCell>();
-        for (GridData.SelectedCell sc : selectedCells) {
+        //Shift selections in-place; there is no need to remove and re-add them as their relative order is unaffected
+        final ListIterator<GridData.SelectedCell> itr = gridData.getSelectedCells().listIterator();
+        while (itr.hasNext()) {
+            final GridData.SelectedCell sc = itr.next();
             if (sc.getRowIndex() >= rowIndex) {
-                selectedCellsToUpdate.add(sc);
+                itr.set(new GridData.SelectedCell(sc.getRowIndex() + 1,
+                                                  sc.getColumnIndex()));
             }
         }
-        selectedCells.removeAll(selectedCellsToUpdate);
-        for (GridData.SelectedCell sc : selectedCellsToUpdate) {
-            selectedCells.add(new GridData.SelectedCell(sc.getRowIndex() + 1,
-                                                        sc.getColumnIndex()));
-        }
     }
 
     public void onDeleteRow(final GridData.Range range) {
@@ -272,7 +296,7 @@ public class BaseGridDataSelectionsManager {
                 if (previousRowCell == null) {
                     break;
                 }
-                if (previousRowCell.isCollapsed() && foundTopSplitMarker) {
+                if (previousRow.isCollapsed() && foundTopSplitMarker) {
                     break;
                 }
                 if (!previousRowCell.equals(currentRowCell)) {
@@ -302,7 +326,7 @@ public class BaseGridDataSelectionsManager {
                 if (nextRowCell == null) {
                     break;
                 }
-                if (nextRowCell.isCollapsed() && foundBottomSplitMarker) {
+                if (nextRow.isCollapsed() && foundBottomSplitMarker) {
                     maxRowIndex--;
                     break;
                 }
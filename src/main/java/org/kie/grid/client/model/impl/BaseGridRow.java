@@ -15,10 +15,11 @@
  */
 package org.kie.grid.client.model.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Stack;
 
 import org.kie.grid.client.model.GridCell;
 import org.kie.grid.client.model.GridRow;
@@ -34,8 +35,16 @@ public class BaseGridRow implements GridRow {
     protected Map<Integer, GridCell<?>> cells = new HashMap<Integer, GridCell<?>>();
 
     private boolean hasMergedCells = false;
-    private Stack<Double> heights = new Stack<Double>();
+    private final double initialHeight;
+    //Height of the row when first collapsed; restored once the row is no longer collapsed
+    private double restoreHeight;
     private int collapseLevel = 0;
+    private Runnable heightChangedCallback = () -> {
+    };
+
+    //Version of the data in which the cells were last copied, and earlier cells retained for snapshots, newest first
+    private int cellsVersion = 0;
+    private CellsVersion previousCells = null;
 
     public BaseGridRow() {
         this(20);
@@ -43,7 +52,8 @@ public class BaseGridRow implements GridRow {
 
     public BaseGridRow(final double height) {
         this.height = height;
-        this.heights.push(height);
+        this.initialHeight = height;
+        this.restoreHeight = height;
     }
 
     @Override
@@ -59,11 +69,16 @@ public class BaseGridRow implements GridRow {
     @Override
     public void setHeight(final double height) {
         this.height = height;
+        heightChangedCallback.run();
     }
 
     @Override
     public double peekHeight() {
-        return heights.peek();
+        //Rows collapsed more than once were already collapsed, and hence had no height, before the most recent collapse
+        if (collapseLevel > 1) {
+            return 0.0;
+        }
+        return collapseLevel == 1 ? restoreHeight : initialHeight;
     }
 
     @Override
@@ -78,11 +93,10 @@ public class BaseGridRow implements GridRow {
 
     @Override
     public void collapse() {
-        collapseLevel++;
-        heights.push(height);
-        for (GridCell<?> cell : cells.values()) {
-            cell.collapse();
+        if (collapseLevel == 0) {
+            restoreHeight = height;
         }
+        collapseLevel++;
     }
 
     @Override
@@ -91,9 +105,10 @@ public class BaseGridRow implements GridRow {
             return;
         }
         collapseLevel--;
-        height = heights.pop();
-        for (GridCell<?> cell : cells.values()) {
-            cell.expand();
+        if (collapseLevel == 0) {
+            height = restoreHeight;
+            restoreHeight = initialHeight;
+            heightChangedCallback.run();
         }
     }
 
@@ -101,9 +116,9 @@ public class BaseGridRow implements GridRow {
     public void reset() {
         collapseLevel = 0;
         hasMergedCells = false;
-        height = heights.firstElement();
-        heights.clear();
-        heights.push(height);
+        height = initialHeight;
+        restoreHeight = initialHeight;
+        heightChangedCallback.run();
         for (GridCell<?> cell : cells.values()) {
             cell.reset();
         }
@@ -122,6 +137,81 @@ public class BaseGridRow implements GridRow {
         cells.remove(columnIndex);
     }
 
+    //Retains the cells, should a live snapshot have been taken since they were last copied, before they are changed.
+    //Returns true if cells are shared with a live snapshot and hence must be replaced, rather than changed, too.
+    boolean onChangeCells(final GridSnapshotVersions versions) {
+        final int version = versions.getVersion();
+        if (cellsVersion < version) {
+            if (versions.isRetained(cellsVersion,
+                                    version)) {
+                previousCells = new CellsVersion(cellsVersion,
+                                                 cells,
+                                                 previousCells);
+                cells = new HashMap<>(cells);
+            }
+            cellsVersion = version;
+            pruneCells(versions);
+        }
+        return previousCells != null;
+    }
+
+    //Discards earlier cells no longer needed to restore a live snapshot
+    void pruneCells(final GridSnapshotVersions versions) {
+        final List<CellsVersion> retained = new ArrayList<>();
+        int maxVersion = cellsVersion;
+        for (CellsVersion previous = previousCells; previous != null; previous = previous.previous) {
+            if (versions.isRetained(previous.version,
+                                    maxVersion)) {
+                retained.add(previous);
+            }
+            maxVersion = previous.version;
+        }
+        previousCells = null;
+        for (int i = retained.size() - 1; i >= 0; i--) {
+            previousCells = new CellsVersion(retained.get(i).version,
+                                             retained.get(i).cells,
+                                             previousCells);
+        }
+        versions.onRetainCells(this,
+                               previousCells != null);
+    }
+
+    //Restores the cells as they were in an earlier version of the data. Returns true if the cells changed.
+    boolean restoreCells(final int restoredVersion,
+                         final GridSnapshotVersions versions) {
+        if (cellsVersion <= restoredVersion) {
+            return false;
+        }
+        CellsVersion restored = previousCells;
+        while (restored != null && restored.version > restoredVersion) {
+            restored = restored.previous;
+        }
+        final Map<Integer, GridCell<?>> restoredCells = restored == null ? Collections.emptyMap() : restored.cells;
+        onChangeCells(versions);
+        cells = new HashMap<>(restoredCells);
+        return true;
+    }
+
+    private static class CellsVersion {
+
+        private final int version;
+        private final Map<Integer, GridCell<?>> cells;
+        private final CellsVersion previous;
+
+        private CellsVersion(final int version,
+                             final Map<Integer, GridCell<?>> cells,
+                             final CellsVersion previous) {
+            this.version = version;
+            this.cells = cells;
+            this.previous = previous;
+        }
+    }
+
+    //This is not part of the GridCell interface as we don't want to expose this for general use
+    void setHeightChangedCallback(final Runnable heightChangedCallback) {
+        this.heightChangedCallback = heightChangedCallback;
+    }
+
     //This is not part of the GridCell interface as we don't want to expose this for general use
     void setHasMergedCells(final boolean hasMergedCells) {
         this.hasMergedCells = hasMergedCells;
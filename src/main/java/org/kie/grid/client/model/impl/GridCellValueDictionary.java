@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.grid.client.model.GridCellValue;
+
+/**
+ * The distinct values of a column, each with a small integer code. Cells holding an equal value share a single
+ * {@link GridCellValue} and its code, such that cells can be compared by code rather than by value; for example when
+ * finding runs of equal cells to merge. Columns with many distinct values gain little from sharing them, hence a
+ * dictionary stops accepting new values once it is full; cells with other values are compared by value.
+ * Only {@link BaseGridCellValue}s, which cannot be changed once constructed, are shared.
+ */
+class GridCellValueDictionary {
+
+    static final int NO_CODE = -1;
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final int maxSize;
+    private final Map<GridCellValue<?>, Integer> codes = new HashMap<>();
+    private final List<GridCellValue<?>> values = new ArrayList<>();
+
+    GridCellValueDictionary() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    GridCellValueDictionary(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the code of a value, adding it to the dictionary if not already present.
+     * @param value The value.
+     * @return The code, or {@link #NO_CODE} if the value cannot be shared or the dictionary is full.
+     */
+    int getCode(final GridCellValue<?> value) {
+        if (value == null || value.getClass() != BaseGridCellValue.class) {
+            return NO_CODE;
+        }
+        final Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (values.size() == maxSize) {
+            return NO_CODE;
+        }
+        codes.put(value,
+                  values.size());
+        values.add(value);
+        return values.size() - 1;
+    }
+
+    /**
+     * Returns the value with a code; an equal value to that from which the code was given.
+     * @param code The code.
+     * @return The shared value.
+     */
+    GridCellValue<?> getValue(final int code) {
+        return values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
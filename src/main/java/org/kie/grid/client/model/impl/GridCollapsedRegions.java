@@ -0,0 +1,488 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collapsed regions of a grid, held as a set of intervals for each column. Regions within a column are disjoint
+ * whereas regions in different columns nest; the number of regions hiding a row being its collapse depth. Each
+ * region records the expanded heights of its hidden rows once, when it is collapsed, so they can be restored when
+ * the last region hiding them is expanded. Regions in each column are held in a list ordered by the index of their
+ * "lead" row so the region containing a row, and regions within a range of rows, are found in O(log n) with a binary
+ * search. Regions following an inserted or deleted row have their "lead" row updated in place.
+ */
+public class GridCollapsedRegions {
+
+    private final Map<Integer, List<Region>> columns = new HashMap<>();
+
+    private long sequence = 0;
+
+    /**
+     * Adds a collapsed region. An existing region with the same "lead" row in the column is replaced.
+     * @param columnIndex Index of the column in the model; i.e. {@link org.kie.grid.client.model.GridColumn#getIndex()}.
+     * @param minRowIndex Index of the "lead" row; that remains visible.
+     * @param heights Heights of the hidden rows; i.e. those following the lead row.
+     * @return The new region.
+     */
+    public Region add(final int columnIndex,
+                      final int minRowIndex,
+                      final double[] heights) {
+        final Region region = new Region(columnIndex,
+                                         minRowIndex,
+                                         heights,
+                                         sequence++);
+        put(region);
+        return region;
+    }
+
+    /**
+     * Removes the collapsed region with the given "lead" row.
+     * @param columnIndex Index of the column in the model.
+     * @param minRowIndex Index of the "lead" row.
+     * @return The removed region or null if there was no such region.
+     */
+    public Region remove(final int columnIndex,
+                         final int minRowIndex) {
+        final List<Region> regions = columns.get(columnIndex);
+        if (regions == null) {
+            return null;
+        }
+        final int i = find(regions,
+                           minRowIndex);
+        return i < 0 ? null : regions.remove(i);
+    }
+
+    /**
+     * Returns the collapsed region in the given column containing the given row, including its "lead" row.
+     * @param columnIndex Index of the column in the model.
+     * @param rowIndex
+     * @return The region or null if the row is not within a collapsed region of the column.
+     */
+    public Region getRegion(final int columnIndex,
+                            final int rowIndex) {
+        final List<Region> regions = columns.get(columnIndex);
+        if (regions == null) {
+            return null;
+        }
+        final int i = floor(regions,
+                            rowIndex);
+        if (i < 0 || regions.get(i).getMaxRowIndex() < rowIndex) {
+            return null;
+        }
+        return regions.get(i);
+    }
+
+    /**
+     * Returns the most recently collapsed region that hides the given row.
+     * @param rowIndex
+     * @return The region or null if the row is not hidden.
+     */
+    public Region getHidingRegion(final int rowIndex) {
+        Region hiding = null;
+        for (Integer columnIndex : columns.keySet()) {
+            final Region region = getRegion(columnIndex,
+                                            rowIndex);
+            if (region != null && region.isHidden(rowIndex)) {
+                if (hiding == null || region.sequence > hiding.sequence) {
+                    hiding = region;
+                }
+            }
+        }
+        return hiding;
+    }
+
+    /**
+     * Returns the number of collapsed regions that hide the given row.
+     * @param rowIndex
+     * @return
+     */
+    public int getDepth(final int rowIndex) {
+        int depth = 0;
+        for (Integer columnIndex : columns.keySet()) {
+            final Region region = getRegion(columnIndex,
+                                            rowIndex);
+            if (region != null && region.isHidden(rowIndex)) {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Returns the collapsed regions, in all columns, whose "lead" row is within the given range.
+     * @param minRowIndex Minimum row index (inclusive).
+     * @param maxRowIndex Maximum row index (inclusive).
+     * @return
+     */
+    public List<Region> getRegions(final int minRowIndex,
+                                   final int maxRowIndex) {
+        final List<Region> regions = new ArrayList<>();
+        for (List<Region> column : columns.values()) {
+            regions.addAll(column.subList(ceiling(column,
+                                                  minRowIndex),
+                                          ceiling(column,
+                                                  maxRowIndex + 1)));
+        }
+        return regions;
+    }
+
+    /**
+     * Returns whether there are any collapsed regions.
+     * @return
+     */
+    public boolean isEmpty() {
+        for (List<Region> regions : columns.values()) {
+            if (!regions.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all collapsed regions.
+     */
+    public void clear() {
+        columns.clear();
+    }
+
+    /**
+     * Removes all collapsed regions for a column.
+     * @param columnIndex Index of the column in the model.
+     */
+    public void clear(final int columnIndex) {
+        columns.remove(columnIndex);
+    }
+
+    /**
+     * Updates regions following the insertion of a row. Regions after the row move down. A region
+     * containing the row grows to include it, the row taking the given height when the region is expanded.
+     * @param rowIndex
+     * @param height
+     */
+    public void onInsertRow(final int rowIndex,
+                            final double height) {
+        for (List<Region> regions : columns.values()) {
+            final int i = ceiling(regions,
+                                  rowIndex);
+            if (i > 0 && regions.get(i - 1).getMaxRowIndex() >= rowIndex) {
+                regions.get(i - 1).insert(rowIndex,
+                                          height);
+            }
+            shift(regions,
+                  i,
+                  1);
+        }
+    }
+
+    /**
+     * Updates regions following the deletion of a range of rows. Regions whose "lead" row is deleted
+     * are removed. Regions after the range move up.
+     * @param minRowIndex Minimum row index (inclusive).
+     * @param maxRowIndex Maximum row index (inclusive).
+     */
+    public void onDeleteRows(final int minRowIndex,
+                             final int maxRowIndex) {
+        final int count = maxRowIndex - minRowIndex + 1;
+        for (List<Region> regions : columns.values()) {
+            int i = ceiling(regions,
+                            minRowIndex);
+            if (i > 0 && regions.get(i - 1).getMaxRowIndex() >= minRowIndex) {
+                final Region region = regions.get(i - 1);
+                region.delete(minRowIndex,
+                              maxRowIndex);
+                if (region.heights.length == 0) {
+                    regions.remove(--i);
+                }
+            }
+            regions.subList(i,
+                            ceiling(regions,
+                                    maxRowIndex + 1)).clear();
+            shift(regions,
+                  i,
+                  -count);
+        }
+    }
+
+    /**
+     * Updates regions following a block of rows being moved. Regions wholly within the block move with it.
+     * @param oldMinRowIndex Index of the first row of the block before it was moved.
+     * @param newMinRowIndex Index of the first row of the block after it was moved.
+     * @param rowCount Number of rows in the block.
+     */
+    public void onMoveRows(final int oldMinRowIndex,
+                           final int newMinRowIndex,
+                           final int rowCount) {
+        final int oldMaxRowIndex = oldMinRowIndex + rowCount - 1;
+        final List<Region> moved = new ArrayList<>();
+        for (List<Region> regions : columns.values()) {
+            final List<Region> block = regions.subList(ceiling(regions,
+                                                               oldMinRowIndex),
+                                                       ceiling(regions,
+                                                               oldMaxRowIndex + 1));
+            for (Region region : block) {
+                if (region.getMaxRowIndex() <= oldMaxRowIndex) {
+                    moved.add(region);
+                }
+            }
+            block.clear();
+        }
+        onDeleteRows(oldMinRowIndex,
+                     oldMaxRowIndex);
+        for (List<Region> regions : columns.values()) {
+            shift(regions,
+                  ceiling(regions,
+                          newMinRowIndex),
+                  rowCount);
+        }
+        for (Region region : moved) {
+            region.minRowIndex = region.minRowIndex - oldMinRowIndex + newMinRowIndex;
+            put(region);
+        }
+    }
+
+    /**
+     * Splits a region at the given row, which becomes visible and the "lead" row of a new region
+     * containing the remaining hidden rows. This happens when part of a collapsed region is expanded by
+     * expanding a region in another column.
+     * @param region The region to split.
+     * @param rowIndex Index of the row at which to split the region; a hidden row of the region.
+     * @return The height of the row before it was hidden.
+     */
+    public double split(final Region region,
+                        final int rowIndex) {
+        final int offset = rowIndex - region.minRowIndex - 1;
+        final double height = region.heights[offset];
+        final double[] head = new double[offset];
+        final double[] tail = new double[region.heights.length - offset - 1];
+        System.arraycopy(region.heights,
+                         0,
+                         head,
+                         0,
+                         head.length);
+        System.arraycopy(region.heights,
+                         offset + 1,
+                         tail,
+                         0,
+                         tail.length);
+        region.heights = head;
+        if (head.length == 0) {
+            remove(region.columnIndex,
+                   region.minRowIndex);
+        }
+        if (tail.length > 0) {
+            final Region split = add(region.columnIndex,
+                                     rowIndex,
+                                     tail);
+            split.sequence = region.sequence;
+        }
+        return height;
+    }
+
+    //Regions in a column, ordered by their lead row. This is a copy; changes to the regions are not reflected.
+    List<Region> getRegions(final int columnIndex) {
+        final List<Region> regions = columns.get(columnIndex);
+        if (regions == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(regions));
+    }
+
+    //All regions, in the order in which they were collapsed
+    List<Region> getRegionsInCollapseOrder() {
+        final List<Region> regions = new ArrayList<>();
+        for (List<Region> column : columns.values()) {
+            regions.addAll(column);
+        }
+        regions.sort((r1, r2) -> Long.compare(r1.sequence,
+                                              r2.sequence));
+        return regions;
+    }
+
+    private void put(final Region region) {
+        final List<Region> regions = columns.computeIfAbsent(region.columnIndex,
+                                                             (c) -> new ArrayList<>());
+        final int i = find(regions,
+                           region.minRowIndex);
+        if (i >= 0) {
+            regions.set(i,
+                        region);
+        } else {
+            regions.add(-i - 1,
+                        region);
+        }
+    }
+
+    //Moves the regions from the given position in the list; their order is unchanged
+    private static void shift(final List<Region> regions,
+                              final int fromIndex,
+                              final int delta) {
+        for (int i = fromIndex; i < regions.size(); i++) {
+            final Region region = regions.get(i);
+            region.minRowIndex = region.minRowIndex + delta;
+        }
+    }
+
+    //Position of the region with the given lead row, or (-(insertion point) - 1) if there is no such region
+    private static int find(final List<Region> regions,
+                            final int minRowIndex) {
+        int low = 0;
+        int high = regions.size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midRowIndex = regions.get(mid).minRowIndex;
+            if (midRowIndex < minRowIndex) {
+                low = mid + 1;
+            } else if (midRowIndex > minRowIndex) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    //Position of the first region whose lead row is at or after the given row
+    private static int ceiling(final List<Region> regions,
+                               final int rowIndex) {
+        final int i = find(regions,
+                           rowIndex);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    //Position of the last region whose lead row is at or before the given row, or -1 if there is none
+    private static int floor(final List<Region> regions,
+                             final int rowIndex) {
+        final int i = find(regions,
+                           rowIndex);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    /**
+     * A collapsed region; comprising a visible "lead" row followed by one or more hidden rows.
+     */
+    public static class Region {
+
+        private final int columnIndex;
+        private int minRowIndex;
+        private double[] heights;
+        private long sequence;
+
+        private Region(final int columnIndex,
+                       final int minRowIndex,
+                       final double[] heights,
+                       final long sequence) {
+            this.columnIndex = columnIndex;
+            this.minRowIndex = minRowIndex;
+            this.heights = heights;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Index of the column in the model.
+         * @return
+         */
+        public int getColumnIndex() {
+            return columnIndex;
+        }
+
+        /**
+         * Index of the "lead" row.
+         * @return
+         */
+        public int getMinRowIndex() {
+            return minRowIndex;
+        }
+
+        /**
+         * Index of the last hidden row.
+         * @return
+         */
+        public int getMaxRowIndex() {
+            return minRowIndex + heights.length;
+        }
+
+        /**
+         * Returns the height of a hidden row before the region was collapsed.
+         * @param rowIndex Index of a hidden row.
+         * @return
+         */
+        public double getHeight(final int rowIndex) {
+            return heights[rowIndex - minRowIndex - 1];
+        }
+
+        /**
+         * Sets the height to which a hidden row is restored when the region is expanded.
+         * @param rowIndex Index of a hidden row.
+         * @param height
+         */
+        public void setHeight(final int rowIndex,
+                              final double height) {
+            heights[rowIndex - minRowIndex - 1] = height;
+        }
+
+        /**
+         * Returns whether the region hides the given row.
+         * @param rowIndex
+         * @return
+         */
+        public boolean isHidden(final int rowIndex) {
+            return rowIndex > minRowIndex && rowIndex <= getMaxRowIndex();
+        }
+
+        private void insert(final int rowIndex,
+                            final double height) {
+            final int offset = rowIndex - minRowIndex - 1;
+            final double[] grown = new double[heights.length + 1];
+            System.arraycopy(heights,
+                             0,
+                             grown,
+                             0,
+                             offset);
+            grown[offset] = height;
+            System.arraycopy(heights,
+                             offset,
+                             grown,
+                             offset + 1,
+                             heights.length - offset);
+            heights = grown;
+        }
+
+        private void delete(final int minRowIndex,
+                            final int maxRowIndex) {
+            final int from = minRowIndex - this.minRowIndex - 1;
+            final int to = Math.min(maxRowIndex - this.minRowIndex,
+                                    heights.length);
+            final double[] shrunk = new double[heights.length - (to - from)];
+            System.arraycopy(heights,
+                             0,
+                             shrunk,
+                             0,
+                             from);
+            System.arraycopy(heights,
+                             to,
+                             shrunk,
+                             from,
+                             heights.length - to);
+            heights = shrunk;
+        }
+    }
+}
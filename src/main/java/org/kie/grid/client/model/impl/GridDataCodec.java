@@ -0,0 +1,585 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridCellValue;
+import org.kie.grid.client.model.GridColumn;
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.GridRow;
+
+/**
+ * Encodes the state of a {@link BaseGridData} in a compact binary form and decodes it again. The state comprises the
+ * order, widths and visibility of columns, the heights of rows, the values of cells, collapsed regions and selections.
+ * <p>
+ * Cells are encoded column by column. Each column has a dictionary of its distinct values and the cells are
+ * encoded as runs of the same value; which, in merged data, are also the merged blocks. Collapsed regions are
+ * encoded as runs of rows and selections as runs of rows within a column. Decoding therefore sets merge meta-data
+ * as the cells are built, in a single pass, rather than indexing the grid once it has been built.
+ * <p>
+ * Columns are not themselves encoded; data is decoded into a grid with the same columns, identified by their index
+ * in the model. Values can be Strings, Integers, Longs, Doubles, Booleans or Dates and are decoded into
+ * {@link BaseGridCell}s holding {@link BaseGridCellValue}s, with the default selection strategy.
+ */
+public class GridDataCodec {
+
+    private static final int MAGIC = 0x4744;
+    private static final int VERSION = 1;
+
+    private static final int TYPE_STRING = 0;
+    private static final int TYPE_INTEGER = 1;
+    private static final int TYPE_LONG = 2;
+    private static final int TYPE_DOUBLE = 3;
+    private static final int TYPE_BOOLEAN = 4;
+    private static final int TYPE_DATE = 5;
+
+    private GridDataCodec() {
+    }
+
+    /**
+     * Encodes the state of a grid.
+     * @param gridData The grid. Rows cannot be filtered, nor supplied by a {@link GridRowProvider}.
+     * @return The encoded state.
+     */
+    public static byte[] encode(final BaseGridData gridData) {
+        Objects.requireNonNull(gridData, "gridData");
+        if (gridData instanceof PagedGridData) {
+            throw new UnsupportedOperationException("Encoding requires all rows to be loaded.");
+        }
+        if (gridData.getFilter() != null) {
+            throw new IllegalStateException("Filtered rows cannot be encoded; clear the filter beforehand.");
+        }
+        final Output out = new Output();
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeBoolean(gridData.isMerged());
+
+        final List<GridColumn<?>> columns = gridData.getColumns();
+        out.writeInt(columns.size());
+        for (GridColumn<?> column : columns) {
+            out.writeInt(column.getIndex());
+            out.writeDouble(column.getWidth());
+            out.writeBoolean(column.isVisible());
+        }
+
+        out.writeInt(gridData.getRowCount());
+        encodeRowHeights(gridData,
+                         out);
+        encodeColumns(gridData,
+                      out);
+        encodeCollapsedRegions(gridData,
+                               out);
+        encodeSelections(gridData,
+                         out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes state into a grid, replacing its rows. Any filter or sort order is cleared.
+     * @param data State encoded with {@link #encode(BaseGridData)}.
+     * @param gridData A grid with the same columns as that encoded, in any order.
+     */
+    public static void decode(final byte[] data,
+                              final BaseGridData gridData) {
+        Objects.requireNonNull(data, "data");
+        Objects.requireNonNull(gridData, "gridData");
+        if (gridData instanceof PagedGridData) {
+            throw new UnsupportedOperationException("Rows are supplied by the GridRowProvider.");
+        }
+        final Input in = new Input(data);
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IllegalArgumentException("The data is not in a supported format.");
+        }
+        final boolean isMerged = in.readBoolean();
+
+        decodeColumns(gridData,
+                      in);
+
+        final int rowCount = in.readInt();
+        final BaseGridRow[] rows = decodeRowHeights(rowCount,
+                                                    in);
+        for (GridColumn<?> column : gridData.getColumns()) {
+            decodeColumn(rows,
+                         column.getIndex(),
+                         gridData.getValueDictionary(column),
+                         isMerged,
+                         in);
+        }
+        gridData.loadRows(Arrays.asList(rows),
+                          isMerged);
+
+        decodeCollapsedRegions(gridData,
+                               isMerged,
+                               in);
+        decodeSelections(gridData,
+                         in);
+    }
+
+    //Heights when expanded, as runs of rows with the same height
+    private static void encodeRowHeights(final BaseGridData gridData,
+                                         final Output out) {
+        final GridCollapsedRegions collapsedRegions = gridData.indexManager.getCollapsedRegions();
+        final List<GridRow> rows = gridData.getRows();
+        final List<double[]> runs = new ArrayList<>();
+        int rowIndex = 0;
+        for (GridRow row : rows) {
+            double height = row.getHeight();
+            if (row.isCollapsed()) {
+                final GridCollapsedRegions.Region region = collapsedRegions.getHidingRegion(rowIndex);
+                if (region != null) {
+                    height = region.getHeight(rowIndex);
+                }
+            }
+            final double[] run = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+            if (run != null && run[0] == height) {
+                run[1]++;
+            } else {
+                runs.add(new double[]{height, 1});
+            }
+            rowIndex++;
+        }
+        out.writeInt(runs.size());
+        for (double[] run : runs) {
+            out.writeDouble(run[0]);
+            out.writeInt((int) run[1]);
+        }
+    }
+
+    private static BaseGridRow[] decodeRowHeights(final int rowCount,
+                                                  final Input in) {
+        final BaseGridRow[] rows = new BaseGridRow[rowCount];
+        final int runCount = in.readInt();
+        int rowIndex = 0;
+        for (int run = 0; run < runCount; run++) {
+            final double height = in.readDouble();
+            final int length = in.readInt();
+            for (int i = 0; i < length; i++) {
+                rows[rowIndex++] = new BaseGridRow(height);
+            }
+        }
+        if (rowIndex != rowCount) {
+            throw new IllegalArgumentException("The data is corrupt; expected " + rowCount + " rows but found " + rowIndex + ".");
+        }
+        return rows;
+    }
+
+    //Rows are read once, in order, with each cell added to the encoder of its column; that then writes its block
+    private static void encodeColumns(final BaseGridData gridData,
+                                      final Output out) {
+        final List<GridColumn<?>> columns = gridData.getColumns();
+        final int[] _columnIndexes = new int[columns.size()];
+        final ColumnEncoder[] encoders = new ColumnEncoder[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            _columnIndexes[i] = columns.get(i).getIndex();
+            encoders[i] = new ColumnEncoder();
+        }
+        for (GridRow row : gridData.getRows()) {
+            final Map<Integer, GridCell<?>> cells = row.getCells();
+            for (int i = 0; i < encoders.length; i++) {
+                encoders[i].add(getValue(cells.get(_columnIndexes[i])));
+            }
+        }
+        for (ColumnEncoder encoder : encoders) {
+            encoder.write(out);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void decodeColumn(final BaseGridRow[] rows,
+                                     final int _columnIndex,
+                                     final GridCellValueDictionary valueDictionary,
+                                     final boolean isMerged,
+                                     final Input in) {
+        //Values are added to the grid's dictionary for the column once, rather than for each cell
+        final int dictionarySize = in.readInt();
+        final GridCellValue<?>[] values = new GridCellValue<?>[dictionarySize + 1];
+        final int[] valueCodes = new int[dictionarySize + 1];
+        for (int i = 1; i <= dictionarySize; i++) {
+            values[i] = new BaseGridCellValue<>(decodeValue(in));
+            valueCodes[i] = valueDictionary.getCode(values[i]);
+        }
+        final int runCount = in.readInt();
+        int rowIndex = 0;
+        for (int run = 0; run < runCount; run++) {
+            final int id = in.readInt();
+            final int length = in.readInt();
+            if (id < 0 || id > dictionarySize || length < 1 || rowIndex + length > rows.length) {
+                throw new IllegalArgumentException("The data is corrupt; invalid run in column " + _columnIndex + ".");
+            }
+            if (id == 0) {
+                rowIndex = rowIndex + length;
+                continue;
+            }
+            //Runs of the same value are merged blocks; as would be found by indexing them
+            final boolean isMergedBlock = isMerged && length > 1;
+            for (int i = 0; i < length; i++) {
+                final BaseGridRow row = rows[rowIndex + i];
+                final BaseGridCell cell = new BaseGridCell<>(values[id]);
+                if (valueCodes[id] != GridCellValueDictionary.NO_CODE) {
+                    cell.setValue(valueDictionary,
+                                  valueCodes[id]);
+                }
+                if (isMergedBlock) {
+                    cell.setMergedCellCount(i == 0 ? length : 0);
+                    row.setHasMergedCells(true);
+                }
+                row.setCell(_columnIndex,
+                            cell);
+            }
+            rowIndex = rowIndex + length;
+        }
+    }
+
+    private static void decodeColumns(final BaseGridData gridData,
+                                      final Input in) {
+        final int columnCount = in.readInt();
+        final List<GridColumn<?>> columns = gridData.columns;
+        if (columnCount != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " columns but found " + columnCount + ".");
+        }
+        final Map<Integer, GridColumn<?>> columnsByIndex = new HashMap<>();
+        for (GridColumn<?> column : columns) {
+            columnsByIndex.put(column.getIndex(),
+                               column);
+        }
+        final List<GridColumn<?>> orderedColumns = new ArrayList<>();
+        for (int i = 0; i < columnCount; i++) {
+            final int _columnIndex = in.readInt();
+            final GridColumn<?> column = columnsByIndex.remove(_columnIndex);
+            if (column == null) {
+                throw new IllegalArgumentException("The grid has no column with index " + _columnIndex + ".");
+            }
+            column.setWidth(in.readDouble());
+            column.setVisible(in.readBoolean());
+            orderedColumns.add(column);
+        }
+        columns.clear();
+        columns.addAll(orderedColumns);
+    }
+
+    //Regions as runs of rows, in the order in which they were collapsed so that nested regions are restored alike
+    private static void encodeCollapsedRegions(final BaseGridData gridData,
+                                               final Output out) {
+        final List<GridCollapsedRegions.Region> regions = gridData.indexManager.getCollapsedRegions().getRegionsInCollapseOrder();
+        out.writeInt(regions.size());
+        for (GridCollapsedRegions.Region region : regions) {
+            out.writeInt(region.getColumnIndex());
+            out.writeInt(region.getMinRowIndex());
+            out.writeInt(region.getMaxRowIndex() - region.getMinRowIndex());
+        }
+    }
+
+    private static void decodeCollapsedRegions(final BaseGridData gridData,
+                                               final boolean isMerged,
+                                               final Input in) {
+        final int regionCount = in.readInt();
+        for (int i = 0; i < regionCount; i++) {
+            final int _columnIndex = in.readInt();
+            final int minRowIndex = in.readInt();
+            final int length = in.readInt();
+            if (isMerged) {
+                gridData.indexManager.onCollapseRows(minRowIndex,
+                                                     minRowIndex + length,
+                                                     _columnIndex);
+            }
+        }
+    }
+
+    //The origin followed by runs of selected rows within each column
+    private static void encodeSelections(final BaseGridData gridData,
+                                         final Output out) {
+        final List<GridData.SelectedCell> selectedCells = new ArrayList<>(gridData.getSelectedCells());
+        if (selectedCells.isEmpty()) {
+            out.writeInt(0);
+            return;
+        }
+        final GridData.SelectedCell origin = selectedCells.get(0);
+        selectedCells.sort(Comparator.comparingInt(GridData.SelectedCell::getColumnIndex)
+                               .thenComparingInt(GridData.SelectedCell::getRowIndex));
+        final List<int[]> runs = new ArrayList<>();
+        for (GridData.SelectedCell sc : selectedCells) {
+            final int[] run = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+            if (run != null && run[0] == sc.getColumnIndex() && run[1] + run[2] == sc.getRowIndex()) {
+                run[2]++;
+            } else if (run == null || run[0] != sc.getColumnIndex() || run[1] + run[2] < sc.getRowIndex()) {
+                runs.add(new int[]{sc.getColumnIndex(), sc.getRowIndex(), 1});
+            }
+        }
+        out.writeInt(runs.size());
+        out.writeInt(origin.getColumnIndex());
+        out.writeInt(origin.getRowIndex());
+        for (int[] run : runs) {
+            out.writeInt(run[0]);
+            out.writeInt(run[1]);
+            out.writeInt(run[2]);
+        }
+    }
+
+    private static void decodeSelections(final BaseGridData gridData,
+                                         final Input in) {
+        final int runCount = in.readInt();
+        if (runCount == 0) {
+            return;
+        }
+        final int originColumnIndex = in.readInt();
+        final int originRowIndex = in.readInt();
+        final GridData.SelectedCell origin = new GridData.SelectedCell(originRowIndex,
+                                                                       originColumnIndex);
+        final List<GridData.SelectedCell> selectedCells = gridData.selectedCells;
+        selectedCells.add(origin);
+        for (int run = 0; run < runCount; run++) {
+            final int _columnIndex = in.readInt();
+            final int minRowIndex = in.readInt();
+            final int length = in.readInt();
+            for (int rowIndex = minRowIndex; rowIndex < minRowIndex + length; rowIndex++) {
+                final GridData.SelectedCell sc = new GridData.SelectedCell(rowIndex,
+                                                                           _columnIndex);
+                if (!sc.equals(origin)) {
+                    selectedCells.add(sc);
+                }
+            }
+        }
+    }
+
+    private static Object getValue(final GridCell<?> cell) {
+        if (cell == null || cell.getValue() == null) {
+            return null;
+        }
+        return cell.getValue().getValue();
+    }
+
+    private static void encodeValue(final Object value,
+                                    final Output out) {
+        if (value instanceof String) {
+            out.writeInt(TYPE_STRING);
+            out.writeString((String) value);
+        } else if (value instanceof Integer) {
+            out.writeInt(TYPE_INTEGER);
+            out.writeSignedLong((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeInt(TYPE_LONG);
+            out.writeSignedLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeInt(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeInt(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Date) {
+            out.writeInt(TYPE_DATE);
+            out.writeSignedLong(((Date) value).getTime());
+        } else {
+            throw new IllegalArgumentException("Values of type " + value.getClass().getName() + " cannot be encoded.");
+        }
+    }
+
+    private static Object decodeValue(final Input in) {
+        final int type = in.readInt();
+        switch (type) {
+            case TYPE_STRING:
+                return in.readString();
+            case TYPE_INTEGER:
+                return (int) in.readSignedLong();
+            case TYPE_LONG:
+                return in.readSignedLong();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_DATE:
+                return new Date(in.readSignedLong());
+            default:
+                throw new IllegalArgumentException("The data is corrupt; unknown value type " + type + ".");
+        }
+    }
+
+    //A dictionary of distinct values followed by runs of cells with the same value
+    private static class ColumnEncoder {
+
+        private final Map<Object, Integer> dictionary = new HashMap<>();
+        private final List<Object> values = new ArrayList<>();
+        private final List<int[]> runs = new ArrayList<>();
+        private int[] currentRun = null;
+        private Object previousValue = null;
+
+        private void add(final Object value) {
+            //Cells in the same run need not be looked up in the dictionary
+            if (currentRun != null && Objects.equals(value,
+                                                     previousValue)) {
+                currentRun[1]++;
+                return;
+            }
+            //Zero denotes an empty cell; dictionary entries are numbered from one
+            int id = 0;
+            if (value != null) {
+                Integer entry = dictionary.get(value);
+                if (entry == null) {
+                    entry = values.size() + 1;
+                    dictionary.put(value,
+                                   entry);
+                    values.add(value);
+                }
+                id = entry;
+            }
+            currentRun = new int[]{id, 1};
+            runs.add(currentRun);
+            previousValue = value;
+        }
+
+        private void write(final Output out) {
+            out.writeInt(values.size());
+            for (Object value : values) {
+                encodeValue(value,
+                            out);
+            }
+            out.writeInt(runs.size());
+            for (int[] run : runs) {
+                out.writeInt(run[0]);
+                out.writeInt(run[1]);
+            }
+        }
+    }
+
+    //Variable length integers, as few bytes as their magnitude requires, and fixed length doubles
+    private static class Output {
+
+        private byte[] bytes = new byte[1024];
+        private int length = 0;
+
+        private void writeByte(final int b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes,
+                                      bytes.length * 2);
+            }
+            bytes[length++] = (byte) b;
+        }
+
+        private void writeInt(final int value) {
+            writeLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeLong(final long value) {
+            long v = value;
+            while ((v & ~0x7FL) != 0) {
+                writeByte((int) ((v & 0x7F) | 0x80));
+                v = v >>> 7;
+            }
+            writeByte((int) v);
+        }
+
+        //Zig-zag encoded such that small negative values are also short
+        private void writeSignedLong(final long value) {
+            writeLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeBoolean(final boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        private void writeDouble(final double value) {
+            final long bits = Double.doubleToLongBits(value);
+            for (int shift = 0; shift < 64; shift = shift + 8) {
+                writeByte((int) (bits >>> shift));
+            }
+        }
+
+        private void writeString(final String value) {
+            final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(utf8.length);
+            for (byte b : utf8) {
+                writeByte(b);
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes,
+                                 length);
+        }
+    }
+
+    private static class Input {
+
+        private final byte[] bytes;
+        private int position = 0;
+
+        private Input(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("The data is corrupt; unexpected end of data.");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        private int readInt() {
+            return (int) readLong();
+        }
+
+        private long readLong() {
+            long value = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = readByte();
+                value = value | ((long) (b & 0x7F) << shift);
+                shift = shift + 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        private long readSignedLong() {
+            final long v = readLong();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        private boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        private double readDouble() {
+            long bits = 0;
+            for (int shift = 0; shift < 64; shift = shift + 8) {
+                bits = bits | ((long) readByte() << shift);
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        private String readString() {
+            final int length = readInt();
+            if (length < 0 || position + length > bytes.length) {
+                throw new IllegalArgumentException("The data is corrupt; unexpected end of data.");
+            }
+            final String value = new String(bytes,
+                                            position,
+                                            length,
+                                            StandardCharsets.UTF_8);
+            position = position + length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.kie.grid.client.model.GridRow;
+
+/**
+ * Holds all rows of a filtered grid, together with a bitmap of the rows that are visible and a compact index
+ * of their positions. Visible rows are addressed by their index amongst visible rows and all other rows are
+ * retained, hidden, in their original positions. When a filter is narrowed only the visible rows are evaluated
+ * again and, likewise, when it is widened only the hidden rows are evaluated again.
+ */
+public class GridRowFilter {
+
+    private final GridRowList allRows;
+    private final BitSet visibleRows = new BitSet();
+
+    //Index within all rows of each visible row, in ascending order
+    private int[] visibleRowIndexes = new int[0];
+    private int visibleRowCount = 0;
+
+    private Predicate<GridRow> filter;
+
+    /**
+     * @param rows All rows. These are copied and hence subsequent changes should be made through this class.
+     * @param filter The filter with which to evaluate rows.
+     */
+    public GridRowFilter(final Collection<? extends GridRow> rows,
+                         final Predicate<GridRow> filter) {
+        this.allRows = new GridRowList(rows);
+        setFilter(filter);
+    }
+
+    public Predicate<GridRow> getFilter() {
+        return filter;
+    }
+
+    /**
+     * Evaluates all rows with a filter.
+     * @param filter The filter.
+     */
+    public void setFilter(final Predicate<GridRow> filter) {
+        this.filter = Objects.requireNonNull(filter, "filter");
+        visibleRows.clear();
+        int rowIndex = 0;
+        for (GridRow row : allRows) {
+            if (filter.test(row)) {
+                visibleRows.set(rowIndex);
+            }
+            rowIndex++;
+        }
+        indexVisibleRows();
+    }
+
+    /**
+     * Evaluates visible rows with a filter that matches no more rows than the current filter.
+     * Rows that are hidden remain hidden.
+     * @param filter The filter.
+     * @return The indexes amongst visible rows, before the filter was narrowed, of rows that have been hidden; in
+     * ascending order.
+     */
+    public int[] narrowFilter(final Predicate<GridRow> filter) {
+        this.filter = Objects.requireNonNull(filter, "filter");
+        final int[] hiddenRowIndexes = new int[visibleRowCount];
+        int hiddenRowCount = 0;
+        int count = 0;
+        final Iterator<GridRow> rows = allRows.iterator();
+        int rowIndex = 0;
+        for (int i = 0; i < visibleRowCount; i++) {
+            //Walk the rows sequentially, skipping hidden rows, as random access is O(log n)
+            final int visibleRowIndex = visibleRowIndexes[i];
+            GridRow row = rows.next();
+            while (rowIndex < visibleRowIndex) {
+                row = rows.next();
+                rowIndex++;
+            }
+            rowIndex++;
+            if (filter.test(row)) {
+                visibleRowIndexes[count++] = visibleRowIndex;
+            } else {
+                visibleRows.clear(visibleRowIndex);
+                hiddenRowIndexes[hiddenRowCount++] = i;
+            }
+        }
+        visibleRowCount = count;
+        return Arrays.copyOf(hiddenRowIndexes,
+                             hiddenRowCount);
+    }
+
+    /**
+     * Evaluates hidden rows with a filter that matches no fewer rows than the current filter.
+     * Rows that are visible remain visible.
+     * @param filter The filter.
+     * @return The indexes amongst visible rows, after the filter was widened, of rows that have been shown; in
+     * ascending order.
+     */
+    public int[] widenFilter(final Predicate<GridRow> filter) {
+        this.filter = Objects.requireNonNull(filter, "filter");
+        final BitSet shownRows = new BitSet();
+        int rowIndex = 0;
+        for (GridRow row : allRows) {
+            if (!visibleRows.get(rowIndex) && filter.test(row)) {
+                shownRows.set(rowIndex);
+            }
+            rowIndex++;
+        }
+        visibleRows.or(shownRows);
+        indexVisibleRows();
+
+        final int[] shownRowIndexes = new int[shownRows.cardinality()];
+        int i = 0;
+        for (rowIndex = shownRows.nextSetBit(0); rowIndex >= 0; rowIndex = shownRows.nextSetBit(rowIndex + 1)) {
+            shownRowIndexes[i++] = getVisibleRowIndex(rowIndex);
+        }
+        return shownRowIndexes;
+    }
+
+    /**
+     * Returns all rows, both visible and hidden.
+     * @return
+     */
+    public List<GridRow> getAllRows() {
+        return allRows;
+    }
+
+    public int getVisibleRowCount() {
+        return visibleRowCount;
+    }
+
+    /**
+     * Checks whether a row is visible.
+     * @param rowIndex The index of the row within all rows.
+     * @return
+     */
+    public boolean isVisible(final int rowIndex) {
+        return visibleRows.get(rowIndex);
+    }
+
+    /**
+     * Returns the index within all rows of a visible row.
+     * @param visibleRowIndex The index of the row amongst visible rows.
+     * @return
+     */
+    public int getRowIndex(final int visibleRowIndex) {
+        if (visibleRowIndex < 0 || visibleRowIndex >= visibleRowCount) {
+            throw new IndexOutOfBoundsException("Index: " + visibleRowIndex + ", Size: " + visibleRowCount);
+        }
+        return visibleRowIndexes[visibleRowIndex];
+    }
+
+    /**
+     * Returns the index amongst visible rows of a row.
+     * @param rowIndex The index of the row within all rows.
+     * @return The index amongst visible rows or -1 if the row is hidden.
+     */
+    public int getVisibleRowIndex(final int rowIndex) {
+        if (!visibleRows.get(rowIndex)) {
+            return -1;
+        }
+        return Arrays.binarySearch(visibleRowIndexes,
+                                   0,
+                                   visibleRowCount,
+                                   rowIndex);
+    }
+
+    /**
+     * Replaces the contents of a list with the visible rows.
+     * @param rows The list to populate.
+     */
+    public void copyVisibleRows(final List<GridRow> rows) {
+        rows.clear();
+        final Iterator<GridRow> allRows = this.allRows.iterator();
+        int rowIndex = 0;
+        for (int i = 0; i < visibleRowCount; i++) {
+            final int visibleRowIndex = visibleRowIndexes[i];
+            GridRow row = allRows.next();
+            while (rowIndex < visibleRowIndex) {
+                row = allRows.next();
+                rowIndex++;
+            }
+            rowIndex++;
+            rows.add(row);
+        }
+    }
+
+    /**
+     * Appends a row. The row is visible, whether or not it matches the filter, until the filter is next changed.
+     * @param row The row.
+     */
+    public void appendRow(final GridRow row) {
+        insertRow(visibleRowCount,
+                  row);
+    }
+
+    /**
+     * Inserts a row before the visible row at the given index. The row is visible, whether or not it
+     * matches the filter, until the filter is next changed.
+     * @param visibleRowIndex The index amongst visible rows at which to insert the row.
+     * @param row The row.
+     */
+    public void insertRow(final int visibleRowIndex,
+                          final GridRow row) {
+        if (visibleRowIndex < 0 || visibleRowIndex > visibleRowCount) {
+            throw new IndexOutOfBoundsException("Index: " + visibleRowIndex + ", Size: " + visibleRowCount);
+        }
+        final int rowIndex = visibleRowIndex < visibleRowCount ? visibleRowIndexes[visibleRowIndex] : allRows.size();
+        allRows.add(rowIndex,
+                    row);
+        shiftVisibleRows(rowIndex,
+                         1);
+        visibleRows.set(rowIndex);
+
+        if (visibleRowCount == visibleRowIndexes.length) {
+            visibleRowIndexes = Arrays.copyOf(visibleRowIndexes,
+                                              Math.max(16,
+                                                       visibleRowCount * 2));
+        }
+        System.arraycopy(visibleRowIndexes,
+                         visibleRowIndex,
+                         visibleRowIndexes,
+                         visibleRowIndex + 1,
+                         visibleRowCount - visibleRowIndex);
+        visibleRowIndexes[visibleRowIndex] = rowIndex;
+        visibleRowCount++;
+    }
+
+    /**
+     * Deletes a range of visible rows. Hidden rows between them are retained.
+     * @param minVisibleRowIndex The index amongst visible rows of the first row to delete (inclusive).
+     * @param maxVisibleRowIndex The index amongst visible rows of the last row to delete (inclusive).
+     */
+    public void deleteRows(final int minVisibleRowIndex,
+                           final int maxVisibleRowIndex) {
+        if (minVisibleRowIndex < 0 || maxVisibleRowIndex >= visibleRowCount || minVisibleRowIndex > maxVisibleRowIndex) {
+            throw new IndexOutOfBoundsException("minRowIndex: " + minVisibleRowIndex + ", maxRowIndex: " + maxVisibleRowIndex + ", Size: " + visibleRowCount);
+        }
+        for (int i = maxVisibleRowIndex; i >= minVisibleRowIndex; i--) {
+            final int rowIndex = visibleRowIndexes[i];
+            allRows.remove(rowIndex);
+            visibleRows.clear(rowIndex);
+            shiftVisibleRows(rowIndex + 1,
+                             -1);
+        }
+        indexVisibleRows();
+    }
+
+    /**
+     * Places visible rows that have been reordered, for example by moving or sorting them, into the
+     * positions occupied by visible rows. Hidden rows retain their positions.
+     * @param rows The visible rows, in their new order.
+     */
+    public void reorderVisibleRows(final List<GridRow> rows) {
+        if (rows.size() != visibleRowCount) {
+            throw new IllegalArgumentException("Expected " + visibleRowCount + " rows but found " + rows.size() + ".");
+        }
+        int i = 0;
+        for (GridRow row : rows) {
+            allRows.set(visibleRowIndexes[i++],
+                        row);
+        }
+    }
+
+    /**
+     * Reorders all rows, retaining their visibility.
+     * @param order Element i is the current index of the row to be placed at index i.
+     */
+    public void reorderRows(final int[] order) {
+        if (order.length != allRows.size()) {
+            throw new IllegalArgumentException("Expected " + allRows.size() + " indexes but found " + order.length + ".");
+        }
+        final GridRow[] rows = allRows.toArray(new GridRow[allRows.size()]);
+        final BitSet isVisible = (BitSet) visibleRows.clone();
+        allRows.clear();
+        visibleRows.clear();
+        for (int i = 0; i < order.length; i++) {
+            allRows.add(rows[order[i]]);
+            if (isVisible.get(order[i])) {
+                visibleRows.set(i);
+            }
+        }
+        indexVisibleRows();
+    }
+
+    //Moves the visibility of rows at and after the given index
+    private void shiftVisibleRows(final int fromRowIndex,
+                                  final int delta) {
+        final int toRowIndex = Math.max(visibleRows.length(),
+                                        fromRowIndex);
+        final BitSet shifted = visibleRows.get(fromRowIndex,
+                                               toRowIndex);
+        visibleRows.clear(fromRowIndex + Math.min(0,
+                                                  delta),
+                          toRowIndex);
+        for (int i = shifted.nextSetBit(0); i >= 0; i = shifted.nextSetBit(i + 1)) {
+            visibleRows.set(fromRowIndex + i + delta);
+        }
+        for (int i = 0; i < visibleRowCount; i++) {
+            if (visibleRowIndexes[i] >= fromRowIndex) {
+                visibleRowIndexes[i] = visibleRowIndexes[i] + delta;
+            }
+        }
+    }
+
+    private void indexVisibleRows() {
+        visibleRowCount = visibleRows.cardinality();
+        if (visibleRowIndexes.length < visibleRowCount) {
+            visibleRowIndexes = new int[visibleRowCount];
+        }
+        int i = 0;
+        for (int rowIndex = visibleRows.nextSetBit(0); rowIndex >= 0; rowIndex = visibleRows.nextSetBit(rowIndex + 1)) {
+            visibleRowIndexes[i++] = rowIndex;
+        }
+    }
+}
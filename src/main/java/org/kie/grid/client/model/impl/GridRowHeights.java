@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.kie.grid.client.model.GridRow;
+
+/**
+ * Row height policy for a grid where most rows share the same height. Rows having a different height
+ * are recorded in a sparse map of overrides. Row offsets and the row at a given offset are then calculated
+ * arithmetically, with a binary search over the overrides; rather than by iterating all preceding rows.
+ */
+public class GridRowHeights {
+
+    private double rowHeight;
+
+    private final TreeMap<Integer, Double> overrides = new TreeMap<>();
+
+    //Sorted overrides and the cumulative difference from the uniform height before each; built on demand
+    private int[] overrideRowIndexes = new int[0];
+    private double[] corrections = new double[1];
+    private boolean isIndexed = true;
+
+    public GridRowHeights(final double rowHeight) {
+        this.rowHeight = rowHeight;
+    }
+
+    /**
+     * Returns the uniform height of rows that do not have an override.
+     * @return
+     */
+    public double getRowHeight() {
+        return rowHeight;
+    }
+
+    /**
+     * Declares the uniform height of rows and clears all overrides.
+     * @param rowHeight
+     */
+    public void reset(final double rowHeight) {
+        this.rowHeight = rowHeight;
+        this.overrides.clear();
+        this.isIndexed = false;
+    }
+
+    /**
+     * Detects the uniform height of the given rows, as the most common height, and records overrides for those
+     * rows that differ. This is O(n) and is intended to be invoked only when row heights are known to have changed.
+     * @param rows
+     */
+    public void detect(final List<GridRow> rows) {
+        //Boyer-Moore majority vote; if no height is shared by a majority of rows the result is still correct, merely less compact
+        double candidate = rowHeight;
+        int votes = 0;
+        for (GridRow row : rows) {
+            final double height = row.getHeight();
+            if (votes == 0) {
+                candidate = height;
+                votes = 1;
+            } else if (height == candidate) {
+                votes++;
+            } else {
+                votes--;
+            }
+        }
+        reset(candidate);
+
+        int rowIndex = 0;
+        for (GridRow row : rows) {
+            final double height = row.getHeight();
+            if (height != candidate) {
+                overrides.put(rowIndex,
+                              height);
+            }
+            rowIndex++;
+        }
+    }
+
+    /**
+     * Sets the height of a single row, adding or removing an override as necessary.
+     * @param rowIndex
+     * @param height
+     */
+    public void setRowHeight(final int rowIndex,
+                             final double height) {
+        if (height == rowHeight) {
+            if (overrides.remove(rowIndex) == null) {
+                return;
+            }
+        } else {
+            final Double previous = overrides.put(rowIndex,
+                                                  height);
+            if (previous != null && previous == height) {
+                return;
+            }
+        }
+        isIndexed = false;
+    }
+
+    /**
+     * Returns the number of rows whose height differs from the uniform height.
+     * @return
+     */
+    public int getOverrideCount() {
+        return overrides.size();
+    }
+
+    /**
+     * Returns the sum of the heights of all rows before the given row index.
+     * @param rowIndex
+     * @return
+     */
+    public double getRowOffset(final int rowIndex) {
+        ensureIndexed();
+        final int overrideCount = countOverridesBefore(rowIndex);
+        return rowIndex * rowHeight + corrections[overrideCount];
+    }
+
+    /**
+     * Returns the index of the first row whose bottom edge is at or below the given offset. This is clamped to
+     * the last row if the offset lies beyond all rows.
+     * @param offsetY
+     * @param rowCount
+     * @return The row index or -1 if there are no rows.
+     */
+    public int findRowIndex(final double offsetY,
+                            final int rowCount) {
+        if (rowCount == 0) {
+            return -1;
+        }
+        ensureIndexed();
+
+        //Find the first override whose bottom edge is at or below the offset
+        int lo = 0;
+        int hi = overrideRowIndexes.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (getOverrideBottom(mid) < offsetY) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        //Rows between the preceding override and this override all have the uniform height
+        final int minRowIndex = lo == 0 ? 0 : overrideRowIndexes[lo - 1] + 1;
+        final int maxRowIndex = lo == overrideRowIndexes.length ? rowCount - 1 : overrideRowIndexes[lo];
+        final double correction = corrections[lo];
+        int rowIndex;
+        if (rowHeight > 0) {
+            rowIndex = (int) Math.ceil((offsetY - correction) / rowHeight) - 1;
+        } else {
+            rowIndex = offsetY <= correction ? minRowIndex : maxRowIndex;
+        }
+        rowIndex = Math.max(rowIndex,
+                            minRowIndex);
+        rowIndex = Math.min(rowIndex,
+                            maxRowIndex);
+        return Math.min(rowIndex,
+                        rowCount - 1);
+    }
+
+    private double getOverrideBottom(final int overrideIndex) {
+        return (overrideRowIndexes[overrideIndex] + 1) * rowHeight + corrections[overrideIndex + 1];
+    }
+
+    private int countOverridesBefore(final int rowIndex) {
+        final int i = Arrays.binarySearch(overrideRowIndexes,
+                                          rowIndex);
+        return i < 0 ? -i - 1 : i;
+    }
+
+    private void ensureIndexed() {
+        if (isIndexed) {
+            return;
+        }
+        final int overrideCount = overrides.size();
+        overrideRowIndexes = new int[overrideCount];
+        corrections = new double[overrideCount + 1];
+        final Iterator<Map.Entry<Integer, Double>> itr = overrides.entrySet().iterator();
+        for (int i = 0; i < overrideCount; i++) {
+            final Map.Entry<Integer, Double> e = itr.next();
+            overrideRowIndexes[i] = e.getKey();
+            corrections[i + 1] = corrections[i] + e.getValue() - rowHeight;
+        }
+        isIndexed = true;
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.kie.grid.client.model.GridRow;
+
+/**
+ * A List of {@link GridRow} stored as a sequence of bounded blocks. A binary indexed tree of block sizes
+ * locates the block containing any given row index in O(log n). Insertions and deletions then only shift
+ * rows within the affected block; rather than the whole backing array as is the case with an ArrayList.
+ * <p>
+ * Snapshots share blocks with the list from which they were taken. A block is copied the first time it is
+ * changed after a snapshot, so the memory used by a snapshot grows with the number of blocks subsequently changed.
+ */
+public class GridRowList extends AbstractList<GridRow> {
+
+    static final int MAX_BLOCK_SIZE = 128;
+
+    static final int MIN_BLOCK_SIZE = MAX_BLOCK_SIZE / 4;
+
+    private List<Block> blocks = new ArrayList<>();
+
+    //Binary indexed (Fenwick) tree of block sizes. Element zero is unused.
+    private int[] blockSizes = new int[1];
+
+    private int size = 0;
+
+    //Blocks created by this list since it was last snapshot; others are shared and must be copied before being changed
+    private Object owner = new Object();
+
+    //The list of blocks and their sizes are shared with a snapshot and must be copied before being changed
+    private boolean isShared = false;
+
+    public GridRowList() {
+    }
+
+    public GridRowList(final Collection<? extends GridRow> rows) {
+        addAll(rows);
+    }
+
+    /**
+     * Returns a copy of this list in O(1). The copy shares blocks with this list until either is changed.
+     * @return A copy of the list.
+     */
+    public GridRowList snapshot() {
+        final GridRowList snapshot = new GridRowList();
+        snapshot.share(this);
+        owner = new Object();
+        isShared = true;
+        return snapshot;
+    }
+
+    /**
+     * Replaces the content of this list with that of another in O(1). The lists share blocks until either is changed.
+     * @param rows The list whose content to use.
+     */
+    public void restore(final GridRowList rows) {
+        share(rows);
+        rows.owner = new Object();
+        rows.isShared = true;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public GridRow get(final int index) {
+        checkElementIndex(index);
+        final int blockIndex = findBlockIndex(index);
+        return blocks.get(blockIndex).get(index - getBlockOffset(blockIndex));
+    }
+
+    @Override
+    public GridRow set(final int index,
+                      final GridRow row) {
+        checkElementIndex(index);
+        final int blockIndex = findBlockIndex(index);
+        return getWritableBlock(blockIndex).set(index - getBlockOffset(blockIndex),
+                                                row);
+    }
+
+    @Override
+    public boolean add(final GridRow row) {
+        appendRow(row);
+        return true;
+    }
+
+    @Override
+    public void add(final int index,
+                    final GridRow row) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            appendRow(row);
+            return;
+        }
+
+        final int blockIndex = findBlockIndex(index);
+        final List<GridRow> block = getWritableBlock(blockIndex);
+        block.add(index - getBlockOffset(blockIndex),
+                  row);
+        size++;
+        modCount++;
+
+        //Split the block if it has grown too large
+        if (block.size() > MAX_BLOCK_SIZE) {
+            final List<GridRow> tail = block.subList(block.size() / 2,
+                                                     block.size());
+            blocks.add(blockIndex + 1,
+                       new Block(owner,
+                                 tail));
+            tail.clear();
+            rebuildBlockSizes();
+        } else {
+            updateBlockSize(blockIndex,
+                            1);
+        }
+    }
+
+    @Override
+    public GridRow remove(final int index) {
+        checkElementIndex(index);
+        final int blockIndex = findBlockIndex(index);
+        final List<GridRow> block = getWritableBlock(blockIndex);
+        final GridRow row = block.remove(index - getBlockOffset(blockIndex));
+        size--;
+        modCount++;
+
+        //Remove empty blocks and coalesce small blocks with their successor
+        if (block.isEmpty()) {
+            blocks.remove(blockIndex);
+            rebuildBlockSizes();
+        } else if (block.size() < MIN_BLOCK_SIZE && blockIndex < blocks.size() - 1 && block.size() + blocks.get(blockIndex + 1).size() <= MAX_BLOCK_SIZE) {
+            block.addAll(blocks.remove(blockIndex + 1));
+            rebuildBlockSizes();
+        } else {
+            updateBlockSize(blockIndex,
+                            -1);
+        }
+        return row;
+    }
+
+    @Override
+    public void clear() {
+        blocks = new ArrayList<>();
+        blockSizes = new int[1];
+        size = 0;
+        isShared = false;
+        modCount++;
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        int index = 0;
+        for (List<GridRow> block : blocks) {
+            for (GridRow row : block) {
+                if (o == null ? row == null : o.equals(row)) {
+                    return index;
+                }
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<GridRow> iterator() {
+        return iterator(0,
+                        size);
+    }
+
+    /**
+     * Returns an iterator over the rows in the range [fromIndex, toIndex). The iterator walks the blocks
+     * directly and hence each step is O(1) rather than the O(log n) of {@link #get(int)}.
+     * @param fromIndex Index of the first row (inclusive).
+     * @param toIndex Index of the last row (exclusive).
+     * @return
+     */
+    public Iterator<GridRow> iterator(final int fromIndex,
+                                      final int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        }
+        return new BlockIterator(fromIndex,
+                                 toIndex);
+    }
+
+    int getBlockCount() {
+        return blocks.size();
+    }
+
+    private void appendRow(final GridRow row) {
+        if (blocks.isEmpty() || blocks.get(blocks.size() - 1).size() >= MAX_BLOCK_SIZE) {
+            final Block block = new Block(owner);
+            block.add(row);
+            getWritableBlocks().add(block);
+            appendBlockSize(1);
+        } else {
+            getWritableBlock(blocks.size() - 1).add(row);
+            updateBlockSize(blocks.size() - 1,
+                            1);
+        }
+        size++;
+        modCount++;
+    }
+
+    private void share(final GridRowList rows) {
+        blocks = rows.blocks;
+        blockSizes = rows.blockSizes;
+        size = rows.size;
+        owner = new Object();
+        isShared = true;
+    }
+
+    private List<Block> getWritableBlocks() {
+        if (isShared) {
+            blocks = new ArrayList<>(blocks);
+            blockSizes = blockSizes.clone();
+            isShared = false;
+        }
+        return blocks;
+    }
+
+    private List<GridRow> getWritableBlock(final int blockIndex) {
+        final List<Block> blocks = getWritableBlocks();
+        final Block block = blocks.get(blockIndex);
+        if (block.owner == owner) {
+            return block;
+        }
+        final Block copy = new Block(owner,
+                                     block);
+        blocks.set(blockIndex,
+                   copy);
+        return copy;
+    }
+
+    private void checkElementIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    //Find the (zero-based) block containing the row at the given index
+    private int findBlockIndex(final int index) {
+        int blockIndex = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(blocks.size()); step > 0; step >>= 1) {
+            final int next = blockIndex + step;
+            if (next <= blocks.size() && blockSizes[next] <= remaining) {
+                blockIndex = next;
+                remaining = remaining - blockSizes[next];
+            }
+        }
+        return blockIndex;
+    }
+
+    //Number of rows in all blocks before the given (zero-based) block
+    private int getBlockOffset(final int blockIndex) {
+        int offset = 0;
+        for (int i = blockIndex; i > 0; i -= i & -i) {
+            offset = offset + blockSizes[i];
+        }
+        return offset;
+    }
+
+    private void updateBlockSize(final int blockIndex,
+                                 final int delta) {
+        for (int i = blockIndex + 1; i < blockSizes.length && i <= blocks.size(); i += i & -i) {
+            blockSizes[i] = blockSizes[i] + delta;
+        }
+    }
+
+    //Extends the tree for a block that has just been added to the end of the list of blocks
+    private void appendBlockSize(final int blockSize) {
+        final int i = blocks.size();
+        if (i >= blockSizes.length) {
+            final int[] grown = new int[Math.max(i + 1,
+                                                 blockSizes.length * 2)];
+            System.arraycopy(blockSizes,
+                             0,
+                             grown,
+                             0,
+                             blockSizes.length);
+            blockSizes = grown;
+        }
+        int sum = blockSize;
+        for (int j = i - 1; j > i - (i & -i); j -= j & -j) {
+            sum = sum + blockSizes[j];
+        }
+        blockSizes[i] = sum;
+    }
+
+    private void rebuildBlockSizes() {
+        final int blockCount = blocks.size();
+        if (blockSizes.length <= blockCount) {
+            blockSizes = new int[blockCount * 2 + 1];
+        } else {
+            Arrays.fill(blockSizes,
+                        0);
+        }
+        for (int i = 1; i <= blockCount; i++) {
+            blockSizes[i] = blockSizes[i] + blocks.get(i - 1).size();
+            final int parent = i + (i & -i);
+            if (parent <= blockCount) {
+                blockSizes[parent] = blockSizes[parent] + blockSizes[i];
+            }
+        }
+    }
+
+    private static class Block extends ArrayList<GridRow> {
+
+        private final Object owner;
+
+        private Block(final Object owner) {
+            super(MAX_BLOCK_SIZE);
+            this.owner = owner;
+        }
+
+        private Block(final Object owner,
+                      final Collection<GridRow> rows) {
+            super(rows);
+            this.owner = owner;
+        }
+    }
+
+    private class BlockIterator implements Iterator<GridRow> {
+
+        private int cursor;
+        private int toIndex;
+        private int lastReturned = -1;
+        private int blockIndex;
+        private int blockOffset;
+        private int expectedModCount = modCount;
+
+        private BlockIterator(final int fromIndex,
+                              final int toIndex) {
+            this.toIndex = toIndex;
+            seek(fromIndex);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < toIndex;
+        }
+
+        @Override
+        public GridRow next() {
+            checkForComodification();
+            if (cursor >= toIndex) {
+                throw new NoSuchElementException();
+            }
+            List<GridRow> block = blocks.get(blockIndex);
+            while (blockOffset >= block.size()) {
+                block = blocks.get(++blockIndex);
+                blockOffset = 0;
+            }
+            lastReturned = cursor++;
+            return block.get(blockOffset++);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            GridRowList.this.remove(lastReturned);
+            toIndex--;
+            seek(lastReturned);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void seek(final int index) {
+            cursor = index;
+            if (index < size) {
+                blockIndex = findBlockIndex(index);
+                blockOffset = index - getBlockOffset(blockIndex);
+            } else {
+                blockIndex = blocks.size();
+                blockOffset = 0;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
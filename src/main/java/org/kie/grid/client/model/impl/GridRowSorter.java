@@ -0,0 +1,623 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridCellValue;
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.GridRow;
+
+/**
+ * Sorts rows by the values of cells in one or more columns. Sort keys are extracted from the cells once, into
+ * arrays specialised by the type of value (e.g. a double[] for numeric columns), and the sort then permutes
+ * row indexes comparing only the extracted keys. Keys are retained, in row order, so that rows whose values
+ * change can be moved to their sorted position with a binary search rather than sorting all rows again.
+ */
+public class GridRowSorter {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final List<GridData.SortCriterion> criteria;
+    private final int[] columnIndexes;
+    private final boolean[] isAscending;
+    private final SortKeys[] keys;
+
+    private int rowCount = 0;
+
+    //Index of the slot, in each key array, used to hold the key of a row being inserted
+    private int pendingIndex = 0;
+
+    /**
+     * @param criteria The criteria to sort by.
+     * @param columnIndexes The indexes of the cells, within each row, of the column of each criterion.
+     */
+    public GridRowSorter(final List<GridData.SortCriterion> criteria,
+                         final int[] columnIndexes) {
+        Objects.requireNonNull(criteria, "criteria");
+        Objects.requireNonNull(columnIndexes, "columnIndexes");
+        if (criteria.size() != columnIndexes.length) {
+            throw new IllegalArgumentException("A column index is required for each criterion.");
+        }
+        this.criteria = Collections.unmodifiableList(new ArrayList<>(criteria));
+        this.columnIndexes = columnIndexes.clone();
+        this.isAscending = new boolean[criteria.size()];
+        for (int i = 0; i < isAscending.length; i++) {
+            isAscending[i] = criteria.get(i).isAscending();
+        }
+        this.keys = new SortKeys[criteria.size()];
+    }
+
+    public List<GridData.SortCriterion> getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Checks whether rows are sorted by the values of the cells at the given index.
+     * @param columnIndex The index of the cells within each row.
+     * @return
+     */
+    public boolean isSortedBy(final int columnIndex) {
+        for (int i : columnIndexes) {
+            if (i == columnIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extracts the sort keys of the given rows and sorts them. The rows themselves are not changed. Keys
+     * are retained in sorted order to support {@link #remove(int, int)} and {@link #insert(GridRow)}.
+     * @param rows The rows to sort.
+     * @return The sorted order of rows; where element i is the index, in the given rows, of the i-th sorted row.
+     */
+    public int[] sort(final List<GridRow> rows) {
+        rowCount = rows.size();
+        pendingIndex = rowCount;
+        for (int k = 0; k < keys.length; k++) {
+            keys[k] = extractKeys(rows,
+                                  columnIndexes[k]);
+        }
+
+        final int[] order = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            order[i] = i;
+        }
+        mergeSort(order,
+                  new int[rowCount],
+                  0,
+                  rowCount);
+
+        for (SortKeys k : keys) {
+            k.permute(order);
+        }
+        return order;
+    }
+
+    /**
+     * Checks whether the values of a row can be compared with the retained keys; which is not the case
+     * when, for example, a numeric column is assigned a value that is not a number.
+     * @param row The row.
+     * @return true if the row can be inserted with {@link #insert(GridRow)}.
+     */
+    public boolean isCompatible(final GridRow row) {
+        for (int k = 0; k < keys.length; k++) {
+            final Object value = getValue(row,
+                                          columnIndexes[k]);
+            if (value != null && !keys[k].isCompatible(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the retained keys of a range of rows.
+     * @param minRowIndex Index of the first row (inclusive).
+     * @param maxRowIndex Index of the last row (inclusive).
+     */
+    public void remove(final int minRowIndex,
+                       final int maxRowIndex) {
+        if (minRowIndex < 0 || maxRowIndex >= rowCount || minRowIndex > maxRowIndex) {
+            throw new IndexOutOfBoundsException("minRowIndex: " + minRowIndex + ", maxRowIndex: " + maxRowIndex + ", Size: " + rowCount);
+        }
+        final int count = maxRowIndex - minRowIndex + 1;
+        for (SortKeys k : keys) {
+            k.copy(maxRowIndex + 1,
+                   minRowIndex,
+                   rowCount - maxRowIndex - 1);
+        }
+        rowCount = rowCount - count;
+    }
+
+    /**
+     * Removes the retained keys of rows, retaining the order of the keys of other rows.
+     * @param rowIndexes Indexes of the rows, in ascending order.
+     */
+    public void remove(final int[] rowIndexes) {
+        int toIndex = rowIndexes.length == 0 ? rowCount : rowIndexes[0];
+        for (int i = 0; i < rowIndexes.length; i++) {
+            final int rowIndex = rowIndexes[i];
+            final int nextRowIndex = i < rowIndexes.length - 1 ? rowIndexes[i + 1] : rowCount;
+            if (rowIndex < 0 || rowIndex >= nextRowIndex || nextRowIndex > rowCount) {
+                throw new IndexOutOfBoundsException("Index: " + rowIndex + ", Size: " + rowCount);
+            }
+            //Move keys of the rows between this and the next removed row to follow those already retained
+            final int length = nextRowIndex - rowIndex - 1;
+            for (SortKeys k : keys) {
+                k.copy(rowIndex + 1,
+                       toIndex,
+                       length);
+            }
+            toIndex = toIndex + length;
+        }
+        rowCount = rowCount - rowIndexes.length;
+    }
+
+    /**
+     * Extracts the sort keys of a row, previously removed with {@link #remove(int, int)}, and inserts them
+     * at the row's sorted position. Rows having equal values are inserted after existing rows.
+     * @param row The row.
+     * @return The index at which the row should be inserted.
+     */
+    public int insert(final GridRow row) {
+        if (rowCount >= pendingIndex) {
+            throw new IllegalStateException("Rows can only be inserted once removed.");
+        }
+        for (int k = 0; k < keys.length; k++) {
+            keys[k].set(pendingIndex,
+                        getValue(row,
+                                 columnIndexes[k]));
+        }
+
+        //Binary search for the first row that sorts after the new row
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (compare(mid,
+                        pendingIndex) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        for (SortKeys k : keys) {
+            k.copy(low,
+                   low + 1,
+                   rowCount - low);
+            k.copy(pendingIndex,
+                   low,
+                   1);
+        }
+        rowCount++;
+        return low;
+    }
+
+    private int compare(final int index1,
+                        final int index2) {
+        for (int k = 0; k < keys.length; k++) {
+            final SortKeys sortKeys = keys[k];
+            final boolean isNull1 = sortKeys.isNull[index1];
+            final boolean isNull2 = sortKeys.isNull[index2];
+            int result;
+            if (isNull1 || isNull2) {
+                //Cells without a value are sorted last regardless of direction
+                result = Boolean.compare(isNull1,
+                                         isNull2);
+            } else {
+                result = sortKeys.compare(index1,
+                                          index2);
+                if (!isAscending[k]) {
+                    result = -result;
+                }
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    //Stable merge sort of row indexes, without boxing
+    private void mergeSort(final int[] order,
+                           final int[] buffer,
+                           final int fromIndex,
+                           final int toIndex) {
+        if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                final int index = order[i];
+                int j = i - 1;
+                while (j >= fromIndex && compare(order[j],
+                                                 index) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = index;
+            }
+            return;
+        }
+        final int midIndex = (fromIndex + toIndex) >>> 1;
+        mergeSort(order,
+                  buffer,
+                  fromIndex,
+                  midIndex);
+        mergeSort(order,
+                  buffer,
+                  midIndex,
+                  toIndex);
+
+        //Halves are already in order
+        if (compare(order[midIndex - 1],
+                    order[midIndex]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(order,
+                         fromIndex,
+                         buffer,
+                         fromIndex,
+                         toIndex - fromIndex);
+        int i = fromIndex;
+        int j = midIndex;
+        for (int k = fromIndex; k < toIndex; k++) {
+            if (j >= toIndex || (i < midIndex && compare(buffer[i],
+                                                         buffer[j]) <= 0)) {
+                order[k] = buffer[i++];
+            } else {
+                order[k] = buffer[j++];
+            }
+        }
+    }
+
+    private static Object getValue(final GridRow row,
+                                   final int columnIndex) {
+        final GridCell<?> cell = row.getCells().get(columnIndex);
+        if (cell == null) {
+            return null;
+        }
+        final GridCellValue<?> value = cell.getValue();
+        return value == null ? null : value.getValue();
+    }
+
+    //Extract keys into an array specialised for the type of value held in the column
+    private static SortKeys extractKeys(final List<GridRow> rows,
+                                        final int columnIndex) {
+        final Object[] values = new Object[rows.size()];
+        boolean isIntegral = true;
+        boolean isNumber = true;
+        boolean isString = true;
+        boolean isComparable = true;
+        Class<?> comparableClass = null;
+        int i = 0;
+        for (GridRow row : rows) {
+            final Object value = getValue(row,
+                                          columnIndex);
+            values[i++] = value;
+            if (value == null) {
+                continue;
+            }
+            isIntegral = isIntegral && LongKeys.isIntegral(value);
+            isNumber = isNumber && NumberKeys.isNumber(value);
+            isString = isString && value instanceof String;
+            if (isComparable) {
+                if (comparableClass == null) {
+                    comparableClass = value.getClass();
+                }
+                isComparable = value instanceof Comparable && value.getClass() == comparableClass;
+            }
+        }
+
+        final SortKeys keys;
+        if (isIntegral) {
+            keys = new LongKeys(values.length + 1);
+        } else if (isNumber) {
+            keys = new NumberKeys(values.length + 1);
+        } else if (isString) {
+            keys = new StringKeys(values.length + 1,
+                                  false);
+        } else if (isComparable) {
+            keys = new ComparableKeys(values.length + 1,
+                                      comparableClass);
+        } else {
+            keys = new StringKeys(values.length + 1,
+                                  true);
+        }
+        for (int j = 0; j < values.length; j++) {
+            keys.set(j,
+                     values[j]);
+        }
+        return keys;
+    }
+
+    /**
+     * Sort keys for a single column. Each array has one more element than there are rows; the
+     * additional element holds the key of a row being inserted.
+     */
+    private abstract static class SortKeys {
+
+        protected boolean[] isNull;
+
+        protected SortKeys(final int capacity) {
+            this.isNull = new boolean[capacity];
+        }
+
+        private void set(final int index,
+                         final Object value) {
+            isNull[index] = value == null;
+            if (value != null) {
+                setValue(index,
+                         value);
+            }
+        }
+
+        private void copy(final int fromIndex,
+                          final int toIndex,
+                          final int length) {
+            System.arraycopy(isNull,
+                             fromIndex,
+                             isNull,
+                             toIndex,
+                             length);
+            copyValues(fromIndex,
+                       toIndex,
+                       length);
+        }
+
+        private void permute(final int[] order) {
+            final boolean[] permuted = new boolean[isNull.length];
+            for (int i = 0; i < order.length; i++) {
+                permuted[i] = isNull[order[i]];
+            }
+            isNull = permuted;
+            permuteValues(order);
+        }
+
+        protected abstract boolean isCompatible(final Object value);
+
+        protected abstract void setValue(final int index,
+                                         final Object value);
+
+        protected abstract int compare(final int index1,
+                                       final int index2);
+
+        protected abstract void copyValues(final int fromIndex,
+                                           final int toIndex,
+                                           final int length);
+
+        protected abstract void permuteValues(final int[] order);
+    }
+
+    private static class NumberKeys extends SortKeys {
+
+        private double[] values;
+
+        private NumberKeys(final int capacity) {
+            super(capacity);
+            this.values = new double[capacity];
+        }
+
+        //Largest magnitude of a long that can be represented as a double without losing precision
+        private static final long MAX_EXACT_LONG = 1L << 53;
+
+        //Types whose values can be represented as a double without changing their order
+        private static boolean isNumber(final Object value) {
+            if (value instanceof Long) {
+                final long l = (Long) value;
+                return l >= -MAX_EXACT_LONG && l <= MAX_EXACT_LONG;
+            }
+            return value instanceof Integer || value instanceof Double || value instanceof Float || value instanceof Short || value instanceof Byte;
+        }
+
+        @Override
+        protected boolean isCompatible(final Object value) {
+            return isNumber(value);
+        }
+
+        @Override
+        protected void setValue(final int index,
+                                final Object value) {
+            values[index] = ((Number) value).doubleValue();
+        }
+
+        @Override
+        protected int compare(final int index1,
+                              final int index2) {
+            return Double.compare(values[index1],
+                                  values[index2]);
+        }
+
+        @Override
+        protected void copyValues(final int fromIndex,
+                                  final int toIndex,
+                                  final int length) {
+            System.arraycopy(values,
+                             fromIndex,
+                             values,
+                             toIndex,
+                             length);
+        }
+
+        @Override
+        protected void permuteValues(final int[] order) {
+            final double[] permuted = new double[values.length];
+            for (int i = 0; i < order.length; i++) {
+                permuted[i] = values[order[i]];
+            }
+            values = permuted;
+        }
+    }
+
+    private static class LongKeys extends SortKeys {
+
+        private long[] values;
+
+        private LongKeys(final int capacity) {
+            super(capacity);
+            this.values = new long[capacity];
+        }
+
+        //Types whose values can be represented as a long; compared exactly, unlike large longs converted to doubles
+        private static boolean isIntegral(final Object value) {
+            return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+        }
+
+        @Override
+        protected boolean isCompatible(final Object value) {
+            return isIntegral(value);
+        }
+
+        @Override
+        protected void setValue(final int index,
+                                final Object value) {
+            values[index] = ((Number) value).longValue();
+        }
+
+        @Override
+        protected int compare(final int index1,
+                              final int index2) {
+            return Long.compare(values[index1],
+                                values[index2]);
+        }
+
+        @Override
+        protected void copyValues(final int fromIndex,
+                                  final int toIndex,
+                                  final int length) {
+            System.arraycopy(values,
+                             fromIndex,
+                             values,
+                             toIndex,
+                             length);
+        }
+
+        @Override
+        protected void permuteValues(final int[] order) {
+            final long[] permuted = new long[values.length];
+            for (int i = 0; i < order.length; i++) {
+                permuted[i] = values[order[i]];
+            }
+            values = permuted;
+        }
+    }
+
+    private static class StringKeys extends SortKeys {
+
+        private final boolean isConverted;
+        private String[] values;
+
+        private StringKeys(final int capacity,
+                           final boolean isConverted) {
+            super(capacity);
+            this.isConverted = isConverted;
+            this.values = new String[capacity];
+        }
+
+        @Override
+        protected boolean isCompatible(final Object value) {
+            return isConverted || value instanceof String;
+        }
+
+        @Override
+        protected void setValue(final int index,
+                                final Object value) {
+            values[index] = value.toString();
+        }
+
+        @Override
+        protected int compare(final int index1,
+                              final int index2) {
+            return values[index1].compareTo(values[index2]);
+        }
+
+        @Override
+        protected void copyValues(final int fromIndex,
+                                  final int toIndex,
+                                  final int length) {
+            System.arraycopy(values,
+                             fromIndex,
+                             values,
+                             toIndex,
+                             length);
+        }
+
+        @Override
+        protected void permuteValues(final int[] order) {
+            final String[] permuted = new String[values.length];
+            for (int i = 0; i < order.length; i++) {
+                permuted[i] = values[order[i]];
+            }
+            values = permuted;
+        }
+    }
+
+    private static class ComparableKeys extends SortKeys {
+
+        private final Class<?> valueClass;
+        private Comparable[] values;
+
+        private ComparableKeys(final int capacity,
+                               final Class<?> valueClass) {
+            super(capacity);
+            this.valueClass = valueClass;
+            this.values = new Comparable[capacity];
+        }
+
+        @Override
+        protected boolean isCompatible(final Object value) {
+            return value.getClass() == valueClass;
+        }
+
+        @Override
+        protected void setValue(final int index,
+                                final Object value) {
+            values[index] = (Comparable) value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected int compare(final int index1,
+                              final int index2) {
+            return values[index1].compareTo(values[index2]);
+        }
+
+        @Override
+        protected void copyValues(final int fromIndex,
+                                  final int toIndex,
+                                  final int length) {
+            System.arraycopy(values,
+                             fromIndex,
+                             values,
+                             toIndex,
+                             length);
+        }
+
+        @Override
+        protected void permuteValues(final int[] order) {
+            final Comparable[] permuted = new Comparable[values.length];
+            for (int i = 0; i < order.length; i++) {
+                permuted[i] = values[order[i]];
+            }
+            values = permuted;
+        }
+    }
+}
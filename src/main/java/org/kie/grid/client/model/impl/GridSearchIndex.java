@@ -0,0 +1,336 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridRow;
+
+/**
+ * An inverted index of the words in cells' display text, held per column. Each column maps words, in order, to the
+ * rows whose cell contains the word, such that all words starting with a prefix are found with a range lookup.
+ * Rows are held by identity so the index is unaffected by rows being sorted, moved or filtered.
+ * <p>
+ * The index is built the first time it is searched and thereafter maintained as cells change. Should the number of
+ * indexed words exceed a limit the index is discarded and searches scan cells instead, until the index is cleared.
+ */
+public class GridSearchIndex {
+
+    public static final int DEFAULT_MAX_POSTINGS = 1000000;
+
+    private final int maxPostings;
+
+    //Keyed by column model index
+    private final Map<Integer, TreeMap<String, Set<GridRow>>> columnWords = new HashMap<>();
+    private int postingCount = 0;
+    private boolean isIndexed = false;
+    private boolean isOverflowed = false;
+
+    //Matches of the last search, retained until the index changes
+    private String lastText = null;
+    private Map<Integer, Set<GridRow>> lastMatches = null;
+
+    public GridSearchIndex() {
+        this(DEFAULT_MAX_POSTINGS);
+    }
+
+    /**
+     * @param maxPostings The maximum number of (word, cell) entries to index before falling back to scanning cells.
+     */
+    public GridSearchIndex(final int maxPostings) {
+        if (maxPostings < 0) {
+            throw new IllegalArgumentException("maxPostings cannot be negative.");
+        }
+        this.maxPostings = maxPostings;
+    }
+
+    /**
+     * Finds cells whose display text contains a word starting with each word of the search text, ignoring case.
+     * @param text The search text.
+     * @param allRows All rows, used to build the index if it has not been built.
+     * @return Matching rows keyed by column model index, or null if the index has overflowed and cells must be
+     * scanned with {@link #isMatch(GridRow, int, String)}.
+     */
+    public Map<Integer, Set<GridRow>> find(final String text,
+                                           final Iterable<GridRow> allRows) {
+        if (!isIndexed && !isOverflowed) {
+            build(allRows);
+        }
+        if (isOverflowed) {
+            return null;
+        }
+        if (text.equals(lastText)) {
+            return lastMatches;
+        }
+        final List<String> prefixes = tokenise(text);
+        final Map<Integer, Set<GridRow>> matches = new HashMap<>();
+        if (!prefixes.isEmpty()) {
+            for (Map.Entry<Integer, TreeMap<String, Set<GridRow>>> e : columnWords.entrySet()) {
+                final Set<GridRow> rows = findRows(e.getValue(),
+                                                   prefixes);
+                if (!rows.isEmpty()) {
+                    matches.put(e.getKey(),
+                                rows);
+                }
+            }
+        }
+        lastText = text;
+        lastMatches = matches;
+        return matches;
+    }
+
+    /**
+     * Checks whether a cell's display text contains a word starting with each word of the search text, without
+     * using the index.
+     * @param row The row containing the cell.
+     * @param _columnIndex The model index of the column containing the cell.
+     * @param text The search text.
+     * @return true if the cell matches.
+     */
+    public static boolean isMatch(final GridRow row,
+                                  final int _columnIndex,
+                                  final String text) {
+        final List<String> prefixes = tokenise(text);
+        if (prefixes.isEmpty()) {
+            return false;
+        }
+        final List<String> words = tokenise(getDisplayText(row.getCells().get(_columnIndex)));
+        for (String prefix : prefixes) {
+            boolean isFound = false;
+            for (String word : words) {
+                if (word.startsWith(prefix)) {
+                    isFound = true;
+                    break;
+                }
+            }
+            if (!isFound) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indexes the cells of a row that has been added.
+     * @param row The row.
+     */
+    public void addRow(final GridRow row) {
+        for (Integer _columnIndex : row.getCells().keySet()) {
+            addCell(row,
+                    _columnIndex);
+        }
+    }
+
+    /**
+     * Removes the cells of a row that is being deleted. This must be called before the row's cells are changed.
+     * @param row The row.
+     */
+    public void removeRow(final GridRow row) {
+        for (Integer _columnIndex : row.getCells().keySet()) {
+            removeCell(row,
+                       _columnIndex);
+        }
+    }
+
+    /**
+     * Indexes a cell that has been set.
+     * @param row The row containing the cell.
+     * @param _columnIndex The model index of the column containing the cell.
+     */
+    public void addCell(final GridRow row,
+                        final int _columnIndex) {
+        if (!isIndexed) {
+            return;
+        }
+        lastText = null;
+        final List<String> words = tokenise(getDisplayText(row.getCells().get(_columnIndex)));
+        if (words.isEmpty()) {
+            return;
+        }
+        final TreeMap<String, Set<GridRow>> index = columnWords.computeIfAbsent(_columnIndex,
+                                                                              (i) -> new TreeMap<>());
+        for (String word : words) {
+            if (index.computeIfAbsent(word,
+                                      (w) -> Collections.newSetFromMap(new IdentityHashMap<>())).add(row)) {
+                postingCount++;
+            }
+        }
+        if (postingCount > maxPostings) {
+            overflow();
+        }
+    }
+
+    /**
+     * Removes a cell that is being changed or deleted. This must be called before the cell is changed.
+     * @param row The row containing the cell.
+     * @param _columnIndex The model index of the column containing the cell.
+     */
+    public void removeCell(final GridRow row,
+                           final int _columnIndex) {
+        if (!isIndexed) {
+            return;
+        }
+        lastText = null;
+        final TreeMap<String, Set<GridRow>> index = columnWords.get(_columnIndex);
+        if (index == null) {
+            return;
+        }
+        for (String word : tokenise(getDisplayText(row.getCells().get(_columnIndex)))) {
+            final Set<GridRow> rows = index.get(word);
+            if (rows != null && rows.remove(row)) {
+                postingCount--;
+                if (rows.isEmpty()) {
+                    index.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all cells of a column, for example when its data is cleared.
+     * @param _columnIndex The model index of the column.
+     */
+    public void clearColumn(final int _columnIndex) {
+        if (!isIndexed) {
+            return;
+        }
+        lastText = null;
+        final TreeMap<String, Set<GridRow>> index = columnWords.remove(_columnIndex);
+        if (index != null) {
+            for (Set<GridRow> rows : index.values()) {
+                postingCount = postingCount - rows.size();
+            }
+        }
+    }
+
+    /**
+     * Removes all cells of a column that has been deleted and decrements the model index of subsequent columns.
+     * @param _columnIndex The model index of the deleted column.
+     */
+    public void deleteColumn(final int _columnIndex) {
+        if (!isIndexed) {
+            return;
+        }
+        clearColumn(_columnIndex);
+        final List<Integer> indexes = new ArrayList<>(columnWords.keySet());
+        Collections.sort(indexes);
+        for (Integer index : indexes) {
+            if (index > _columnIndex) {
+                columnWords.put(index - 1,
+                                columnWords.remove(index));
+            }
+        }
+    }
+
+    /**
+     * Discards the index. It is built again the next time it is searched.
+     */
+    public void clear() {
+        columnWords.clear();
+        postingCount = 0;
+        isIndexed = false;
+        isOverflowed = false;
+        lastText = null;
+        lastMatches = null;
+    }
+
+    public boolean isOverflowed() {
+        return isOverflowed;
+    }
+
+    private void build(final Iterable<GridRow> allRows) {
+        isIndexed = true;
+        for (GridRow row : allRows) {
+            addRow(row);
+            if (isOverflowed) {
+                return;
+            }
+        }
+    }
+
+    private void overflow() {
+        columnWords.clear();
+        postingCount = 0;
+        isIndexed = false;
+        isOverflowed = true;
+        lastText = null;
+        lastMatches = null;
+    }
+
+    //Rows with a word starting with each prefix
+    private static Set<GridRow> findRows(final TreeMap<String, Set<GridRow>> index,
+                                         final List<String> prefixes) {
+        Set<GridRow> matches = null;
+        for (String prefix : prefixes) {
+            final Set<GridRow> rows = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Set<GridRow> r : index.subMap(prefix,
+                                               true,
+                                               prefix + Character.MAX_VALUE,
+                                               false).values()) {
+                if (matches == null) {
+                    rows.addAll(r);
+                } else {
+                    for (GridRow row : r) {
+                        if (matches.contains(row)) {
+                            rows.add(row);
+                        }
+                    }
+                }
+            }
+            if (rows.isEmpty()) {
+                return rows;
+            }
+            matches = rows;
+        }
+        return matches;
+    }
+
+    static String getDisplayText(final GridCell<?> cell) {
+        if (cell == null || cell.getValue() == null || cell.getValue().getValue() == null) {
+            return null;
+        }
+        return cell.getValue().getValue().toString();
+    }
+
+    //Lower-case words, split on characters that are neither letters nor digits
+    static List<String> tokenise(final String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        final List<String> words = new ArrayList<>();
+        final String lowerCaseText = text.toLowerCase();
+        int start = -1;
+        for (int i = 0; i <= lowerCaseText.length(); i++) {
+            final boolean isWordCharacter = i < lowerCaseText.length() && Character.isLetterOrDigit(lowerCaseText.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                words.add(lowerCaseText.substring(start,
+                                                  i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
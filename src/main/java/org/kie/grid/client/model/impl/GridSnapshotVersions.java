@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tracks the versions of a grid's data for which snapshots have been taken and not released. Rows retain their
+ * earlier cells only whilst a snapshot that may restore them is live; releasing a snapshot discards cells retained
+ * for it alone from the rows that changed since it was taken.
+ */
+class GridSnapshotVersions {
+
+    //Incremented when a snapshot is taken; rows retain cells changed since for the snapshot
+    private int version = 0;
+
+    private final TreeSet<Integer> liveVersions = new TreeSet<>();
+
+    //Rows retaining earlier cells for live snapshots
+    private final Set<BaseGridRow> retainingRows = new HashSet<>();
+
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * Records a snapshot of the current version of the data.
+     * @return The version of the data of which the snapshot was taken.
+     */
+    int take() {
+        liveVersions.add(version);
+        return version++;
+    }
+
+    /**
+     * Releases a snapshot, discarding cells retained by rows only for it.
+     * @param snapshotVersion The version of the data of which the snapshot was taken.
+     */
+    void release(final int snapshotVersion) {
+        if (!liveVersions.remove(snapshotVersion)) {
+            return;
+        }
+        for (BaseGridRow row : new ArrayList<>(retainingRows)) {
+            row.pruneCells(this);
+        }
+    }
+
+    boolean isLive(final int snapshotVersion) {
+        return liveVersions.contains(snapshotVersion);
+    }
+
+    /**
+     * Whether a live snapshot was taken of a version of the data in a range.
+     * @param minVersion The earliest version (inclusive).
+     * @param maxVersion The latest version (exclusive).
+     * @return true if cells of the versions in the range need to be retained.
+     */
+    boolean isRetained(final int minVersion,
+                       final int maxVersion) {
+        final Integer liveVersion = liveVersions.ceiling(minVersion);
+        return liveVersion != null && liveVersion < maxVersion;
+    }
+
+    void onRetainCells(final BaseGridRow row,
+                       final boolean isRetaining) {
+        if (isRetaining) {
+            retainingRows.add(row);
+        } else {
+            retainingRows.remove(row);
+        }
+    }
+
+    int getRetainingRowCount() {
+        return retainingRows.size();
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.kie.grid.client.model.GridRow;
+import org.kie.grid.client.model.GridRowProvider;
+
+/**
+ * A {@link org.kie.grid.client.model.GridData} whose rows are loaded on demand, a page at a time, from a
+ * {@link GridRowProvider}. Rows that have not yet been loaded are represented by {@link PlaceholderRow}s having
+ * the height declared by the provider. Loaded pages are held in a least-recently-used cache bounded by a
+ * row budget; evicted pages are requested again should they be accessed. Changes to cell values of loaded rows
+ * are lost if their page is evicted.
+ * <p>
+ * Operations that would change the row structure, or need every row to be loaded, throw
+ * {@link UnsupportedOperationException}:
+ * <ul>
+ * <li>Rows are supplied by the provider, so cannot be appended, inserted, deleted or moved.</li>
+ * <li>Rows cannot be sorted or filtered.</li>
+ * <li>Cells cannot be searched with {@link #findAll} or {@link #findNext}.</li>
+ * <li>Snapshots cannot be taken or restored.</li>
+ * <li>Data cannot be merged, with either {@link #setMerged(boolean)} or {@link #setMergedIncrementally}.</li>
+ * </ul>
+ * Columns can be added, removed and changed; only loaded rows are updated.
+ */
+public class PagedGridData extends BaseGridData {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    public static final int DEFAULT_ROW_BUDGET = 5000;
+
+    private final GridRowProvider provider;
+    private final int pageSize;
+    private final int rowBudget;
+
+    //Access-ordered so the least recently used page is the first entry
+    private final Map<Integer, List<GridRow>> pages = new LinkedHashMap<>(16,
+                                                                          0.75f,
+                                                                          true);
+    private final Map<Integer, List<GridRow>> pendingPages = new HashMap<>();
+
+    //Heights of rows are declared by the provider, with overrides for loaded rows that differ
+    private final GridRowHeights rowHeights;
+
+    private Consumer<Range> pageLoadedCallback = (range) -> {
+    };
+    private int cachedRowCount = 0;
+    private int generation = 0;
+
+    public PagedGridData(final GridRowProvider provider) {
+        this(provider,
+             DEFAULT_PAGE_SIZE,
+             DEFAULT_ROW_BUDGET);
+    }
+
+    public PagedGridData(final GridRowProvider provider,
+                         final int pageSize,
+                         final int rowBudget) {
+        super(false);
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize");
+        }
+        if (rowBudget < pageSize) {
+            throw new IllegalArgumentException("rowBudget");
+        }
+        this.provider = Objects.requireNonNull(provider, "provider");
+        this.pageSize = pageSize;
+        this.rowBudget = rowBudget;
+        this.rowHeights = new GridRowHeights(provider.getRowHeight());
+        this.rows = new PagedRowList();
+    }
+
+    /**
+     * Sets a callback invoked when a page of rows has been loaded. This is typically used to redraw the grid.
+     * @param pageLoadedCallback Receives the Range of rows that were loaded.
+     */
+    public void setPageLoadedCallback(final Consumer<Range> pageLoadedCallback) {
+        this.pageLoadedCallback = Objects.requireNonNull(pageLoadedCallback, "pageLoadedCallback");
+    }
+
+    /**
+     * Returns whether the row at the specified index has been loaded from the provider.
+     * @param rowIndex
+     * @return true if the row is loaded; false if it is represented by a placeholder.
+     */
+    public boolean isRowLoaded(final int rowIndex) {
+        return pages.containsKey(rowIndex / pageSize);
+    }
+
+    /**
+     * Discards all loaded pages and pending requests. Pages are requested again when next accessed.
+     * This should be invoked if the provider's data or row count changes.
+     */
+    public void refresh() {
+        generation++;
+        pages.clear();
+        pendingPages.clear();
+        rowHeights.reset(provider.getRowHeight());
+        cachedRowCount = 0;
+    }
+
+    @Override
+    public void appendRow(final GridRow row) {
+        throw new UnsupportedOperationException("Rows are supplied by the GridRowProvider.");
+    }
+
+    @Override
+    public void insertRow(final int rowIndex,
+                          final GridRow row) {
+        throw new UnsupportedOperationException("Rows are supplied by the GridRowProvider.");
+    }
+
+    @Override
+    public Range deleteRow(final int rowIndex) {
+        throw new UnsupportedOperationException("Rows are supplied by the GridRowProvider.");
+    }
+
+    @Override
+    public void moveRowsTo(final int index,
+                           final List<GridRow> rows) {
+        throw new UnsupportedOperationException("Rows are supplied by the GridRowProvider.");
+    }
+
+    @Override
+    public void sort(final List<SortCriterion> criteria) {
+        throw new UnsupportedOperationException("Sorting requires all rows to be loaded.");
+    }
+
+    @Override
+    public void setFilter(final Predicate<GridRow> filter) {
+        throw new UnsupportedOperationException("Filtering requires all rows to be loaded.");
+    }
+
+    @Override
+    public void narrowFilter(final Predicate<GridRow> filter) {
+        throw new UnsupportedOperationException("Filtering requires all rows to be loaded.");
+    }
+
+    @Override
+    public void widenFilter(final Predicate<GridRow> filter) {
+        throw new UnsupportedOperationException("Filtering requires all rows to be loaded.");
+    }
+
+    @Override
+    public List<SelectedCell> findAll(final String text,
+                                      final int minRowIndex,
+                                      final int maxRowIndex) {
+        throw new UnsupportedOperationException("Searching requires all rows to be loaded.");
+    }
+
+    @Override
+    public SelectedCell findNext(final String text,
+                                 final int rowIndex,
+                                 final int columnIndex) {
+        throw new UnsupportedOperationException("Searching requires all rows to be loaded.");
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        throw new UnsupportedOperationException("Snapshots require all rows to be loaded.");
+    }
+
+    @Override
+    public void restore(final Snapshot snapshot) {
+        throw new UnsupportedOperationException("Snapshots require all rows to be loaded.");
+    }
+
+    @Override
+    public void setMerged(final boolean isMerged) {
+        //Merging requires all rows to be loaded; which defeats the purpose of paging
+        if (isMerged) {
+            throw new UnsupportedOperationException("Merging requires all rows to be loaded.");
+        }
+    }
+
+    @Override
+    public BaseGridDataIndexManager.IncrementalIndex setMergedIncrementally(final BaseGridDataIndexManager.IndexingCallback callback) {
+        throw new UnsupportedOperationException("Merging requires all rows to be loaded.");
+    }
+
+    @Override
+    protected List<GridRow> getRowsHoldingCells() {
+        //Only loaded rows, and placeholders for pages being loaded, hold cells; other rows are not yet created
+        final List<GridRow> rows = new ArrayList<>(cachedRowCount + pendingPages.size() * pageSize);
+        for (List<GridRow> page : pages.values()) {
+            rows.addAll(page);
+        }
+        for (List<GridRow> placeholders : pendingPages.values()) {
+            rows.addAll(placeholders);
+        }
+        return rows;
+    }
+
+    @Override
+    protected GridRowHeights getRowHeights() {
+        return rowHeights;
+    }
+
+    int getCachedPageCount() {
+        return pages.size();
+    }
+
+    private GridRow getPagedRow(final int rowIndex) {
+        final int pageIndex = rowIndex / pageSize;
+        final int pageRowIndex = rowIndex % pageSize;
+        final List<GridRow> page = pages.get(pageIndex);
+        if (page != null) {
+            return page.get(pageRowIndex);
+        }
+        final List<GridRow> placeholders = pendingPages.get(pageIndex);
+        if (placeholders != null) {
+            return placeholders.get(pageRowIndex);
+        }
+        return requestPage(pageIndex).get(pageRowIndex);
+    }
+
+    private List<GridRow> requestPage(final int pageIndex) {
+        final int fromIndex = pageIndex * pageSize;
+        final int count = Math.min(pageSize,
+                                   provider.getRowCount() - fromIndex);
+        final List<GridRow> placeholders = makePlaceholders(count);
+        pendingPages.put(pageIndex,
+                         placeholders);
+
+        final int requestGeneration = generation;
+        provider.getRows(fromIndex,
+                         count,
+                         (loaded) -> onPageLoaded(requestGeneration,
+                                                  pageIndex,
+                                                  count,
+                                                  loaded));
+
+        //Providers can respond synchronously
+        final List<GridRow> page = pages.get(pageIndex);
+        return page != null ? page : placeholders;
+    }
+
+    private void onPageLoaded(final int requestGeneration,
+                              final int pageIndex,
+                              final int count,
+                              final List<GridRow> loaded) {
+        //Ignore responses to requests made before a refresh
+        if (requestGeneration != generation) {
+            return;
+        }
+        if (pendingPages.remove(pageIndex) == null) {
+            return;
+        }
+
+        final List<GridRow> page = new ArrayList<>(loaded.subList(0,
+                                                                  Math.min(count,
+                                                                           loaded.size())));
+        page.addAll(makePlaceholders(count - page.size()));
+        pages.put(pageIndex,
+                  page);
+        cachedRowCount = cachedRowCount + page.size();
+
+        final int fromIndex = pageIndex * pageSize;
+        for (int i = 0; i < page.size(); i++) {
+            final int rowIndex = fromIndex + i;
+            final GridRow row = page.get(i);
+            rowHeights.setRowHeight(rowIndex,
+                                    row.getHeight());
+            if (row instanceof BaseGridRow) {
+                ((BaseGridRow) row).setHeightChangedCallback(() -> onRowHeightChanged(requestGeneration,
+                                                                                      rowIndex,
+                                                                                      row));
+            }
+        }
+
+        evictPages(pageIndex);
+
+        pageLoadedCallback.accept(new Range(fromIndex,
+                                            fromIndex + page.size() - 1));
+    }
+
+    private void onRowHeightChanged(final int requestGeneration,
+                                    final int rowIndex,
+                                    final GridRow row) {
+        if (requestGeneration == generation) {
+            rowHeights.setRowHeight(rowIndex,
+                                    row.getHeight());
+        }
+    }
+
+    //Evict least recently used pages until the cache is within the row budget
+    private void evictPages(final int retainedPageIndex) {
+        final Iterator<Map.Entry<Integer, List<GridRow>>> itr = pages.entrySet().iterator();
+        while (cachedRowCount > rowBudget && itr.hasNext()) {
+            final Map.Entry<Integer, List<GridRow>> e = itr.next();
+            if (e.getKey() != retainedPageIndex) {
+                cachedRowCount = cachedRowCount - e.getValue().size();
+                itr.remove();
+            }
+        }
+    }
+
+    private List<GridRow> makePlaceholders(final int count) {
+        final List<GridRow> placeholders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            placeholders.add(new PlaceholderRow(provider.getRowHeight()));
+        }
+        return placeholders;
+    }
+
+    /**
+     * A row displayed in place of one that has not yet been loaded.
+     */
+    public static class PlaceholderRow extends BaseGridRow {
+
+        PlaceholderRow(final double height) {
+            super(height);
+        }
+    }
+
+    private class PagedRowList extends AbstractList<GridRow> {
+
+        @Override
+        public GridRow get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return getPagedRow(index);
+        }
+
+        @Override
+        public int size() {
+            return provider.getRowCount();
+        }
+    }
+}
@@ -22,7 +22,6 @@ import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.types.Transform;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
-import org.kie.grid.client.model.GridRow;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
 import org.kie.grid.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
@@ -81,14 +80,8 @@ public class CoordinateUtilities {
         }
 
         //Get row index
-        GridRow row;
-        int uiRowIndex = 0;
-        double offsetY = cy - renderer.getHeaderHeight();
-        while ((row = gridModel.getRow(uiRowIndex)).getHeight() < offsetY) {
-            offsetY = offsetY - row.getHeight();
-            uiRowIndex++;
-        }
-        if (uiRowIndex > gridModel.getRowCount() - 1) {
+        final int uiRowIndex = gridModel.findRowIndex(cy - renderer.getHeaderHeight());
+        if (uiRowIndex < 0 || uiRowIndex > gridModel.getRowCount() - 1) {
             return null;
         }
 
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.util;
+
+/**
+ * Records spans of time spent changing the model, scheduling and executing redraws, drawing GridWidgets and
+ * handling user input; for export in the Trace Event Format read by chrome://tracing and Perfetto. Spans are held in
+ * a ring buffer of fixed capacity, retaining the most recent, so tracing can be left enabled. When disabled a span
+ * costs a single check of a flag. Spans are recorded as follows, ending the span even if the work fails:
+ * <pre>
+ * final GridTracer tracer = GridTracer.get();
+ * final long start = tracer.begin();
+ * try {
+ *     ...
+ * } finally {
+ *     tracer.end(GridTracer.MODEL, "deleteRow", start);
+ * }
+ * </pre>
+ */
+public class GridTracer {
+
+    public static final String MODEL = "model";
+    public static final String REDRAW = "redraw";
+    public static final String RENDER = "render";
+    public static final String DND = "dnd";
+    public static final String KEYBOARD = "keyboard";
+
+    /**
+     * Returned by {@link #begin()} when tracing is disabled; spans beginning then are not recorded.
+     */
+    public static final long NOT_TRACED = Long.MIN_VALUE;
+
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    private static final char COMPLETE = 'X';
+    private static final char INSTANT = 'i';
+
+    private static final GridTracer instance = new GridTracer(DEFAULT_CAPACITY);
+
+    private final long origin = System.nanoTime();
+    private boolean isEnabled = false;
+
+    private String[] categories;
+    private String[] names;
+    private char[] phases;
+    private long[] starts;
+    private long[] durations;
+    private int next;
+    private int size;
+
+    GridTracer(final int capacity) {
+        setCapacity(capacity);
+    }
+
+    public static GridTracer get() {
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public void setEnabled(final boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * Sets the maximum number of events retained, discarding those already recorded.
+     * @param capacity The maximum number of events.
+     */
+    public void setCapacity(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive.");
+        }
+        this.categories = new String[capacity];
+        this.names = new String[capacity];
+        this.phases = new char[capacity];
+        this.starts = new long[capacity];
+        this.durations = new long[capacity];
+        clear();
+    }
+
+    /**
+     * Discards all recorded events.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            categories[i] = null;
+            names[i] = null;
+        }
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of events retained.
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Begins a span.
+     * @return The start of the span, to be passed to {@link #end(String, String, long)}, or {@link #NOT_TRACED}.
+     */
+    public long begin() {
+        return isEnabled ? System.nanoTime() : NOT_TRACED;
+    }
+
+    /**
+     * Ends a span, recording it if it was begun whilst tracing was enabled.
+     * @param category The category of the span; for example {@link #MODEL}.
+     * @param name The name of the span.
+     * @param start The value returned by {@link #begin()}.
+     * @return The end of the span, which can be used as the start of a following span, or {@link #NOT_TRACED}.
+     */
+    public long end(final String category,
+                    final String name,
+                    final long start) {
+        if (start == NOT_TRACED || !isEnabled) {
+            return NOT_TRACED;
+        }
+        final long end = System.nanoTime();
+        record(COMPLETE,
+               category,
+               name,
+               start,
+               end - start);
+        return end;
+    }
+
+    /**
+     * Records an event without a duration.
+     * @param category The category of the event.
+     * @param name The name of the event.
+     */
+    public void instant(final String category,
+                        final String name) {
+        if (!isEnabled) {
+            return;
+        }
+        record(INSTANT,
+               category,
+               name,
+               System.nanoTime(),
+               0);
+    }
+
+    private void record(final char phase,
+                        final String category,
+                        final String name,
+                        final long start,
+                        final long duration) {
+        phases[next] = phase;
+        categories[next] = category;
+        names[next] = name;
+        starts[next] = start;
+        durations[next] = duration;
+        next = (next + 1) % names.length;
+        size = Math.min(size + 1,
+                        names.length);
+    }
+
+    /**
+     * Exports the retained events, oldest first, in the Trace Event Format.
+     * @return JSON that can be loaded into chrome://tracing or Perfetto.
+     */
+    public String toJson() {
+        final StringBuilder json = new StringBuilder("{\"traceEvents\":[");
+        final int first = (next - size + names.length) % names.length;
+        for (int i = 0; i < size; i++) {
+            final int index = (first + i) % names.length;
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":");
+            appendString(json,
+                         names[index]);
+            json.append(",\"cat\":");
+            appendString(json,
+                         categories[index]);
+            json.append(",\"ph\":\"").append(phases[index]).append("\",\"ts\":");
+            appendMicros(json,
+                         starts[index] - origin);
+            if (phases[index] == COMPLETE) {
+                json.append(",\"dur\":");
+                appendMicros(json,
+                             durations[index]);
+            } else {
+                json.append(",\"s\":\"t\"");
+            }
+            json.append(",\"pid\":1,\"tid\":1}");
+        }
+        return json.append("],\"displayTimeUnit\":\"ms\"}").toString();
+    }
+
+    private static void appendString(final StringBuilder json,
+                                     final String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < ' ') {
+                final String hex = Integer.toHexString(c);
+                json.append("\\u").append("0000".substring(hex.length())).append(hex);
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    //Trace Event Format timestamps are in microseconds; String.format is not available in GWT
+    private static void appendMicros(final StringBuilder json,
+                                     final long nanos) {
+        if (nanos < 0) {
+            json.append('-');
+        }
+        final long absolute = Math.abs(nanos);
+        final String fraction = Long.toString(absolute % 1000);
+        json.append(absolute / 1000).append('.').append("000".substring(fraction.length())).append(fraction);
+    }
+}
@@ -30,4 +30,13 @@ public class MathUtilities {
     public static boolean isOne(final double value) {
         return value >= 1.0 - EPSILON && value <= 1.0 + EPSILON;
     }
+
+    /**
+     * Convenience method to present a double rounded to one decimal place; as GWT does not support String.format.
+     * @param value A value to be presented.
+     * @return The value rounded to one decimal place.
+     */
+    public static String toOneDecimalPlace(final double value) {
+        return Double.toString(Math.round(value * 10) / 10.0);
+    }
 }
@@ -27,6 +27,7 @@ import org.kie.grid.client.model.Bounds;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridRow;
 import org.kie.grid.client.util.CoordinateUtilities;
+import org.kie.grid.client.util.GridTracer;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
 import org.kie.grid.client.widget.layer.GridLayer;
@@ -59,6 +60,9 @@ public class GridWidgetDnDMouseDownHandler implements NodeMouseDownHandler {
             return;
         }
 
+        GridTracer.get().instant(GridTracer.DND,
+                                 "mouseDown");
+
         //Get the GridWidget for the grid.
         final GridWidget activeGridWidget = state.getActiveGridWidget();
         final Point2D ap = CoordinateUtilities.convertDOMToGridCoordinate(activeGridWidget,
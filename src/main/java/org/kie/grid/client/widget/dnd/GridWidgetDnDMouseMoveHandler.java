@@ -28,6 +28,7 @@ import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
 import org.kie.grid.client.model.GridRow;
 import org.kie.grid.client.util.CoordinateUtilities;
+import org.kie.grid.client.util.GridTracer;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
 import org.kie.grid.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
@@ -64,29 +65,37 @@ public class GridWidgetDnDMouseMoveHandler implements NodeMouseMoveHandler {
     @Override
     @SuppressWarnings("unchecked")
     public void onNodeMouseMove(final NodeMouseMoveEvent event) {
-        switch (state.getOperation()) {
-            case GRID_MOVE:
-                //The grid is draggable. This is handled by Lienzo.
-                break;
-
-            case COLUMN_RESIZE:
-                //If we're currently resizing a column we don't need to find a column
-                handleColumnResize(event);
-                break;
-
-            case COLUMN_MOVE:
-                //If we're currently moving a column we don't need to find a column
-                handleColumnMove(event);
-                break;
-
-            case ROW_MOVE:
-                //If we're currently moving a row we don't need to find a row
-                handleRowMove(event);
-                break;
-
-            default:
-                //Otherwise try to find a Grid and GridColumn(s)
-                findGridColumn(event);
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            switch (state.getOperation()) {
+                case GRID_MOVE:
+                    //The grid is draggable. This is handled by Lienzo.
+                    break;
+
+                case COLUMN_RESIZE:
+                    //If we're currently resizing a column we don't need to find a column
+                    handleColumnResize(event);
+                    break;
+
+                case COLUMN_MOVE:
+                    //If we're currently moving a column we don't need to find a column
+                    handleColumnMove(event);
+                    break;
+
+                case ROW_MOVE:
+                    //If we're currently moving a row we don't need to find a row
+                    handleRowMove(event);
+                    break;
+
+                default:
+                    //Otherwise try to find a Grid and GridColumn(s)
+                    findGridColumn(event);
+            }
+        } finally {
+            tracer.end(GridTracer.DND,
+                       "mouseMove",
+                       traceStart);
         }
     }
 
@@ -405,13 +414,7 @@ public class GridWidgetDnDMouseMoveHandler implements NodeMouseMoveHandler {
         if (gridModel.getRowCount() == 0) {
             return;
         }
-        GridRow row;
-        int uiRowIndex = 0;
-        double offsetY = cy - renderer.getHeaderHeight();
-        while ((row = gridModel.getRow(uiRowIndex)).getHeight() < offsetY) {
-            offsetY = offsetY - row.getHeight();
-            uiRowIndex++;
-        }
+        int uiRowIndex = gridModel.findRowIndex(cy - renderer.getHeaderHeight());
         if (uiRowIndex < 0 || uiRowIndex > gridModel.getRowCount() - 1) {
             return;
         }
@@ -627,16 +630,11 @@ public class GridWidgetDnDMouseMoveHandler implements NodeMouseMoveHandler {
         }
 
         //Find new row index
-        GridRow row;
-        int uiRowIndex = 0;
-        double offsetY = cy - headerHeight;
-        while ((row = activeGridModel.getRow(uiRowIndex)).getHeight() < offsetY) {
-            offsetY = offsetY - row.getHeight();
-            uiRowIndex++;
-        }
+        final int uiRowIndex = activeGridModel.findRowIndex(cy - headerHeight);
         if (uiRowIndex < 0 || uiRowIndex > activeGridModel.getRowCount() - 1) {
             return;
         }
+        final double offsetY = cy - headerHeight - activeGridModel.getRowOffset(uiRowIndex);
 
         if (uiRowIndex == leadRowIndex) {
             //Don't move if the new rowIndex equals the index of the row(s) being moved
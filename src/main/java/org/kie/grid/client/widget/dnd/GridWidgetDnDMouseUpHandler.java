@@ -17,6 +17,7 @@ package org.kie.grid.client.widget.dnd;
 
 import com.ait.lienzo.client.core.event.NodeMouseUpEvent;
 import com.ait.lienzo.client.core.event.NodeMouseUpHandler;
+import org.kie.grid.client.util.GridTracer;
 import org.kie.grid.client.widget.layer.GridLayer;
 import org.kie.grid.client.widget.layer.GridLayer;
 
@@ -36,23 +37,31 @@ public class GridWidgetDnDMouseUpHandler implements NodeMouseUpHandler {
 
     @Override
     public void onNodeMouseUp(final NodeMouseUpEvent event) {
-        switch (state.getOperation()) {
-            case NONE:
-            case COLUMN_MOVE_PENDING:
-            case COLUMN_RESIZE_PENDING:
-            case ROW_MOVE_PENDING:
-            case COLUMN_RESIZE:
-                break;
-            case COLUMN_MOVE:
-            case ROW_MOVE:
-                //Clean-up the GridWidgetDnDProxy
-                layer.remove(state.getEventColumnHighlight());
-                layer.batch();
-                break;
-        }
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            switch (state.getOperation()) {
+                case NONE:
+                case COLUMN_MOVE_PENDING:
+                case COLUMN_RESIZE_PENDING:
+                case ROW_MOVE_PENDING:
+                case COLUMN_RESIZE:
+                    break;
+                case COLUMN_MOVE:
+                case ROW_MOVE:
+                    //Clean-up the GridWidgetDnDProxy
+                    layer.remove(state.getEventColumnHighlight());
+                    layer.batch();
+                    break;
+            }
 
-        //Reset state
-        state.reset();
-        layer.getViewport().getElement().getStyle().setCursor(state.getCursor());
+            //Reset state
+            state.reset();
+            layer.getViewport().getElement().getStyle().setCursor(state.getCursor());
+        } finally {
+            tracer.end(GridTracer.DND,
+                       "mouseUp",
+                       traceStart);
+        }
     }
 }
@@ -33,7 +33,6 @@ import com.google.gwt.event.dom.client.MouseMoveEvent;
 import com.google.gwt.event.dom.client.MouseMoveHandler;
 import com.google.gwt.event.dom.client.MouseUpEvent;
 import com.google.gwt.event.dom.client.MouseUpHandler;
-import com.google.gwt.i18n.client.NumberFormat;
 import com.google.gwt.user.client.ui.AbsolutePanel;
 import com.google.gwt.user.client.ui.SimplePanel;
 import com.google.gwt.user.client.ui.Widget;
@@ -43,6 +42,7 @@ import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.layer.GridLayer;
 import org.kie.grid.client.util.MathUtilities;
 import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
+import org.kie.grid.client.widget.grid.GridRenderStats;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.layer.GridLayer;
 
@@ -55,8 +55,6 @@ import org.kie.grid.client.widget.layer.GridLayer;
  */
 public abstract class BaseDOMElement<T, W extends Widget> {
 
-    private static final NumberFormat FORMAT = NumberFormat.getFormat("0.0");
-
     protected final W widget;
     protected final SimplePanel widgetContainer = GWT.create(SimplePanel.class);
 
@@ -64,8 +62,12 @@ public abstract class BaseDOMElement<T, W extends Widget> {
     protected final GridWidget gridWidget;
     protected final AbsolutePanel domElementContainer;
 
+    protected final DOMElementUpdate update;
+
     protected GridBodyCellRenderContext context;
 
+    private boolean isHidden = false;
+
     public BaseDOMElement(final W widget,
                           final GridLayer gridLayer,
                           final GridWidget gridWidget) {
@@ -74,9 +76,36 @@ public abstract class BaseDOMElement<T, W extends Widget> {
         this.gridWidget = gridWidget;
         this.domElementContainer = gridLayer.getDomElementContainer();
 
+        this.update = new DOMElementUpdate(widgetContainer.getElement());
+
         final Style style = widgetContainer.getElement().getStyle();
         style.setPosition(Style.Position.ABSOLUTE);
 
+        //The DOMElement is positioned with a CSS transform relative to the top-left of the DOM Element container
+        style.setLeft(0,
+                      Style.Unit.PX);
+        style.setTop(0,
+                     Style.Unit.PX);
+        style.setProperty("WebkitTransformOrigin",
+                          "0 0");
+        style.setProperty("MozTransformOrigin",
+                          "0 0");
+        style.setProperty("MsTransformOrigin",
+                          "0 0");
+        style.setProperty("transformOrigin",
+                          "0 0");
+
+        // --- Workaround for BS2 ---
+        style.setProperty("WebkitBoxSizing",
+                          "border-box");
+        style.setProperty("MozBoxSizing",
+                          "border-box");
+        style.setProperty("boxSizing",
+                          "border-box");
+        style.setProperty("lineHeight",
+                          "normal");
+        // --- End workaround ---
+
         //MouseEvents over absolutely positioned elements do not bubble through the DOM.
         //Consequentially Event Handlers on GridLayer do not receive notification of MouseMove
         //Events used during column resizing. Therefore we manually bubble events to GridLayer.
@@ -95,13 +124,13 @@ public abstract class BaseDOMElement<T, W extends Widget> {
                                                   @Override
                                                   public int getX() {
                                                       //Adjust the x-coordinate (relative to the DOM Element) to be relative to the GridCanvas.
-                                                      return super.getX() + widgetContainer.getElement().getOffsetLeft();
+                                                      return super.getX() + (int) update.getX();
                                                   }
 
                                                   @Override
                                                   public int getY() {
                                                       //Adjust the y-coordinate (relative to the DOM Element) to be relative to the GridCanvas.
-                                                      return super.getY() + widgetContainer.getElement().getOffsetTop();
+                                                      return super.getY() + (int) update.getY();
                                                   }
                                               });
                                           }
@@ -122,13 +151,13 @@ public abstract class BaseDOMElement<T, W extends Widget> {
                                                   @Override
                                                   public int getX() {
                                                       //Adjust the x-coordinate (relative to the DOM Element) to be relative to the GridCanvas.
-                                                      return super.getX() + widgetContainer.getElement().getOffsetLeft();
+                                                      return super.getX() + (int) update.getX();
                                                   }
 
                                                   @Override
                                                   public int getY() {
                                                       //Adjust the y-coordinate (relative to the DOM Element) to be relative to the GridCanvas.
-                                                      return super.getY() + widgetContainer.getElement().getOffsetTop();
+                                                      return super.getY() + (int) update.getY();
                                                   }
                                               });
                                           }
@@ -145,13 +174,13 @@ public abstract class BaseDOMElement<T, W extends Widget> {
                                                   @Override
                                                   public int getX() {
                                                       //Adjust the x-coordinate (relative to the DOM Element) to be relative to the GridCanvas.
-                                                      return super.getX() + widgetContainer.getElement().getOffsetLeft();
+                                                      return super.getX() + (int) update.getX();
                                                   }
 
                                                   @Override
                                                   public int getY() {
                                                       //Adjust the y-coordinate (relative to the DOM Element) to be relative to the GridCanvas.
-                                                      return super.getY() + widgetContainer.getElement().getOffsetTop();
+                                                      return super.getY() + (int) update.getY();
                                                   }
                                               });
                                           }
@@ -168,13 +197,13 @@ public abstract class BaseDOMElement<T, W extends Widget> {
                                                   @Override
                                                   public int getX() {
                                                       //Adjust the x-coordinate (relative to the DOM Element) to be relative to the GridCanvas.
-                                                      return super.getX() + widgetContainer.getElement().getOffsetLeft();
+                                                      return super.getX() + (int) update.getX();
                                                   }
 
                                                   @Override
                                                   public int getY() {
                                                       //Adjust the y-coordinate (relative to the DOM Element) to be relative to the GridCanvas.
-                                                      return super.getY() + widgetContainer.getElement().getOffsetTop();
+                                                      return super.getY() + (int) update.getY();
                                                   }
                                               });
                                           }
@@ -219,7 +248,9 @@ public abstract class BaseDOMElement<T, W extends Widget> {
     }
 
     /**
-     * Transform the DOMElement based on the render context, such as scale and position.
+     * Transform the DOMElement based on the render context, such as scale and position. The changes are written
+     * to the DOM by the Layer's {@link DOMElementUpdateBatcher}, together with those of other DOMElements, when
+     * the Layer has been drawn.
      * @param context
      */
     protected void transform(final GridBodyCellRenderContext context) {
@@ -227,23 +258,18 @@ public abstract class BaseDOMElement<T, W extends Widget> {
         final double width = context.getCellWidth();
         final double height = context.getCellHeight();
 
-        final Style style = widgetContainer.getElement().getStyle();
-
         //Copy across GridWidget's opacity to DOMElements
-        style.setOpacity(gridWidget.getAlpha());
+        update.setOpacity(gridWidget.getAlpha());
 
         //Reposition and transform the DOM Element
-        style.setLeft((context.getAbsoluteCellX() * transform.getScaleX()) + transform.getTranslateX(),
-                      Style.Unit.PX);
-        style.setTop((context.getAbsoluteCellY() * transform.getScaleY()) + transform.getTranslateY(),
-                     Style.Unit.PX);
-        style.setWidth(width,
-                       Style.Unit.PX);
-        style.setHeight(height,
-                        Style.Unit.PX);
+        update.setBounds((context.getAbsoluteCellX() * transform.getScaleX()) + transform.getTranslateX(),
+                         (context.getAbsoluteCellY() * transform.getScaleY()) + transform.getTranslateY(),
+                         width,
+                         height);
+        update.setScale(MathUtilities.isOne(transform.getScaleX()) ? 1 : transform.getScaleX(),
+                        MathUtilities.isOne(transform.getScaleY()) ? 1 : transform.getScaleY());
 
         //If the DOMElement overlaps a fixed header clip content
-        style.clearProperty("clip");
         final double top = context.getAbsoluteCellY() + transform.getTranslateY();
         final double left = context.getAbsoluteCellX() + transform.getTranslateX();
         final boolean isFloating = context.isFloating();
@@ -266,46 +292,30 @@ public abstract class BaseDOMElement<T, W extends Widget> {
             cl = clipMinX - left;
             clip = true;
         }
-        if (clip) {
-            style.setProperty("clip",
-                              "rect(" + (int) ct + "px," + (int) cr + "px," + (int) cb + "px," + (int) cl + "px)");
-        }
+        update.setClip(clip ? "rect(" + (int) ct + "px," + (int) cr + "px," + (int) cb + "px," + (int) cl + "px)" : null);
 
-        // --- Workaround for BS2 ---
-        style.setProperty("WebkitBoxSizing",
-                          "border-box");
-        style.setProperty("MozBoxSizing",
-                          "border-box");
-        style.setProperty("boxSizing",
-                          "border-box");
-        style.setProperty("lineHeight",
-                          "normal");
-        // --- End workaround ---
+        scheduleUpdate();
+    }
 
-        if (MathUtilities.isOne(transform.getScaleX()) && MathUtilities.isOne(transform.getScaleY())) {
-            style.clearProperty("WebkitTransform");
-            style.clearProperty("MozTransform");
-            style.clearProperty("Transform");
-            style.clearProperty("MsTransform");
-            return;
+    /**
+     * Schedule the pending {@link DOMElementUpdate} to be written to the DOM. Updates are written immediately if
+     * the Layer has no {@link DOMElementUpdateBatcher} or is not being drawn.
+     */
+    protected void scheduleUpdate() {
+        final DOMElementUpdateBatcher batcher = gridLayer.getDomElementUpdateBatcher();
+        if (batcher == null) {
+            update.apply();
+        } else {
+            batcher.schedule(update);
         }
-
-        final String scale = "scale(" + FORMAT.format(transform.getScaleX()) + ", " + FORMAT.format(transform.getScaleY()) + ")";
-        final String translate = "translate(" + FORMAT.format(((width - width * transform.getScaleX()) / -2.0)) + "px, " + FORMAT.format(((height - height * transform.getScaleY()) / -2.0)) + "px)";
-        style.setProperty("WebkitTransform",
-                          translate + " " + scale);
-        style.setProperty("MozTransform",
-                          translate + " " + scale);
-        style.setProperty("Transform",
-                          translate + " " + scale);
-        style.setProperty("MsTransform",
-                          translate + " " + scale);
     }
 
     /**
-     * Attach the DOMElement to the GWT container, if not already attached.
+     * Attach the DOMElement to the GWT container, if not already attached. Hidden DOMElements are shown.
      */
     public void attach() {
+        show();
+
         final Iterator<Widget> itr = domElementContainer.iterator();
         while (itr.hasNext()) {
             if (itr.next().equals(widgetContainer)) {
@@ -315,6 +325,10 @@ public abstract class BaseDOMElement<T, W extends Widget> {
         //When an Element is detached it's Position configuration is cleared, so reset it
         final Style style = widgetContainer.getElement().getStyle();
         style.setPosition(Style.Position.ABSOLUTE);
+        style.setLeft(0,
+                      Style.Unit.PX);
+        style.setTop(0,
+                     Style.Unit.PX);
         style.setProperty("WebkitUserSelect",
                           "none");
         style.setProperty("MozUserSelect",
@@ -323,6 +337,45 @@ public abstract class BaseDOMElement<T, W extends Widget> {
                           "none");
 
         domElementContainer.add(widgetContainer);
+
+        final GridRenderStats renderStats = gridWidget.getRenderStats();
+        if (renderStats != null) {
+            renderStats.onDOMElementAttached();
+        }
+    }
+
+    /**
+     * Hide the DOMElement without detaching it from the GWT container. Hidden DOMElements do not take part in
+     * layout and can be shown again without recreating or re-attaching the underlying DOM. Like transformations,
+     * the change is written to the DOM by the Layer's {@link DOMElementUpdateBatcher}.
+     */
+    public void hide() {
+        if (isHidden) {
+            return;
+        }
+        isHidden = true;
+        update.setVisible(false);
+        scheduleUpdate();
+    }
+
+    /**
+     * Show a DOMElement previously hidden by {@link #hide()}.
+     */
+    public void show() {
+        if (!isHidden) {
+            return;
+        }
+        isHidden = false;
+        update.setVisible(true);
+        scheduleUpdate();
+    }
+
+    /**
+     * Whether the DOMElement has been hidden by {@link #hide()}.
+     * @return
+     */
+    public boolean isHidden() {
+        return isHidden;
     }
 
     /**
@@ -333,6 +386,11 @@ public abstract class BaseDOMElement<T, W extends Widget> {
         while (itr.hasNext()) {
             if (itr.next().equals(widgetContainer)) {
                 itr.remove();
+
+                final GridRenderStats renderStats = gridWidget.getRenderStats();
+                if (renderStats != null) {
+                    renderStats.onDOMElementDetached();
+                }
                 return;
             }
         }
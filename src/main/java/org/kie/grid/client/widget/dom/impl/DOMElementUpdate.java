@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.dom.impl;
+
+import java.util.Objects;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style;
+import org.kie.grid.client.util.MathUtilities;
+
+/**
+ * The position, size and visibility of a DOMElement's container. Changes are collected and written to the DOM by
+ * {@link #apply()}; normally for all DOMElements together by a {@link DOMElementUpdateBatcher}. The container is
+ * positioned with a CSS transform, rather than left and top, with an origin at its top-left. Only properties that
+ * have changed since they were last applied are written. The DOM is never read.
+ */
+public class DOMElementUpdate {
+
+    private final Style style;
+
+    private boolean isScheduled = false;
+
+    //Pending state
+    private double x = 0;
+    private double y = 0;
+    private double width = 0;
+    private double height = 0;
+    private double scaleX = 1;
+    private double scaleY = 1;
+    private double opacity = 1;
+    private String clip = null;
+    private boolean isVisible = true;
+
+    //State last written to the DOM
+    private boolean isApplied = false;
+    private double appliedX;
+    private double appliedY;
+    private double appliedWidth;
+    private double appliedHeight;
+    private double appliedScaleX;
+    private double appliedScaleY;
+    private double appliedOpacity;
+    private String appliedClip;
+    private boolean appliedIsVisible;
+
+    public DOMElementUpdate(final Element element) {
+        this.style = Objects.requireNonNull(element, "element").getStyle();
+    }
+
+    /**
+     * Set the position of the container, relative to the DOM Element container, and its size before scaling.
+     * @param x
+     * @param y
+     * @param width
+     * @param height
+     */
+    public void setBounds(final double x,
+                          final double y,
+                          final double width,
+                          final double height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    public void setScale(final double scaleX,
+                         final double scaleY) {
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
+    }
+
+    public void setOpacity(final double opacity) {
+        this.opacity = opacity;
+    }
+
+    /**
+     * Set the CSS clip of the container.
+     * @param clip The clip, such as "rect(...)", or null if the container is not clipped.
+     */
+    public void setClip(final String clip) {
+        this.clip = clip;
+    }
+
+    public void setVisible(final boolean isVisible) {
+        this.isVisible = isVisible;
+    }
+
+    /**
+     * The x-coordinate of the container most recently written to the DOM.
+     * @return
+     */
+    public double getX() {
+        return isApplied ? appliedX : x;
+    }
+
+    /**
+     * The y-coordinate of the container most recently written to the DOM.
+     * @return
+     */
+    public double getY() {
+        return isApplied ? appliedY : y;
+    }
+
+    boolean isScheduled() {
+        return isScheduled;
+    }
+
+    void setScheduled(final boolean isScheduled) {
+        this.isScheduled = isScheduled;
+    }
+
+    /**
+     * Forget the state last written to the DOM so that all properties are written when next applied.
+     */
+    public void invalidate() {
+        isApplied = false;
+    }
+
+    /**
+     * Write the pending state to the DOM.
+     */
+    public void apply() {
+        if (!isApplied || isVisible != appliedIsVisible) {
+            if (isVisible) {
+                style.clearDisplay();
+            } else {
+                style.setDisplay(Style.Display.NONE);
+            }
+            appliedIsVisible = isVisible;
+        }
+
+        //Hidden containers are not laid out so defer writing their geometry until shown
+        if (!isVisible) {
+            return;
+        }
+
+        if (!isApplied || x != appliedX || y != appliedY || scaleX != appliedScaleX || scaleY != appliedScaleY) {
+            String transform = "translate(" + MathUtilities.toOneDecimalPlace(x) + "px, " + MathUtilities.toOneDecimalPlace(y) + "px)";
+            if (scaleX != 1 || scaleY != 1) {
+                transform = transform + " scale(" + MathUtilities.toOneDecimalPlace(scaleX) + ", " + MathUtilities.toOneDecimalPlace(scaleY) + ")";
+            }
+            style.setProperty("WebkitTransform",
+                              transform);
+            style.setProperty("MozTransform",
+                              transform);
+            style.setProperty("MsTransform",
+                              transform);
+            style.setProperty("transform",
+                              transform);
+            appliedX = x;
+            appliedY = y;
+            appliedScaleX = scaleX;
+            appliedScaleY = scaleY;
+        }
+        if (!isApplied || width != appliedWidth) {
+            style.setWidth(width,
+                           Style.Unit.PX);
+            appliedWidth = width;
+        }
+        if (!isApplied || height != appliedHeight) {
+            style.setHeight(height,
+                            Style.Unit.PX);
+            appliedHeight = height;
+        }
+        if (!isApplied || opacity != appliedOpacity) {
+            style.setOpacity(opacity);
+            appliedOpacity = opacity;
+        }
+        if (!isApplied || !Objects.equals(clip, appliedClip)) {
+            if (clip == null) {
+                style.clearProperty("clip");
+            } else {
+                style.setProperty("clip",
+                                  clip);
+            }
+            appliedClip = clip;
+        }
+        isApplied = true;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.dom.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects {@link DOMElementUpdate}s whilst a frame is drawn and writes them to the DOM together when the frame
+ * ends. Positioning DOMElements as each cell is rendered interleaves style writes with the rest of the frame;
+ * writing them in one phase lets the browser lay out the DOM Element container once. Updates scheduled outside
+ * of a frame, such as when a SingletonDOMElement is attached to edit a cell, are written immediately.
+ */
+public class DOMElementUpdateBatcher {
+
+    private final List<DOMElementUpdate> updates = new ArrayList<>();
+
+    private int depth = 0;
+
+    /**
+     * Start collecting updates. Calls may be nested; updates are written when the outermost frame ends.
+     */
+    public void begin() {
+        depth++;
+    }
+
+    /**
+     * End collecting updates, writing all of those collected if this ends the outermost frame.
+     */
+    public void end() {
+        if (depth == 0) {
+            throw new IllegalStateException("end() called without begin().");
+        }
+        depth--;
+        if (depth == 0) {
+            flush();
+        }
+    }
+
+    public boolean isBatching() {
+        return depth > 0;
+    }
+
+    /**
+     * Schedule an update to be written when the frame ends, or immediately if a frame is not being drawn. An update
+     * scheduled more than once in a frame is written once, with its latest state.
+     * @param update
+     */
+    public void schedule(final DOMElementUpdate update) {
+        if (!isBatching()) {
+            update.apply();
+            return;
+        }
+        if (!update.isScheduled()) {
+            update.setScheduled(true);
+            updates.add(update);
+        }
+    }
+
+    public int getPendingCount() {
+        return updates.size();
+    }
+
+    private void flush() {
+        for (DOMElementUpdate update : updates) {
+            update.setScheduled(false);
+            update.apply();
+        }
+        updates.clear();
+    }
+}
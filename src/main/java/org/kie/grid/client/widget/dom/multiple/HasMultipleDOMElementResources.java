@@ -28,6 +28,14 @@ public interface HasMultipleDOMElementResources extends HasDOMElementResources {
      */
     void initialiseResources();
 
+    /**
+     * Sets the number of resources expected to be used in the render phase, normally the number of visible rows.
+     * This is invoked before {@link #initialiseResources()} and allows resources to be prepared in advance.
+     * @param expectedResourceCount The number of resources expected to be used.
+     */
+    default void setExpectedResourceCount(final int expectedResourceCount) {
+    }
+
     /**
      * Destroys additional resources that are not required. This is invoked at the
      * end of the render phase on columns that are partially visible. Some of the
@@ -29,31 +29,78 @@ import org.kie.grid.client.widget.layer.GridLayer;
 /**
  * Base Factory for multi-instance DOMElements, i.e. there can be more than one "on screen" at any given time.
  * This implementation keeps track of a List of DOMElements used during a render phase. DOMElements are re-used
- * for subsequent render phases, freeing unused DOMElements at the end of the render phase. When a column
- * is not rendered all DOMElements are destroyed.
+ * for subsequent render phases. DOMElements not used at the end of a render phase are hidden, rather than
+ * detached, and pooled so that scrolling does not recreate the underlying Widgets and DOM. The pool is bounded;
+ * see {@link #getMaxPoolSize()}. When a column is not rendered all DOMElements are destroyed.
  * @param <T> The data-type of the cell
  * @param <W> The Widget to be wrapped by the DOMElement.
  * @param <E> The DOMElement type that this Factory generates.
  */
 public abstract class BaseDOMElementFactory<T, W extends Widget, E extends BaseDOMElement<T, W>> implements MultipleDOMElementFactory<W, E> {
 
+    public static final int DEFAULT_MAX_POOL_SIZE = 100;
+
     protected final GridLayer gridLayer;
     protected final GridWidget gridWidget;
 
     protected final List<E> domElements = new ArrayList<E>();
 
+    private final int maxPoolSize;
+
     private int consumed = 0;
+    private int expectedElementCount = 0;
 
     public BaseDOMElementFactory(final GridLayer gridLayer,
                                  final GridWidget gridWidget) {
+        this(gridLayer,
+             gridWidget,
+             DEFAULT_MAX_POOL_SIZE);
+    }
+
+    /**
+     * @param gridLayer The Lienzo layer on which the Grid Widget is attached.
+     * @param gridWidget The GridWidget to which DOMElements are associated.
+     * @param maxPoolSize The maximum number of DOMElements kept between render phases. More DOMElements are
+     * created if a render phase requires them however those not used are then detached and discarded.
+     */
+    public BaseDOMElementFactory(final GridLayer gridLayer,
+                                 final GridWidget gridWidget,
+                                 final int maxPoolSize) {
+        if (maxPoolSize < 0) {
+            throw new IllegalArgumentException("maxPoolSize must not be negative.");
+        }
         this.gridLayer = gridLayer;
         this.gridWidget = gridWidget;
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * Returns the maximum number of DOMElements kept between render phases.
+     * @return
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * Sets the number of DOMElements expected to be visible, normally the number of visible rows. The pool is
+     * pre-warmed to this size, up to {@link #getMaxPoolSize()}, when the next DOMElement is attached so that
+     * scrolling does not create DOMElements one by one.
+     * @param expectedElementCount The number of DOMElements expected to be visible.
+     */
+    public void setExpectedElementCount(final int expectedElementCount) {
+        if (expectedElementCount < 0) {
+            throw new IllegalArgumentException("expectedElementCount must not be negative.");
+        }
+        this.expectedElementCount = expectedElementCount;
     }
 
     @Override
     public void attachDomElement(final GridBodyCellRenderContext context,
                                  final Consumer<E> onCreation,
                                  final Consumer<E> onDisplay) {
+        prewarm(context);
+
         E domElement;
         if (consumed + 1 > domElements.size()) {
             domElement = createDomElement(gridLayer,
@@ -73,6 +120,19 @@ public abstract class BaseDOMElementFactory<T, W extends Widget, E extends BaseD
         onDisplay.accept(domElement);
     }
 
+    private void prewarm(final GridBodyCellRenderContext context) {
+        final int poolSize = Math.min(expectedElementCount,
+                                      maxPoolSize);
+        while (domElements.size() < poolSize) {
+            final E domElement = createDomElement(gridLayer,
+                                                  gridWidget,
+                                                  context);
+            domElement.attach();
+            domElement.hide();
+            domElements.add(domElement);
+        }
+    }
+
     @Override
     public void initialiseResources() {
         consumed = 0;
@@ -89,14 +149,14 @@ public abstract class BaseDOMElementFactory<T, W extends Widget, E extends BaseD
 
     @Override
     public void freeUnusedResources() {
-        final List<E> freedDomElements = new ArrayList<E>();
-        for (int i = consumed; i < domElements.size(); i++) {
-            final E domElement = domElements.get(i);
-            domElement.detach();
-            freedDomElements.add(domElement);
+        //Hide DOMElements that can be pooled and discard the remainder
+        final int poolSize = Math.max(consumed,
+                                      maxPoolSize);
+        for (int i = domElements.size() - 1; i >= poolSize; i--) {
+            domElements.remove(i).detach();
         }
-        for (E domElement : freedDomElements) {
-            domElements.remove(domElement);
+        for (int i = consumed; i < domElements.size(); i++) {
+            domElements.get(i).hide();
         }
     }
 }
@@ -34,6 +34,14 @@ public class CheckBoxDOMElementFactory extends BaseDOMElementFactory<Boolean, Ch
               gridWidget);
     }
 
+    public CheckBoxDOMElementFactory(final GridLayer gridLayer,
+                                     final GridWidget gridWidget,
+                                     final int maxPoolSize) {
+        super(gridLayer,
+              gridWidget,
+              maxPoolSize);
+    }
+
     @Override
     public CheckBox createWidget() {
         return new CheckBox();
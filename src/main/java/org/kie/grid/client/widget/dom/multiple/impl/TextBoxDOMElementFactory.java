@@ -34,6 +34,14 @@ public class TextBoxDOMElementFactory extends BaseDOMElementFactory<String, Text
               gridWidget);
     }
 
+    public TextBoxDOMElementFactory(final GridLayer gridLayer,
+                                    final GridWidget gridWidget,
+                                    final int maxPoolSize) {
+        super(gridLayer,
+              gridWidget,
+              maxPoolSize);
+    }
+
     @Override
     public TextBox createWidget() {
         return new TextBox();
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid;
+
+/**
+ * Measurements of the most recent frame drawn by a {@link GridWidget}; collected only when enabled with
+ * {@link GridWidget#setRenderStatsEnabled(boolean)}. Times are in milliseconds. DOM Elements attached and detached,
+ * and redraws scheduled and coalesced, are those since the previous frame; as they can happen between frames.
+ */
+public class GridRenderStats {
+
+    /**
+     * The phases of drawing a frame.
+     */
+    public enum Phase {
+        /**
+         * Finding the visible rows and columns.
+         */
+        RENDERING_INFORMATION,
+        /**
+         * Making the commands to render the visible header, body and selections.
+         */
+        RENDERING_COMMANDS,
+        /**
+         * Executing the commands; creating Lienzo nodes and positioning DOM Elements.
+         */
+        RENDER_QUEUE,
+        /**
+         * Drawing the Lienzo nodes to the canvas.
+         */
+        DRAW
+    }
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long[] phaseTimes = new long[Phase.values().length];
+    private long lastMark;
+    private long frameCount = 0;
+    private int visibleRowCount = 0;
+    private int visibleColumnCount = 0;
+    private int renderedCellCount = 0;
+
+    private int attachedDOMElementCount = 0;
+    private int detachedDOMElementCount = 0;
+    private int pendingAttachedDOMElementCount = 0;
+    private int pendingDetachedDOMElementCount = 0;
+
+    private int scheduledRedrawCount = 0;
+    private int coalescedRedrawCount = 0;
+    private int lastScheduledRedrawTotal = 0;
+    private int lastCoalescedRedrawTotal = 0;
+
+    /**
+     * Starts measuring a frame, clearing measurements of the previous frame.
+     */
+    public void startFrame() {
+        for (int i = 0; i < phaseTimes.length; i++) {
+            phaseTimes[i] = 0;
+        }
+        visibleRowCount = 0;
+        visibleColumnCount = 0;
+        renderedCellCount = 0;
+        lastMark = System.nanoTime();
+    }
+
+    /**
+     * Ends a phase of the frame; its time being that since the frame or previous phase ended.
+     * @param phase The phase.
+     */
+    public void endPhase(final Phase phase) {
+        final long now = System.nanoTime();
+        phaseTimes[phase.ordinal()] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Ends the frame.
+     * @param scheduledRedrawTotal Total redraws scheduled, see {@link org.kie.grid.client.widget.layer.impl.GridLayerRedrawManager}.
+     * @param coalescedRedrawTotal Total redraws coalesced with those already scheduled.
+     */
+    public void endFrame(final int scheduledRedrawTotal,
+                         final int coalescedRedrawTotal) {
+        frameCount++;
+        attachedDOMElementCount = pendingAttachedDOMElementCount;
+        detachedDOMElementCount = pendingDetachedDOMElementCount;
+        pendingAttachedDOMElementCount = 0;
+        pendingDetachedDOMElementCount = 0;
+        scheduledRedrawCount = scheduledRedrawTotal - lastScheduledRedrawTotal;
+        coalescedRedrawCount = coalescedRedrawTotal - lastCoalescedRedrawTotal;
+        lastScheduledRedrawTotal = scheduledRedrawTotal;
+        lastCoalescedRedrawTotal = coalescedRedrawTotal;
+    }
+
+    public void setVisibleCounts(final int visibleRowCount,
+                                 final int visibleColumnCount) {
+        this.visibleRowCount = visibleRowCount;
+        this.visibleColumnCount = visibleColumnCount;
+    }
+
+    public void onCellRendered() {
+        renderedCellCount++;
+    }
+
+    public void onDOMElementAttached() {
+        pendingAttachedDOMElementCount++;
+    }
+
+    public void onDOMElementDetached() {
+        pendingDetachedDOMElementCount++;
+    }
+
+    /**
+     * Returns the time taken by a phase of the frame.
+     * @param phase The phase.
+     * @return Time in milliseconds.
+     */
+    public double getTime(final Phase phase) {
+        return phaseTimes[phase.ordinal()] / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the time taken by the frame.
+     * @return Time in milliseconds.
+     */
+    public double getTotalTime() {
+        long total = 0;
+        for (long phaseTime : phaseTimes) {
+            total += phaseTime;
+        }
+        return total / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the number of frames drawn since collection was enabled.
+     * @return
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    public int getVisibleRowCount() {
+        return visibleRowCount;
+    }
+
+    public int getVisibleColumnCount() {
+        return visibleColumnCount;
+    }
+
+    /**
+     * Returns the number of cells rendered; merged cells being rendered once.
+     * @return
+     */
+    public int getRenderedCellCount() {
+        return renderedCellCount;
+    }
+
+    public int getAttachedDOMElementCount() {
+        return attachedDOMElementCount;
+    }
+
+    public int getDetachedDOMElementCount() {
+        return detachedDOMElementCount;
+    }
+
+    public int getScheduledRedrawCount() {
+        return scheduledRedrawCount;
+    }
+
+    public int getCoalescedRedrawCount() {
+        return coalescedRedrawCount;
+    }
+}
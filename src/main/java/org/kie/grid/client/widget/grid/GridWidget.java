@@ -111,6 +111,99 @@ public interface GridWidget extends IPrimitive<Group>,
                              final double cellWidth,
                              final double cellHeight);
 
+    /**
+     * Collapses all merged blocks in a column and redraws the GridWidget once.
+     * @param uiColumnIndex
+     */
+    default void collapseAll(final int uiColumnIndex) {
+        getModel().collapseAll(uiColumnIndex);
+        getLayer().batch();
+    }
+
+    /**
+     * Expands all collapsed cells in a column and redraws the GridWidget once.
+     * @param uiColumnIndex
+     */
+    default void expandAll(final int uiColumnIndex) {
+        getModel().expandAll(uiColumnIndex);
+        getLayer().batch();
+    }
+
+    /**
+     * Collapses columns at and after the given level, expands those before it and redraws the GridWidget once.
+     * @param level See {@link GridData#collapseToLevel(int)}.
+     */
+    default void collapseToLevel(final int level) {
+        getModel().collapseToLevel(level);
+        getLayer().batch();
+    }
+
+    /**
+     * Starts drawing the Widget from a snapshot of its content, rather than rendering it from the model, whilst the
+     * height of a block of rows is animated. Content above the block is drawn unchanged, the block is clipped to its
+     * visible height and content below the block is translated to follow it. The snapshot is taken the next time
+     * the Widget is drawn and is retained until {@link #stopRowsTransform()} is called. DOMElements, which cannot be
+     * drawn from the snapshot, are hidden until then.
+     * @param minY The y-coordinate of the top of the block, relative to the Widget.
+     * @param maxY The y-coordinate of the bottom of the block, relative to the Widget, when fully expanded.
+     * @param height The initial visible height of the block.
+     * @return true if the Widget supports drawing from a snapshot; false if the model must be changed instead.
+     */
+    @SuppressWarnings("unused")
+    default boolean startRowsTransform(final double minY,
+                                       final double maxY,
+                                       final double height) {
+        return false;
+    }
+
+    /**
+     * Sets the visible height of the block of rows being animated. See {@link #startRowsTransform(double, double, double)}.
+     * @param height The visible height of the block.
+     */
+    @SuppressWarnings("unused")
+    default void setRowsTransformHeight(final double height) {
+    }
+
+    /**
+     * Stops drawing the Widget from a snapshot. The Widget is rendered from the model the next time it is drawn.
+     */
+    default void stopRowsTransform() {
+    }
+
+    /**
+     * Highlights visible cells matching search text. See {@link GridData#findAll(String, int, int)}. The highlights
+     * are rendered the next time the Widget is drawn.
+     * @param text The search text, or null to remove highlights.
+     */
+    @SuppressWarnings("unused")
+    default void setHighlightText(final String text) {
+    }
+
+    /**
+     * Returns the search text for which cells are highlighted.
+     * @return The search text, or null if cells are not highlighted.
+     */
+    default String getHighlightText() {
+        return null;
+    }
+
+    /**
+     * Enables or disables collecting measurements of each frame drawn by the Widget. Collection is disabled by
+     * default, when it has no cost.
+     * @param enabled true to collect measurements.
+     */
+    @SuppressWarnings("unused")
+    default void setRenderStatsEnabled(final boolean enabled) {
+    }
+
+    /**
+     * Returns measurements of the most recent frame drawn by the Widget.
+     * @return The measurements, or null if collection is not enabled or not supported.
+     */
+    default GridRenderStats getRenderStats() {
+        return null;
+    }
+
     /**
      * Checks whether a canvas coordinate is within the "drag handle" for the GridWidget.
      * Canvas coordinates can be mapped to coordinates relative to the GridWidget with
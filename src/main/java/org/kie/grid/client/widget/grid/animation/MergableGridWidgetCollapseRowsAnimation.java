@@ -26,6 +26,10 @@ import org.kie.grid.client.widget.grid.GridWidget;
 /**
  * An animation to collapse rows in a merged block. The cells in
  * the merged block are set to collapsed when the animation starts.
+ * If the GridWidget supports it the animation is drawn from a snapshot
+ * of the GridWidget's content and the rows' heights are only set to
+ * zero when the animation closes.
+ * DOMElements are hidden whilst the animation is drawn from the snapshot.
  */
 public class MergableGridWidgetCollapseRowsAnimation extends TimedAnimation {
 
@@ -37,6 +41,8 @@ public class MergableGridWidgetCollapseRowsAnimation extends TimedAnimation {
               new IAnimationCallback() {
 
                   private AnimationTweener tweener = AnimationTweener.EASE_OUT;
+                  private boolean isTransformed = false;
+                  private double blockHeight = 0.0;
 
                   @Override
                   public void onStart(final IAnimation iAnimation,
@@ -44,16 +50,30 @@ public class MergableGridWidgetCollapseRowsAnimation extends TimedAnimation {
                       //Mark cells as collapsed
                       gridWidget.getModel().collapseCell(uiRowIndex,
                                                          uiColumnIndex);
+
+                      //Snapshot the GridWidget's content to be transformed in place of resizing the rows
+                      for (int i = 1; i < rowCount; i++) {
+                          blockHeight = blockHeight + gridWidget.getModel().getRow(uiRowIndex + i).getHeight();
+                      }
+                      final double minY = gridWidget.getRenderer().getHeaderHeight() + gridWidget.getRendererHelper().getRowOffset(uiRowIndex + 1);
+                      isTransformed = gridWidget.startRowsTransform(minY,
+                                                                    minY + blockHeight,
+                                                                    blockHeight);
                   }
 
                   @Override
                   public void onFrame(final IAnimation iAnimation,
                                       final IAnimationHandle iAnimationHandle) {
-                      //Set the rows' height to their starting height down to zero
                       final double pct = assertPct(iAnimation.getPercent());
-                      for (int i = 1; i < rowCount; i++) {
-                          final GridRow row = gridWidget.getModel().getRow(uiRowIndex + i);
-                          row.setHeight((1.0 - pct) * row.peekHeight());
+                      if (isTransformed) {
+                          //Reduce the block's visible height from its starting height down to zero
+                          gridWidget.setRowsTransformHeight((1.0 - pct) * blockHeight);
+                      } else {
+                          //Set the rows' height to their starting height down to zero
+                          for (int i = 1; i < rowCount; i++) {
+                              final GridRow row = gridWidget.getModel().getRow(uiRowIndex + i);
+                              row.setHeight((1.0 - pct) * row.peekHeight());
+                          }
                       }
                       gridWidget.getLayer().batch();
                   }
@@ -61,7 +81,15 @@ public class MergableGridWidgetCollapseRowsAnimation extends TimedAnimation {
                   @Override
                   public void onClose(final IAnimation iAnimation,
                                       final IAnimationHandle iAnimationHandle) {
-                      //Do nothing
+                      if (!isTransformed) {
+                          return;
+                      }
+                      //Set the rows' final height and render from the model once
+                      for (int i = 1; i < rowCount; i++) {
+                          gridWidget.getModel().getRow(uiRowIndex + i).setHeight(0.0);
+                      }
+                      gridWidget.stopRowsTransform();
+                      gridWidget.getLayer().batch();
                   }
 
                   private double assertPct(final double pct) {
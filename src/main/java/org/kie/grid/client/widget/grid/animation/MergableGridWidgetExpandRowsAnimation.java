@@ -29,6 +29,10 @@ import org.kie.grid.client.widget.grid.GridWidget;
 /**
  * An animation to expand collapsed rows in a merged block. The cells in
  * the merged block are set to expanded when the animation starts.
+ * If the GridWidget supports it the animation is drawn from a snapshot
+ * of the GridWidget's expanded content; which requires the rows' final
+ * heights to be set when the animation starts.
+ * DOMElements are hidden whilst the animation is drawn from the snapshot.
  */
 public class MergableGridWidgetExpandRowsAnimation extends TimedAnimation {
 
@@ -41,6 +45,8 @@ public class MergableGridWidgetExpandRowsAnimation extends TimedAnimation {
 
                   private AnimationTweener tweener = AnimationTweener.EASE_OUT;
                   private List<Double> heights = new ArrayList<Double>();
+                  private boolean isTransformed = false;
+                  private double blockHeight = 0.0;
 
                   @Override
                   public void onStart(final IAnimation iAnimation,
@@ -54,16 +60,35 @@ public class MergableGridWidgetExpandRowsAnimation extends TimedAnimation {
                       //Mark cells as expanded
                       gridWidget.getModel().expandCell(uiRowIndex,
                                                        uiColumnIndex);
+
+                      //Snapshot the GridWidget's expanded content to be transformed in place of resizing the rows
+                      final double minY = gridWidget.getRenderer().getHeaderHeight() + gridWidget.getRendererHelper().getRowOffset(uiRowIndex + 1);
+                      for (int i = 1; i < rowCount; i++) {
+                          blockHeight = blockHeight + heights.get(i);
+                      }
+                      isTransformed = gridWidget.startRowsTransform(minY,
+                                                                    minY + blockHeight,
+                                                                    0.0);
+                      if (isTransformed) {
+                          for (int i = 1; i < rowCount; i++) {
+                              gridWidget.getModel().getRow(uiRowIndex + i).setHeight(heights.get(i));
+                          }
+                      }
                   }
 
                   @Override
                   public void onFrame(final IAnimation iAnimation,
                                       final IAnimationHandle iAnimationHandle) {
-                      //Set the rows' height from zero to their starting height
                       final double pct = assertPct(iAnimation.getPercent());
-                      for (int i = 1; i < rowCount; i++) {
-                          final GridRow row = gridWidget.getModel().getRow(uiRowIndex + i);
-                          row.setHeight(pct * heights.get(i));
+                      if (isTransformed) {
+                          //Increase the block's visible height from zero to its final height
+                          gridWidget.setRowsTransformHeight(pct * blockHeight);
+                      } else {
+                          //Set the rows' height from zero to their starting height
+                          for (int i = 1; i < rowCount; i++) {
+                              final GridRow row = gridWidget.getModel().getRow(uiRowIndex + i);
+                              row.setHeight(pct * heights.get(i));
+                          }
                       }
                       gridWidget.getLayer().batch();
                   }
@@ -71,7 +96,12 @@ public class MergableGridWidgetExpandRowsAnimation extends TimedAnimation {
                   @Override
                   public void onClose(final IAnimation iAnimation,
                                       final IAnimationHandle iAnimationHandle) {
-                      //Do nothing
+                      if (!isTransformed) {
+                          return;
+                      }
+                      //Render from the model once
+                      gridWidget.stopRowsTransform();
+                      gridWidget.getLayer().batch();
                   }
 
                   private double assertPct(final double pct) {
@@ -54,6 +54,11 @@ public class BooleanDOMElementColumn extends BaseGridColumn<Boolean> implements
         this.factory = factory;
     }
 
+    @Override
+    public void setExpectedResourceCount(final int expectedResourceCount) {
+        factory.setExpectedElementCount(expectedResourceCount);
+    }
+
     @Override
     public void initialiseResources() {
         factory.initialiseResources();
@@ -49,6 +49,11 @@ public class StringDOMElementColumn extends BaseGridColumn<String> implements Ha
         this.factory = factory;
     }
 
+    @Override
+    public void setExpectedResourceCount(final int expectedResourceCount) {
+        factory.setExpectedElementCount(expectedResourceCount);
+    }
+
     @Override
     public void initialiseResources() {
         factory.initialiseResources();
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import com.ait.lienzo.client.core.Context2D;
@@ -42,12 +43,14 @@ import org.kie.grid.client.widget.grid.renderers.grids.impl.DefaultSelectionsTra
 import org.kie.grid.client.widget.grid.renderers.grids.impl.FloatingSelectionsTransformer;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.util.GridTracer;
 import org.kie.grid.client.widget.context.GridBodyRenderContext;
 import org.kie.grid.client.widget.context.GridBoundaryRenderContext;
 import org.kie.grid.client.widget.context.GridHeaderRenderContext;
 import org.kie.grid.client.widget.dnd.GridWidgetDnDHandlersState;
 import org.kie.grid.client.widget.dom.HasDOMElementResources;
 import org.kie.grid.client.widget.dom.multiple.HasMultipleDOMElementResources;
+import org.kie.grid.client.widget.grid.GridRenderStats;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
 import org.kie.grid.client.widget.grid.renderers.grids.SelectionsTransformer;
@@ -59,6 +62,7 @@ import org.kie.grid.client.widget.grid.selections.SelectionExtension;
 import org.kie.grid.client.widget.grid.selections.impl.BaseCellSelectionManager;
 import org.kie.grid.client.widget.layer.GridSelectionManager;
 import org.kie.grid.client.widget.layer.impl.DefaultGridLayer;
+import org.kie.grid.client.widget.layer.impl.GridLayerRedrawManager;
 import org.kie.grid.client.widget.layer.pinning.GridPinnedModeManager;
 
 /**
@@ -66,6 +70,9 @@ import org.kie.grid.client.widget.layer.pinning.GridPinnedModeManager;
  */
 public class BaseGridWidget extends Group implements GridWidget {
 
+    //Allow for strokes drawn outside of the Widget's bounds when clipping a snapshot
+    private static final double ROWS_TRANSFORM_CLIP_PADDING = 10.0;
+
     protected final SelectionsTransformer bodyTransformer;
     protected final SelectionsTransformer floatingColumnsTransformer;
     protected final BaseGridRendererHelper rendererHelper;
@@ -89,6 +96,9 @@ public class BaseGridWidget extends Group implements GridWidget {
 
     private Group selection = null;
     private boolean isSelected = false;
+    private RowsTransform rowsTransform = null;
+    private String highlightText = null;
+    private GridRenderStats renderStats = null;
     private final CellSelectionManager cellSelectionManager;
 
     public BaseGridWidget(final GridData model,
@@ -237,6 +247,58 @@ public class BaseGridWidget extends Group implements GridWidget {
         return isSelected;
     }
 
+    @Override
+    public boolean startRowsTransform(final double minY,
+                                      final double maxY,
+                                      final double height) {
+        if (maxY < minY) {
+            throw new IllegalArgumentException("maxY cannot be less than minY.");
+        }
+        //Content below the Widget's visible bounds can be revealed as the block changes height
+        rendererHelper.setOverscanHeight(maxY - minY);
+        rowsTransform = new RowsTransform(minY,
+                                          maxY);
+        rowsTransform.height = height;
+        return true;
+    }
+
+    @Override
+    public void setRowsTransformHeight(final double height) {
+        if (rowsTransform != null) {
+            rowsTransform.height = height;
+        }
+    }
+
+    @Override
+    public void stopRowsTransform() {
+        rendererHelper.setOverscanHeight(0.0);
+        rowsTransform = null;
+    }
+
+    @Override
+    public void setHighlightText(final String text) {
+        this.highlightText = text == null || text.trim().isEmpty() ? null : text;
+    }
+
+    @Override
+    public String getHighlightText() {
+        return highlightText;
+    }
+
+    @Override
+    public void setRenderStatsEnabled(final boolean enabled) {
+        if (!enabled) {
+            renderStats = null;
+        } else if (renderStats == null) {
+            renderStats = new GridRenderStats();
+        }
+    }
+
+    @Override
+    public GridRenderStats getRenderStats() {
+        return renderStats;
+    }
+
     private void assertSelectionWidget() {
         this.selection = new Group();
         addCommandToRenderQueue(selection,
@@ -272,6 +334,24 @@ public class BaseGridWidget extends Group implements GridWidget {
             return;
         }
 
+        //Only frames drawn to the scene, rather than selection, Layer are measured
+        final GridRenderStats renderStats = isSelectionLayer ? null : this.renderStats;
+        if (renderStats != null) {
+            renderStats.startFrame();
+        }
+        final long traceStart = GridTracer.get().begin();
+
+        //Draw the snapshot taken when the RowsTransform started, if applicable
+        if (rowsTransform != null && rowsTransform.isCached) {
+            drawRowsTransform(context,
+                              alpha,
+                              bb);
+            endFrame(renderStats,
+                     isSelectionLayer,
+                     traceStart);
+            return;
+        }
+
         //Clear existing content
         this.removeAll();
 
@@ -280,28 +360,139 @@ public class BaseGridWidget extends Group implements GridWidget {
             this.renderingInformation = prepare();
             if (renderingInformation == null) {
                 destroyDOMElementResources();
+                GridTracer.get().end(GridTracer.RENDER,
+                                     "prepare",
+                                     traceStart);
                 return;
             }
+            if (renderStats != null) {
+                renderStats.endPhase(GridRenderStats.Phase.RENDERING_INFORMATION);
+            }
             makeRenderingCommands();
+            if (renderStats != null) {
+                renderStats.setVisibleCounts(renderingInformation.getMaxVisibleRowIndex() - renderingInformation.getMinVisibleRowIndex() + 1,
+                                             bodyColumns.size() + floatingColumns.size());
+                renderStats.endPhase(GridRenderStats.Phase.RENDERING_COMMANDS);
+            }
         }
 
         layerRenderGroups();
 
         executeRenderQueueCommands(isSelectionLayer);
 
-        //Signal columns to free any unused resources
+        //Signal columns to free any unused resources. DOMElements would not follow the snapshot of a RowsTransform
+        //as it is transformed and are hidden, as though unused, until the Widget is next rendered from the model.
         if (!isSelectionLayer) {
+            final boolean isDOMElementHidden = rowsTransform != null;
             Stream.concat(bodyColumns.stream(),
                           floatingColumns.stream())
                     .filter(column -> column instanceof HasMultipleDOMElementResources)
                     .map(column -> (HasMultipleDOMElementResources) column)
-                    .forEach(HasMultipleDOMElementResources::freeUnusedResources);
+                    .forEach(column -> {
+                        if (isDOMElementHidden) {
+                            column.initialiseResources();
+                        }
+                        column.freeUnusedResources();
+                    });
+        }
+        if (renderStats != null) {
+            renderStats.endPhase(GridRenderStats.Phase.RENDER_QUEUE);
         }
 
         //Then render to the canvas
+        if (rowsTransform != null) {
+            if (!isSelectionLayer) {
+                rowsTransform.isCached = true;
+            }
+            drawRowsTransform(context,
+                              alpha,
+                              bb);
+            endFrame(renderStats,
+                     isSelectionLayer,
+                     traceStart);
+            return;
+        }
         super.drawWithoutTransforms(context,
                                     alpha,
                                     bb);
+        endFrame(renderStats,
+                 isSelectionLayer,
+                 traceStart);
+    }
+
+    private void endFrame(final GridRenderStats renderStats,
+                          final boolean isSelectionLayer,
+                          final long traceStart) {
+        GridTracer.get().end(GridTracer.RENDER,
+                             isSelectionLayer ? "drawSelection" : "draw",
+                             traceStart);
+        if (renderStats == null) {
+            return;
+        }
+        final GridLayerRedrawManager redrawManager = GridLayerRedrawManager.get();
+        renderStats.endPhase(GridRenderStats.Phase.DRAW);
+        renderStats.endFrame(redrawManager.getScheduledCount(),
+                             redrawManager.getCoalescedCount());
+
+        final Layer layer = getLayer();
+        if (layer instanceof DefaultGridLayer) {
+            ((DefaultGridLayer) layer).fireRenderStats(this,
+                                                       renderStats);
+        }
+    }
+
+    /**
+     * Draws the Widget's existing content in two clipped passes; the first being the content above and within the
+     * visible part of a block of rows and the second being the content below the block translated to follow it.
+     * @param context
+     * @param alpha
+     * @param bb
+     */
+    private void drawRowsTransform(final Context2D context,
+                                   final double alpha,
+                                   final BoundingBox bb) {
+        final double minX = -ROWS_TRANSFORM_CLIP_PADDING;
+        final double minY = -ROWS_TRANSFORM_CLIP_PADDING;
+        final double width = getWidth() + ROWS_TRANSFORM_CLIP_PADDING * 2;
+        final double maxY = getHeight() + ROWS_TRANSFORM_CLIP_PADDING;
+        final double blockHeight = rowsTransform.maxY - rowsTransform.minY;
+        final double visibleHeight = Math.max(0.0,
+                                              Math.min(rowsTransform.height,
+                                                       blockHeight));
+        final double offsetY = visibleHeight - blockHeight;
+
+        //Content above and within the visible part of the block
+        context.save();
+        context.beginPath();
+        context.rect(minX,
+                     minY,
+                     width,
+                     rowsTransform.minY + visibleHeight - minY);
+        context.clip();
+        super.drawWithoutTransforms(context,
+                                    alpha,
+                                    bb);
+        context.restore();
+
+        //Content below the block; never drawn over the Header
+        final double headerMaxY = (header == null ? 0.0 : header.getY() + renderer.getHeaderHeight());
+        final double clipMinY = Math.max(rowsTransform.maxY,
+                                         headerMaxY - offsetY);
+        if (clipMinY < maxY) {
+            context.save();
+            context.translate(0,
+                              offsetY);
+            context.beginPath();
+            context.rect(minX,
+                         clipMinY,
+                         width,
+                         maxY - clipMinY);
+            context.clip();
+            super.drawWithoutTransforms(context,
+                                        alpha,
+                                        bb);
+            context.restore();
+        }
     }
 
     private BaseGridRendererHelper.RenderingInformation prepare() {
@@ -346,9 +537,12 @@ public class BaseGridWidget extends Group implements GridWidget {
 
     private void makeRenderingCommands() {
         //Signal columns to attach or detach rendering support
+        final int visibleRowCount = Math.max(0,
+                                             renderingInformation.getMaxVisibleRowIndex() - renderingInformation.getMinVisibleRowIndex() + 1);
         for (GridColumn<?> column : model.getColumns()) {
             if (bodyColumns.contains(column) || floatingColumns.contains(column)) {
                 if (column instanceof HasMultipleDOMElementResources) {
+                    ((HasMultipleDOMElementResources) column).setExpectedResourceCount(visibleRowCount);
                     ((HasMultipleDOMElementResources) column).initialiseResources();
                 }
             } else if (column instanceof HasDOMElementResources) {
@@ -373,6 +567,26 @@ public class BaseGridWidget extends Group implements GridWidget {
         final BaseGridRendererHelper.RenderingBlockInformation bodyBlockInformation = renderingInformation.getBodyBlockInformation();
         final BaseGridRendererHelper.RenderingBlockInformation floatingBlockInformation = renderingInformation.getFloatingBlockInformation();
 
+        if (highlightText != null) {
+            if (bodySelections != null) {
+                addCommandToRenderQueue(bodySelections,
+                                        renderHighlightedCells(bodyColumns,
+                                                               bodyBlockInformation.getX(),
+                                                               minVisibleRowIndex,
+                                                               maxVisibleRowIndex,
+                                                               bodyTransformer,
+                                                               renderingInformation));
+            }
+            if (floatingBodySelections != null) {
+                addCommandToRenderQueue(floatingBodySelections,
+                                        renderHighlightedCells(floatingColumns,
+                                                               floatingBlockInformation.getX(),
+                                                               minVisibleRowIndex,
+                                                               maxVisibleRowIndex,
+                                                               floatingColumnsTransformer,
+                                                               renderingInformation));
+            }
+        }
         if (bodySelections != null) {
             addCommandToRenderQueue(bodySelections,
                                     renderSelectedRanges(bodyColumns,
@@ -661,26 +875,58 @@ public class BaseGridWidget extends Group implements GridWidget {
                                                                 final int maxVisibleRowIndex,
                                                                 final SelectionsTransformer transformer,
                                                                 final BaseGridRendererHelper.RenderingInformation renderingInformation) {
+        final GridBodyRenderContext context = makeSelectionsRenderContext(blockColumns,
+                                                                          absoluteColumnOffsetX,
+                                                                          minVisibleRowIndex,
+                                                                          maxVisibleRowIndex,
+                                                                          transformer,
+                                                                          renderingInformation);
+        return renderer.renderSelectedCells(model,
+                                            context,
+                                            rendererHelper);
+    }
+
+    protected GridRenderer.RendererCommand renderHighlightedCells(final List<GridColumn<?>> blockColumns,
+                                                                  final double absoluteColumnOffsetX,
+                                                                  final int minVisibleRowIndex,
+                                                                  final int maxVisibleRowIndex,
+                                                                  final SelectionsTransformer transformer,
+                                                                  final BaseGridRendererHelper.RenderingInformation renderingInformation) {
+        final GridBodyRenderContext context = makeSelectionsRenderContext(blockColumns,
+                                                                          absoluteColumnOffsetX,
+                                                                          minVisibleRowIndex,
+                                                                          maxVisibleRowIndex,
+                                                                          transformer,
+                                                                          renderingInformation);
+        return renderer.renderHighlightedCells(model,
+                                               context,
+                                               rendererHelper,
+                                               highlightText);
+    }
+
+    private GridBodyRenderContext makeSelectionsRenderContext(final List<GridColumn<?>> blockColumns,
+                                                              final double absoluteColumnOffsetX,
+                                                              final int minVisibleRowIndex,
+                                                              final int maxVisibleRowIndex,
+                                                              final SelectionsTransformer transformer,
+                                                              final BaseGridRendererHelper.RenderingInformation renderingInformation) {
         final BaseGridRendererHelper.RenderingBlockInformation floatingBlockInformation = renderingInformation.getFloatingBlockInformation();
         final double floatingX = floatingBlockInformation.getX();
         final double floatingWidth = floatingBlockInformation.getWidth();
 
         final double clipMinY = getAbsoluteY() + (header == null ? 0.0 : header.getY() + getRenderer().getHeaderHeight());
         final double clipMinX = getAbsoluteX() + floatingX + floatingWidth;
-        final GridBodyRenderContext context = new GridBodyRenderContext(getAbsoluteX(),
-                                                                        getAbsoluteY(),
-                                                                        absoluteColumnOffsetX,
-                                                                        clipMinY,
-                                                                        clipMinX,
-                                                                        minVisibleRowIndex,
-                                                                        maxVisibleRowIndex,
-                                                                        blockColumns,
-                                                                        getViewport().getTransform(),
-                                                                        renderer,
-                                                                        transformer);
-        return renderer.renderSelectedCells(model,
-                                            context,
-                                            rendererHelper);
+        return new GridBodyRenderContext(getAbsoluteX(),
+                                         getAbsoluteY(),
+                                         absoluteColumnOffsetX,
+                                         clipMinY,
+                                         clipMinX,
+                                         minVisibleRowIndex,
+                                         maxVisibleRowIndex,
+                                         blockColumns,
+                                         getViewport().getTransform(),
+                                         renderer,
+                                         transformer);
     }
 
     @Override
@@ -737,4 +983,31 @@ public class BaseGridWidget extends Group implements GridWidget {
     public boolean startEditingCell(final Point2D rp) {
         return cellSelectionManager.startEditingCell(rp);
     }
+
+    @Override
+    public void copySelectedCells(final Consumer<String> chunks) {
+        cellSelectionManager.copySelectedCells(chunks);
+    }
+
+    @Override
+    public boolean pasteCells(final String text) {
+        return cellSelectionManager.pasteCells(text);
+    }
+
+    /**
+     * The block of rows whose height is being animated from a snapshot of the Widget's content.
+     */
+    private static class RowsTransform {
+
+        private final double minY;
+        private final double maxY;
+        private double height;
+        private boolean isCached = false;
+
+        private RowsTransform(final double minY,
+                              final double maxY) {
+            this.minY = minY;
+            this.maxY = maxY;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import com.google.gwt.event.dom.client.KeyDownEvent;
 import com.google.gwt.event.dom.client.KeyDownHandler;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.util.GridTracer;
 import org.kie.grid.client.widget.dom.single.HasSingletonDOMElementResource;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.impl.KeyboardOperation.TriStateBoolean;
@@ -68,17 +69,25 @@ public class BaseGridWidgetKeyboardHandler implements KeyDownHandler {
             return;
         }
 
-        final boolean redraw = operation.perform(selectedGridWidget,
-                                                 event.isShiftKeyDown(),
-                                                 event.isControlKeyDown());
+        final GridTracer tracer = GridTracer.get();
+        final long traceStart = tracer.begin();
+        try {
+            final boolean redraw = operation.perform(selectedGridWidget,
+                                                     event.isShiftKeyDown(),
+                                                     event.isControlKeyDown());
 
-        event.preventDefault();
-        event.stopPropagation();
+            event.preventDefault();
+            event.stopPropagation();
 
-        flushDOMElements(selectedGridWidget);
+            flushDOMElements(selectedGridWidget);
 
-        if (redraw) {
-            gridLayer.draw();
+            if (redraw) {
+                gridLayer.draw();
+            }
+        } finally {
+            tracer.end(GridTracer.KEYBOARD,
+                       "keyDown",
+                       traceStart);
         }
     }
 
@@ -146,13 +146,7 @@ public class BaseGridWidgetMouseClickHandler implements NodeMouseClickHandler {
         }
 
         //Get row index
-        GridRow row;
-        int uiRowIndex = 0;
-        double offsetY = cy - renderer.getHeaderHeight();
-        while ((row = gridModel.getRow(uiRowIndex)).getHeight() < offsetY) {
-            offsetY = offsetY - row.getHeight();
-            uiRowIndex++;
-        }
+        final int uiRowIndex = gridModel.findRowIndex(cy - renderer.getHeaderHeight());
         if (uiRowIndex < 0 || uiRowIndex > gridModel.getRowCount() - 1) {
             return false;
         }
@@ -196,7 +190,7 @@ public class BaseGridWidgetMouseClickHandler implements NodeMouseClickHandler {
         }
 
         //Collapse or expand rows as needed
-        if (!nextRowCell.isCollapsed()) {
+        if (!gridModel.getRow(uiRowIndex + 1).isCollapsed()) {
             collapseRows(uiRowIndex,
                          uiColumnIndex,
                          cell.getMergedCellCount());
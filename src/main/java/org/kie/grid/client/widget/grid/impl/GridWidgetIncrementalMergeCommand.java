@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid.impl;
+
+import com.ait.lienzo.client.core.shape.Layer;
+import com.google.gwt.core.client.Scheduler;
+import org.kie.grid.client.model.impl.BaseGridData;
+import org.kie.grid.client.model.impl.BaseGridDataIndexManager;
+import org.kie.grid.client.widget.grid.GridWidget;
+import org.kie.grid.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
+
+/**
+ * Merges the data of a {@link GridWidget} without blocking the browser. Merge meta-data is indexed in
+ * bounded slices scheduled with {@link Scheduler#scheduleIncremental(Scheduler.RepeatingCommand)}. The
+ * GridWidget is redrawn each time a column has been indexed, when a slice indexes rows that are visible and
+ * otherwise every {@link #REDRAW_INTERVAL} slices; so merged blocks appear progressively, even in columns with
+ * many rows, without redrawing after every slice.
+ */
+public class GridWidgetIncrementalMergeCommand implements Scheduler.RepeatingCommand {
+
+    static final int REDRAW_INTERVAL = 10;
+
+    private final GridWidget gridWidget;
+    private final BaseGridDataIndexManager.IncrementalIndex index;
+    private int slicesSinceRedraw = 0;
+
+    GridWidgetIncrementalMergeCommand(final GridWidget gridWidget,
+                                      final BaseGridDataIndexManager.IncrementalIndex index) {
+        this.gridWidget = gridWidget;
+        this.index = index;
+    }
+
+    /**
+     * Merges the given data, scheduling incremental indexing of its merge meta-data.
+     * @param gridWidget GridWidget rendering the data; redrawn as indexing progresses.
+     * @param gridData Data to merge.
+     * @param callback Notified of progress, completion or cancellation.
+     */
+    public static void schedule(final GridWidget gridWidget,
+                                final BaseGridData gridData,
+                                final BaseGridDataIndexManager.IndexingCallback callback) {
+        final BaseGridDataIndexManager.IncrementalIndex index = gridData.setMergedIncrementally(callback);
+        Scheduler.get().scheduleIncremental(new GridWidgetIncrementalMergeCommand(gridWidget,
+                                                                                  index));
+    }
+
+    @Override
+    public boolean execute() {
+        final boolean hasMore = index.execute();
+        if (index.isCancelled()) {
+            return hasMore;
+        }
+        slicesSinceRedraw++;
+        if (index.isColumnIndexed() || slicesSinceRedraw >= REDRAW_INTERVAL || isVisibleRowIndexed()) {
+            final Layer layer = gridWidget.getLayer();
+            if (layer != null) {
+                layer.batch();
+            }
+            slicesSinceRedraw = 0;
+        }
+        return hasMore;
+    }
+
+    private boolean isVisibleRowIndexed() {
+        final BaseGridRendererHelper.RenderingInformation renderingInformation = gridWidget.getRendererHelper().getRenderingInformation();
+        if (renderingInformation == null) {
+            return false;
+        }
+        return index.isAnyRowIndexed(renderingInformation.getMinVisibleRowIndex(),
+                                     renderingInformation.getMaxVisibleRowIndex());
+    }
+}
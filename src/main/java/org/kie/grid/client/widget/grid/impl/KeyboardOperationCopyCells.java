@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.grid.client.widget.grid.impl;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.google.gwt.event.dom.client.KeyCodes;
+import org.kie.grid.client.widget.grid.GridWidget;
+import org.kie.grid.client.widget.layer.GridLayer;
+
+/**
+ * Copies the selected cells, as tab-separated values, when Ctrl+C is pressed. Browsers only permit the clipboard
+ * to be written in response to user input, hence the text is handed to a consumer that does so. Pasting is the
+ * converse, handled with {@link GridWidget#pasteCells(String)} in response to the browser's paste event.
+ */
+public class KeyboardOperationCopyCells extends BaseKeyboardOperation {
+
+    private final Consumer<String> clipboard;
+
+    /**
+     * @param gridLayer The layer containing the GridWidgets.
+     * @param clipboard Receives the text of the copied cells; for example to write it to the system clipboard.
+     */
+    public KeyboardOperationCopyCells(final GridLayer gridLayer,
+                                      final Consumer<String> clipboard) {
+        super(gridLayer);
+        this.clipboard = Objects.requireNonNull(clipboard, "clipboard");
+    }
+
+    @Override
+    public int getKeyCode() {
+        return KeyCodes.KEY_C;
+    }
+
+    @Override
+    public TriStateBoolean isControlKeyDown() {
+        return TriStateBoolean.TRUE;
+    }
+
+    @Override
+    @SuppressWarnings("unused")
+    public boolean perform(final GridWidget gridWidget,
+                           final boolean isShiftKeyDown,
+                           final boolean isControlKeyDown) {
+        copyCells(gridWidget);
+        return false;
+    }
+
+    protected void copyCells(final GridWidget gridWidget) {
+        final StringBuilder text = new StringBuilder();
+        gridWidget.copySelectedCells(text::append);
+        if (text.length() > 0) {
+            clipboard.accept(text.toString());
+        }
+    }
+}
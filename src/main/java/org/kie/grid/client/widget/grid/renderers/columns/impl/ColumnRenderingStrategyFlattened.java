@@ -30,6 +30,7 @@ import org.kie.grid.client.model.GridData;
 import org.kie.grid.client.model.GridRow;
 import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
 import org.kie.grid.client.widget.context.GridBodyColumnRenderContext;
+import org.kie.grid.client.widget.grid.GridRenderStats;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
 import org.kie.grid.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
 import org.kie.grid.client.widget.grid.renderers.themes.GridRendererTheme;
@@ -91,6 +92,7 @@ public class ColumnRenderingStrategyFlattened {
                 final Group columnGroup = GWT.create(Group.class);
                 columnGroup.setX(x);
                 final int columnIndex = model.getColumns().indexOf(column);
+                final GridRenderStats renderStats = rc.isSelectionLayer() ? null : rendererHelper.getRenderStats();
                 for (int rowIndex = minVisibleRowIndex; rowIndex <= maxVisibleRowIndex; rowIndex++) {
                     final double y = visibleRowOffsets.get(rowIndex - minVisibleRowIndex) - visibleRowOffsets.get(0);
                     final GridRow row = model.getRow(rowIndex);
@@ -116,6 +118,9 @@ public class ColumnRenderingStrategyFlattened {
                         cc.setX(0).setY(y).setListening(true);
                         columnGroup.add(cc);
                     }
+                    if (renderStats != null) {
+                        renderStats.onCellRendered();
+                    }
                 }
 
                 //Clip Column Group
@@ -20,7 +20,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.stream.IntStream;
 
 import com.ait.lienzo.client.core.shape.BoundingBoxPathClipper;
 import com.ait.lienzo.client.core.shape.Group;
@@ -46,6 +45,7 @@ import org.kie.grid.client.model.GridData;
 import org.kie.grid.client.model.GridRow;
 import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
 import org.kie.grid.client.widget.context.GridBodyColumnRenderContext;
+import org.kie.grid.client.widget.grid.GridRenderStats;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
 import org.kie.grid.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
 import org.kie.grid.client.widget.grid.renderers.grids.impl.GroupingToggle;
@@ -53,8 +53,6 @@ import org.kie.grid.client.widget.grid.renderers.themes.GridRendererTheme;
 
 public class ColumnRenderingStrategyMerged {
 
-    private static final int LOOP_THRESHOLD = 1000;
-
     public static List<GridRenderer.RendererCommand> render(final GridColumn<?> column,
                                                             final GridBodyColumnRenderContext context,
                                                             final BaseGridRendererHelper rendererHelper,
@@ -126,19 +124,8 @@ public class ColumnRenderingStrategyMerged {
         commands.add((GridRenderer.RenderBodyGridContentCommand) (rc) -> {
             if (columnRenderingConstraint.apply(rc.isSelectionLayer(), column)) {
                 final Group columnGroup = new Group().setX(x);
-                int iterations = 0;
+                final GridRenderStats renderStats = rc.isSelectionLayer() ? null : rendererHelper.getRenderStats();
                 for (int rowIndex = minVisibleRowIndex; rowIndex <= maxVisibleRowIndex; rowIndex++) {
-
-                    // This is a defensive programming to prevent this loop from never ending.
-                    // The check should never be satisfied however, especially in early development, this loop sometimes became
-                    // infinite. All known issue are resolved however the check remains as a safety precaution. Without the check
-                    // the Workbench could appear to "lock up" - if the infinite loop scenario reoccurred. With the check,
-                    // at worst, the grid will be incorrectly rendered.
-                    iterations++;
-                    if (iterations > LOOP_THRESHOLD) {
-                        break;
-                    }
-
                     final double y = visibleRowOffsets.get(rowIndex - minVisibleRowIndex) - visibleRowOffsets.get(0);
                     final GridRow row = model.getRow(rowIndex);
                     final GridCell<?> cell = model.getCell(rowIndex,
@@ -150,11 +137,10 @@ public class ColumnRenderingStrategyMerged {
                     }
 
                     //Add highlight for merged cells with different values
-                    final boolean isCollapsedCellMixedValue = isCollapsedCellMixedValue(model,
-                                                                                        rowIndex,
-                                                                                        columnIndex);
+                    final GridData.MergedBlock block = model.getMergedBlock(rowIndex,
+                                                                            columnIndex);
 
-                    if (isCollapsedCellMixedValue) {
+                    if (block.isMixedValue()) {
                         final Group mixedValueGroup = renderMergedCellMixedValueHighlight(columnWidth,
                                                                                           row.getHeight());
                         mixedValueGroup.setX(0).setY(y).setListening(true);
@@ -173,7 +159,7 @@ public class ColumnRenderingStrategyMerged {
                         if (nextRowCell != null) {
                             final Group gt = renderGroupedCellToggle(columnWidth,
                                                                      row.getHeight(),
-                                                                     nextRowCell.isCollapsed());
+                                                                     model.getRow(rowIndex + 1).isCollapsed());
                             gt.setX(0).setY(y);
                             columnGroup.add(gt);
                         }
@@ -181,13 +167,10 @@ public class ColumnRenderingStrategyMerged {
 
                     if (cell.getMergedCellCount() > 0) {
                         //If cell is "lead" i.e. top of a merged block centralize content in cell
-                        final double cellHeight = getCellHeight(rowIndex,
-                                                                model,
-                                                                cell);
                         final GridBodyCellRenderContext cellContext = new GridBodyCellRenderContext(absoluteColumnX,
                                                                                                     absoluteGridY + renderer.getHeaderHeight() + visibleRowOffsets.get(rowIndex - minVisibleRowIndex),
                                                                                                     columnWidth,
-                                                                                                    cellHeight,
+                                                                                                    block.getHeight(),
                                                                                                     clipMinY,
                                                                                                     clipMinX,
                                                                                                     rowIndex,
@@ -201,28 +184,24 @@ public class ColumnRenderingStrategyMerged {
                                                                                cellContext);
                         cc.setX(0).setY(y).setListening(true);
                         columnGroup.add(cc);
+                        if (renderStats != null) {
+                            renderStats.onCellRendered();
+                        }
 
                         //Skip remainder of merged block
                         rowIndex = rowIndex + cell.getMergedCellCount() - 1;
                     } else {
-                        //Otherwise the cell has been clipped and we need to back-track to the "lead" cell to centralize content
-                        double _y = y;
-                        int _rowIndex = rowIndex;
-                        GridCell<?> _cell = cell;
-                        while (_cell.getMergedCellCount() == 0) {
-                            _rowIndex--;
-                            _y = _y - model.getRow(_rowIndex).getHeight();
-                            _cell = model.getCell(_rowIndex,
-                                                  columnIndex);
-                        }
+                        //Otherwise the cell has been clipped and we need the "lead" cell to centralize content
+                        final int _rowIndex = block.getLeadRowIndex();
+                        final GridCell<?> _cell = model.getCell(_rowIndex,
+                                                                columnIndex);
+                        final double _rowOffset = rendererHelper.getRowOffset(_rowIndex);
+                        final double _y = _rowOffset - visibleRowOffsets.get(0);
 
-                        final double cellHeight = getCellHeight(_rowIndex,
-                                                                model,
-                                                                _cell);
                         final GridBodyCellRenderContext cellContext = new GridBodyCellRenderContext(absoluteColumnX,
-                                                                                                    absoluteGridY + renderer.getHeaderHeight() + rendererHelper.getRowOffset(_rowIndex),
+                                                                                                    absoluteGridY + renderer.getHeaderHeight() + _rowOffset,
                                                                                                     columnWidth,
-                                                                                                    cellHeight,
+                                                                                                    block.getHeight(),
                                                                                                     clipMinY,
                                                                                                     clipMinX,
                                                                                                     rowIndex,
@@ -236,9 +215,13 @@ public class ColumnRenderingStrategyMerged {
                                                                                cellContext);
                         cc.setX(0).setY(_y).setListening(true);
                         columnGroup.add(cc);
+                        if (renderStats != null) {
+                            renderStats.onCellRendered();
+                        }
 
-                        //Skip remainder of merged block
-                        rowIndex = _rowIndex + _cell.getMergedCellCount() - 1;
+                        //Skip remainder of merged block; never moving backwards should the merge meta-data be inconsistent
+                        rowIndex = Math.max(rowIndex,
+                                            _rowIndex + block.getRowCount() - 1);
                     }
                 }
 
@@ -284,44 +267,6 @@ public class ColumnRenderingStrategyMerged {
         return false;
     }
 
-    protected static boolean isCollapsedCellMixedValue(final GridData model,
-                                                       final int rowIndex,
-                                                       final int columnIndex) {
-        int _rowIndex = rowIndex;
-        GridCell<?> currentCell = model.getCell(_rowIndex,
-                                                columnIndex);
-        if (currentCell != null) {
-            while (_rowIndex > 0 && currentCell.getMergedCellCount() == 0) {
-                _rowIndex--;
-                currentCell = model.getCell(_rowIndex,
-                                            columnIndex);
-            }
-        }
-
-        _rowIndex++;
-        if (_rowIndex > model.getRowCount() - 1) {
-            return false;
-        }
-        while (_rowIndex < model.getRowCount() && model.getRow(_rowIndex).isCollapsed()) {
-            final GridCell<?> nextCell = model.getCell(_rowIndex,
-                                                       columnIndex);
-            if (!Objects.equals(currentCell, nextCell)) {
-                return true;
-            }
-            _rowIndex++;
-        }
-
-        return false;
-    }
-
-    protected static double getCellHeight(final int rowIndex,
-                                          final GridData model,
-                                          final GridCell<?> cell) {
-        return IntStream.range(rowIndex, rowIndex + cell.getMergedCellCount())
-                .mapToDouble(index -> model.getRow(index).getHeight())
-                .sum();
-    }
-
     private static Group renderGroupedCellToggle(final double cellWidth,
                                                  final double cellHeight,
                                                  final boolean isCollapsed) {
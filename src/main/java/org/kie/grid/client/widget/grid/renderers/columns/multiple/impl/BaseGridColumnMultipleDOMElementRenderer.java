@@ -20,6 +20,7 @@ import java.util.Objects;
 import com.google.gwt.user.client.ui.Widget;
 import org.kie.grid.client.widget.dom.multiple.MultipleDOMElementFactory;
 import org.kie.grid.client.widget.grid.renderers.columns.multiple.GridColumnMultipleDOMElementRenderer;
+import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
 import org.kie.grid.client.widget.dom.impl.BaseDOMElement;
 import org.kie.grid.client.widget.dom.multiple.MultipleDOMElementFactory;
 import org.kie.grid.client.widget.grid.renderers.columns.impl.BaseGridColumnRenderer;
@@ -29,10 +30,37 @@ public abstract class BaseGridColumnMultipleDOMElementRenderer<T, W extends Widg
 
     protected final MultipleDOMElementFactory<W, E> factory;
 
+    private DOMElementRenderingPolicy renderingPolicy;
+
     public BaseGridColumnMultipleDOMElementRenderer(final MultipleDOMElementFactory<W, E> factory) {
         this.factory = Objects.requireNonNull(factory, "factory");
     }
 
+    /**
+     * Returns the policy deciding which cells are painted on the canvas rather than rendered with DOMElements.
+     * @return null if all cells are rendered with DOMElements.
+     */
+    public DOMElementRenderingPolicy getRenderingPolicy() {
+        return renderingPolicy;
+    }
+
+    /**
+     * Sets a policy to paint cells on the canvas, rather than attach DOMElements, whilst the Viewport is moving.
+     * @param renderingPolicy The policy, or null to render all cells with DOMElements.
+     */
+    public void setRenderingPolicy(final DOMElementRenderingPolicy renderingPolicy) {
+        this.renderingPolicy = renderingPolicy;
+    }
+
+    /**
+     * Whether the cell should be rendered with a DOMElement or painted on the canvas.
+     * @param context The render context of the cell.
+     * @return
+     */
+    protected boolean isDOMElementRequired(final GridBodyCellRenderContext context) {
+        return renderingPolicy == null || renderingPolicy.isDOMElementRequired(context);
+    }
+
     @Override
     public void initialiseResources() {
         factory.initialiseResources();
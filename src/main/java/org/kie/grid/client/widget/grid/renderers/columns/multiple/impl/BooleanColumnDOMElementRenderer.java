@@ -16,6 +16,9 @@
 package org.kie.grid.client.widget.grid.renderers.columns.multiple.impl;
 
 import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.client.core.shape.MultiPath;
+import com.ait.lienzo.client.core.shape.Rectangle;
+import com.ait.lienzo.shared.core.types.ColorName;
 import org.gwtbootstrap3.client.ui.CheckBox;
 import org.kie.grid.client.model.GridCell;
 import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
@@ -27,6 +30,9 @@ import org.kie.grid.client.widget.dom.multiple.impl.CheckBoxDOMElementFactory;
 
 public class BooleanColumnDOMElementRenderer extends BaseGridColumnMultipleDOMElementRenderer<Boolean, CheckBox, CheckBoxDOMElement> {
 
+    //Size of the CheckBox
+    private static final double SIZE = 13.0;
+
     public BooleanColumnDOMElementRenderer(final CheckBoxDOMElementFactory factory) {
         super(factory);
     }
@@ -37,10 +43,49 @@ public class BooleanColumnDOMElementRenderer extends BaseGridColumnMultipleDOMEl
         if (cell == null || cell.getValue() == null) {
             return null;
         }
+        if (!isDOMElementRequired(context)) {
+            return renderCellOnCanvas(cell,
+                                      context);
+        }
         final Group g = new Group();
         factory.attachDomElement(context,
                                  e -> e.getWidget().setValue(cell.getValue().getValue()),
                                  result -> {});
         return g;
     }
+
+    /**
+     * Paint the value of the cell as a box, ticked if the value is true, centred like the CheckBox.
+     * @param cell
+     * @param context
+     * @return
+     */
+    protected Group renderCellOnCanvas(final GridCell<Boolean> cell,
+                                       final GridBodyCellRenderContext context) {
+        final double x = (context.getCellWidth() - SIZE) / 2;
+        final double y = (context.getCellHeight() - SIZE) / 2;
+        final Group g = new Group();
+        final Rectangle box = new Rectangle(SIZE,
+                                            SIZE)
+                .setStrokeColor(ColorName.DARKGRAY)
+                .setFillColor(ColorName.WHITE)
+                .setListening(false);
+        box.setX(x);
+        box.setY(y);
+        g.add(box);
+        if (Boolean.TRUE.equals(cell.getValue().getValue())) {
+            final MultiPath tick = new MultiPath()
+                    .M(x + SIZE * 0.2,
+                       y + SIZE * 0.5)
+                    .L(x + SIZE * 0.4,
+                       y + SIZE * 0.75)
+                    .L(x + SIZE * 0.8,
+                       y + SIZE * 0.25)
+                    .setStrokeColor(ColorName.BLACK)
+                    .setStrokeWidth(2.0)
+                    .setListening(false);
+            g.add(tick);
+        }
+        return g;
+    }
 }
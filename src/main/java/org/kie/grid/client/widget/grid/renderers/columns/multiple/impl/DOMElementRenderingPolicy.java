@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid.renderers.columns.multiple.impl;
+
+import java.util.Objects;
+
+import com.ait.lienzo.client.core.types.Transform;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.user.client.Command;
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.util.ColumnIndexUtilities;
+import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
+import org.kie.grid.client.widget.grid.GridWidget;
+import org.kie.grid.client.widget.layer.GridLayer;
+
+/**
+ * Decides whether a cell of a {@link BaseGridColumnMultipleDOMElementRenderer} column is rendered with a DOMElement
+ * or painted on the canvas. Whilst the Viewport is moving, and until it has been idle for {@link #getIdleDelay()},
+ * only cells in the column of the selected cell and within {@link #getSelectionProximity()} rows of it have
+ * DOMElements; all others are painted. When the Viewport becomes idle the Layer is redrawn to attach DOMElements
+ * to all visible cells.
+ */
+public class DOMElementRenderingPolicy {
+
+    public static final int DEFAULT_IDLE_DELAY = 250;
+    public static final int DEFAULT_SELECTION_PROXIMITY = 2;
+
+    private final GridLayer gridLayer;
+    private final GridWidget gridWidget;
+
+    private int idleDelay = DEFAULT_IDLE_DELAY;
+    private int selectionProximity = DEFAULT_SELECTION_PROXIMITY;
+
+    private boolean isTransformKnown = false;
+    private double translateX;
+    private double translateY;
+    private double scaleX;
+    private double scaleY;
+
+    private boolean isMoving = false;
+    private long lastMovedTime;
+    private boolean isIdleRedrawScheduled = false;
+
+    public DOMElementRenderingPolicy(final GridLayer gridLayer,
+                                     final GridWidget gridWidget) {
+        this.gridLayer = Objects.requireNonNull(gridLayer, "gridLayer");
+        this.gridWidget = Objects.requireNonNull(gridWidget, "gridWidget");
+    }
+
+    /**
+     * Returns the time, in milliseconds, the Viewport must be idle before all visible cells have DOMElements.
+     * @return
+     */
+    public int getIdleDelay() {
+        return idleDelay;
+    }
+
+    public void setIdleDelay(final int idleDelay) {
+        if (idleDelay < 0) {
+            throw new IllegalArgumentException("idleDelay must not be negative.");
+        }
+        this.idleDelay = idleDelay;
+    }
+
+    /**
+     * Returns the number of rows, above and below the selected cell, that have DOMElements whilst the Viewport moves.
+     * @return
+     */
+    public int getSelectionProximity() {
+        return selectionProximity;
+    }
+
+    public void setSelectionProximity(final int selectionProximity) {
+        if (selectionProximity < 0) {
+            throw new IllegalArgumentException("selectionProximity must not be negative.");
+        }
+        this.selectionProximity = selectionProximity;
+    }
+
+    /**
+     * Whether the cell should be rendered with a DOMElement. This is invoked for each visible cell as the column
+     * is rendered and tracks movement of the Viewport from the cells' render context.
+     * @param context The render context of the cell.
+     * @return true if a DOMElement should be attached; false if the cell should be painted on the canvas.
+     */
+    public boolean isDOMElementRequired(final GridBodyCellRenderContext context) {
+        final long now = now();
+        trackViewport(context.getTransform(),
+                      now);
+        if (isMoving && now - lastMovedTime >= idleDelay) {
+            isMoving = false;
+        }
+        if (!isMoving) {
+            return true;
+        }
+        return isNearSelection(context);
+    }
+
+    /**
+     * Whether the Viewport has moved within the last {@link #getIdleDelay()}.
+     * @return
+     */
+    public boolean isMoving() {
+        return isMoving;
+    }
+
+    private void trackViewport(final Transform transform,
+                               final long now) {
+        final double translateX = transform.getTranslateX();
+        final double translateY = transform.getTranslateY();
+        final double scaleX = transform.getScaleX();
+        final double scaleY = transform.getScaleY();
+        if (isTransformKnown && translateX == this.translateX && translateY == this.translateY && scaleX == this.scaleX && scaleY == this.scaleY) {
+            return;
+        }
+        //The first frame is drawn with DOMElements
+        if (isTransformKnown) {
+            isMoving = true;
+            lastMovedTime = now;
+            if (!isIdleRedrawScheduled) {
+                scheduleIdleRedraw(idleDelay);
+            }
+        }
+        isTransformKnown = true;
+        this.translateX = translateX;
+        this.translateY = translateY;
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
+    }
+
+    private boolean isNearSelection(final GridBodyCellRenderContext context) {
+        final GridData.SelectedCell origin = gridWidget.getModel().getSelectedCellsOrigin();
+        if (origin == null) {
+            return false;
+        }
+        //Selections hold the model index of a column; whereas cells are rendered with that of the UI
+        final int uiColumnIndex = ColumnIndexUtilities.findUiColumnIndex(gridWidget.getModel().getColumns(),
+                                                                         origin.getColumnIndex());
+        if (uiColumnIndex != context.getColumnIndex()) {
+            return false;
+        }
+        return Math.abs(origin.getRowIndex() - context.getRowIndex()) <= selectionProximity;
+    }
+
+    private void scheduleIdleRedraw(final int delay) {
+        isIdleRedrawScheduled = true;
+        schedule(() -> {
+                     //The Viewport may have moved again since the redraw was scheduled
+                     final long remaining = idleDelay - (now() - lastMovedTime);
+                     if (remaining > 0) {
+                         scheduleIdleRedraw((int) remaining);
+                         return;
+                     }
+                     isIdleRedrawScheduled = false;
+                     gridLayer.batch();
+                 },
+                 delay);
+    }
+
+    void schedule(final Command command,
+                  final int delay) {
+        Scheduler.get().scheduleFixedDelay(() -> {
+                                               command.execute();
+                                               return false;
+                                           },
+                                           delay);
+    }
+
+    long now() {
+        return System.nanoTime() / 1_000_000L;
+    }
+}
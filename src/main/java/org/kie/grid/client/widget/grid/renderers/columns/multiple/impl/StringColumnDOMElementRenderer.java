@@ -16,10 +16,13 @@
 package org.kie.grid.client.widget.grid.renderers.columns.multiple.impl;
 
 import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.client.core.shape.Text;
+import com.ait.lienzo.shared.core.types.TextAlign;
 import org.gwtbootstrap3.client.ui.TextBox;
 import org.kie.grid.client.model.GridCell;
 import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
 import org.kie.grid.client.widget.dom.multiple.impl.TextBoxDOMElementFactory;
+import org.kie.grid.client.widget.grid.renderers.themes.GridRendererTheme;
 import org.kie.grid.client.model.GridCell;
 import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
 import org.kie.grid.client.widget.dom.impl.TextBoxDOMElement;
@@ -27,6 +30,9 @@ import org.kie.grid.client.widget.dom.multiple.impl.TextBoxDOMElementFactory;
 
 public class StringColumnDOMElementRenderer extends BaseGridColumnMultipleDOMElementRenderer<String, TextBox, TextBoxDOMElement> {
 
+    //Matches the padding of TextBoxDOMElement's container and TextBox
+    private static final double TEXT_PADDING = 8.0;
+
     public StringColumnDOMElementRenderer(final TextBoxDOMElementFactory factory) {
         super(factory);
     }
@@ -37,10 +43,38 @@ public class StringColumnDOMElementRenderer extends BaseGridColumnMultipleDOMEle
         if (cell == null || cell.getValue() == null) {
             return null;
         }
+        if (!isDOMElementRequired(context)) {
+            return renderCellOnCanvas(cell,
+                                      context);
+        }
         final Group g = new Group();
         factory.attachDomElement(context,
                                  e -> e.getWidget().setValue(cell.getValue().getValue()),
                                  e -> { });
         return g;
     }
+
+    /**
+     * Paint the value of the cell as text, left aligned like that of the TextBox.
+     * @param cell
+     * @param context
+     * @return
+     */
+    protected Group renderCellOnCanvas(final GridCell<String> cell,
+                                       final GridBodyCellRenderContext context) {
+        final String value = cell.getValue().getValue();
+        if (value == null) {
+            return null;
+        }
+        final GridRendererTheme theme = context.getRenderer().getTheme();
+        final Group g = new Group();
+        final Text t = theme.getBodyText();
+        t.setText(value);
+        t.setListening(false);
+        t.setTextAlign(TextAlign.LEFT);
+        t.setX(TEXT_PADDING);
+        t.setY(context.getCellHeight() / 2);
+        g.add(t);
+        return g;
+    }
 }
@@ -63,6 +63,13 @@ public interface GridRenderer {
 
     }
 
+    /**
+     * Command to render the "Highlighted cells" component of the grid
+     */
+    interface RenderHighlightedCellsCommand extends RendererCommand {
+
+    }
+
     /**
      * Command to render the "Grid boundary" components of the grid
      */
@@ -173,6 +180,20 @@ public interface GridRenderer {
                                         final GridBodyRenderContext context,
                                         final BaseGridRendererHelper rendererHelper);
 
+    /**
+     * Renders highlights for visible cells matching search text and append to the Body Group.
+     * See {@link GridData#findAll(String, int, int)}.
+     * @param model The data model for the GridWidget.
+     * @param context The context of the render phase.
+     * @param rendererHelper Helper for rendering.
+     * @param text The search text.
+     * @return A command that adds the "highlighted cells".
+     */
+    RendererCommand renderHighlightedCells(final GridData model,
+                                           final GridBodyRenderContext context,
+                                           final BaseGridRendererHelper rendererHelper,
+                                           final String text);
+
     /**
      * Renders the header for the Grid.
      * @param model The data model for the GridWidget.
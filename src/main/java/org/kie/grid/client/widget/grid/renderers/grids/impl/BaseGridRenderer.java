@@ -28,6 +28,7 @@ import com.ait.lienzo.client.core.shape.Text;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.types.Point2DArray;
 import com.ait.lienzo.client.core.types.Transform;
+import org.kie.grid.client.model.GridCell;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
 import org.kie.grid.client.widget.context.GridBodyColumnRenderContext;
@@ -197,6 +198,87 @@ public class BaseGridRenderer implements GridRenderer {
         return cellSelector;
     }
 
+    @Override
+    public RendererCommand renderHighlightedCells(final GridData model,
+                                                  final GridBodyRenderContext context,
+                                                  final BaseGridRendererHelper rendererHelper,
+                                                  final String text) {
+        return (RenderHighlightedCellsCommand) (rc) -> {
+            if (!rc.isSelectionLayer()) {
+                final List<GridColumn<?>> blockColumns = context.getBlockColumns();
+                final double gridLineStrokeWidth = theme.getBodyGridLine().getStrokeWidth();
+                final int minVisibleUiRowIndex = context.getMinVisibleRowIndex();
+                final int maxVisibleUiRowIndex = context.getMaxVisibleRowIndex();
+
+                final Group g = new Group();
+                for (GridData.SelectedCell hit : model.findAll(text,
+                                                               minVisibleUiRowIndex,
+                                                               maxVisibleUiRowIndex)) {
+                    //Hits are in all columns; only render those in this block
+                    int blockColumnIndex = -1;
+                    for (int i = 0; i < blockColumns.size(); i++) {
+                        if (blockColumns.get(i).getIndex() == hit.getColumnIndex()) {
+                            blockColumnIndex = i;
+                            break;
+                        }
+                    }
+                    if (blockColumnIndex < 0) {
+                        continue;
+                    }
+
+                    //Merged cells are rendered by the first visible row of the block
+                    final int rowIndex = hit.getRowIndex();
+                    if (rowIndex > minVisibleUiRowIndex && isMergedWithPreviousCell(model,
+                                                                                    rowIndex,
+                                                                                    hit.getColumnIndex())) {
+                        continue;
+                    }
+                    double height = model.getRow(rowIndex).getHeight();
+                    for (int i = rowIndex + 1; i <= maxVisibleUiRowIndex && isMergedWithPreviousCell(model,
+                                                                                                   i,
+                                                                                                   hit.getColumnIndex()); i++) {
+                        height = height + model.getRow(i).getHeight();
+                    }
+
+                    final GridColumn<?> column = blockColumns.get(blockColumnIndex);
+                    final Group ch = renderHighlightedCell(column.getWidth() - gridLineStrokeWidth,
+                                                           height - gridLineStrokeWidth);
+                    if (ch != null) {
+                        final double chx = rendererHelper.getColumnOffset(blockColumns,
+                                                                          blockColumnIndex);
+                        final double chy = rendererHelper.getRowOffset(rowIndex) - rendererHelper.getRowOffset(minVisibleUiRowIndex);
+                        ch.setX(chx + gridLineStrokeWidth)
+                                .setY(chy + gridLineStrokeWidth)
+                                .setListening(false);
+                        g.add(ch);
+                    }
+                }
+                rc.getGroup().add(g);
+            }
+        };
+    }
+
+    protected Group renderHighlightedCell(final double width,
+                                          final double height) {
+        final Group cellHighlight = new Group();
+        final Rectangle highlight = theme.getCellHighlight()
+                .setWidth(width)
+                .setHeight(height)
+                .setListening(false);
+        cellHighlight.add(highlight);
+        return cellHighlight;
+    }
+
+    private boolean isMergedWithPreviousCell(final GridData model,
+                                             final int rowIndex,
+                                             final int _columnIndex) {
+        if (!model.isMerged()) {
+            return false;
+        }
+        final GridCell<?> cell = model.getRow(rowIndex).getCells().get(_columnIndex);
+        return cell != null && cell.getMergedCellCount() == 0;
+    }
+
     double getSelectedRangeWidth(final List<GridColumn<?>> blockColumns,
                                  final int minVisibleUiColumnIndex,
                                  final SelectedRange selectedRange) {
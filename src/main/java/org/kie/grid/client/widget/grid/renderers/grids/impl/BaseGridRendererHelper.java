@@ -24,6 +24,7 @@ import org.kie.grid.client.model.Bounds;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
 import org.kie.grid.client.model.GridRow;
+import org.kie.grid.client.widget.grid.GridRenderStats;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
 import org.kie.grid.client.widget.layer.GridLayer;
@@ -34,11 +35,32 @@ import org.kie.grid.client.widget.layer.GridLayer;
 public class BaseGridRendererHelper {
 
     private final GridWidget view;
+    private double overscanHeight = 0.0;
 
     public BaseGridRendererHelper(final GridWidget view) {
         this.view = Objects.requireNonNull(view, "view");
     }
 
+    /**
+     * Sets an additional height, below the visible bounds, within which rows are also rendered. This
+     * allows content that is not yet visible to be drawn from a snapshot when rows above it are resized.
+     * @param overscanHeight The additional height. Zero renders only the visible rows.
+     */
+    public void setOverscanHeight(final double overscanHeight) {
+        if (overscanHeight < 0) {
+            throw new IllegalArgumentException("overscanHeight cannot be negative.");
+        }
+        this.overscanHeight = overscanHeight;
+    }
+
+    /**
+     * Returns measurements of the frame being rendered.
+     * @return The measurements, or null if they are not being collected.
+     */
+    public GridRenderStats getRenderStats() {
+        return view.getRenderStats();
+    }
+
     /**
      * Get the x-offset for a given Column in the model relative to zero.
      * @param column The GridColumn.
@@ -106,13 +128,8 @@ public class BaseGridRendererHelper {
      * @return
      */
     public double getRowOffset(final int rowIndex) {
-        double rowOffset = 0;
         final GridData model = view.getModel();
-        for (int i = 0; i < rowIndex; i++) {
-            final GridRow row = model.getRow(i);
-            rowOffset = rowOffset + row.getHeight();
-        }
-        return rowOffset;
+        return model.getRowOffset(rowIndex);
     }
 
     /**
@@ -183,23 +200,14 @@ public class BaseGridRendererHelper {
         }
 
         //Identify rows to render
-        GridRow row;
         int minVisibleRowIndex = 0;
+        int maxVisibleRowIndex = 0;
         if (model.getRowCount() > 0) {
-            double clipTop = vpY - view.getAbsoluteY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
-            while ((row = model.getRow(minVisibleRowIndex)).getHeight() < clipTop && minVisibleRowIndex < model.getRowCount() - 1) {
-                clipTop = clipTop - row.getHeight();
-                minVisibleRowIndex++;
-            }
-        }
-
-        int maxVisibleRowIndex = minVisibleRowIndex;
-        if (model.getRowCount() > 0) {
-            double clipBottom = vpY - view.getAbsoluteY() - renderer.getHeaderHeight() + vpHeight - getRowOffset(minVisibleRowIndex);
-            while ((row = model.getRow(maxVisibleRowIndex)).getHeight() < clipBottom && maxVisibleRowIndex < model.getRowCount() - 1) {
-                clipBottom = clipBottom - row.getHeight();
-                maxVisibleRowIndex++;
-            }
+            final double clipTop = vpY - view.getAbsoluteY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
+            final double clipBottom = vpY - view.getAbsoluteY() - renderer.getHeaderHeight() + vpHeight + overscanHeight;
+            minVisibleRowIndex = model.findRowIndex(clipTop);
+            maxVisibleRowIndex = Math.max(minVisibleRowIndex,
+                                          model.findRowIndex(clipBottom));
         }
 
         //Identify columns to render
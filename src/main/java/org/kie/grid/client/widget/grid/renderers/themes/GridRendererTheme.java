@@ -19,6 +19,7 @@ import com.ait.lienzo.client.core.shape.Line;
 import com.ait.lienzo.client.core.shape.MultiPath;
 import com.ait.lienzo.client.core.shape.Rectangle;
 import com.ait.lienzo.client.core.shape.Text;
+import com.ait.lienzo.shared.core.types.ColorName;
 import org.kie.grid.client.model.GridColumn;
 
 /**
@@ -51,6 +52,16 @@ public interface GridRendererTheme {
      */
     Rectangle getCellSelectorBackground();
 
+    /**
+     * Returns the background of cells highlighted as matching search text.
+     * @return A {@link Rectangle} for the highlight
+     */
+    default Rectangle getCellHighlight() {
+        return new Rectangle(0, 0)
+                .setFillColor(ColorName.YELLOW)
+                .setAlpha(0.5);
+    }
+
     /**
      * Delegates the Header's background Rectangle to sub-classes.
      * @param column The column being rendered.
@@ -16,6 +16,8 @@
 
 package org.kie.grid.client.widget.grid.selections;
 
+import java.util.function.Consumer;
+
 import com.ait.lienzo.client.core.types.Point2D;
 
 /**
@@ -79,4 +81,20 @@ public interface CellSelectionManager {
      */
     boolean startEditingCell(final int uiRowIndex,
                              final int uiColumnIndex);
+
+    /**
+     * Copies the values of selected cells as tab-separated values, a line per row. The text is produced in chunks
+     * as the selected ranges are read, hence large selections can be copied without holding a list of every cell.
+     * @param chunks Receives the text, in order, in chunks.
+     */
+    void copySelectedCells(final Consumer<String> chunks);
+
+    /**
+     * Pastes tab-separated values, such as those copied with {@link #copySelectedCells(Consumer)} or from a
+     * spreadsheet, into the grid with the first value in the origin of the selected cells. The values are parsed
+     * and set in a single update of the model, after which the grid is redrawn once.
+     * @param text The tab-separated values.
+     * @return true if cells were changed.
+     */
+    boolean pasteCells(final String text);
 }
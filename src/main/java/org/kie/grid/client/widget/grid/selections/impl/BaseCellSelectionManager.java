@@ -16,9 +16,12 @@
 
 package org.kie.grid.client.widget.grid.selections.impl;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.ait.lienzo.client.core.shape.Group;
 import com.ait.lienzo.client.core.types.Point2D;
@@ -26,12 +29,15 @@ import org.kie.grid.client.model.GridCell;
 import org.kie.grid.client.model.GridCellValue;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.impl.BaseGridCellValue;
 import org.kie.grid.client.util.ColumnIndexUtilities;
 import org.kie.grid.client.util.CoordinateUtilities;
 import org.kie.grid.client.widget.context.GridBodyCellEditContext;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
+import org.kie.grid.client.widget.grid.renderers.grids.SelectionsTransformer;
 import org.kie.grid.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
+import org.kie.grid.client.widget.grid.renderers.grids.impl.DefaultSelectionsTransformer;
 import org.kie.grid.client.widget.grid.selections.CellSelectionManager;
 import org.kie.grid.client.widget.grid.selections.CellSelectionStrategy;
 import org.kie.grid.client.widget.grid.selections.SelectionExtension;
@@ -279,6 +285,73 @@ public class BaseCellSelectionManager implements CellSelectionManager {
                     Optional.empty());
     }
 
+    @Override
+    public void copySelectedCells(final Consumer<String> chunks) {
+        final SelectionsTransformer transformer = new DefaultSelectionsTransformer(gridModel,
+                                                                                   gridModel.getColumns());
+        new TsvWriter(gridModel,
+                      chunks).write(transformer.transformToSelectedRanges());
+    }
+
+    @Override
+    public boolean pasteCells(final String text) {
+        final GridData.SelectedCell origin = gridModel.getSelectedCellsOrigin();
+        if (origin == null) {
+            return false;
+        }
+        final TsvReader reader = new TsvReader(text);
+        if (!reader.hasNext()) {
+            return false;
+        }
+
+        //Values are set in visible columns, consistent with those copied
+        final List<GridColumn<?>> columns = gridModel.getColumns();
+        final int uiColumnIndex = ColumnIndexUtilities.findUiColumnIndex(columns,
+                                                                         origin.getColumnIndex());
+        final List<GridColumn<?>> pastedColumns = new ArrayList<>();
+        for (int i = uiColumnIndex; i < columns.size(); i++) {
+            if (columns.get(i).isVisible()) {
+                pastedColumns.add(columns.get(i));
+            }
+        }
+
+        gridModel.setCellValues(origin.getRowIndex(),
+                                uiColumnIndex,
+                                new Iterator<List<GridCellValue<?>>>() {
+                                    @Override
+                                    public boolean hasNext() {
+                                        return reader.hasNext();
+                                    }
+
+                                    @Override
+                                    public List<GridCellValue<?>> next() {
+                                        final List<String> texts = reader.next();
+                                        final List<GridCellValue<?>> values = new ArrayList<>();
+                                        final int columnCount = Math.min(texts.size(),
+                                                                         pastedColumns.size());
+                                        for (int i = 0; i < columnCount; i++) {
+                                            final String text = texts.get(i);
+                                            values.add(text.isEmpty() ? null : makeCellValue(pastedColumns.get(i),
+                                                                                             text));
+                                        }
+                                        return values;
+                                    }
+                                });
+        gridWidget.getLayer().batch();
+        return true;
+    }
+
+    /**
+     * Converts pasted text into the value of a cell. Override to convert text into the type of value held by a column.
+     * @param column The column containing the cell.
+     * @param text The pasted text; never empty as empty text deletes the cell.
+     * @return The value.
+     */
+    protected GridCellValue<?> makeCellValue(final GridColumn<?> column,
+                                             final String text) {
+        return new BaseGridCellValue<>(text);
+    }
+
     private BaseGridRendererHelper.ColumnInformation getFloatingColumnInformation(final int uiColumnIndex) {
         final GridColumn<?> column = gridModel.getColumns().get(uiColumnIndex);
         final BaseGridRendererHelper rendererHelper = gridWidget.getRendererHelper();
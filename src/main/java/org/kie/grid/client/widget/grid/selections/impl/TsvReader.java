@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid.selections.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Reads tab-separated values a line at a time, such that rows can be applied as they are parsed rather than
+ * parsing all text beforehand. Lines end with either "\n" or "\r\n" and a line break at the end of the text does not
+ * start another row. Values can be quoted, as written by {@link TsvWriter} and by spreadsheets, to contain tabs,
+ * line breaks and quotes; the latter escaped by doubling them.
+ */
+public class TsvReader implements Iterator<List<String>> {
+
+    private final CharSequence text;
+    private int position = 0;
+
+    public TsvReader(final CharSequence text) {
+        this.text = Objects.requireNonNull(text, "text");
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < text.length();
+    }
+
+    @Override
+    public List<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        while (position < text.length()) {
+            final char c = text.charAt(position++);
+            if (isQuoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (position < text.length() && text.charAt(position) == '"') {
+                    value.append(c);
+                    position++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"' && value.length() == 0) {
+                isQuoted = true;
+            } else if (c == '\t') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r' && position < text.length() && text.charAt(position) == '\n') {
+                position++;
+                break;
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
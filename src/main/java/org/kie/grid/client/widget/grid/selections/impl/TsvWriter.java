@@ -0,0 +1,169 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid.selections.impl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridColumn;
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.GridRow;
+import org.kie.grid.client.widget.grid.renderers.grids.impl.SelectedRange;
+
+/**
+ * Writes the values of selected cells as tab-separated values. Cells are read directly from the model, by range,
+ * and written into a buffer that is handed on in chunks; hence copying a large selection needs neither a list of
+ * the selected cells nor the complete text. Values containing tabs, line breaks or quotes are quoted.
+ */
+public class TsvWriter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+
+    private final GridData model;
+    private final int chunkSize;
+    private final Consumer<String> chunks;
+    private final StringBuilder buffer = new StringBuilder();
+
+    public TsvWriter(final GridData model,
+                     final Consumer<String> chunks) {
+        this(model,
+             DEFAULT_CHUNK_SIZE,
+             chunks);
+    }
+
+    /**
+     * @param model The grid from which to read cells.
+     * @param chunkSize The number of characters to buffer before handing them on.
+     * @param chunks Receives the text, in order, in chunks of approximately chunkSize characters.
+     */
+    public TsvWriter(final GridData model,
+                     final int chunkSize,
+                     final Consumer<String> chunks) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive.");
+        }
+        this.model = Objects.requireNonNull(model, "model");
+        this.chunkSize = chunkSize;
+        this.chunks = Objects.requireNonNull(chunks, "chunks");
+    }
+
+    /**
+     * Writes the cells within the bounds of the given ranges, a line per row. Cells within the bounds that are not
+     * in any range are written empty. Hidden columns and collapsed rows are not written.
+     * @param ranges Ranges of selected cells, in UI coordinates, as returned by a
+     * {@link org.kie.grid.client.widget.grid.renderers.grids.SelectionsTransformer}.
+     */
+    public void write(final List<SelectedRange> ranges) {
+        if (ranges.isEmpty()) {
+            return;
+        }
+        int minUiRowIndex = Integer.MAX_VALUE;
+        int maxUiRowIndex = Integer.MIN_VALUE;
+        int minUiColumnIndex = Integer.MAX_VALUE;
+        int maxUiColumnIndex = Integer.MIN_VALUE;
+        for (SelectedRange range : ranges) {
+            minUiRowIndex = Math.min(minUiRowIndex,
+                                     range.getUiRowIndex());
+            maxUiRowIndex = Math.max(maxUiRowIndex,
+                                     range.getUiRowIndex() + range.getHeight() - 1);
+            minUiColumnIndex = Math.min(minUiColumnIndex,
+                                        range.getUiColumnIndex());
+            maxUiColumnIndex = Math.max(maxUiColumnIndex,
+                                        range.getUiColumnIndex() + range.getWidth() - 1);
+        }
+
+        final List<GridColumn<?>> columns = model.getColumns();
+        for (int uiRowIndex = minUiRowIndex; uiRowIndex <= maxUiRowIndex; uiRowIndex++) {
+            final GridRow row = model.getRow(uiRowIndex);
+            if (row.isCollapsed()) {
+                continue;
+            }
+            boolean isFirstColumn = true;
+            for (int uiColumnIndex = minUiColumnIndex; uiColumnIndex <= maxUiColumnIndex; uiColumnIndex++) {
+                final GridColumn<?> column = columns.get(uiColumnIndex);
+                if (!column.isVisible()) {
+                    continue;
+                }
+                if (!isFirstColumn) {
+                    buffer.append('\t');
+                }
+                isFirstColumn = false;
+                if (isSelected(ranges,
+                               uiRowIndex,
+                               uiColumnIndex)) {
+                    appendValue(row.getCells().get(column.getIndex()));
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= chunkSize) {
+                flush();
+            }
+        }
+        flush();
+    }
+
+    private static boolean isSelected(final List<SelectedRange> ranges,
+                                      final int uiRowIndex,
+                                      final int uiColumnIndex) {
+        for (SelectedRange range : ranges) {
+            if (uiRowIndex >= range.getUiRowIndex() && uiRowIndex < range.getUiRowIndex() + range.getHeight()) {
+                if (uiColumnIndex >= range.getUiColumnIndex() && uiColumnIndex < range.getUiColumnIndex() + range.getWidth()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void appendValue(final GridCell<?> cell) {
+        if (cell == null || cell.getValue() == null || cell.getValue().getValue() == null) {
+            return;
+        }
+        final String text = cell.getValue().getValue().toString();
+        if (!isQuotingRequired(text)) {
+            buffer.append(text);
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+
+    private static boolean isQuotingRequired(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '\t' || c == '\n' || c == '\r' || c == '"') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void flush() {
+        if (buffer.length() > 0) {
+            chunks.accept(buffer.toString());
+            buffer.setLength(0);
+        }
+    }
+}
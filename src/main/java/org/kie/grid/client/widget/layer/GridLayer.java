@@ -30,6 +30,7 @@ import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.layer.pinning.GridPinnedModeManager;
 import org.kie.grid.client.model.Bounds;
 import org.kie.grid.client.widget.dnd.GridWidgetDnDHandlersState;
+import org.kie.grid.client.widget.dom.impl.DOMElementUpdateBatcher;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.layer.impl.GridLayerRedrawManager;
 import org.kie.grid.client.widget.layer.pinning.GridPinnedModeManager;
@@ -71,6 +72,19 @@ public interface GridLayer extends GridSelectionManager,
      */
     void setDomElementContainer(final AbsolutePanel getDomElementContainer);
 
+    /**
+     * Get the batcher of updates to DOMElements within the overlay panel.
+     * @return The batcher, or null if DOMElements are updated immediately.
+     */
+    DOMElementUpdateBatcher getDomElementUpdateBatcher();
+
+    /**
+     * Set a reference to the batcher of updates to DOMElements within the overlay panel. Updates
+     * collected whilst the Layer is drawn are written to the DOM when drawing ends.
+     * @param domElementUpdateBatcher The batcher
+     */
+    void setDomElementUpdateBatcher(final DOMElementUpdateBatcher domElementUpdateBatcher);
+
     /**
      * Redraw the Grid. All updates are batched into a single draw on the next animation
      * frame. Execute the provided command after the batch redraw has been scheduled.
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.layer;
+
+import org.kie.grid.client.widget.grid.GridRenderStats;
+import org.kie.grid.client.widget.grid.GridWidget;
+
+/**
+ * Listener for measurements of frames drawn by GridWidgets on a GridLayer.
+ */
+public interface GridRenderStatsListener {
+
+    /**
+     * Called once a GridWidget has drawn a frame.
+     * @param gridWidget The GridWidget.
+     * @param stats Measurements of the frame; only valid until the GridWidget next draws.
+     */
+    void onFrame(final GridWidget gridWidget,
+                 final GridRenderStats stats);
+}
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import com.ait.lienzo.client.core.event.NodeMouseDownEvent;
@@ -59,11 +60,14 @@ import org.kie.grid.client.widget.dnd.GridWidgetDnDHandlersState;
 import org.kie.grid.client.widget.dnd.GridWidgetDnDMouseDownHandler;
 import org.kie.grid.client.widget.dnd.GridWidgetDnDMouseMoveHandler;
 import org.kie.grid.client.widget.dnd.GridWidgetDnDMouseUpHandler;
+import org.kie.grid.client.widget.dom.impl.DOMElementUpdateBatcher;
 import org.kie.grid.client.widget.dom.single.HasSingletonDOMElementResource;
+import org.kie.grid.client.widget.grid.GridRenderStats;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.animation.GridWidgetScrollIntoViewAnimation;
 import org.kie.grid.client.widget.grid.impl.GridWidgetConnector;
 import org.kie.grid.client.widget.layer.GridLayer;
+import org.kie.grid.client.widget.layer.GridRenderStatsListener;
 import org.kie.grid.client.widget.layer.GridWidgetRegistry;
 import org.kie.grid.client.widget.layer.pinning.TransformMediator;
 import org.kie.grid.client.widget.layer.pinning.impl.BoundaryTransformMediator;
@@ -86,6 +90,7 @@ public class DefaultGridLayer extends Layer implements GridLayer,
     private Set<GridWidget> explicitGridWidgets = new LinkedHashSet<>();
     private Set<GridWidget> registeredGridWidgets = new LinkedHashSet<>();
     private Map<GridWidgetConnector, Line> gridWidgetConnectors = new HashMap<>();
+    private List<GridRenderStatsListener> renderStatsListeners = new ArrayList<>();
     private final GridLayerRedrawManager.PrioritizedCommand REDRAW = new GridLayerRedrawManager.PrioritizedCommand(Integer.MIN_VALUE) {
         @Override
         public void execute() {
@@ -93,6 +98,7 @@ public class DefaultGridLayer extends Layer implements GridLayer,
         }
     };
     private AbsolutePanel domElementContainer;
+    private DOMElementUpdateBatcher domElementUpdateBatcher;
     private Bounds bounds;
 
     public DefaultGridLayer() {
@@ -168,7 +174,18 @@ public class DefaultGridLayer extends Layer implements GridLayer,
         //We use Layer.batch() to ensure rendering is tied to the browser's requestAnimationFrame()
         //however this calls back into Layer.draw() so update dependent Shapes here.
         updateGridWidgetConnectors();
-        return super.draw();
+
+        //Collect updates to DOMElements as GridWidgets are drawn and write them to the DOM together
+        final DOMElementUpdateBatcher batcher = domElementUpdateBatcher;
+        if (batcher == null) {
+            return super.draw();
+        }
+        batcher.begin();
+        try {
+            return super.draw();
+        } finally {
+            batcher.end();
+        }
     }
 
     @Override
@@ -229,6 +246,9 @@ public class DefaultGridLayer extends Layer implements GridLayer,
                 register(gridWidget);
                 explicitGridWidgets.add(gridWidget);
                 addGridWidgetConnectors();
+                if (!renderStatsListeners.isEmpty()) {
+                    gridWidget.setRenderStatsEnabled(true);
+                }
             }
         }
     }
@@ -515,6 +535,42 @@ public class DefaultGridLayer extends Layer implements GridLayer,
                                  (viewport.getWidth() - PADDING * 2) / transform.getScaleY()));
     }
 
+    /**
+     * Adds a listener for measurements of frames drawn by GridWidgets added to this Layer. Collection of
+     * measurements is enabled on the GridWidgets whilst there are listeners.
+     * @param listener The listener.
+     */
+    public void addRenderStatsListener(final GridRenderStatsListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        renderStatsListeners.add(listener);
+        explicitGridWidgets.forEach(gridWidget -> gridWidget.setRenderStatsEnabled(true));
+    }
+
+    /**
+     * Removes a listener for measurements of frames. Collection of measurements is disabled on GridWidgets
+     * added to this Layer once there are no listeners.
+     * @param listener The listener.
+     */
+    public void removeRenderStatsListener(final GridRenderStatsListener listener) {
+        renderStatsListeners.remove(listener);
+        if (renderStatsListeners.isEmpty()) {
+            explicitGridWidgets.forEach(gridWidget -> gridWidget.setRenderStatsEnabled(false));
+        }
+    }
+
+    /**
+     * Notifies listeners that a GridWidget has drawn a frame.
+     * @param gridWidget The GridWidget.
+     * @param stats Measurements of the frame.
+     */
+    public void fireRenderStats(final GridWidget gridWidget,
+                                final GridRenderStats stats) {
+        for (GridRenderStatsListener listener : renderStatsListeners) {
+            listener.onFrame(gridWidget,
+                             stats);
+        }
+    }
+
     @Override
     public GridWidgetDnDHandlersState getGridWidgetHandlersState() {
         return state;
@@ -529,4 +585,14 @@ public class DefaultGridLayer extends Layer implements GridLayer,
     public void setDomElementContainer(final AbsolutePanel domElementContainer) {
         this.domElementContainer = domElementContainer;
     }
+
+    @Override
+    public DOMElementUpdateBatcher getDomElementUpdateBatcher() {
+        return domElementUpdateBatcher;
+    }
+
+    @Override
+    public void setDomElementUpdateBatcher(final DOMElementUpdateBatcher domElementUpdateBatcher) {
+        this.domElementUpdateBatcher = domElementUpdateBatcher;
+    }
 }
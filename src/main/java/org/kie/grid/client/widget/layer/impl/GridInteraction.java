@@ -0,0 +1,270 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.layer.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single user interaction with a {@link GridLienzoPanel} recorded by {@link GridInteractionRecorder}. Interactions
+ * are written one per line, such that a recorded session can be saved and replayed elsewhere; for example:
+ * <pre>
+ * SCROLL 0.0 1200.0
+ * MOUSE_MOVE 312.0 18.0
+ * KEY_DOWN 40 false false
+ * CELL_EDIT 12 3 Approved
+ * </pre>
+ */
+public class GridInteraction {
+
+    public enum Type {
+        /**
+         * The Viewport moved such that grid coordinate (x, y) is at its top-left.
+         */
+        SCROLL,
+        /**
+         * The pointer moved to Viewport coordinate (x, y).
+         */
+        MOUSE_MOVE,
+        MOUSE_DOWN,
+        MOUSE_UP,
+        KEY_DOWN,
+        CELL_EDIT
+    }
+
+    private final Type type;
+    private final double x;
+    private final double y;
+    private final int keyCode;
+    private final boolean isShiftKeyDown;
+    private final boolean isControlKeyDown;
+    private final int rowIndex;
+    private final int columnIndex;
+    private final String value;
+
+    private GridInteraction(final Type type,
+                            final double x,
+                            final double y,
+                            final int keyCode,
+                            final boolean isShiftKeyDown,
+                            final boolean isControlKeyDown,
+                            final int rowIndex,
+                            final int columnIndex,
+                            final String value) {
+        this.type = type;
+        this.x = x;
+        this.y = y;
+        this.keyCode = keyCode;
+        this.isShiftKeyDown = isShiftKeyDown;
+        this.isControlKeyDown = isControlKeyDown;
+        this.rowIndex = rowIndex;
+        this.columnIndex = columnIndex;
+        this.value = value;
+    }
+
+    public static GridInteraction scroll(final double x,
+                                         final double y) {
+        return pointer(Type.SCROLL,
+                       x,
+                       y);
+    }
+
+    public static GridInteraction mouseMove(final double x,
+                                            final double y) {
+        return pointer(Type.MOUSE_MOVE,
+                       x,
+                       y);
+    }
+
+    public static GridInteraction mouseDown(final double x,
+                                            final double y) {
+        return pointer(Type.MOUSE_DOWN,
+                       x,
+                       y);
+    }
+
+    public static GridInteraction mouseUp(final double x,
+                                          final double y) {
+        return pointer(Type.MOUSE_UP,
+                       x,
+                       y);
+    }
+
+    public static GridInteraction keyDown(final int keyCode,
+                                          final boolean isShiftKeyDown,
+                                          final boolean isControlKeyDown) {
+        return new GridInteraction(Type.KEY_DOWN,
+                                   0,
+                                   0,
+                                   keyCode,
+                                   isShiftKeyDown,
+                                   isControlKeyDown,
+                                   -1,
+                                   -1,
+                                   null);
+    }
+
+    public static GridInteraction cellEdit(final int rowIndex,
+                                           final int columnIndex,
+                                           final String value) {
+        return new GridInteraction(Type.CELL_EDIT,
+                                   0,
+                                   0,
+                                   -1,
+                                   false,
+                                   false,
+                                   rowIndex,
+                                   columnIndex,
+                                   Objects.requireNonNull(value, "value"));
+    }
+
+    private static GridInteraction pointer(final Type type,
+                                           final double x,
+                                           final double y) {
+        return new GridInteraction(type,
+                                   x,
+                                   y,
+                                   -1,
+                                   false,
+                                   false,
+                                   -1,
+                                   -1,
+                                   null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public int getKeyCode() {
+        return keyCode;
+    }
+
+    public boolean isShiftKeyDown() {
+        return isShiftKeyDown;
+    }
+
+    public boolean isControlKeyDown() {
+        return isControlKeyDown;
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Parses interactions written one per line by {@link #toString()}. Blank lines are ignored.
+     * @param script The interactions.
+     * @return The interactions in the order written.
+     * @throws IllegalArgumentException if a line is not an interaction.
+     */
+    public static List<GridInteraction> parse(final String script) {
+        final List<GridInteraction> interactions = new ArrayList<>();
+        for (String line : script.split("\n")) {
+            if (!line.trim().isEmpty()) {
+                interactions.add(parseLine(line.trim()));
+            }
+        }
+        return interactions;
+    }
+
+    private static GridInteraction parseLine(final String line) {
+        final String[] parts = line.split(" ",
+                                          4);
+        try {
+            final Type type = Type.valueOf(parts[0]);
+            switch (type) {
+                case KEY_DOWN:
+                    return keyDown(Integer.parseInt(parts[1]),
+                                   Boolean.parseBoolean(parts[2]),
+                                   Boolean.parseBoolean(parts[3]));
+                case CELL_EDIT:
+                    return cellEdit(Integer.parseInt(parts[1]),
+                                    Integer.parseInt(parts[2]),
+                                    parts.length == 4 ? parts[3] : "");
+                default:
+                    return pointer(type,
+                                   Double.parseDouble(parts[1]),
+                                   Double.parseDouble(parts[2]));
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Not an interaction: " + line);
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case KEY_DOWN:
+                return type + " " + keyCode + " " + isShiftKeyDown + " " + isControlKeyDown;
+            case CELL_EDIT:
+                return type + " " + rowIndex + " " + columnIndex + " " + value.replace('\n',
+                                                                                          ' ');
+            default:
+                return type + " " + x + " " + y;
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final GridInteraction that = (GridInteraction) o;
+        return type == that.type &&
+                Double.compare(that.x, x) == 0 &&
+                Double.compare(that.y, y) == 0 &&
+                keyCode == that.keyCode &&
+                isShiftKeyDown == that.isShiftKeyDown &&
+                isControlKeyDown == that.isControlKeyDown &&
+                rowIndex == that.rowIndex &&
+                columnIndex == that.columnIndex &&
+                Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type,
+                            x,
+                            y,
+                            keyCode,
+                            isShiftKeyDown,
+                            isControlKeyDown,
+                            rowIndex,
+                            columnIndex,
+                            value);
+    }
+}
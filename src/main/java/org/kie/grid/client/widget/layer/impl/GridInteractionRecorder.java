@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.layer.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.ait.lienzo.client.core.shape.Viewport;
+import com.ait.lienzo.client.core.types.Transform;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+
+/**
+ * Records the interactions of a user with a {@link GridLienzoPanel} and its {@link DefaultGridLayer}, such that a
+ * slow session can be saved with {@link #toScript()} and replayed as a benchmark. Pointer and keyboard events are
+ * recorded as they reach the {@link DefaultGridLayer} and {@link GridLienzoPanel}. Movement of the Viewport, by
+ * scrollbars, mouse-wheel or dragging, is recorded before the event that follows it. Cell edits are completed by
+ * DOM elements specific to each column and hence need to be recorded by the application with
+ * {@link #recordCellEdit(int, int, String)}.
+ */
+public class GridInteractionRecorder {
+
+    private final GridLienzoPanel panel;
+    private final List<GridInteraction> interactions = new ArrayList<>();
+    private final List<HandlerRegistration> registrations = new ArrayList<>();
+    private DefaultGridLayer layer;
+    private double scrollX = 0;
+    private double scrollY = 0;
+
+    public GridInteractionRecorder(final GridLienzoPanel panel) {
+        this.panel = Objects.requireNonNull(panel, "panel");
+    }
+
+    /**
+     * Starts recording; appending to any interactions already recorded.
+     * @throws IllegalStateException if already recording or no {@link DefaultGridLayer} has been added to the panel.
+     */
+    public void start() {
+        if (isRecording()) {
+            throw new IllegalStateException("Already recording.");
+        }
+        layer = panel.getDefaultGridLayer();
+        if (layer == null) {
+            throw new IllegalStateException("No DefaultGridLayer has been added to the GridLienzoPanel.");
+        }
+        scrollX = Double.NaN;
+        scrollY = Double.NaN;
+        recordScroll();
+
+        registrations.add(layer.addNodeMouseMoveHandler((e) -> record(GridInteraction.mouseMove(e.getX(),
+                                                                                                e.getY()))));
+        registrations.add(layer.addNodeMouseDownHandler((e) -> record(GridInteraction.mouseDown(e.getX(),
+                                                                                                e.getY()))));
+        registrations.add(layer.addNodeMouseUpHandler((e) -> record(GridInteraction.mouseUp(e.getX(),
+                                                                                            e.getY()))));
+        registrations.add(panel.addKeyDownHandler((e) -> record(GridInteraction.keyDown(e.getNativeKeyCode(),
+                                                                                        e.isShiftKeyDown(),
+                                                                                        e.isControlKeyDown()))));
+        registrations.add(panel.getScrollPanel().addDomHandler((e) -> recordScroll(),
+                                                               ScrollEvent.getType()));
+    }
+
+    /**
+     * Stops recording. Recorded interactions are retained.
+     */
+    public void stop() {
+        registrations.forEach(HandlerRegistration::removeHandler);
+        registrations.clear();
+    }
+
+    public boolean isRecording() {
+        return !registrations.isEmpty();
+    }
+
+    public void clear() {
+        interactions.clear();
+    }
+
+    /**
+     * Records the value of a cell being changed by the user.
+     * @param rowIndex Index of the row in the model.
+     * @param columnIndex Index of the column in the model.
+     * @param value The new value, as the user entered it.
+     */
+    public void recordCellEdit(final int rowIndex,
+                               final int columnIndex,
+                               final String value) {
+        if (isRecording()) {
+            record(GridInteraction.cellEdit(rowIndex,
+                                            columnIndex,
+                                            value));
+        }
+    }
+
+    public List<GridInteraction> getInteractions() {
+        return Collections.unmodifiableList(interactions);
+    }
+
+    /**
+     * Returns the recorded interactions, one per line, as read by {@link GridInteraction#parse(String)}.
+     * @return
+     */
+    public String toScript() {
+        final StringBuilder sb = new StringBuilder();
+        for (GridInteraction interaction : interactions) {
+            sb.append(interaction).append("\n");
+        }
+        return sb.toString();
+    }
+
+    private void record(final GridInteraction interaction) {
+        recordScroll();
+        interactions.add(interaction);
+    }
+
+    //Records the grid coordinate at the top-left of the Viewport, if it has changed
+    private void recordScroll() {
+        final Viewport viewport = layer.getViewport();
+        if (viewport == null) {
+            return;
+        }
+        //Subtracting from zero, rather than negating, avoids recording -0.0
+        final Transform transform = viewport.getTransform();
+        final double x = (0 - transform.getTranslateX()) / transform.getScaleX();
+        final double y = (0 - transform.getTranslateY()) / transform.getScaleY();
+        if (x != scrollX || y != scrollY) {
+            scrollX = x;
+            scrollY = y;
+            interactions.add(GridInteraction.scroll(x,
+                                                    y));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.TreeSet;
 
 import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.user.client.Command;
+import org.kie.grid.client.util.GridTracer;
 
 public class GridLayerRedrawManager {
 
@@ -40,6 +41,9 @@ public class GridLayerRedrawManager {
 
     private AnimationScheduler.AnimationCallback callback;
 
+    private int scheduledCount = 0;
+    private int coalescedCount = 0;
+
     private GridLayerRedrawManager() {
         callback = new AnimationScheduler.AnimationCallback() {
 
@@ -49,10 +53,18 @@ public class GridLayerRedrawManager {
                 commands = new TreeSet<PrioritizedCommand>(COMPARATOR);
 
                 if (!clone.isEmpty()) {
-                    final Iterator<PrioritizedCommand> itr = clone.iterator();
-                    while (itr.hasNext()) {
-                        final PrioritizedCommand command = itr.next();
-                        command.execute();
+                    final GridTracer tracer = GridTracer.get();
+                    final long traceStart = tracer.begin();
+                    try {
+                        final Iterator<PrioritizedCommand> itr = clone.iterator();
+                        while (itr.hasNext()) {
+                            final PrioritizedCommand command = itr.next();
+                            command.execute();
+                        }
+                    } finally {
+                        tracer.end(GridTracer.REDRAW,
+                                   "redraw",
+                                   traceStart);
                     }
                 }
             }
@@ -66,11 +78,42 @@ public class GridLayerRedrawManager {
     public void schedule(final PrioritizedCommand command) {
         Objects.requireNonNull(command, "command");
         if (!commands.contains(command)) {
+            scheduledCount++;
+            GridTracer.get().instant(GridTracer.REDRAW,
+                                     "schedule");
             commands.add(command);
             kick();
+        } else {
+            coalescedCount++;
+            GridTracer.get().instant(GridTracer.REDRAW,
+                                     "coalesce");
         }
     }
 
+    /**
+     * Returns the total number of commands scheduled.
+     * @return
+     */
+    public int getScheduledCount() {
+        return scheduledCount;
+    }
+
+    /**
+     * Returns the total number of commands not scheduled as they already were for the next animation frame.
+     * @return
+     */
+    public int getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Returns the number of commands scheduled for the next animation frame.
+     * @return
+     */
+    public int getPendingCount() {
+        return commands.size();
+    }
+
     private void kick() {
         if (commands.size() > 0) {
             AnimationScheduler.get().requestAnimationFrame(callback);
@@ -28,6 +28,7 @@ import com.google.gwt.user.client.ui.FocusPanel;
 import com.google.gwt.user.client.ui.ProvidesResize;
 import com.google.gwt.user.client.ui.RequiresResize;
 import org.kie.grid.client.model.Bounds;
+import org.kie.grid.client.widget.dom.impl.DOMElementUpdateBatcher;
 import org.kie.grid.client.widget.scrollbars.GridLienzoScrollHandler;
 import org.kie.grid.client.widget.scrollbars.GridLienzoScrollable;
 import org.kie.grid.client.model.Bounds;
@@ -46,6 +47,8 @@ public class GridLienzoPanel extends FocusPanel implements RequiresResize,
 
     protected final AbsolutePanel domElementContainer = new AbsolutePanel();
 
+    protected final DOMElementUpdateBatcher domElementUpdateBatcher = new DOMElementUpdateBatcher();
+
     private final AbsolutePanel internalScrollPanel = new AbsolutePanel();
 
     private final AbsolutePanel scrollPanel = new AbsolutePanel();
@@ -56,6 +59,8 @@ public class GridLienzoPanel extends FocusPanel implements RequiresResize,
 
     private DefaultGridLayer defaultGridLayer;
 
+    private GridPerformanceOverlay performanceOverlay;
+
     public GridLienzoPanel() {
         this(new LienzoPanel() {
             @Override
@@ -211,12 +216,58 @@ public class GridLienzoPanel extends FocusPanel implements RequiresResize,
         defaultGridLayer = setupDefaultGridLayer(layer);
 
         layer.setDomElementContainer(domElementContainer);
+        layer.setDomElementUpdateBatcher(domElementUpdateBatcher);
 
         lienzoPanel.add(defaultGridLayer);
 
+        if (performanceOverlay != null) {
+            defaultGridLayer.addRenderStatsListener(performanceOverlay);
+            performanceOverlay.moveToTop();
+        }
+
         return lienzoPanel;
     }
 
+    /**
+     * Shows or hides a {@link GridPerformanceOverlay}, on its own Layer above the {@link DefaultGridLayer}, with
+     * measurements of the frames drawn by GridWidgets. Measurements are only collected whilst it is visible.
+     * @param isVisible
+     */
+    public void setPerformanceOverlayVisible(final boolean isVisible) {
+        if (isVisible == isPerformanceOverlayVisible()) {
+            return;
+        }
+        if (isVisible) {
+            performanceOverlay = makePerformanceOverlay();
+            getLienzoPanel().add(performanceOverlay);
+            final DefaultGridLayer layer = getDefaultGridLayer();
+            if (layer != null) {
+                layer.addRenderStatsListener(performanceOverlay);
+                layer.batch();
+            }
+        } else {
+            final DefaultGridLayer layer = getDefaultGridLayer();
+            if (layer != null) {
+                layer.removeRenderStatsListener(performanceOverlay);
+            }
+            performanceOverlay.removeFromParent();
+            performanceOverlay = null;
+        }
+    }
+
+    public boolean isPerformanceOverlayVisible() {
+        return performanceOverlay != null;
+    }
+
+    GridPerformanceOverlay makePerformanceOverlay() {
+        //The LienzoPanel is the first Widget in the container; all others being DOM elements over the canvas
+        return new GridPerformanceOverlay(() -> getDomElementContainer().getWidgetCount() - 1);
+    }
+
+    GridPerformanceOverlay getPerformanceOverlay() {
+        return performanceOverlay;
+    }
+
     private DefaultGridLayer setupDefaultGridLayer(final DefaultGridLayer layer) {
         layer.addOnEnterPinnedModeCommand(this::refreshScrollPosition);
         layer.addOnExitPinnedModeCommand(this::refreshScrollPosition);
@@ -240,6 +291,10 @@ public class GridLienzoPanel extends FocusPanel implements RequiresResize,
         return domElementContainer;
     }
 
+    public DOMElementUpdateBatcher getDomElementUpdateBatcher() {
+        return domElementUpdateBatcher;
+    }
+
     public AbsolutePanel getInternalScrollPanel() {
         return internalScrollPanel;
     }
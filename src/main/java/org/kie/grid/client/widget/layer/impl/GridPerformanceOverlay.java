@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.layer.impl;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.ait.lienzo.client.core.shape.Layer;
+import com.ait.lienzo.client.core.shape.Rectangle;
+import com.ait.lienzo.client.core.shape.Text;
+import com.ait.lienzo.shared.core.types.ColorName;
+import com.ait.lienzo.shared.core.types.TextBaseLine;
+import org.kie.grid.client.util.MathUtilities;
+import org.kie.grid.client.widget.grid.GridRenderStats;
+import org.kie.grid.client.widget.grid.GridWidget;
+import org.kie.grid.client.widget.layer.GridRenderStatsListener;
+
+/**
+ * A Layer, drawn above the {@link DefaultGridLayer} of a {@link GridLienzoPanel}, showing measurements of the frames
+ * drawn by its GridWidgets: frames per second, the time of the last frame by phase, visible cells, attached DOM
+ * elements and pending redraws. Frames of all GridWidgets drawn together are shown as one. The Layer is not
+ * transformed by the Viewport, hence remains at the top-left of the panel, and does not listen for events.
+ * See {@link GridLienzoPanel#setPerformanceOverlayVisible(boolean)}.
+ */
+public class GridPerformanceOverlay extends Layer implements GridRenderStatsListener {
+
+    static final double PADDING = 5.0;
+    static final double LINE_HEIGHT = 14.0;
+    static final double WIDTH = 380.0;
+    static final long FPS_INTERVAL = 1_000_000_000L;
+
+    private final Supplier<Integer> domElementCount;
+    private final Rectangle background = new Rectangle(WIDTH,
+                                                       PADDING * 2 + LINE_HEIGHT * 5)
+            .setFillColor(ColorName.BLACK)
+            .setAlpha(0.7)
+            .setListening(false);
+    private final Text fpsText = makeText(0);
+    private final Text frameText = makeText(1);
+    private final Text cellsText = makeText(2);
+    private final Text domText = makeText(3);
+    private final Text redrawText = makeText(4);
+
+    //Measurements of the GridWidgets drawn since the overlay was last updated
+    private final double[] phaseTimes = new double[GridRenderStats.Phase.values().length];
+    private int frameCount = 0;
+    private int visibleCellCount = 0;
+    private int renderedCellCount = 0;
+    private int attachedDOMElementCount = 0;
+    private int detachedDOMElementCount = 0;
+    private int scheduledRedrawCount = 0;
+    private int coalescedRedrawCount = 0;
+
+    private boolean isFpsIntervalStarted = false;
+    private long fpsIntervalStart = 0;
+    private int fpsFrameCount = 0;
+    private double fps = 0;
+
+    /**
+     * @param domElementCount Supplies the number of DOM elements attached over the canvas.
+     */
+    public GridPerformanceOverlay(final Supplier<Integer> domElementCount) {
+        this.domElementCount = Objects.requireNonNull(domElementCount, "domElementCount");
+        setTransformable(false);
+        setListening(false);
+        add(background);
+        add(fpsText);
+        add(frameText);
+        add(cellsText);
+        add(domText);
+        add(redrawText);
+    }
+
+    private static Text makeText(final int line) {
+        final Text text = new Text("")
+                .setFillColor(ColorName.WHITE)
+                .setFontSize(11)
+                .setFontFamily("monospace")
+                .setTextBaseLine(TextBaseLine.TOP)
+                .setListening(false);
+        text.setX(PADDING);
+        text.setY(PADDING + LINE_HEIGHT * line);
+        return text;
+    }
+
+    @Override
+    public void onFrame(final GridWidget gridWidget,
+                        final GridRenderStats stats) {
+        //GridWidgets drawn before the overlay is next drawn are part of one frame
+        frameCount++;
+        for (GridRenderStats.Phase phase : GridRenderStats.Phase.values()) {
+            phaseTimes[phase.ordinal()] += stats.getTime(phase);
+        }
+        visibleCellCount += stats.getVisibleRowCount() * stats.getVisibleColumnCount();
+        renderedCellCount += stats.getRenderedCellCount();
+        attachedDOMElementCount += stats.getAttachedDOMElementCount();
+        detachedDOMElementCount += stats.getDetachedDOMElementCount();
+        scheduledRedrawCount += stats.getScheduledRedrawCount();
+        coalescedRedrawCount += stats.getCoalescedRedrawCount();
+
+        batch();
+    }
+
+    @Override
+    public Layer draw() {
+        update(System.nanoTime());
+        return super.draw();
+    }
+
+    void update(final long now) {
+        if (frameCount == 0) {
+            return;
+        }
+        if (!isFpsIntervalStarted) {
+            isFpsIntervalStarted = true;
+            fpsIntervalStart = now;
+        } else {
+            fpsFrameCount++;
+            if (now - fpsIntervalStart >= FPS_INTERVAL) {
+                fps = fpsFrameCount * (double) FPS_INTERVAL / (now - fpsIntervalStart);
+                fpsIntervalStart = now;
+                fpsFrameCount = 0;
+            }
+        }
+
+        double totalTime = 0;
+        for (double phaseTime : phaseTimes) {
+            totalTime += phaseTime;
+        }
+
+        fpsText.setText("FPS: " + MathUtilities.toOneDecimalPlace(fps));
+        frameText.setText("Frame: " + MathUtilities.toOneDecimalPlace(totalTime) + " ms" +
+                                  " (info " + MathUtilities.toOneDecimalPlace(phaseTimes[GridRenderStats.Phase.RENDERING_INFORMATION.ordinal()]) +
+                                  ", commands " + MathUtilities.toOneDecimalPlace(phaseTimes[GridRenderStats.Phase.RENDERING_COMMANDS.ordinal()]) +
+                                  ", queue " + MathUtilities.toOneDecimalPlace(phaseTimes[GridRenderStats.Phase.RENDER_QUEUE.ordinal()]) +
+                                  ", draw " + MathUtilities.toOneDecimalPlace(phaseTimes[GridRenderStats.Phase.DRAW.ordinal()]) + ")");
+        cellsText.setText("Cells: " + visibleCellCount + " visible, " + renderedCellCount + " rendered");
+        domText.setText("DOM elements: " + domElementCount.get() + " (+" + attachedDOMElementCount + " -" + detachedDOMElementCount + ")");
+        redrawText.setText("Redraws: " + GridLayerRedrawManager.get().getPendingCount() + " pending" +
+                                   " (" + scheduledRedrawCount + " scheduled, " + coalescedRedrawCount + " coalesced)");
+
+        for (int i = 0; i < phaseTimes.length; i++) {
+            phaseTimes[i] = 0;
+        }
+        frameCount = 0;
+        visibleCellCount = 0;
+        renderedCellCount = 0;
+        attachedDOMElementCount = 0;
+        detachedDOMElementCount = 0;
+        scheduledRedrawCount = 0;
+        coalescedRedrawCount = 0;
+    }
+
+    Text getFpsText() {
+        return fpsText;
+    }
+
+    Text getFrameText() {
+        return frameText;
+    }
+
+    Text getCellsText() {
+        return cellsText;
+    }
+
+    Text getDomText() {
+        return domText;
+    }
+
+    Text getRedrawText() {
+        return redrawText;
+    }
+}
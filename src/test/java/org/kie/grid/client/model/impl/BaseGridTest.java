@@ -62,6 +62,43 @@ public abstract class BaseGridTest {
         }
     }
 
+    //Each array holds the values of a column; a null value leaves its cell empty
+    protected void makeData(final boolean isMerged,
+                            final Object[]... values) {
+        constructGridData(false,
+                          values.length,
+                          values[0].length);
+        for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+            for (int rowIndex = 0; rowIndex < values[columnIndex].length; rowIndex++) {
+                final Object value = values[columnIndex][rowIndex];
+                if (value != null) {
+                    gridData.setCellValue(rowIndex,
+                                          columnIndex,
+                                          new BaseGridCellValue<>(value));
+                }
+            }
+        }
+        gridData.setMerged(isMerged);
+    }
+
+    protected void assertColumnValues(final int columnIndex,
+                                      final Object... values) {
+        assertEquals(values.length,
+                     gridData.getRowCount());
+        for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+            final GridCell<?> cell = gridData.getCell(rowIndex,
+                                                      columnIndex);
+            if (values[rowIndex] == null) {
+                assertNull("Row[" + rowIndex + "]",
+                           cell == null ? null : cell.getValue());
+            } else {
+                assertEquals("Row[" + rowIndex + "]",
+                             values[rowIndex],
+                             cell.getValue().getValue());
+            }
+        }
+    }
+
     public void assertGridIndexes(final GridData data,
                                   final boolean[] expectedRowMergeStates,
                                   final boolean[] expectedRowCollapseStates,
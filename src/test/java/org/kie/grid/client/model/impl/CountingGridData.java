@@ -0,0 +1,197 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.AbstractList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridColumn;
+import org.kie.grid.client.model.GridRow;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A {@link BaseGridData} counting the operations made upon it, its rows and its cells' values, such that tests can
+ * assert the complexity of an operation independently of the time it takes. Rows must be {@link Row}s and values
+ * {@link Value}s; the latter are not shared through the columns' dictionaries and hence cells are compared by value.
+ */
+public class CountingGridData extends BaseGridData {
+
+    public enum Operation {
+        /**
+         * Rows retrieved with {@link #getRow(int)} or from {@link #getRows()}.
+         */
+        GET_ROW,
+        /**
+         * Cells retrieved from a row, with {@link GridRow#getCells()}.
+         */
+        GET_CELL,
+        /**
+         * Cell values compared with {@link Object#equals(Object)}.
+         */
+        EQUALS,
+        /**
+         * Row heights retrieved with {@link GridRow#getHeight()}.
+         */
+        GET_HEIGHT
+    }
+
+    private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+    public CountingGridData(final boolean isMerged) {
+        super(isMerged);
+        reset();
+    }
+
+    /**
+     * Makes a grid with values in runs of equal values. Operations made constructing the grid are not counted.
+     * @param rowCount Number of rows.
+     * @param columnCount Number of columns.
+     * @param runLength Number of rows in each run of equal values.
+     * @param isMerged Whether runs of equal values are merged.
+     * @return A new grid.
+     */
+    public static CountingGridData makeGridData(final int rowCount,
+                                                final int columnCount,
+                                                final int runLength,
+                                                final boolean isMerged) {
+        final GridColumn<?>[] columns = new GridColumn<?>[columnCount];
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            columns[columnIndex] = new BaseGridTest.MockMergableGridColumn<>("col" + columnIndex,
+                                                                             100);
+        }
+        return makeGridData(rowCount,
+                            runLength,
+                            isMerged,
+                            columns);
+    }
+
+    /**
+     * Makes a grid of String values in runs of equal values. Operations made constructing the grid are not counted.
+     * @param rowCount Number of rows.
+     * @param runLength Number of rows in each run of equal values.
+     * @param isMerged Whether runs of equal values are merged.
+     * @param columns The columns.
+     * @return A new grid.
+     */
+    public static CountingGridData makeGridData(final int rowCount,
+                                                final int runLength,
+                                                final boolean isMerged,
+                                                final GridColumn<?>... columns) {
+        final CountingGridData gridData = new CountingGridData(false);
+        for (GridColumn<?> column : columns) {
+            gridData.appendColumn(column);
+        }
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            final Row row = gridData.new Row();
+            for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+                row.setCell(columnIndex,
+                            new BaseGridCell<>(gridData.new Value<>("v" + (rowIndex / runLength) % 2)));
+            }
+            gridData.appendRow(row);
+        }
+        gridData.setMerged(isMerged);
+        gridData.reset();
+        return gridData;
+    }
+
+    public void reset() {
+        for (Operation operation : Operation.values()) {
+            counts.put(operation,
+                       0);
+        }
+    }
+
+    public int getCount(final Operation operation) {
+        return counts.get(operation);
+    }
+
+    /**
+     * Asserts an operation has been counted no more than a number of times since the counts were reset.
+     * @param operation The operation.
+     * @param bound The maximum count.
+     */
+    public void assertAtMost(final Operation operation,
+                             final int bound) {
+        final int count = getCount(operation);
+        assertTrue(operation + " was counted " + count + " times; expected at most " + bound,
+                   count <= bound);
+    }
+
+    private void count(final Operation operation) {
+        counts.put(operation,
+                   counts.get(operation) + 1);
+    }
+
+    @Override
+    public GridRow getRow(final int rowIndex) {
+        count(Operation.GET_ROW);
+        return super.getRow(rowIndex);
+    }
+
+    @Override
+    public List<GridRow> getRows() {
+        final List<GridRow> rows = super.getRows();
+        return new AbstractList<GridRow>() {
+            @Override
+            public GridRow get(final int index) {
+                count(Operation.GET_ROW);
+                return rows.get(index);
+            }
+
+            @Override
+            public int size() {
+                return rows.size();
+            }
+        };
+    }
+
+    public class Row extends BaseGridRow {
+
+        @Override
+        public Map<Integer, GridCell<?>> getCells() {
+            count(Operation.GET_CELL);
+            return super.getCells();
+        }
+
+        @Override
+        public double getHeight() {
+            count(Operation.GET_HEIGHT);
+            return super.getHeight();
+        }
+    }
+
+    public class Value<T> extends BaseGridCellValue<T> {
+
+        public Value(final T value) {
+            super(value);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            count(Operation.EQUALS);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridCellValue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GridCellValueDictionaryTest extends BaseGridTest {
+
+    @Test
+    public void testEqualValuesHaveTheSameCode() {
+        final GridCellValueDictionary dictionary = new GridCellValueDictionary();
+        final BaseGridCellValue<String> a = new BaseGridCellValue<>("a");
+
+        assertEquals(0,
+                     dictionary.getCode(a));
+        assertEquals(1,
+                     dictionary.getCode(new BaseGridCellValue<>("b")));
+        assertEquals(0,
+                     dictionary.getCode(new BaseGridCellValue<>("a")));
+        assertSame(a,
+                   dictionary.getValue(0));
+        assertEquals(2,
+                     dictionary.size());
+    }
+
+    @Test
+    public void testFullDictionary() {
+        final GridCellValueDictionary dictionary = new GridCellValueDictionary(2);
+        dictionary.getCode(new BaseGridCellValue<>("a"));
+        dictionary.getCode(new BaseGridCellValue<>("b"));
+
+        assertEquals(GridCellValueDictionary.NO_CODE,
+                     dictionary.getCode(new BaseGridCellValue<>("c")));
+        assertEquals(1,
+                     dictionary.getCode(new BaseGridCellValue<>("b")));
+    }
+
+    @Test
+    public void testOnlyBaseGridCellValuesAreShared() {
+        final GridCellValueDictionary dictionary = new GridCellValueDictionary();
+
+        assertEquals(GridCellValueDictionary.NO_CODE,
+                     dictionary.getCode(null));
+        assertEquals(GridCellValueDictionary.NO_CODE,
+                     dictionary.getCode(new BaseGridCellValue<String>("a") {
+                     }));
+        assertEquals(0,
+                     dictionary.size());
+    }
+
+    @Test
+    public void testCellsInAColumnShareValues() {
+        constructGridData(false,
+                          2,
+                          3);
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>("a"));
+        gridData.setCellValue(1,
+                              0,
+                              new BaseGridCellValue<>("a"));
+        gridData.setCellValue(2,
+                              0,
+                              new BaseGridCellValue<>("b"));
+        gridData.setCellValue(0,
+                              1,
+                              new BaseGridCellValue<>("a"));
+
+        assertSame(gridData.getCell(0,
+                                    0).getValue(),
+                   gridData.getCell(1,
+                                    0).getValue());
+        assertEquals(gridData.getCell(0,
+                                      0),
+                     gridData.getCell(1,
+                                      0));
+        assertNotEquals(gridData.getCell(0,
+                                         0),
+                        gridData.getCell(2,
+                                         0));
+        //Columns have their own dictionaries, whose values are compared by value
+        assertNotSame(gridData.getCell(0,
+                                       0).getValue(),
+                      gridData.getCell(0,
+                                       1).getValue());
+        assertEquals(gridData.getCell(0,
+                                      0),
+                     gridData.getCell(0,
+                                      1));
+    }
+
+    @Test
+    public void testCellsAreComparedByValueWhenNotShared() {
+        final BaseGridCell<String> shared = new BaseGridCell<>(null);
+        shared.setValue(new BaseGridCellValue<>("a"),
+                        new GridCellValueDictionary());
+        final BaseGridCell<String> unshared = new BaseGridCell<>(new BaseGridCellValue<>("a"));
+
+        assertTrue(shared.equals(unshared));
+        assertTrue(unshared.equals(shared));
+        assertEquals(shared.hashCode(),
+                     unshared.hashCode());
+
+        unshared.setValue(new BaseGridCellValue<>("b"));
+        assertFalse(shared.equals(unshared));
+    }
+
+    @Test
+    public void testChangedCellIsNoLongerShared() {
+        final GridCellValueDictionary dictionary = new GridCellValueDictionary();
+        final BaseGridCell<String> cell1 = new BaseGridCell<>(null);
+        final BaseGridCell<String> cell2 = new BaseGridCell<>(null);
+        cell1.setValue(new BaseGridCellValue<>("a"),
+                       dictionary);
+        cell2.setValue(new BaseGridCellValue<>("a"),
+                       dictionary);
+
+        cell2.setValue(new BaseGridCellValue<>("b"));
+
+        assertEquals(GridCellValueDictionary.NO_CODE,
+                     cell2.getValueCode());
+        assertFalse(cell1.equals(cell2));
+    }
+
+    @Test
+    public void testMergedCellsAreIndexedByCode() {
+        constructGridData(true,
+                          1,
+                          5);
+        for (int rowIndex = 0; rowIndex < 5; rowIndex++) {
+            gridData.setCellValue(rowIndex,
+                                  0,
+                                  new BaseGridCellValue<>(rowIndex < 3 ? "a" : "b"));
+        }
+
+        assertEquals(3,
+                     gridData.getCell(0,
+                                      0).getMergedCellCount());
+        assertEquals(2,
+                     gridData.getCell(3,
+                                      0).getMergedCellCount());
+
+        //Pasted values are shared too
+        final GridCellValue<?> b = new BaseGridCellValue<>("b");
+        gridData.setCellValues(2,
+                               0,
+                               Collections.singletonList(Collections.<GridCellValue<?>>singletonList(b)).iterator());
+
+        assertEquals(2,
+                     gridData.getCell(0,
+                                      0).getMergedCellCount());
+        assertEquals(3,
+                     gridData.getCell(2,
+                                      0).getMergedCellCount());
+        assertSame(gridData.getCell(2,
+                                    0).getValue(),
+                   gridData.getCell(4,
+                                    0).getValue());
+    }
+
+    @Test
+    public void testDeletedColumnsDropTheirDictionary() {
+        constructGridData(false,
+                          2,
+                          1);
+        gridData.setCellValue(0,
+                              1,
+                              new BaseGridCellValue<>("a"));
+        final BaseGridData baseGridData = (BaseGridData) gridData;
+        final GridCellValueDictionary dictionary = baseGridData.getValueDictionary(gridColumns[1]);
+
+        gridData.deleteColumn(gridColumns[1]);
+
+        assertNotSame(dictionary,
+                      baseGridData.getValueDictionary(gridColumns[1]));
+    }
+
+    @Test
+    public void testReplacedColumnsDropTheirDictionary() {
+        constructGridData(false,
+                          2,
+                          1);
+        gridData.setCellValue(0,
+                              1,
+                              new BaseGridCellValue<>("a"));
+        final BaseGridData baseGridData = (BaseGridData) gridData;
+        final GridCellValueDictionary dictionary = baseGridData.getValueDictionary(gridColumns[1]);
+
+        gridData.updateColumn(1,
+                              new MockMergableGridColumn<>("replacement",
+                                                           100));
+
+        assertNotSame(dictionary,
+                      baseGridData.getValueDictionary(gridColumns[1]));
+    }
+}
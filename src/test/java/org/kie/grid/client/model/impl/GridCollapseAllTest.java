@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridData;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class GridCollapseAllTest extends BaseGridTest {
+
+    private static final String[][] VALUES = {
+            {"a", "a", "a", "a", "b", "b", "c"},
+            {"x", "x", "y", "y", "y", "z", "z"}
+    };
+
+    @Test
+    public void testCollapseAllMatchesCollapseCell() {
+        final GridData expected = makeData();
+        expected.collapseCell(0,
+                              0);
+        expected.collapseCell(4,
+                              0);
+
+        gridData = makeData();
+        gridData.collapseAll(0);
+
+        assertSameState(expected,
+                        gridData);
+        assertEquals(0.0,
+                     gridData.getRow(1).getHeight(),
+                     0.0);
+        assertEquals(0.0,
+                     gridData.getRow(5).getHeight(),
+                     0.0);
+        assertEquals(20.0,
+                     gridData.getRow(6).getHeight(),
+                     0.0);
+        assertEquals(60.0,
+                     gridData.getRowOffset(7),
+                     0.0);
+    }
+
+    @Test
+    public void testCollapseAllIgnoresCollapsedBlocks() {
+        gridData = makeData();
+        gridData.collapseCell(0,
+                              0);
+        gridData.collapseAll(0);
+        gridData.collapseAll(0);
+
+        assertEquals(2,
+                     getCollapsedRegions().getRegions(0,
+                                                      gridData.getRowCount() - 1).size());
+        assertEquals(1,
+                     getCollapsedRegions().getDepth(1));
+    }
+
+    @Test
+    public void testExpandAll() {
+        final GridData expected = makeData();
+
+        gridData = makeData();
+        gridData.collapseAll(0);
+        gridData.expandAll(0);
+
+        assertSameState(expected,
+                        gridData);
+        assertEquals(140.0,
+                     gridData.getRowOffset(7),
+                     0.0);
+    }
+
+    @Test
+    public void testExpandAllLeavesNestedCollapsedCells() {
+        gridData = makeData();
+        gridData.collapseAll(1);
+        gridData.collapseAll(0);
+        gridData.expandAll(0);
+
+        final GridData expected = makeData();
+        expected.collapseAll(1);
+
+        assertSameState(expected,
+                        gridData);
+        assertEquals(0.0,
+                     gridData.getRow(1).getHeight(),
+                     0.0);
+        assertEquals(20.0,
+                     gridData.getRow(2).getHeight(),
+                     0.0);
+    }
+
+    @Test
+    public void testCollapseToLevel() {
+        gridData = makeData();
+
+        gridData.collapseToLevel(0);
+        assertEquals(60.0,
+                     gridData.getRowOffset(7),
+                     0.0);
+
+        gridData.collapseToLevel(1);
+        final GridData expected = makeData();
+        expected.collapseAll(1);
+        assertSameState(expected,
+                        gridData);
+
+        gridData.collapseToLevel(2);
+        assertSameState(makeData(),
+                        gridData);
+        assertEquals(140.0,
+                     gridData.getRowOffset(7),
+                     0.0);
+    }
+
+    @Test
+    public void testCollapseAllWhenNotMerged() {
+        gridData = makeData();
+        gridData.setMerged(false);
+        gridData.collapseAll(0);
+
+        assertFalse(gridData.getRow(1).isCollapsed());
+        assertEquals(20.0,
+                     gridData.getRow(1).getHeight(),
+                     0.0);
+    }
+
+    private GridData makeData() {
+        final int columnCount = VALUES.length;
+        final int rowCount = VALUES[0].length;
+        constructGridData(columnCount,
+                          rowCount);
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                gridData.setCellValue(rowIndex,
+                                      columnIndex,
+                                      new BaseGridCellValue<>(VALUES[columnIndex][rowIndex]));
+            }
+        }
+        return gridData;
+    }
+
+    private GridCollapsedRegions getCollapsedRegions() {
+        return ((BaseGridData) gridData).indexManager.getCollapsedRegions();
+    }
+
+    private void assertSameState(final GridData expected,
+                                 final GridData actual) {
+        for (int rowIndex = 0; rowIndex < expected.getRowCount(); rowIndex++) {
+            final String message = "Row[" + rowIndex + "]";
+            assertEquals(message,
+                         expected.getRow(rowIndex).isCollapsed(),
+                         actual.getRow(rowIndex).isCollapsed());
+            assertEquals(message,
+                         expected.getRow(rowIndex).isMerged(),
+                         actual.getRow(rowIndex).isMerged());
+            for (int columnIndex = 0; columnIndex < expected.getColumnCount(); columnIndex++) {
+                assertEquals(message + ", Column[" + columnIndex + "]",
+                             expected.getCell(rowIndex,
+                                              columnIndex).getMergedCellCount(),
+                             actual.getCell(rowIndex,
+                                            columnIndex).getMergedCellCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GridCollapsedRegionsTest extends BaseGridTest {
+
+    @Test
+    public void testRegionLookup() {
+        final GridCollapsedRegions regions = new GridCollapsedRegions();
+        regions.add(0,
+                    2,
+                    new double[]{20.0, 30.0});
+        regions.add(1,
+                    3,
+                    new double[]{40.0});
+
+        assertNull(regions.getRegion(0,
+                                     1));
+        assertEquals(2,
+                     regions.getRegion(0,
+                                       2).getMinRowIndex());
+        assertEquals(2,
+                     regions.getRegion(0,
+                                       4).getMinRowIndex());
+        assertNull(regions.getRegion(0,
+                                     5));
+        assertEquals(30.0,
+                     regions.getRegion(0,
+                                       4).getHeight(4),
+                     0.0);
+
+        assertEquals(0,
+                     regions.getDepth(2));
+        assertEquals(1,
+                     regions.getDepth(3));
+        assertEquals(2,
+                     regions.getDepth(4));
+        assertEquals(1,
+                     regions.getHidingRegion(4).getColumnIndex());
+    }
+
+    @Test
+    public void testRegionsShiftFollowingRowInsertAndDelete() {
+        final GridCollapsedRegions regions = new GridCollapsedRegions();
+        regions.add(0,
+                    2,
+                    new double[]{20.0, 30.0});
+
+        regions.onInsertRow(0,
+                            20.0);
+        assertEquals(3,
+                     regions.getRegion(0,
+                                       3).getMinRowIndex());
+        assertEquals(5,
+                     regions.getRegion(0,
+                                       3).getMaxRowIndex());
+
+        regions.onInsertRow(5,
+                            50.0);
+        assertEquals(6,
+                     regions.getRegion(0,
+                                       3).getMaxRowIndex());
+        assertEquals(50.0,
+                     regions.getRegion(0,
+                                       3).getHeight(5),
+                     0.0);
+        assertEquals(30.0,
+                     regions.getRegion(0,
+                                       3).getHeight(6),
+                     0.0);
+
+        regions.onDeleteRows(0,
+                             0);
+        assertEquals(2,
+                     regions.getRegion(0,
+                                       2).getMinRowIndex());
+
+        regions.onDeleteRows(2,
+                             5);
+        assertTrue(regions.isEmpty());
+    }
+
+    @Test
+    public void testRegionsShiftInPlace() {
+        final GridCollapsedRegions regions = new GridCollapsedRegions();
+        final GridCollapsedRegions.Region first = regions.add(0,
+                                                              0,
+                                                              new double[]{20.0});
+        final GridCollapsedRegions.Region second = regions.add(0,
+                                                               4,
+                                                               new double[]{20.0});
+        final GridCollapsedRegions.Region third = regions.add(0,
+                                                              8,
+                                                              new double[]{20.0});
+
+        regions.onInsertRow(3,
+                            20.0);
+        assertSame(first,
+                   regions.getRegion(0,
+                                     0));
+        assertSame(second,
+                   regions.getRegion(0,
+                                     5));
+        assertSame(third,
+                   regions.getRegion(0,
+                                     9));
+
+        //Deleting the lead row of the second region removes it; the third moves up
+        regions.onDeleteRows(4,
+                             6);
+        assertNull(regions.getRegion(0,
+                                     5));
+        assertSame(third,
+                   regions.getRegion(0,
+                                     6));
+        assertEquals(2,
+                     regions.getRegions(0,
+                                        10).size());
+    }
+
+    @Test
+    public void testColumnRegionsAreCopied() {
+        final GridCollapsedRegions regions = new GridCollapsedRegions();
+        regions.add(0,
+                    0,
+                    new double[]{20.0});
+        regions.add(0,
+                    4,
+                    new double[]{20.0});
+
+        final List<GridCollapsedRegions.Region> column = regions.getRegions(0);
+        regions.remove(0,
+                       0);
+
+        assertEquals(2,
+                     column.size());
+        assertEquals(1,
+                     regions.getRegions(0).size());
+        assertTrue(regions.getRegions(1).isEmpty());
+    }
+
+    @Test
+    public void testRegionSplit() {
+        final GridCollapsedRegions regions = new GridCollapsedRegions();
+        final GridCollapsedRegions.Region region = regions.add(0,
+                                                               0,
+                                                               new double[]{10.0, 20.0, 30.0});
+
+        assertEquals(20.0,
+                     regions.split(region,
+                                   2),
+                     0.0);
+        assertEquals(1,
+                     regions.getRegion(0,
+                                       0).getMaxRowIndex());
+        assertEquals(2,
+                     regions.getRegion(0,
+                                       3).getMinRowIndex());
+        assertEquals(30.0,
+                     regions.getRegion(0,
+                                       3).getHeight(3),
+                     0.0);
+    }
+
+    @Test
+    public void testCollapseAndExpandRecordsRegion() {
+        constructGridData(1,
+                          4);
+        setColumnValues(0,
+                        "a", "a", "a", "b");
+        gridData.getRow(2).setHeight(35.0);
+
+        gridData.collapseCell(0,
+                              0);
+
+        final GridCollapsedRegions regions = ((BaseGridData) gridData).indexManager.getCollapsedRegions();
+        final GridCollapsedRegions.Region region = regions.getRegion(0,
+                                                                     0);
+        assertEquals(0,
+                     region.getMinRowIndex());
+        assertEquals(2,
+                     region.getMaxRowIndex());
+        assertEquals(35.0,
+                     gridData.getRow(2).peekHeight(),
+                     0.0);
+
+        //Animations reduce the height of collapsed rows to zero
+        gridData.getRow(1).setHeight(0.0);
+        gridData.getRow(2).setHeight(0.0);
+
+        gridData.expandCell(0,
+                            0);
+
+        assertTrue(regions.isEmpty());
+        assertFalse(gridData.getRow(2).isCollapsed());
+        assertEquals(20.0,
+                     gridData.getRow(1).getHeight(),
+                     0.0);
+        assertEquals(35.0,
+                     gridData.getRow(2).getHeight(),
+                     0.0);
+    }
+
+    @Test
+    public void testNestedCollapseRestoresHeights() {
+        constructGridData(2,
+                          4);
+        setColumnValues(0,
+                        "a", "a", "a", "a");
+        setColumnValues(1,
+                        "x", "x", "y", "y");
+        gridData.getRow(1).setHeight(30.0);
+
+        //Collapse inner group
+        gridData.collapseCell(0,
+                              1);
+        gridData.getRow(1).setHeight(0.0);
+
+        //Collapse outer group
+        gridData.collapseCell(0,
+                              0);
+        assertEquals(0.0,
+                     gridData.getRow(1).peekHeight(),
+                     0.0);
+        gridData.getRow(2).setHeight(0.0);
+        gridData.getRow(3).setHeight(0.0);
+
+        final GridCollapsedRegions regions = ((BaseGridData) gridData).indexManager.getCollapsedRegions();
+        assertEquals(2,
+                     regions.getDepth(1));
+        assertEquals(1,
+                     regions.getDepth(2));
+
+        //Expand outer group; the inner group remains collapsed
+        gridData.expandCell(0,
+                            0);
+        assertTrue(gridData.getRow(1).isCollapsed());
+        assertEquals(0.0,
+                     gridData.getRow(1).getHeight(),
+                     0.0);
+        assertEquals(30.0,
+                     gridData.getRow(1).peekHeight(),
+                     0.0);
+        assertEquals(20.0,
+                     gridData.getRow(2).getHeight(),
+                     0.0);
+        assertEquals(1,
+                     regions.getDepth(1));
+
+        //Expand inner group
+        gridData.expandCell(0,
+                            1);
+        assertFalse(gridData.getRow(1).isCollapsed());
+        assertEquals(30.0,
+                     gridData.getRow(1).getHeight(),
+                     0.0);
+        assertTrue(regions.isEmpty());
+    }
+
+    @Test
+    public void testRegionMovesWithRows() {
+        constructGridData(1,
+                          5);
+        setColumnValues(0,
+                        "a", "b", "b", "c", "d");
+
+        gridData.collapseCell(1,
+                              0);
+        gridData.insertRow(0,
+                           new BaseGridRow());
+
+        final GridCollapsedRegions regions = ((BaseGridData) gridData).indexManager.getCollapsedRegions();
+        assertNull(regions.getRegion(0,
+                                     1));
+        assertEquals(2,
+                     regions.getRegion(0,
+                                       3).getMinRowIndex());
+
+        gridData.deleteRow(2);
+        assertTrue(regions.isEmpty());
+    }
+
+    private void setColumnValues(final int columnIndex,
+                                 final String... values) {
+        for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+            gridData.setCellValue(rowIndex,
+                                  columnIndex,
+                                  new BaseGridCellValue<>(values[rowIndex]));
+        }
+    }
+}
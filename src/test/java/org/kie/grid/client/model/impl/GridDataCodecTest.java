@@ -0,0 +1,330 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridColumn;
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.GridRow;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GridDataCodecTest extends BaseGridTest {
+
+    @Test
+    public void testRoundTripValues() {
+        makeData(false,
+                 new Object[]{"a", null, "a", "\u00e9t\u00e9"},
+                 new Object[]{1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE},
+                 new Object[]{Long.MIN_VALUE, 0L, 1.5d, -0.25d},
+                 new Object[]{true, false, new Date(1234567890L), null});
+
+        final BaseGridData decoded = roundTrip();
+
+        assertFalse(decoded.isMerged());
+        assertSameValues(gridData,
+                         decoded);
+    }
+
+    @Test
+    public void testRoundTripColumnsAndRowHeights() {
+        makeData(false,
+                 new Object[]{"a", "b", "c"},
+                 new Object[]{"d", "e", "f"});
+        gridData.moveColumnTo(0,
+                              gridColumns[1]);
+        gridColumns[0].setWidth(150);
+        gridColumns[1].setVisible(false);
+        gridData.getRow(1).setHeight(40);
+
+        final BaseGridData decoded = roundTrip();
+
+        assertEquals(1,
+                     decoded.getColumns().get(0).getIndex());
+        assertFalse(decoded.getColumns().get(0).isVisible());
+        assertEquals(0,
+                     decoded.getColumns().get(1).getIndex());
+        assertEquals(150,
+                     decoded.getColumns().get(1).getWidth(),
+                     0.0);
+        assertEquals(20,
+                     decoded.getRow(0).getHeight(),
+                     0.0);
+        assertEquals(40,
+                     decoded.getRow(1).getHeight(),
+                     0.0);
+        assertSameValues(gridData,
+                         decoded);
+    }
+
+    @Test
+    public void testRoundTripMergedCells() {
+        makeData(true,
+                 new Object[]{"a", "a", "a", "b", "b", "c"},
+                 new Object[]{1, 1, 2, 2, 2, 2});
+
+        final BaseGridData decoded = roundTrip();
+
+        assertTrue(decoded.isMerged());
+        assertSameMergeState(gridData,
+                             decoded);
+        //Cells with the same value share it
+        assertSame(decoded.getCell(0,
+                                   0).getValue(),
+                   decoded.getCell(2,
+                                   0).getValue());
+    }
+
+    @Test
+    public void testRoundTripCollapsedCells() {
+        makeData(true,
+                 new Object[]{"a", "a", "a", "b", "b", "c"},
+                 new Object[]{1, 1, 2, 2, 2, 2});
+        gridData.collapseCell(2,
+                              1);
+        gridData.collapseCell(0,
+                              0);
+
+        final BaseGridData decoded = roundTrip();
+
+        assertSameMergeState(gridData,
+                             decoded);
+        //Hidden rows are restored as they would be once the collapse had been animated
+        for (int rowIndex = 0; rowIndex < gridData.getRowCount(); rowIndex++) {
+            assertEquals("Row[" + rowIndex + "]",
+                         decoded.getRow(rowIndex).isCollapsed() ? 0.0 : 20.0,
+                         decoded.getRow(rowIndex).getHeight(),
+                         0.0);
+        }
+
+        //Collapsed regions are restored, hence can be expanded in turn
+        gridData.expandCell(0,
+                            0);
+        decoded.expandCell(0,
+                           0);
+        assertSameMergeState(gridData,
+                             decoded);
+        gridData.expandCell(2,
+                            1);
+        decoded.expandCell(2,
+                           1);
+        assertSameMergeState(gridData,
+                             decoded);
+        assertFalse(decoded.getRow(5).isCollapsed());
+    }
+
+    @Test
+    public void testRoundTripSelections() {
+        makeData(false,
+                 new Object[]{"a", "b", "c", "d"},
+                 new Object[]{"e", "f", "g", "h"});
+        gridData.selectCells(2,
+                             1,
+                             1,
+                             2);
+        gridData.selectCell(0,
+                            0);
+
+        final BaseGridData decoded = roundTrip();
+
+        assertEquals(gridData.getSelectedCells().get(0),
+                     decoded.getSelectedCells().get(0));
+        assertEquals(gridData.getSelectedCells().size(),
+                     decoded.getSelectedCells().size());
+        assertTrue(decoded.getSelectedCells().containsAll(gridData.getSelectedCells()));
+    }
+
+    @Test
+    public void testDecodeReplacesExistingRows() {
+        makeData(false,
+                 new Object[]{"a", "b"});
+        final byte[] data = encode();
+        gridData.appendRow(new BaseGridRow());
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>("x"));
+
+        GridDataCodec.decode(data,
+                             (BaseGridData) gridData);
+
+        assertEquals(2,
+                     gridData.getRowCount());
+        assertEquals("a",
+                     gridData.getCell(0,
+                                      0).getValue().getValue());
+        //Decoded data can be edited like any other
+        gridData.setCellValue(1,
+                              0,
+                              new BaseGridCellValue<>("y"));
+        assertEquals("y",
+                     gridData.getCell(1,
+                                      0).getValue().getValue());
+    }
+
+    @Test
+    public void testEncodingIsCompact() {
+        constructGridData(false,
+                          1,
+                          1000);
+        for (int rowIndex = 0; rowIndex < 1000; rowIndex++) {
+            gridData.setCellValue(rowIndex,
+                                  0,
+                                  new BaseGridCellValue<>(rowIndex < 500 ? "a long repeated value" : "another"));
+        }
+
+        //Two dictionary entries and two runs
+        assertTrue(encode().length < 100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedValuesCannotBeEncoded() {
+        makeData(false,
+                 new Object[]{new Object()});
+
+        encode();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFilteredRowsCannotBeEncoded() {
+        makeData(false,
+                 new Object[]{"a", "b"});
+        gridData.setFilter((row) -> true);
+
+        encode();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeIntoDifferentColumns() {
+        makeData(false,
+                 new Object[]{"a"},
+                 new Object[]{"b"});
+        final byte[] data = encode();
+
+        GridDataCodec.decode(data,
+                             new BaseGridData());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeTruncatedData() {
+        makeData(false,
+                 new Object[]{"a", "b"});
+        final byte[] data = encode();
+        final byte[] truncated = new byte[data.length - 2];
+        System.arraycopy(data,
+                         0,
+                         truncated,
+                         0,
+                         truncated.length);
+
+        GridDataCodec.decode(truncated,
+                             makeTarget());
+    }
+
+    private BaseGridData roundTrip() {
+        final byte[] data = encode();
+        final BaseGridData decoded = makeTarget();
+        GridDataCodec.decode(data,
+                             decoded);
+        assertArrayEquals(data,
+                          GridDataCodec.encode(decoded));
+        return decoded;
+    }
+
+    private byte[] encode() {
+        return GridDataCodec.encode((BaseGridData) gridData);
+    }
+
+    private BaseGridData makeTarget() {
+        final BaseGridData target = new BaseGridData();
+        for (int i = 0; i < gridColumns.length; i++) {
+            target.appendColumn(new MockMergableGridColumn<>("col" + i,
+                                                             100));
+        }
+        return target;
+    }
+
+    private static void assertSameValues(final GridData expected,
+                                         final GridData actual) {
+        assertEquals(expected.getRowCount(),
+                     actual.getRowCount());
+        for (GridColumn<?> column : expected.getColumns()) {
+            final int columnIndex = column.getIndex();
+            for (int rowIndex = 0; rowIndex < expected.getRowCount(); rowIndex++) {
+                final GridCell<?> expectedCell = expected.getRow(rowIndex).getCells().get(columnIndex);
+                final GridCell<?> actualCell = actual.getRow(rowIndex).getCells().get(columnIndex);
+                if (expectedCell == null || expectedCell.getValue() == null) {
+                    assertNull("Cell[" + rowIndex + ", " + columnIndex + "]",
+                               actualCell);
+                } else {
+                    assertEquals("Cell[" + rowIndex + ", " + columnIndex + "]",
+                                 expectedCell.getValue().getValue(),
+                                 actualCell.getValue().getValue());
+                }
+            }
+        }
+    }
+
+    private static void assertSameMergeState(final GridData expected,
+                                             final GridData actual) {
+        assertSameValues(expected,
+                         actual);
+        for (int rowIndex = 0; rowIndex < expected.getRowCount(); rowIndex++) {
+            final GridRow expectedRow = expected.getRow(rowIndex);
+            final GridRow actualRow = actual.getRow(rowIndex);
+            assertEquals("Row[" + rowIndex + "]",
+                         expectedRow.isMerged(),
+                         actualRow.isMerged());
+            assertEquals("Row[" + rowIndex + "]",
+                         expectedRow.isCollapsed(),
+                         actualRow.isCollapsed());
+            for (GridColumn<?> column : expected.getColumns()) {
+                final GridCell<?> expectedCell = expectedRow.getCells().get(column.getIndex());
+                final GridCell<?> actualCell = actualRow.getCells().get(column.getIndex());
+                if (expectedCell != null) {
+                    assertEquals("Cell[" + rowIndex + ", " + column.getIndex() + "]",
+                                 expectedCell.getMergedCellCount(),
+                                 actualCell.getMergedCellCount());
+                }
+            }
+        }
+        final GridCollapsedRegions expectedRegions = ((BaseGridData) expected).indexManager.getCollapsedRegions();
+        final GridCollapsedRegions actualRegions = ((BaseGridData) actual).indexManager.getCollapsedRegions();
+        for (GridColumn<?> column : expected.getColumns()) {
+            final List<GridCollapsedRegions.Region> expectedColumnRegions = expectedRegions.getRegions(column.getIndex());
+            final List<GridCollapsedRegions.Region> actualColumnRegions = actualRegions.getRegions(column.getIndex());
+            assertEquals("Column[" + column.getIndex() + "]",
+                         expectedColumnRegions.size(),
+                         actualColumnRegions.size());
+            for (int i = 0; i < expectedColumnRegions.size(); i++) {
+                assertEquals("Column[" + column.getIndex() + "]",
+                             expectedColumnRegions.get(i).getMinRowIndex(),
+                             actualColumnRegions.get(i).getMinRowIndex());
+                assertEquals("Column[" + column.getIndex() + "]",
+                             expectedColumnRegions.get(i).getMaxRowIndex(),
+                             actualColumnRegions.get(i).getMaxRowIndex());
+            }
+        }
+    }
+}
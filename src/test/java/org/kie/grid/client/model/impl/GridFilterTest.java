@@ -0,0 +1,276 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.GridRow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class GridFilterTest extends BaseGridTest {
+
+    @Test
+    public void testFilterHidesRows() {
+        makeData(false,
+                 new Object[]{1, 2, 3, 4, 5});
+
+        gridData.setFilter(valueAtLeast(3));
+
+        assertColumnValues(0,
+                           3, 4, 5);
+        assertEquals(60.0,
+                     gridData.getRowOffset(3),
+                     0.0);
+
+        gridData.setFilter(null);
+
+        assertColumnValues(0,
+                           1, 2, 3, 4, 5);
+        assertNull(gridData.getFilter());
+    }
+
+    @Test
+    public void testNarrowFilterEvaluatesVisibleRowsOnly() {
+        makeData(false,
+                 new Object[]{1, 2, 3, 4, 5, 6});
+        gridData.setFilter(valueAtLeast(3));
+
+        final AtomicInteger evaluations = new AtomicInteger();
+        gridData.narrowFilter(counting(valueAtLeast(5),
+                                       evaluations));
+
+        assertEquals(4,
+                     evaluations.get());
+        assertColumnValues(0,
+                           5, 6);
+    }
+
+    @Test
+    public void testWidenFilterEvaluatesHiddenRowsOnly() {
+        makeData(false,
+                 new Object[]{1, 2, 3, 4, 5, 6});
+        gridData.setFilter(valueAtLeast(5));
+
+        final AtomicInteger evaluations = new AtomicInteger();
+        gridData.widenFilter(counting(valueAtLeast(2),
+                                      evaluations));
+
+        assertEquals(4,
+                     evaluations.get());
+        assertColumnValues(0,
+                           2, 3, 4, 5, 6);
+    }
+
+    @Test
+    public void testFilterIndexesMergedBlocksOverVisibleRows() {
+        makeData(true,
+                 new Object[]{"a", "b", "a", "b"},
+                 new Object[]{1, 2, 3, 4});
+
+        gridData.setFilter((row) -> row.getCells().get(0).getValue().getValue().equals("a"));
+
+        assertColumnValues(1,
+                           1, 3);
+        assertEquals(2,
+                     gridData.getCell(0,
+                                      0).getMergedCellCount());
+        assertEquals(0,
+                     gridData.getCell(1,
+                                      0).getMergedCellCount());
+
+        gridData.setFilter(null);
+
+        assertEquals(1,
+                     gridData.getCell(0,
+                                      0).getMergedCellCount());
+    }
+
+    @Test
+    public void testSelectionsFollowRows() {
+        makeData(false,
+                 new Object[]{1, 2, 3, 4});
+        gridData.selectCell(1,
+                            0);
+        gridData.selectCell(2,
+                            0);
+
+        gridData.setFilter(valueAtLeast(3));
+
+        assertEquals(1,
+                     gridData.getSelectedCells().size());
+        assertEquals(0,
+                     gridData.getSelectedCells().get(0).getRowIndex());
+
+        gridData.setFilter(null);
+
+        assertEquals(1,
+                     gridData.getSelectedCells().size());
+        assertEquals(2,
+                     gridData.getSelectedCells().get(0).getRowIndex());
+    }
+
+    @Test
+    public void testSelectionsFollowRowsWhenNarrowingFilter() {
+        makeData(false,
+                 new Object[]{1, 2, 3, 4, 5, 6});
+        gridData.setFilter(valueAtLeast(2));
+        gridData.selectCell(0,
+                            0);
+        gridData.selectCell(3,
+                            0);
+
+        gridData.narrowFilter((row) -> ((Integer) row.getCells().get(0).getValue().getValue()) % 2 == 1);
+
+        assertColumnValues(0,
+                           3, 5);
+        assertEquals(1,
+                     gridData.getSelectedCells().size());
+        assertEquals(1,
+                     gridData.getSelectedCells().get(0).getRowIndex());
+    }
+
+    @Test
+    public void testSelectionsFollowRowsWhenWideningFilter() {
+        makeData(false,
+                 new Object[]{1, 2, 3, 4, 5, 6});
+        gridData.setFilter((row) -> ((Integer) row.getCells().get(0).getValue().getValue()) % 3 == 0);
+        gridData.selectCell(0,
+                            0);
+        gridData.selectCell(1,
+                            0);
+
+        gridData.widenFilter((row) -> ((Integer) row.getCells().get(0).getValue().getValue()) != 4);
+
+        assertColumnValues(0,
+                           1, 2, 3, 5, 6);
+        assertEquals(2,
+                     gridData.getSelectedCells().size());
+        assertEquals(2,
+                     gridData.getSelectedCells().get(0).getRowIndex());
+        assertEquals(4,
+                     gridData.getSelectedCells().get(1).getRowIndex());
+    }
+
+    @Test
+    public void testNarrowFilterWhilstSortedRetainsSortKeys() {
+        makeData(false,
+                 new Object[]{5, 1, 4, 2, 3, 6});
+        gridData.setFilter(valueAtLeast(2));
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+        gridData.narrowFilter((row) -> ((Integer) row.getCells().get(0).getValue().getValue()) != 4);
+        assertColumnValues(0,
+                           2, 3, 5, 6);
+
+        //Changed values are moved to their sorted position amongst the remaining rows
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>(7));
+
+        assertColumnValues(0,
+                           3, 5, 6, 7);
+    }
+
+    @Test
+    public void testFilterUnchangedByNarrowingOrWidening() {
+        makeData(false,
+                 new Object[]{1, 2, 3, 4});
+        gridData.setFilter(valueAtLeast(2));
+        gridData.selectCell(0,
+                            0);
+
+        gridData.narrowFilter(valueAtLeast(1));
+        gridData.widenFilter(valueAtLeast(2));
+
+        assertColumnValues(0,
+                           2, 3, 4);
+        assertEquals(0,
+                     gridData.getSelectedCells().get(0).getRowIndex());
+    }
+
+    @Test
+    public void testRowChangesWhilstFiltered() {
+        makeData(false,
+                 new Object[]{1, 2, 3, 4, 5});
+        gridData.setFilter((row) -> ((Integer) row.getCells().get(0).getValue().getValue()) % 2 == 1);
+        assertColumnValues(0,
+                           1, 3, 5);
+
+        //Inserted rows are visible until the filter changes
+        final GridRow row = new BaseGridRow();
+        gridData.insertRow(1,
+                           row);
+        gridData.setCellValue(1,
+                              0,
+                              new BaseGridCellValue<>(10));
+        gridData.deleteRow(2);
+        assertColumnValues(0,
+                           1, 10, 5);
+
+        gridData.setFilter(null);
+
+        assertColumnValues(0,
+                           1, 2, 10, 4, 5);
+    }
+
+    @Test
+    public void testSortWhilstFilteredSortsAllRows() {
+        makeData(false,
+                 new Object[]{5, 1, 4, 2, 3});
+        gridData.setFilter((row) -> ((Integer) row.getCells().get(0).getValue().getValue()) != 4);
+
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           false)));
+        assertColumnValues(0,
+                           5, 3, 2, 1);
+
+        gridData.setFilter(null);
+
+        assertColumnValues(0,
+                           5, 4, 3, 2, 1);
+    }
+
+    @Test
+    public void testNarrowFilterWithoutFilter() {
+        makeData(false,
+                 new Object[]{1, 2, 3});
+
+        gridData.narrowFilter(valueAtLeast(2));
+
+        assertColumnValues(0,
+                           2, 3);
+        assertNotNull(gridData.getFilter());
+    }
+
+    private Predicate<GridRow> valueAtLeast(final int value) {
+        return (row) -> ((Integer) row.getCells().get(0).getValue().getValue()) >= value;
+    }
+
+    private Predicate<GridRow> counting(final Predicate<GridRow> filter,
+                                       final AtomicInteger evaluations) {
+        return (row) -> {
+            evaluations.incrementAndGet();
+            return filter.test(row);
+        };
+    }
+}
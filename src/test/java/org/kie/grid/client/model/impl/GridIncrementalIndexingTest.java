@@ -0,0 +1,282 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridData;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GridIncrementalIndexingTest extends BaseGridTest {
+
+    private static final String[][] VALUES = {
+            {"a", "a", "a", "b", "b", "c", "c", "c"},
+            {"x", "y", "y", "y", "z", "z", "x", "x"},
+            {"p", "p", "p", "p", "p", "p", "p", "p"}
+    };
+
+    private final List<Double> progress = new ArrayList<>();
+    private int completions = 0;
+    private int cancellations = 0;
+
+    private final BaseGridDataIndexManager.IndexingCallback callback = new BaseGridDataIndexManager.IndexingCallback() {
+        @Override
+        public void onProgress(final double p) {
+            progress.add(p);
+        }
+
+        @Override
+        public void onComplete() {
+            completions++;
+        }
+
+        @Override
+        public void onCancelled() {
+            cancellations++;
+        }
+    };
+
+    @Test
+    public void testIncrementalIndexMatchesFullIndex() {
+        final GridData expected = makeData();
+        expected.setMerged(true);
+
+        gridData = makeData();
+        final BaseGridDataIndexManager.IncrementalIndex index = ((BaseGridData) gridData).setMergedIncrementally(callback);
+        assertTrue(gridData.isMerged());
+        assertTrue(getIndexManager().isIndexing());
+
+        while (index.execute()) {
+            //Execute until complete
+        }
+
+        assertFalse(getIndexManager().isIndexing());
+        assertEquals(1,
+                     completions);
+        assertEquals(0,
+                     cancellations);
+        assertMergeMetaData(expected,
+                            gridData);
+    }
+
+    @Test
+    public void testIncrementalIndexProgress() {
+        gridData = makeData();
+        final BaseGridDataIndexManager.IncrementalIndex index = getIndexManager().onMergeIncrementally(5,
+                                                                                                         callback);
+        while (index.execute()) {
+            //Execute until complete
+        }
+
+        assertEquals(5,
+                     progress.size());
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i) > progress.get(i - 1));
+        }
+        assertEquals(1.0,
+                     progress.get(progress.size() - 1),
+                     0.0);
+    }
+
+    @Test
+    public void testIncrementalIndexMergesCompletedBlocksOnly() {
+        gridData = makeData();
+        ((BaseGridData) gridData).isMerged = true;
+        final BaseGridDataIndexManager.IncrementalIndex index = getIndexManager().onMergeIncrementally(4,
+                                                                                                         callback);
+        assertTrue(index.execute());
+
+        //Rows 0-2 form a complete block; row 3 starts a block that has not been completely indexed
+        assertEquals(3,
+                     gridData.getCell(0,
+                                      0).getMergedCellCount());
+        assertEquals(1,
+                     gridData.getCell(3,
+                                      0).getMergedCellCount());
+        assertEquals(1,
+                     gridData.getCell(4,
+                                      0).getMergedCellCount());
+        assertEquals(1,
+                     gridData.getCell(1,
+                                      1).getMergedCellCount());
+    }
+
+    @Test
+    public void testIncrementalIndexReportsIndexedColumns() {
+        gridData = makeData();
+        ((BaseGridData) gridData).isMerged = true;
+        final BaseGridDataIndexManager.IncrementalIndex index = getIndexManager().onMergeIncrementally(5,
+                                                                                                         callback);
+        assertTrue(index.execute());
+        assertFalse(index.isColumnIndexed());
+        assertEquals(1,
+                     gridData.getMergedBlock(6,
+                                             0).getRowCount());
+
+        //Rows 5-7 complete the first column
+        assertTrue(index.execute());
+        assertTrue(index.isColumnIndexed());
+        assertEquals(3,
+                     gridData.getMergedBlock(6,
+                                             0).getRowCount());
+
+        assertTrue(index.execute());
+        assertFalse(index.isColumnIndexed());
+    }
+
+    @Test
+    public void testIncrementalIndexReportsIndexedRows() {
+        gridData = makeData();
+        ((BaseGridData) gridData).isMerged = true;
+        final BaseGridDataIndexManager.IncrementalIndex index = getIndexManager().onMergeIncrementally(5,
+                                                                                                         callback);
+        assertFalse(index.isAnyRowIndexed(0,
+                                          7));
+
+        //Rows 0-4 of the first column
+        assertTrue(index.execute());
+        assertTrue(index.isAnyRowIndexed(4,
+                                         7));
+        assertFalse(index.isAnyRowIndexed(5,
+                                          7));
+
+        //Rows 5-7 of the first column and rows 0-1 of the second
+        assertTrue(index.execute());
+        assertTrue(index.isAnyRowIndexed(0,
+                                         0));
+        assertTrue(index.isAnyRowIndexed(7,
+                                         7));
+
+        //Rows 2-6 of the second column
+        assertTrue(index.execute());
+        assertFalse(index.isAnyRowIndexed(0,
+                                          1));
+        assertTrue(index.isAnyRowIndexed(6,
+                                         7));
+        assertFalse(index.isAnyRowIndexed(7,
+                                          7));
+    }
+
+    @Test
+    public void testIncrementalIndexRestartsFollowingChange() {
+        final GridData expected = makeData();
+        expected.setMerged(true);
+        expected.setCellValue(7,
+                              0,
+                              new BaseGridCellValue<>("b"));
+
+        gridData = makeData();
+        ((BaseGridData) gridData).isMerged = true;
+        final BaseGridDataIndexManager.IncrementalIndex index = getIndexManager().onMergeIncrementally(4,
+                                                                                                         callback);
+        index.execute();
+        index.execute();
+        gridData.setCellValue(7,
+                              0,
+                              new BaseGridCellValue<>("b"));
+        while (index.execute()) {
+            //Execute until complete
+        }
+
+        assertMergeMetaData(expected,
+                            gridData);
+    }
+
+    @Test
+    public void testIncrementalIndexCancelled() {
+        gridData = makeData();
+        ((BaseGridData) gridData).isMerged = true;
+        final BaseGridDataIndexManager.IncrementalIndex index = getIndexManager().onMergeIncrementally(4,
+                                                                                                         callback);
+        index.execute();
+
+        gridData.setMerged(false);
+
+        assertTrue(index.isCancelled());
+        assertFalse(index.execute());
+        assertFalse(getIndexManager().isIndexing());
+        assertEquals(1,
+                     cancellations);
+        assertEquals(0,
+                     completions);
+        assertEquals(1,
+                     gridData.getCell(0,
+                                      0).getMergedCellCount());
+    }
+
+    @Test
+    public void testCollapseIgnoredWhileIndexing() {
+        gridData = makeData();
+        final BaseGridDataIndexManager.IncrementalIndex index = getIndexManager().onMergeIncrementally(8,
+                                                                                                         callback);
+        ((BaseGridData) gridData).isMerged = true;
+        index.execute();
+
+        gridData.collapseCell(0,
+                              0);
+        assertFalse(gridData.getRow(1).isCollapsed());
+
+        while (index.execute()) {
+            //Execute until complete
+        }
+        gridData.collapseCell(0,
+                              0);
+        assertTrue(gridData.getRow(1).isCollapsed());
+    }
+
+    private GridData makeData() {
+        final int columnCount = VALUES.length;
+        final int rowCount = VALUES[0].length;
+        constructGridData(false,
+                          columnCount,
+                          rowCount);
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                gridData.setCellValue(rowIndex,
+                                      columnIndex,
+                                      new BaseGridCellValue<>(VALUES[columnIndex][rowIndex]));
+            }
+        }
+        return gridData;
+    }
+
+    private BaseGridDataIndexManager getIndexManager() {
+        return ((BaseGridData) gridData).indexManager;
+    }
+
+    private void assertMergeMetaData(final GridData expected,
+                                     final GridData actual) {
+        for (int rowIndex = 0; rowIndex < expected.getRowCount(); rowIndex++) {
+            assertEquals(expected.getRow(rowIndex).isMerged(),
+                         actual.getRow(rowIndex).isMerged());
+            for (int columnIndex = 0; columnIndex < expected.getColumnCount(); columnIndex++) {
+                final GridCell<?> expectedCell = expected.getCell(rowIndex,
+                                                                  columnIndex);
+                final GridCell<?> actualCell = actual.getCell(rowIndex,
+                                                              columnIndex);
+                assertEquals("(" + rowIndex + ", " + columnIndex + ")",
+                             expectedCell.getMergedCellCount(),
+                             actualCell.getMergedCellCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridData;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GridMergedBlocksTest extends BaseGridTest {
+
+    @Test
+    public void testMergedBlock() {
+        constructGridData(2,
+                          6);
+        setColumnValues(0,
+                        "a", "a", "a", "b", "b", "c");
+        setColumnValues(1,
+                        "x", "y", "z", "z", "z", "z");
+
+        assertMergedBlock(2,
+                          0,
+                          0,
+                          3,
+                          false);
+        assertMergedBlock(4,
+                          0,
+                          3,
+                          2,
+                          false);
+        assertMergedBlock(5,
+                          0,
+                          5,
+                          1,
+                          false);
+        assertMergedBlock(1,
+                          1,
+                          1,
+                          1,
+                          false);
+        assertMergedBlock(5,
+                          1,
+                          2,
+                          4,
+                          false);
+        assertMergedBlocksMatchBackTracking();
+    }
+
+    @Test
+    public void testMergedBlockHeight() {
+        constructGridData(1,
+                          4);
+        setColumnValues(0,
+                        "a", "a", "a", "b");
+        gridData.getRow(1).setHeight(50.0);
+
+        assertEquals(90.0,
+                     gridData.getMergedBlock(2,
+                                             0).getHeight(),
+                     0.0);
+    }
+
+    @Test
+    public void testMergedBlockCollapsedMixedValue() {
+        constructGridData(2,
+                          4);
+        setColumnValues(0,
+                        "a", "a", "a", "b");
+        setColumnValues(1,
+                        "x", "x", "y", "y");
+        assertMergedBlocksMatchBackTracking();
+
+        gridData.collapseCell(0,
+                              0);
+
+        assertMergedBlock(0,
+                          0,
+                          0,
+                          3,
+                          false);
+        assertTrue(gridData.getMergedBlock(0,
+                                           1).isMixedValue());
+        assertFalse(gridData.getMergedBlock(3,
+                                            1).isMixedValue());
+        assertMergedBlocksMatchBackTracking();
+
+        gridData.expandCell(0,
+                            0);
+
+        assertFalse(gridData.getMergedBlock(0,
+                                            1).isMixedValue());
+        assertMergedBlocksMatchBackTracking();
+    }
+
+    @Test
+    public void testMergedBlocksUpdatedFollowingChanges() {
+        constructGridData(1,
+                          4);
+        setColumnValues(0,
+                        "a", "a", "b", "b");
+        assertMergedBlock(3,
+                          0,
+                          2,
+                          2,
+                          false);
+
+        gridData.setCellValue(2,
+                              0,
+                              new BaseGridCellValue<>("a"));
+        assertMergedBlock(3,
+                          0,
+                          0,
+                          4,
+                          false);
+
+        gridData.insertRow(0,
+                           new BaseGridRow());
+        assertMergedBlock(2,
+                          0,
+                          1,
+                          4,
+                          false);
+        assertMergedBlocksMatchBackTracking();
+
+        gridData.deleteRow(0);
+        assertMergedBlock(2,
+                          0,
+                          0,
+                          4,
+                          false);
+        assertMergedBlocksMatchBackTracking();
+    }
+
+    @Test
+    public void testMergedBlocksPatchedFollowingChanges() {
+        constructGridData(2,
+                          8);
+        setColumnValues(0,
+                        "a", "a", "a", "a", "b", "b", "c", "c");
+        setColumnValues(1,
+                        "x", "x", "y", "y", "y", "z", "z", "z");
+        assertMergedBlocksMatchBackTracking();
+
+        gridData.setCellValue(4,
+                              0,
+                              new BaseGridCellValue<>("c"));
+        assertMergedBlocksMatchBackTracking();
+
+        gridData.collapseCell(0,
+                              0);
+        assertMergedBlocksMatchBackTracking();
+
+        gridData.setCellValue(6,
+                              1,
+                              new BaseGridCellValue<>("y"));
+        assertMergedBlocksMatchBackTracking();
+
+        gridData.expandCell(0,
+                            0);
+        assertMergedBlocksMatchBackTracking();
+
+        gridData.deleteCell(7,
+                            1);
+        assertMergedBlocksMatchBackTracking();
+    }
+
+    @Test
+    public void testMergedBlockWhenNotMerged() {
+        constructGridData(false,
+                          1,
+                          3);
+        setColumnValues(0,
+                        "a", "a", "a");
+
+        assertMergedBlock(1,
+                          0,
+                          1,
+                          1,
+                          false);
+    }
+
+    private void setColumnValues(final int columnIndex,
+                                 final String... values) {
+        for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+            gridData.setCellValue(rowIndex,
+                                  columnIndex,
+                                  new BaseGridCellValue<>(values[rowIndex]));
+        }
+    }
+
+    private void assertMergedBlock(final int rowIndex,
+                                   final int columnIndex,
+                                   final int expectedLeadRowIndex,
+                                   final int expectedRowCount,
+                                   final boolean expectedMixedValue) {
+        final GridData.MergedBlock block = gridData.getMergedBlock(rowIndex,
+                                                                   columnIndex);
+        assertEquals(expectedLeadRowIndex,
+                     block.getLeadRowIndex());
+        assertEquals(expectedRowCount,
+                     block.getRowCount());
+        assertEquals(expectedMixedValue,
+                     block.isMixedValue());
+    }
+
+    private void assertMergedBlocksMatchBackTracking() {
+        for (int columnIndex = 0; columnIndex < gridData.getColumnCount(); columnIndex++) {
+            for (int rowIndex = 0; rowIndex < gridData.getRowCount(); rowIndex++) {
+                final GridData.MergedBlock expected = GridData.MergedBlock.find(gridData,
+                                                                                rowIndex,
+                                                                                columnIndex);
+                final GridData.MergedBlock actual = gridData.getMergedBlock(rowIndex,
+                                                                            columnIndex);
+                final String message = "(" + rowIndex + ", " + columnIndex + ")";
+                assertEquals(message,
+                             expected.getLeadRowIndex(),
+                             actual.getLeadRowIndex());
+                assertEquals(message,
+                             expected.getRowCount(),
+                             actual.getRowCount());
+                assertEquals(message,
+                             expected.getHeight(),
+                             actual.getHeight(),
+                             0.0);
+                assertEquals(message,
+                             expected.isMixedValue(),
+                             actual.isMixedValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.function.Consumer;
+
+import org.junit.Test;
+import org.kie.grid.client.model.impl.CountingGridData.Operation;
+
+/**
+ * Asserts bounds on the rows, cells, comparisons and heights visited by operations on merged data; which must not
+ * depend upon the number of rows. Each operation is measured on a small and a large grid, such that an operation
+ * visiting every row fails regardless of how quickly it does so.
+ */
+public class GridOperationCountTest {
+
+    private static final int[] ROW_COUNTS = {1_000, 100_000};
+    private static final int COLUMN_COUNT = 5;
+    private static final int RUN_LENGTH = 4;
+
+    @Test
+    public void testSetCellValueInMergedBlock() {
+        assertBounded(gridData -> gridData.setCellValue(middle(gridData) + 1,
+                                                        0,
+                                                        gridData.new Value<>("x")),
+                      20,
+                      40,
+                      20,
+                      5);
+    }
+
+    @Test
+    public void testDeleteRowInMergedBlock() {
+        //Each column's merged block is updated
+        assertBounded(gridData -> gridData.deleteRow(middle(gridData)),
+                      10 * COLUMN_COUNT,
+                      15 * COLUMN_COUNT,
+                      5 * COLUMN_COUNT,
+                      5);
+    }
+
+    @Test
+    public void testSelectCell() {
+        assertBounded(gridData -> gridData.selectCell(middle(gridData),
+                                                      1),
+                      10,
+                      10,
+                      5,
+                      0);
+    }
+
+    @Test
+    public void testSelectRange() {
+        assertBounded(gridData -> gridData.selectCells(middle(gridData),
+                                                       0,
+                                                       3,
+                                                       10),
+                      30,
+                      30,
+                      15,
+                      0);
+    }
+
+    @Test
+    public void testCollapseCell() {
+        assertBounded(gridData -> gridData.collapseCell(middle(gridData),
+                                                        1),
+                      40,
+                      40,
+                      15,
+                      5);
+    }
+
+    @Test
+    public void testMergedBlockLookupOnceIndexed() {
+        //Building the index visits every row once; thereafter each lookup visits a single row
+        assertBounded(gridData -> {
+                          gridData.getMergedBlock(0,
+                                                  1);
+                          gridData.reset();
+                          for (int rowIndex = middle(gridData); rowIndex < middle(gridData) + 100; rowIndex++) {
+                              gridData.getMergedBlock(rowIndex,
+                                                      1);
+                          }
+                      },
+                      100,
+                      100,
+                      0,
+                      0);
+    }
+
+    @Test
+    public void testMergedBlockLookupFollowingSetCellValue() {
+        //Only the rows of the merged block edited are rescanned
+        assertBounded(gridData -> {
+                          gridData.getMergedBlock(0,
+                                                  0);
+                          gridData.getMergedBlock(0,
+                                                  1);
+                          gridData.setCellValue(middle(gridData) + 1,
+                                                0,
+                                                gridData.new Value<>("x"));
+                          gridData.reset();
+                          gridData.getMergedBlock(middle(gridData),
+                                                  0);
+                          gridData.getMergedBlock(middle(gridData),
+                                                  1);
+                      },
+                      10,
+                      10,
+                      0,
+                      0);
+    }
+
+    private static int middle(final CountingGridData gridData) {
+        final int rowIndex = gridData.getRowCount() / 2;
+        return rowIndex - rowIndex % RUN_LENGTH;
+    }
+
+    private static void assertBounded(final Consumer<CountingGridData> operation,
+                                      final int maxGetRow,
+                                      final int maxGetCell,
+                                      final int maxEquals,
+                                      final int maxGetHeight) {
+        for (int rowCount : ROW_COUNTS) {
+            final CountingGridData gridData = CountingGridData.makeGridData(rowCount,
+                                                                            COLUMN_COUNT,
+                                                                            RUN_LENGTH,
+                                                                            true);
+            operation.accept(gridData);
+
+            gridData.assertAtMost(Operation.GET_ROW,
+                                  maxGetRow);
+            gridData.assertAtMost(Operation.GET_CELL,
+                                  maxGetCell);
+            gridData.assertAtMost(Operation.EQUALS,
+                                  maxEquals);
+            gridData.assertAtMost(Operation.GET_HEIGHT,
+                                  maxGetHeight);
+        }
+    }
+}
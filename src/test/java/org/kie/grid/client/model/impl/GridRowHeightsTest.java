@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridRow;
+
+import static org.junit.Assert.assertEquals;
+
+public class GridRowHeightsTest {
+
+    @Test
+    public void testUniformHeights() {
+        final GridRowHeights rowHeights = new GridRowHeights(20.0);
+
+        assertEquals(0.0,
+                     rowHeights.getRowOffset(0),
+                     0.0);
+        assertEquals(2000.0,
+                     rowHeights.getRowOffset(100),
+                     0.0);
+        assertEquals(-1,
+                     rowHeights.findRowIndex(0,
+                                             0));
+        assertEquals(0,
+                     rowHeights.findRowIndex(-10,
+                                             100));
+        assertEquals(0,
+                     rowHeights.findRowIndex(20,
+                                             100));
+        assertEquals(1,
+                     rowHeights.findRowIndex(21,
+                                             100));
+        assertEquals(99,
+                     rowHeights.findRowIndex(5000,
+                                             100));
+    }
+
+    @Test
+    public void testDetectUniformHeight() {
+        final List<GridRow> rows = makeRows(30.0,
+                                            30.0,
+                                            0.0,
+                                            30.0,
+                                            50.0);
+        final GridRowHeights rowHeights = new GridRowHeights(20.0);
+        rowHeights.detect(rows);
+
+        assertEquals(30.0,
+                     rowHeights.getRowHeight(),
+                     0.0);
+        assertEquals(2,
+                     rowHeights.getOverrideCount());
+        assertEquals(60.0,
+                     rowHeights.getRowOffset(3),
+                     0.0);
+        assertEquals(140.0,
+                     rowHeights.getRowOffset(5),
+                     0.0);
+    }
+
+    @Test
+    public void testSetRowHeight() {
+        final GridRowHeights rowHeights = new GridRowHeights(20.0);
+        rowHeights.setRowHeight(5,
+                                40.0);
+        assertEquals(1,
+                     rowHeights.getOverrideCount());
+        assertEquals(140.0,
+                     rowHeights.getRowOffset(6),
+                     0.0);
+
+        rowHeights.setRowHeight(5,
+                                20.0);
+        assertEquals(0,
+                     rowHeights.getOverrideCount());
+        assertEquals(120.0,
+                     rowHeights.getRowOffset(6),
+                     0.0);
+    }
+
+    @Test
+    public void testZeroUniformHeight() {
+        final List<GridRow> rows = makeRows(0.0,
+                                            0.0,
+                                            20.0,
+                                            0.0,
+                                            0.0);
+        assertGeometryMatchesRows(rows);
+    }
+
+    @Test
+    public void testGeometryMatchesRows() {
+        final Random random = new Random(0);
+        final double[] heights = {0.0, 20.0, 20.0, 20.0, 20.0, 35.0};
+        for (int rowCount = 1; rowCount < 60; rowCount++) {
+            final List<GridRow> rows = new ArrayList<>();
+            for (int i = 0; i < rowCount; i++) {
+                rows.add(new BaseGridRow(heights[random.nextInt(heights.length)]));
+            }
+            assertGeometryMatchesRows(rows);
+        }
+    }
+
+    @Test
+    public void testGridDataObservesRowHeights() {
+        final BaseGridData data = new BaseGridData(false);
+        final GridRow row0 = new BaseGridRow();
+        final GridRow row1 = new BaseGridRow();
+        final GridRow row2 = new BaseGridRow();
+        data.appendRow(row0);
+        data.appendRow(row1);
+        data.appendRow(row2);
+
+        assertEquals(60.0,
+                     data.getRowOffset(3),
+                     0.0);
+
+        row1.setHeight(50.0);
+        assertEquals(90.0,
+                     data.getRowOffset(3),
+                     0.0);
+        assertEquals(1,
+                     data.findRowIndex(60.0));
+
+        data.moveRowTo(0,
+                       row1);
+        assertEquals(50.0,
+                     data.getRowOffset(1),
+                     0.0);
+        assertEquals(0,
+                     data.findRowIndex(50.0));
+
+        data.deleteRow(0);
+        assertEquals(40.0,
+                     data.getRowOffset(2),
+                     0.0);
+
+        //Rows removed from the grid no longer affect it
+        row1.setHeight(100.0);
+        data.insertRow(0,
+                       new BaseGridRow(10.0));
+        assertEquals(50.0,
+                     data.getRowOffset(3),
+                     0.0);
+    }
+
+    @Test
+    public void testGridDataObservesCollapsedRowHeights() {
+        final BaseGridData data = new BaseGridData(false);
+        final GridRow row0 = new BaseGridRow();
+        final GridRow row1 = new BaseGridRow();
+        data.appendRow(row0);
+        data.appendRow(row1);
+
+        row1.collapse();
+        row1.setHeight(0.0);
+        assertEquals(20.0,
+                     data.getRowOffset(2),
+                     0.0);
+
+        row1.expand();
+        assertEquals(40.0,
+                     data.getRowOffset(2),
+                     0.0);
+    }
+
+    private void assertGeometryMatchesRows(final List<GridRow> rows) {
+        final GridRowHeights rowHeights = new GridRowHeights(20.0);
+        rowHeights.detect(rows);
+
+        double offset = 0;
+        for (int rowIndex = 0; rowIndex <= rows.size(); rowIndex++) {
+            assertEquals(offset,
+                         rowHeights.getRowOffset(rowIndex),
+                         0.0);
+            if (rowIndex < rows.size()) {
+                offset = offset + rows.get(rowIndex).getHeight();
+            }
+        }
+        for (double y = -5; y < offset + 25; y = y + 2.5) {
+            assertEquals("y=" + y,
+                         findRowIndexByIteration(rows,
+                                                 y),
+                         rowHeights.findRowIndex(y,
+                                                 rows.size()));
+        }
+    }
+
+    private int findRowIndexByIteration(final List<GridRow> rows,
+                                        final double offsetY) {
+        int rowIndex = 0;
+        double y = offsetY;
+        while (rows.get(rowIndex).getHeight() < y && rowIndex < rows.size() - 1) {
+            y = y - rows.get(rowIndex).getHeight();
+            rowIndex++;
+        }
+        return rowIndex;
+    }
+
+    private List<GridRow> makeRows(final double... heights) {
+        final List<GridRow> rows = new ArrayList<>();
+        for (double height : heights) {
+            rows.add(new BaseGridRow(height));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridRow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GridRowListTest {
+
+    @Test
+    public void testAppendAndGet() {
+        final GridRowList rows = new GridRowList();
+        final List<GridRow> expected = new ArrayList<>();
+        for (int i = 0; i < GridRowList.MAX_BLOCK_SIZE * 5 + 3; i++) {
+            final GridRow row = new BaseGridRow();
+            rows.add(row);
+            expected.add(row);
+        }
+
+        assertEquals(expected.size(),
+                     rows.size());
+        assertEquals(6,
+                     rows.getBlockCount());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i),
+                       rows.get(i));
+        }
+    }
+
+    @Test
+    public void testInsertAtHeadSplitsBlocks() {
+        final GridRowList rows = new GridRowList();
+        final List<GridRow> expected = new ArrayList<>();
+        for (int i = 0; i < GridRowList.MAX_BLOCK_SIZE * 3; i++) {
+            final GridRow row = new BaseGridRow();
+            rows.add(0,
+                     row);
+            expected.add(0,
+                         row);
+        }
+
+        assertTrue(rows.getBlockCount() > 1);
+        assertEquals(expected,
+                     rows);
+    }
+
+    @Test
+    public void testRemoveCoalescesBlocks() {
+        final GridRowList rows = new GridRowList();
+        for (int i = 0; i < GridRowList.MAX_BLOCK_SIZE * 4; i++) {
+            rows.add(new BaseGridRow());
+        }
+        while (rows.size() > 1) {
+            rows.remove(rows.size() / 2);
+        }
+
+        assertEquals(1,
+                     rows.size());
+        assertEquals(1,
+                     rows.getBlockCount());
+
+        rows.remove(0);
+
+        assertTrue(rows.isEmpty());
+        assertEquals(0,
+                     rows.getBlockCount());
+    }
+
+    @Test
+    public void testRandomEditsMatchArrayList() {
+        final Random random = new Random(0);
+        final GridRowList rows = new GridRowList();
+        final List<GridRow> expected = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            final int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                final int index = random.nextInt(expected.size() + 1);
+                final GridRow row = new BaseGridRow();
+                rows.add(index,
+                         row);
+                expected.add(index,
+                             row);
+            } else if (operation < 9) {
+                final int index = random.nextInt(expected.size());
+                assertSame(expected.remove(index),
+                           rows.remove(index));
+            } else {
+                final int index = random.nextInt(expected.size());
+                final GridRow row = new BaseGridRow();
+                assertSame(expected.set(index,
+                                        row),
+                           rows.set(index,
+                                    row));
+            }
+            assertEquals(expected.size(),
+                         rows.size());
+        }
+
+        assertEquals(expected,
+                     rows);
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i),
+                       rows.get(i));
+            assertEquals(i,
+                         rows.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void testRangeIterator() {
+        final GridRowList rows = new GridRowList();
+        for (int i = 0; i < GridRowList.MAX_BLOCK_SIZE * 3; i++) {
+            rows.add(new BaseGridRow());
+        }
+
+        final int fromIndex = GridRowList.MAX_BLOCK_SIZE - 2;
+        final int toIndex = GridRowList.MAX_BLOCK_SIZE * 2 + 2;
+        final Iterator<GridRow> itr = rows.iterator(fromIndex,
+                                                    toIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            assertTrue(itr.hasNext());
+            assertSame(rows.get(i),
+                       itr.next());
+        }
+        assertFalse(itr.hasNext());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        final GridRowList rows = new GridRowList();
+        final List<GridRow> expected = new ArrayList<>();
+        for (int i = 0; i < GridRowList.MAX_BLOCK_SIZE * 3; i++) {
+            final GridRow row = new BaseGridRow();
+            rows.add(row);
+            if (i % 3 != 0) {
+                expected.add(row);
+            }
+        }
+
+        int index = 0;
+        final Iterator<GridRow> itr = rows.iterator();
+        while (itr.hasNext()) {
+            itr.next();
+            if (index++ % 3 == 0) {
+                itr.remove();
+            }
+        }
+
+        assertEquals(expected,
+                     rows);
+    }
+
+    @Test
+    public void testRemoveAllAndAddAll() {
+        final GridRowList rows = new GridRowList();
+        final List<GridRow> expected = new ArrayList<>();
+        for (int i = 0; i < GridRowList.MAX_BLOCK_SIZE * 2; i++) {
+            final GridRow row = new BaseGridRow();
+            rows.add(row);
+            expected.add(row);
+        }
+
+        final List<GridRow> moved = new ArrayList<>(expected.subList(10,
+                                                                     20));
+        rows.removeAll(moved);
+        expected.removeAll(moved);
+        rows.addAll(GridRowList.MAX_BLOCK_SIZE,
+                    moved);
+        expected.addAll(GridRowList.MAX_BLOCK_SIZE,
+                        moved);
+
+        assertEquals(expected,
+                     rows);
+    }
+
+    @Test
+    public void testSnapshotIsIsolatedFromChanges() {
+        final GridRowList rows = new GridRowList();
+        for (int i = 0; i < GridRowList.MAX_BLOCK_SIZE * 3; i++) {
+            rows.add(new BaseGridRow());
+        }
+        final List<GridRow> expected = new ArrayList<>(rows);
+
+        final GridRowList snapshot = rows.snapshot();
+        final List<GridRow> changed = new ArrayList<>(rows);
+        final Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            final int index = random.nextInt(changed.size());
+            switch (random.nextInt(3)) {
+                case 0:
+                    final GridRow row = new BaseGridRow();
+                    rows.add(index,
+                             row);
+                    changed.add(index,
+                                row);
+                    break;
+                case 1:
+                    rows.remove(index);
+                    changed.remove(index);
+                    break;
+                default:
+                    final GridRow replacement = new BaseGridRow();
+                    rows.set(index,
+                             replacement);
+                    changed.set(index,
+                                replacement);
+            }
+        }
+        rows.add(new BaseGridRow());
+        changed.add(rows.get(rows.size() - 1));
+
+        assertEquals(expected,
+                     snapshot);
+        assertEquals(changed,
+                     rows);
+    }
+
+    @Test
+    public void testRestore() {
+        final GridRowList rows = new GridRowList();
+        for (int i = 0; i < GridRowList.MAX_BLOCK_SIZE * 2; i++) {
+            rows.add(new BaseGridRow());
+        }
+        final List<GridRow> expected = new ArrayList<>(rows);
+        final GridRowList snapshot = rows.snapshot();
+        rows.remove(0);
+        rows.clear();
+
+        rows.restore(snapshot);
+        assertEquals(expected,
+                     rows);
+
+        //Changes after restoring are isolated from the snapshot
+        rows.set(0,
+                 new BaseGridRow());
+        rows.add(0,
+                 new BaseGridRow());
+        assertEquals(expected,
+                     snapshot);
+    }
+}
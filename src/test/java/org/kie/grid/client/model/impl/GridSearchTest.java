@@ -0,0 +1,256 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.GridRow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GridSearchTest extends BaseGridTest {
+
+    @Test
+    public void testFindAllInUiOrder() {
+        makeData(new Object[]{"Smith, Jane", "Jones", "Janet"},
+                 new Object[]{"jam", 42, "Smith"});
+        gridData.moveColumnTo(0,
+                              gridColumns[1]);
+
+        assertHits(gridData.findAll("ja",
+                                    0,
+                                    2),
+                   new GridData.SelectedCell(0,
+                                             1),
+                   new GridData.SelectedCell(0,
+                                             0),
+                   new GridData.SelectedCell(2,
+                                             0));
+        assertHits(gridData.findAll("JA SM",
+                                    0,
+                                    2),
+                   new GridData.SelectedCell(0,
+                                             0));
+        assertHits(gridData.findAll("4",
+                                    0,
+                                    2),
+                   new GridData.SelectedCell(1,
+                                             1));
+        assertHits(gridData.findAll("ja",
+                                    1,
+                                    2),
+                   new GridData.SelectedCell(2,
+                                             0));
+    }
+
+    @Test
+    public void testFindNextWraps() {
+        makeData(new Object[]{"a", "b", "a"},
+                 new Object[]{"b", "a", "c"});
+
+        assertEquals(new GridData.SelectedCell(0,
+                                               0),
+                     gridData.findNext("a",
+                                       -1,
+                                       0));
+        assertEquals(new GridData.SelectedCell(1,
+                                               1),
+                     gridData.findNext("a",
+                                       0,
+                                       0));
+        assertEquals(new GridData.SelectedCell(2,
+                                               0),
+                     gridData.findNext("a",
+                                       1,
+                                       1));
+        assertEquals(new GridData.SelectedCell(0,
+                                               0),
+                     gridData.findNext("a",
+                                       2,
+                                       0));
+        assertEquals(new GridData.SelectedCell(2,
+                                               1),
+                     gridData.findNext("c",
+                                       2,
+                                       1));
+        assertNull(gridData.findNext("d",
+                                     0,
+                                     0));
+    }
+
+    @Test
+    public void testFindNextFollowingMoveColumn() {
+        makeData(new Object[]{"a", "b", "a"},
+                 new Object[]{"a", "a", "c"});
+        gridData.moveColumnTo(0,
+                              gridColumns[1]);
+
+        //Cells are visited as displayed; with the second column in the model displayed first
+        final GridData.SelectedCell[] expected = {
+                new GridData.SelectedCell(0,
+                                          0),
+                new GridData.SelectedCell(1,
+                                          1),
+                new GridData.SelectedCell(2,
+                                          0),
+                new GridData.SelectedCell(0,
+                                          1)
+        };
+        GridData.SelectedCell hit = new GridData.SelectedCell(0,
+                                                              1);
+        for (GridData.SelectedCell cell : expected) {
+            hit = gridData.findNext("a",
+                                    hit.getRowIndex(),
+                                    hit.getColumnIndex());
+            assertEquals(cell,
+                         hit);
+        }
+    }
+
+    @Test
+    public void testIndexFollowsCellChanges() {
+        makeData(new Object[]{"apple", "banana", "cherry"},
+                 new Object[]{"x", "y", "z"});
+        assertEquals(1,
+                     gridData.findAll("ban",
+                                      0,
+                                      2).size());
+
+        gridData.setCellValue(1,
+                              0,
+                              new BaseGridCellValue<>("apricot"));
+        gridData.deleteCell(0,
+                            0);
+
+        assertTrue(gridData.findAll("ban",
+                                    0,
+                                    2).isEmpty());
+        assertHits(gridData.findAll("ap",
+                                    0,
+                                    2),
+                   new GridData.SelectedCell(1,
+                                             0));
+    }
+
+    @Test
+    public void testIndexFollowsRowChanges() {
+        makeData(new Object[]{"a", "b", "c"});
+        gridData.findAll("a",
+                         0,
+                         2);
+
+        final BaseGridRow row = new BaseGridRow();
+        row.setCell(0,
+                    new BaseGridCell<>(new BaseGridCellValue<>("a")));
+        gridData.insertRow(0,
+                           row);
+        gridData.deleteRow(1);
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           false)));
+
+        assertHits(gridData.findAll("a",
+                                    0,
+                                    2),
+                   new GridData.SelectedCell(2,
+                                             0));
+    }
+
+    @Test
+    public void testIndexFollowsColumnChanges() {
+        makeData(new Object[]{"a", "b"},
+                 new Object[]{"b", "a"});
+        gridData.findAll("a",
+                         0,
+                         1);
+
+        gridData.deleteColumn(gridColumns[0]);
+
+        assertHits(gridData.findAll("a",
+                                    0,
+                                    1),
+                   new GridData.SelectedCell(1,
+                                             0));
+    }
+
+    @Test
+    public void testFindExcludesHiddenColumnsAndCollapsedRows() {
+        makeData(new Object[]{"a", "a", "b"},
+                 new Object[]{"a", "b", "c"});
+        gridData.setMerged(true);
+        gridData.collapseCell(0,
+                              0);
+        gridColumns[1].setVisible(false);
+
+        assertHits(gridData.findAll("a",
+                                    0,
+                                    2),
+                   new GridData.SelectedCell(0,
+                                             0));
+    }
+
+    @Test
+    public void testIndexOverflowFallsBackToScanning() {
+        final BaseGridRow row = new BaseGridRow();
+        row.setCell(0,
+                    new BaseGridCell<>(new BaseGridCellValue<>("one two three")));
+        final List<GridRow> rows = Collections.singletonList(row);
+
+        final GridSearchIndex index = new GridSearchIndex(2);
+
+        assertNull(index.find("two",
+                              rows));
+        assertTrue(index.isOverflowed());
+        assertTrue(GridSearchIndex.isMatch(row,
+                                           0,
+                                           "tw th"));
+        assertFalse(GridSearchIndex.isMatch(row,
+                                            0,
+                                            "four"));
+
+        final GridSearchIndex unbounded = new GridSearchIndex();
+        final Map<Integer, Set<GridRow>> matches = unbounded.find("tw th",
+                                                                  rows);
+        assertTrue(matches.get(0).contains(row));
+    }
+
+    private void makeData(final Object[]... values) {
+        constructGridData(false,
+                          values.length,
+                          values[0].length);
+        for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+            for (int rowIndex = 0; rowIndex < values[columnIndex].length; rowIndex++) {
+                gridData.setCellValue(rowIndex,
+                                      columnIndex,
+                                      new BaseGridCellValue<>(values[columnIndex][rowIndex]));
+            }
+        }
+    }
+
+    private void assertHits(final List<GridData.SelectedCell> actual,
+                            final GridData.SelectedCell... expected) {
+        assertEquals(Arrays.asList(expected),
+                     actual);
+    }
+}
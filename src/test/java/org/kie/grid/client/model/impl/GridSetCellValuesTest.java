@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridCellValue;
+import org.kie.grid.client.model.GridData;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class GridSetCellValuesTest extends BaseGridTest {
+
+    @Test
+    public void testSetBlockOfCells() {
+        makeData(false,
+                 new Object[]{"a", "b", "c"},
+                 new Object[]{"d", "e", "f"},
+                 new Object[]{"g", "h", "i"});
+
+        final GridData.Range range = gridData.setCellValues(1,
+                                                            1,
+                                                            values(new Object[]{"x", null},
+                                                                   new Object[]{"y", "z", "ignored"},
+                                                                   new Object[]{"ignored"}));
+
+        assertEquals(1,
+                     range.getMinRowIndex());
+        assertEquals(2,
+                     range.getMaxRowIndex());
+        assertColumnValues(0,
+                           "a", "b", "c");
+        assertColumnValues(1,
+                           "d", "x", "y");
+        assertColumnValues(2,
+                           "g", null, "z");
+    }
+
+    @Test
+    public void testHiddenColumnsAreSkipped() {
+        makeData(false,
+                 new Object[]{"a"},
+                 new Object[]{"b"},
+                 new Object[]{"c"});
+        gridColumns[1].setVisible(false);
+
+        gridData.setCellValues(0,
+                               0,
+                               values(new Object[]{"x", "y"}));
+
+        assertColumnValues(0,
+                           "x");
+        assertColumnValues(1,
+                           "b");
+        assertColumnValues(2,
+                           "y");
+    }
+
+    @Test
+    public void testMergedCellsIndexedOnce() {
+        makeData(true,
+                 new Object[]{"a", "a", "c", "d"});
+        gridData.collapseCell(0,
+                              0);
+
+        gridData.setCellValues(2,
+                               0,
+                               values(new Object[]{"a"}));
+
+        assertEquals(3,
+                     gridData.getCell(0,
+                                      0).getMergedCellCount());
+        assertEquals(1,
+                     gridData.getCell(3,
+                                      0).getMergedCellCount());
+        for (int rowIndex = 0; rowIndex < gridData.getRowCount(); rowIndex++) {
+            assertFalse(gridData.getRow(rowIndex).isCollapsed());
+        }
+    }
+
+    @Test
+    public void testSortedRowsAreSortedOnce() {
+        makeData(false,
+                 new Object[]{1, 2, 3});
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+
+        gridData.setCellValues(0,
+                               0,
+                               values(new Object[]{5},
+                                      new Object[]{4}));
+
+        assertColumnValues(0,
+                           3, 4, 5);
+    }
+
+    @Test
+    public void testValuesAreConsumedIncrementally() {
+        makeData(false,
+                 new Object[]{"a", "b"});
+        final AtomicInteger consumed = new AtomicInteger();
+        final Iterator<List<GridCellValue<?>>> values = values(new Object[]{"x"},
+                                                               new Object[]{"y"},
+                                                               new Object[]{"z"});
+
+        gridData.setCellValues(0,
+                               0,
+                               new Iterator<List<GridCellValue<?>>>() {
+                                   @Override
+                                   public boolean hasNext() {
+                                       return values.hasNext();
+                                   }
+
+                                   @Override
+                                   public List<GridCellValue<?>> next() {
+                                       consumed.incrementAndGet();
+                                       return values.next();
+                                   }
+                               });
+
+        //Rows beyond the end of the grid are not read
+        assertEquals(2,
+                     consumed.get());
+        assertColumnValues(0,
+                           "x", "y");
+    }
+
+    private Iterator<List<GridCellValue<?>>> values(final Object[]... rows) {
+        final List<List<GridCellValue<?>>> values = new ArrayList<>();
+        for (Object[] row : rows) {
+            final List<GridCellValue<?>> rowValues = new ArrayList<>();
+            for (Object value : Arrays.asList(row)) {
+                rowValues.add(value == null ? null : new BaseGridCellValue<>(value));
+            }
+            values.add(rowValues);
+        }
+        return values.iterator();
+    }
+}
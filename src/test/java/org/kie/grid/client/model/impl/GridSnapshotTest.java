@@ -0,0 +1,254 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridData;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GridSnapshotTest extends BaseGridTest {
+
+    @Test
+    public void testRestoreCellValues() {
+        makeData(false,
+                 new Object[]{"a", "b", "c"});
+        final GridData.Snapshot snapshot = gridData.snapshot();
+
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>("x"));
+        gridData.deleteCell(1,
+                            0);
+        assertColumnValues(0,
+                           "x", null, "c");
+
+        gridData.restore(snapshot);
+        assertColumnValues(0,
+                           "a", "b", "c");
+    }
+
+    @Test
+    public void testUndoAndRedo() {
+        makeData(false,
+                 new Object[]{"a", "b", "c"});
+        final GridData.Snapshot before = gridData.snapshot();
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>("x"));
+        gridData.appendRow(new BaseGridRow());
+        final GridData.Snapshot after = gridData.snapshot();
+
+        gridData.restore(before);
+        assertColumnValues(0,
+                           "a", "b", "c");
+
+        //Changes after restoring do not affect other snapshots
+        gridData.setCellValue(1,
+                              0,
+                              new BaseGridCellValue<>("y"));
+
+        gridData.restore(after);
+        assertColumnValues(0,
+                           "x", "b", "c", null);
+
+        gridData.restore(before);
+        assertColumnValues(0,
+                           "a", "b", "c");
+    }
+
+    @Test
+    public void testUnchangedCellsAreShared() {
+        makeData(false,
+                 new Object[]{"a", "b", "c"});
+        final GridCell<?> unchanged = gridData.getCell(2,
+                                                       0);
+        final GridData.Snapshot snapshot = gridData.snapshot();
+
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>("x"));
+        gridData.restore(snapshot);
+
+        assertSame(unchanged,
+                   gridData.getCell(2,
+                                    0));
+    }
+
+    @Test
+    public void testRestoreRowsAndIndexMergedCells() {
+        makeData(true,
+                 new Object[]{"a", "a", "b", "b"},
+                 new Object[]{1, 2, 3, 4});
+        final GridData.Snapshot snapshot = gridData.snapshot();
+
+        gridData.deleteRow(1);
+        gridData.moveRowTo(0,
+                           gridData.getRow(2));
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>("a"));
+        gridData.collapseCell(0,
+                              0);
+
+        gridData.restore(snapshot);
+
+        assertColumnValues(1,
+                           1, 2, 3, 4);
+        assertEquals(2,
+                     gridData.getCell(0,
+                                      0).getMergedCellCount());
+        assertEquals(2,
+                     gridData.getCell(2,
+                                      0).getMergedCellCount());
+        for (int rowIndex = 0; rowIndex < gridData.getRowCount(); rowIndex++) {
+            assertEquals(20.0,
+                         gridData.getRow(rowIndex).getHeight(),
+                         0.0);
+        }
+    }
+
+    @Test
+    public void testRestoreColumns() {
+        makeData(false,
+                 new Object[]{"a", "b"},
+                 new Object[]{1, 2},
+                 new Object[]{"x", "y"});
+        final GridData.Snapshot snapshot = gridData.snapshot();
+
+        gridData.deleteColumn(gridColumns[0]);
+        gridData.moveColumnTo(0,
+                              gridColumns[2]);
+
+        gridData.restore(snapshot);
+
+        assertEquals(3,
+                     gridData.getColumnCount());
+        for (int columnIndex = 0; columnIndex < 3; columnIndex++) {
+            assertSame(gridColumns[columnIndex],
+                       gridData.getColumns().get(columnIndex));
+            assertEquals(columnIndex,
+                         gridColumns[columnIndex].getIndex());
+        }
+        assertColumnValues(0,
+                           "a", "b");
+        assertColumnValues(2,
+                           "x", "y");
+    }
+
+    @Test
+    public void testRestoreWhilstFiltered() {
+        makeData(false,
+                 new Object[]{1, 2, 3});
+        gridData.setFilter((row) -> ((Integer) row.getCells().get(0).getValue().getValue()) > 1);
+        final GridData.Snapshot snapshot = gridData.snapshot();
+
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>(0));
+        gridData.restore(snapshot);
+        assertColumnValues(0,
+                           2, 3);
+
+        gridData.setFilter(null);
+        assertColumnValues(0,
+                           1, 2, 3);
+    }
+
+    @Test
+    public void testReleaseSnapshot() {
+        makeData(false,
+                 new Object[]{"a", "b", "c"});
+        final GridSnapshotVersions versions = ((BaseGridData) gridData).versions;
+        final BaseGridRow row = (BaseGridRow) gridData.getRow(0);
+        final GridData.Snapshot snapshot = gridData.snapshot();
+
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>("x"));
+        assertEquals(1,
+                     versions.getRetainingRowCount());
+        assertTrue(row.onChangeCells(versions));
+
+        snapshot.release();
+        assertEquals(0,
+                     versions.getRetainingRowCount());
+        assertFalse(row.onChangeCells(versions));
+
+        //Cells are not retained for released snapshots
+        gridData.setCellValue(1,
+                              0,
+                              new BaseGridCellValue<>("y"));
+        assertEquals(0,
+                     versions.getRetainingRowCount());
+    }
+
+    @Test
+    public void testReleaseRetainsCellsForLiveSnapshots() {
+        makeData(false,
+                 new Object[]{"a", "b", "c"});
+        final GridSnapshotVersions versions = ((BaseGridData) gridData).versions;
+        final GridData.Snapshot first = gridData.snapshot();
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>("x"));
+        final GridData.Snapshot second = gridData.snapshot();
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>("y"));
+        final GridData.Snapshot third = gridData.snapshot();
+        gridData.setCellValue(1,
+                              0,
+                              new BaseGridCellValue<>("z"));
+
+        //Both rows changed since the second snapshot retain cells for it
+        first.release();
+        third.release();
+        assertEquals(2,
+                     versions.getRetainingRowCount());
+
+        gridData.restore(second);
+        assertColumnValues(0,
+                           "x", "b", "c");
+
+        second.release();
+        assertEquals(0,
+                     versions.getRetainingRowCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRestoreReleasedSnapshot() {
+        makeData(false,
+                 new Object[]{"a"});
+        final GridData.Snapshot snapshot = gridData.snapshot();
+        snapshot.release();
+
+        gridData.restore(snapshot);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRestoreSnapshotOfAnotherGrid() {
+        makeData(false,
+                 new Object[]{"a"});
+        final GridData.Snapshot snapshot = new BaseGridData().snapshot();
+
+        gridData.restore(snapshot);
+    }
+}
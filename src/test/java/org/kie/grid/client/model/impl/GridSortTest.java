@@ -0,0 +1,261 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridCell;
+import org.kie.grid.client.model.GridData;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GridSortTest extends BaseGridTest {
+
+    @Test
+    public void testSortNumbers() {
+        makeData(false,
+                 new Object[]{3, 10, null, 2, 7});
+
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+        assertColumnValues(0,
+                           2, 3, 7, 10, null);
+
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           false)));
+        assertColumnValues(0,
+                           10, 7, 3, 2, null);
+    }
+
+    @Test
+    public void testSortLongsBeyondDoublePrecision() {
+        //Values above 2^53 that are equal once converted to doubles
+        makeData(false,
+                 new Object[]{9007199254740993L, 9007199254740992L, 9007199254740994L, 1});
+
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+        assertColumnValues(0,
+                           1, 9007199254740992L, 9007199254740993L, 9007199254740994L);
+    }
+
+    @Test
+    public void testSortMixedNumbers() {
+        makeData(false,
+                 new Object[]{2.5, 3L, 1, 1.5f});
+
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+        assertColumnValues(0,
+                           1, 1.5f, 2.5, 3L);
+    }
+
+    @Test
+    public void testSortMixedTypesAsStrings() {
+        makeData(false,
+                 new Object[]{"b", 2, "a", 1});
+
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+        assertColumnValues(0,
+                           1, 2, "a", "b");
+    }
+
+    @Test
+    public void testMultiColumnSortIsStable() {
+        makeData(false,
+                 new Object[]{"b", "a", "b", "a", "b"},
+                 new Object[]{2, 1, 1, 1, 2},
+                 new Object[]{"r0", "r1", "r2", "r3", "r4"});
+
+        gridData.sort(Arrays.asList(new GridData.SortCriterion(0,
+                                                               true),
+                                    new GridData.SortCriterion(1,
+                                                               false)));
+
+        assertColumnValues(2,
+                           "r1", "r3", "r0", "r4", "r2");
+        assertEquals(2,
+                     gridData.getSortCriteria().size());
+    }
+
+    @Test
+    public void testSortIndexesMergedBlocks() {
+        makeData(true,
+                 new Object[]{"b", "a", "b", "a"},
+                 new Object[]{"x", "x", "x", "y"});
+
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+
+        final GridData sorted = gridData;
+        makeData(true,
+                 new Object[]{"a", "a", "b", "b"},
+                 new Object[]{"x", "y", "x", "x"});
+        assertSameMergeMetaData(gridData,
+                                sorted);
+    }
+
+    @Test
+    public void testSortExpandsCollapsedCells() {
+        makeData(true,
+                 new Object[]{"b", "b", "a"});
+        gridData.collapseCell(0,
+                              0);
+        gridData.getRow(1).setHeight(0.0);
+
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+
+        assertColumnValues(0,
+                           "a", "b", "b");
+        for (int rowIndex = 0; rowIndex < gridData.getRowCount(); rowIndex++) {
+            assertFalse(gridData.getRow(rowIndex).isCollapsed());
+            assertEquals(20.0,
+                         gridData.getRow(rowIndex).getHeight(),
+                         0.0);
+        }
+        assertEquals(2,
+                     gridData.getCell(1,
+                                      0).getMergedCellCount());
+    }
+
+    @Test
+    public void testEditResortsRow() {
+        makeData(false,
+                 new Object[]{1, 2, 3, 4, 5},
+                 new Object[]{"r0", "r1", "r2", "r3", "r4"});
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+        gridData.selectCell(1,
+                            1);
+
+        gridData.setCellValue(1,
+                              0,
+                              new BaseGridCellValue<>(10));
+
+        assertColumnValues(0,
+                           1, 3, 4, 5, 10);
+        assertColumnValues(1,
+                           "r0", "r2", "r3", "r4", "r1");
+        assertEquals(1,
+                     gridData.getSelectedCells().size());
+        assertEquals(4,
+                     gridData.getSelectedCells().get(0).getRowIndex());
+    }
+
+    @Test
+    public void testEditResortsMergedRows() {
+        makeData(true,
+                 new Object[]{"a", "c", "c", "d"},
+                 new Object[]{"x", "y", "y", "x"});
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+
+        //Both rows in the merged block take the new value
+        gridData.setCellValue(1,
+                              0,
+                              new BaseGridCellValue<>("e"));
+
+        final GridData actual = gridData;
+        makeData(true,
+                 new Object[]{"a", "d", "e", "e"},
+                 new Object[]{"x", "x", "y", "y"});
+        assertSameMergeMetaData(gridData,
+                                actual);
+    }
+
+    @Test
+    public void testEditResortMatchesFullSort() {
+        makeData(true,
+                 new Object[]{"a", "b", "a", "c", "b", "a"},
+                 new Object[]{1, 2, 3, 4, 5, 6});
+        gridData.sort(Arrays.asList(new GridData.SortCriterion(0,
+                                                               true),
+                                    new GridData.SortCriterion(1,
+                                                               true)));
+        gridData.setCellValue(2,
+                              1,
+                              new BaseGridCellValue<>(0));
+        gridData.deleteCell(5,
+                            0);
+
+        final GridData incremental = gridData;
+        makeData(true,
+                 new Object[]{"a", "b", "a", "c", "b", "a"},
+                 new Object[]{1, 2, 3, 4, 5, 0});
+        gridData.deleteCell(3,
+                            0);
+        gridData.sort(Arrays.asList(new GridData.SortCriterion(0,
+                                                               true),
+                                    new GridData.SortCriterion(1,
+                                                               true)));
+        assertSameMergeMetaData(gridData,
+                                incremental);
+    }
+
+    @Test
+    public void testSortClearedByRowChanges() {
+        makeData(false,
+                 new Object[]{2, 1});
+        gridData.sort(Collections.singletonList(new GridData.SortCriterion(0,
+                                                                           true)));
+        assertFalse(gridData.getSortCriteria().isEmpty());
+
+        gridData.appendRow(new BaseGridRow());
+        assertTrue(gridData.getSortCriteria().isEmpty());
+
+        gridData.setCellValue(0,
+                              0,
+                              new BaseGridCellValue<>(5));
+        assertColumnValues(0,
+                           5, 2, null);
+    }
+
+    private void assertSameMergeMetaData(final GridData expected,
+                                         final GridData actual) {
+        assertEquals(expected.getRowCount(),
+                     actual.getRowCount());
+        for (int rowIndex = 0; rowIndex < expected.getRowCount(); rowIndex++) {
+            final String message = "Row[" + rowIndex + "]";
+            assertEquals(message,
+                         expected.getRow(rowIndex).isMerged(),
+                         actual.getRow(rowIndex).isMerged());
+            for (int columnIndex = 0; columnIndex < expected.getColumnCount(); columnIndex++) {
+                final GridCell<?> expectedCell = expected.getCell(rowIndex,
+                                                                  columnIndex);
+                final GridCell<?> actualCell = actual.getCell(rowIndex,
+                                                              columnIndex);
+                if (expectedCell == null) {
+                    assertNull(message,
+                               actualCell);
+                    continue;
+                }
+                assertEquals(message + ", Column[" + columnIndex + "]",
+                             expectedCell.getValue().getValue(),
+                             actualCell.getValue().getValue());
+                assertEquals(message + ", Column[" + columnIndex + "]",
+                             expectedCell.getMergedCellCount(),
+                             actualCell.getMergedCellCount());
+            }
+        }
+    }
+}
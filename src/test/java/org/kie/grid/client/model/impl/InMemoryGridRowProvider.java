@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+import org.kie.grid.client.model.GridRow;
+import org.kie.grid.client.model.GridRowProvider;
+
+/**
+ * A {@link GridRowProvider} backed by a List of rows that responds after an artificial latency. Time is simulated
+ * so tests remain deterministic; requests complete when {@link #advance(long)} moves the clock past their due time.
+ */
+public class InMemoryGridRowProvider implements GridRowProvider {
+
+    private final List<GridRow> rows;
+    private final double rowHeight;
+    private final long latency;
+    private final PriorityQueue<Request> requests = new PriorityQueue<>(Comparator.comparingLong(r -> r.dueTime));
+
+    private long time = 0;
+    private int requestCount = 0;
+
+    public InMemoryGridRowProvider(final List<GridRow> rows,
+                                   final double rowHeight,
+                                   final long latency) {
+        this.rows = rows;
+        this.rowHeight = rowHeight;
+        this.latency = latency;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public double getRowHeight() {
+        return rowHeight;
+    }
+
+    @Override
+    public void getRows(final int fromIndex,
+                        final int count,
+                        final Consumer<List<GridRow>> callback) {
+        requestCount++;
+        final Request request = new Request(time + latency,
+                                            () -> callback.accept(new ArrayList<>(rows.subList(fromIndex,
+                                                                                               fromIndex + count))));
+        if (latency == 0) {
+            request.response.run();
+        } else {
+            requests.add(request);
+        }
+    }
+
+    /**
+     * Advances the simulated clock, completing all requests that fall due.
+     * @param millis
+     */
+    public void advance(final long millis) {
+        time = time + millis;
+        while (!requests.isEmpty() && requests.peek().dueTime <= time) {
+            requests.poll().response.run();
+        }
+    }
+
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    public int getPendingRequestCount() {
+        return requests.size();
+    }
+
+    private static class Request {
+
+        private final long dueTime;
+        private final Runnable response;
+
+        private Request(final long dueTime,
+                        final Runnable response) {
+            this.dueTime = dueTime;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.GridRow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PagedGridDataTest extends BaseGridTest {
+
+    private static final double ROW_HEIGHT = 20.0;
+
+    private static final long LATENCY = 100;
+
+    private List<GridRow> providerRows;
+
+    private InMemoryGridRowProvider provider;
+
+    private PagedGridData pagedGridData;
+
+    private List<GridData.Range> loadedRanges = new ArrayList<>();
+
+    private void setup(final int rowCount,
+                       final int pageSize,
+                       final int rowBudget,
+                       final long latency) {
+        providerRows = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            final BaseGridRow row = new BaseGridRow(ROW_HEIGHT);
+            row.setCell(0,
+                        new BaseGridCell<>(new BaseGridCellValue<>("row" + i)));
+            providerRows.add(row);
+        }
+        provider = new InMemoryGridRowProvider(providerRows,
+                                               ROW_HEIGHT,
+                                               latency);
+        pagedGridData = new PagedGridData(provider,
+                                          pageSize,
+                                          rowBudget);
+        pagedGridData.appendColumn(new MockMergableGridColumn<String>("col0",
+                                                                      100));
+        pagedGridData.setPageLoadedCallback(loadedRanges::add);
+    }
+
+    @Test
+    public void testPlaceholdersUntilPageLoaded() {
+        setup(1000,
+              100,
+              500,
+              LATENCY);
+
+        assertEquals(1000,
+                     pagedGridData.getRowCount());
+
+        final GridRow placeholder = pagedGridData.getRow(150);
+        assertTrue(placeholder instanceof PagedGridData.PlaceholderRow);
+        assertFalse(pagedGridData.isRowLoaded(150));
+        assertEquals(ROW_HEIGHT,
+                     placeholder.getHeight(),
+                     0.0);
+
+        //Subsequent access while the page is pending does not issue another request
+        assertSame(placeholder,
+                   pagedGridData.getRow(150));
+        pagedGridData.getRow(199);
+        assertEquals(1,
+                     provider.getRequestCount());
+
+        provider.advance(LATENCY);
+
+        assertTrue(pagedGridData.isRowLoaded(150));
+        assertSame(providerRows.get(150),
+                   pagedGridData.getRow(150));
+        assertEquals("row150",
+                     pagedGridData.getCell(150,
+                                           0).getValue().getValue());
+        assertEquals(1,
+                     loadedRanges.size());
+        assertEquals(100,
+                     loadedRanges.get(0).getMinRowIndex());
+        assertEquals(199,
+                     loadedRanges.get(0).getMaxRowIndex());
+    }
+
+    @Test
+    public void testSynchronousProvider() {
+        setup(1000,
+              100,
+              500,
+              0);
+
+        assertSame(providerRows.get(42),
+                   pagedGridData.getRow(42));
+        assertEquals(1,
+                     provider.getRequestCount());
+    }
+
+    @Test
+    public void testLastPageIsPartial() {
+        setup(250,
+              100,
+              500,
+              0);
+
+        assertSame(providerRows.get(249),
+                   pagedGridData.getRow(249));
+        assertEquals(1,
+                     loadedRanges.size());
+        assertEquals(200,
+                     loadedRanges.get(0).getMinRowIndex());
+        assertEquals(249,
+                     loadedRanges.get(0).getMaxRowIndex());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPagesAreEvicted() {
+        setup(1000,
+              100,
+              300,
+              0);
+
+        pagedGridData.getRow(0);
+        pagedGridData.getRow(100);
+        pagedGridData.getRow(200);
+        assertEquals(3,
+                     pagedGridData.getCachedPageCount());
+
+        //Touch the first page so the second is the least recently used
+        pagedGridData.getRow(0);
+        pagedGridData.getRow(300);
+
+        assertEquals(3,
+                     pagedGridData.getCachedPageCount());
+        assertTrue(pagedGridData.isRowLoaded(0));
+        assertFalse(pagedGridData.isRowLoaded(100));
+        assertTrue(pagedGridData.isRowLoaded(200));
+        assertTrue(pagedGridData.isRowLoaded(300));
+
+        //Evicted pages are requested again
+        pagedGridData.getRow(100);
+        assertEquals(5,
+                     provider.getRequestCount());
+    }
+
+    @Test
+    public void testRefreshDiscardsStaleResponses() {
+        setup(1000,
+              100,
+              500,
+              LATENCY);
+
+        pagedGridData.getRow(0);
+        pagedGridData.refresh();
+        provider.advance(LATENCY);
+
+        assertFalse(pagedGridData.isRowLoaded(0));
+        assertTrue(loadedRanges.isEmpty());
+    }
+
+    @Test
+    public void testRowGeometryUsesDeclaredHeights() {
+        setup(1000,
+              100,
+              500,
+              LATENCY);
+
+        assertEquals(500 * ROW_HEIGHT,
+                     pagedGridData.getRowOffset(500),
+                     0.0);
+        assertEquals(1000 * ROW_HEIGHT,
+                     pagedGridData.getRowOffset(1000),
+                     0.0);
+        assertEquals(0,
+                     pagedGridData.findRowIndex(0));
+        assertEquals(0,
+                     pagedGridData.findRowIndex(ROW_HEIGHT));
+        assertEquals(1,
+                     pagedGridData.findRowIndex(ROW_HEIGHT + 1));
+        assertEquals(999,
+                     pagedGridData.findRowIndex(1000000));
+
+        //Geometry calculations do not load pages
+        assertEquals(0,
+                     provider.getRequestCount());
+    }
+
+    @Test
+    public void testRowGeometryUsesLoadedHeights() {
+        setup(1000,
+              100,
+              500,
+              0);
+        providerRows.get(10).setHeight(50.0);
+        providerRows.get(20).setHeight(0.0);
+
+        pagedGridData.getRow(0);
+
+        assertEquals(10 * ROW_HEIGHT,
+                     pagedGridData.getRowOffset(10),
+                     0.0);
+        assertEquals(11 * ROW_HEIGHT + 30.0,
+                     pagedGridData.getRowOffset(11),
+                     0.0);
+        assertEquals(500 * ROW_HEIGHT + 10.0,
+                     pagedGridData.getRowOffset(500),
+                     0.0);
+
+        for (double y = 0; y < 600 * ROW_HEIGHT; y = y + 7.0) {
+            assertEquals("y=" + y,
+                         findRowIndexByIteration(y),
+                         pagedGridData.findRowIndex(y));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRowsCannotBeInserted() {
+        setup(10,
+              100,
+              500,
+              0);
+
+        pagedGridData.insertRow(0,
+                                new BaseGridRow());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCannotBeMerged() {
+        setup(10,
+              100,
+              500,
+              0);
+
+        pagedGridData.setMerged(true);
+    }
+
+    @Test
+    public void testCanBeUnmerged() {
+        setup(10,
+              100,
+              500,
+              0);
+
+        pagedGridData.setMerged(false);
+
+        assertFalse(pagedGridData.isMerged());
+    }
+
+    @Test
+    public void testDeleteColumnDoesNotLoadPages() {
+        setup(1000,
+              100,
+              500,
+              LATENCY);
+
+        pagedGridData.deleteColumn(pagedGridData.getColumns().get(0));
+
+        assertEquals(0,
+                     provider.getRequestCount());
+    }
+
+    @Test
+    public void testDeleteColumnUpdatesLoadedRowsOnly() {
+        setup(1000,
+              100,
+              500,
+              0);
+        final GridRow loaded = pagedGridData.getRow(150);
+        assertTrue(pagedGridData.isRowLoaded(150));
+
+        assertEquals(100,
+                     pagedGridData.getRowsHoldingCells().size());
+
+        pagedGridData.deleteColumn(pagedGridData.getColumns().get(0));
+
+        assertTrue(loaded.getCells().isEmpty());
+        assertEquals(1,
+                     provider.getRequestCount());
+    }
+
+    private int findRowIndexByIteration(final double offsetY) {
+        int rowIndex = 0;
+        double y = offsetY;
+        while (pagedGridData.getRow(rowIndex).getHeight() < y && rowIndex < pagedGridData.getRowCount() - 1) {
+            y = y - pagedGridData.getRow(rowIndex).getHeight();
+            rowIndex++;
+        }
+        return rowIndex;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.util;
+
+import org.junit.Test;
+import org.kie.grid.client.model.impl.BaseGridData;
+import org.kie.grid.client.model.impl.BaseGridRow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GridTracerTest {
+
+    private final GridTracer tracer = new GridTracer(3);
+
+    @Test
+    public void testDisabledTracerRecordsNothing() {
+        final long start = tracer.begin();
+
+        assertEquals(GridTracer.NOT_TRACED,
+                     start);
+        assertEquals(GridTracer.NOT_TRACED,
+                     tracer.end(GridTracer.MODEL,
+                                "deleteRow",
+                                start));
+        tracer.instant(GridTracer.REDRAW,
+                       "schedule");
+        assertEquals(0,
+                     tracer.size());
+        assertEquals("{\"traceEvents\":[],\"displayTimeUnit\":\"ms\"}",
+                     tracer.toJson());
+    }
+
+    @Test
+    public void testSpansBegunWhilstDisabledAreNotRecorded() {
+        final long start = tracer.begin();
+        tracer.setEnabled(true);
+        tracer.end(GridTracer.MODEL,
+                   "deleteRow",
+                   start);
+
+        assertEquals(0,
+                     tracer.size());
+    }
+
+    @Test
+    public void testSpansAreExported() {
+        tracer.setEnabled(true);
+        final long start = tracer.begin();
+        final long end = tracer.end(GridTracer.RENDER,
+                                    "makeRenderingCommands",
+                                    start);
+        tracer.end(GridTracer.RENDER,
+                   "draw",
+                   end);
+        tracer.instant(GridTracer.REDRAW,
+                       "schedule");
+
+        final String json = tracer.toJson();
+        assertTrue(json,
+                   json.startsWith("{\"traceEvents\":[{\"name\":\"makeRenderingCommands\",\"cat\":\"render\",\"ph\":\"X\",\"ts\":"));
+        assertTrue(json,
+                   json.contains("{\"name\":\"draw\",\"cat\":\"render\",\"ph\":\"X\",\"ts\":"));
+        assertTrue(json,
+                   json.contains("{\"name\":\"schedule\",\"cat\":\"redraw\",\"ph\":\"i\",\"ts\":"));
+        assertTrue(json,
+                   json.contains("\"s\":\"t\",\"pid\":1,\"tid\":1}"));
+        assertTrue(json,
+                   json.matches(".*\"dur\":[0-9]+\\.[0-9]{3},.*"));
+    }
+
+    @Test
+    public void testMostRecentEventsAreRetained() {
+        tracer.setEnabled(true);
+        for (int i = 0; i < 5; i++) {
+            tracer.instant(GridTracer.MODEL,
+                           "event" + i);
+        }
+
+        final String json = tracer.toJson();
+        assertEquals(3,
+                     tracer.size());
+        assertFalse(json.contains("event1"));
+        assertTrue(json.indexOf("event2") < json.indexOf("event3"));
+        assertTrue(json.indexOf("event3") < json.indexOf("event4"));
+
+        tracer.clear();
+        assertEquals(0,
+                     tracer.size());
+    }
+
+    @Test
+    public void testNamesAreEscaped() {
+        tracer.setEnabled(true);
+        tracer.instant(GridTracer.MODEL,
+                       "a\"b\\c\n");
+
+        assertTrue(tracer.toJson().contains("\"name\":\"a\\\"b\\\\c\\u000a\""));
+    }
+
+    @Test
+    public void testModelOperationsAreTraced() {
+        final GridTracer tracer = GridTracer.get();
+        tracer.setEnabled(true);
+        try {
+            final BaseGridData gridData = new BaseGridData();
+            gridData.appendRow(new BaseGridRow());
+            gridData.insertRow(0,
+                               new BaseGridRow());
+            gridData.deleteRow(1);
+
+            assertEquals(3,
+                         tracer.size());
+            assertTrue(tracer.toJson().contains("\"name\":\"appendRow\",\"cat\":\"model\""));
+            assertTrue(tracer.toJson().contains("\"name\":\"insertRow\",\"cat\":\"model\""));
+            assertTrue(tracer.toJson().contains("\"name\":\"deleteRow\",\"cat\":\"model\""));
+        } finally {
+            tracer.setEnabled(false);
+            tracer.clear();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityMustBePositive() {
+        tracer.setCapacity(0);
+    }
+}
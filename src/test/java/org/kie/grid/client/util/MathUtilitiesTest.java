@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MathUtilitiesTest {
+
+    @Test
+    public void testIsOne() {
+        assertTrue(MathUtilities.isOne(1.0));
+        assertTrue(MathUtilities.isOne(1.00000001));
+        assertFalse(MathUtilities.isOne(1.001));
+    }
+
+    @Test
+    public void testToOneDecimalPlace() {
+        assertEquals("12.0",
+                     MathUtilities.toOneDecimalPlace(12));
+        assertEquals("12.3",
+                     MathUtilities.toOneDecimalPlace(12.34));
+        assertEquals("12.4",
+                     MathUtilities.toOneDecimalPlace(12.35));
+        assertEquals("-0.5",
+                     MathUtilities.toOneDecimalPlace(-0.46));
+    }
+}
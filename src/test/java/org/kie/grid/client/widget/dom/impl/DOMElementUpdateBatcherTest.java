@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.dom.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class DOMElementUpdateBatcherTest {
+
+    //DOM access of all Elements, in order
+    private final List<String> calls = new ArrayList<>();
+
+    private DOMElementUpdateBatcher batcher;
+
+    @Before
+    public void setup() {
+        batcher = new DOMElementUpdateBatcher();
+    }
+
+    @Test
+    public void testUpdatesAreWrittenWhenTheFrameEnds() {
+        final List<DOMElementUpdate> updates = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            updates.add(makeUpdate());
+        }
+
+        batcher.begin();
+        for (int i = 0; i < updates.size(); i++) {
+            final DOMElementUpdate update = updates.get(i);
+            update.setBounds(0,
+                             i * 20,
+                             100,
+                             20);
+            batcher.schedule(update);
+        }
+
+        assertTrue(calls.isEmpty());
+        assertEquals(3,
+                     batcher.getPendingCount());
+
+        batcher.end();
+
+        assertFalse(calls.isEmpty());
+        assertEquals(0,
+                     batcher.getPendingCount());
+        assertOnlyWrites();
+        assertTrue(calls.contains("Style.setProperty(transform, translate(0.0px, 40.0px))"));
+    }
+
+    @Test
+    public void testNoReadsBetweenWrites() {
+        final DOMElementUpdate update1 = makeUpdate();
+        final DOMElementUpdate update2 = makeUpdate();
+
+        batcher.begin();
+        update1.setBounds(10,
+                          20,
+                          100,
+                          20);
+        update1.setScale(2,
+                         2);
+        update1.setClip("rect(5px,100px,20px,0px)");
+        batcher.schedule(update1);
+        update2.setVisible(false);
+        batcher.schedule(update2);
+        update1.setOpacity(0.5);
+        batcher.schedule(update1);
+        batcher.end();
+
+        assertOnlyWrites();
+        assertTrue(calls.contains("Style.setProperty(transform, translate(10.0px, 20.0px) scale(2.0, 2.0))"));
+        assertTrue(calls.contains("Style.setProperty(clip, rect(5px,100px,20px,0px))"));
+        assertTrue(calls.contains("Style.setOpacity(0.5)"));
+        assertTrue(calls.contains("Style.setDisplay(NONE)"));
+    }
+
+    @Test
+    public void testUpdateIsWrittenOncePerFrame() {
+        final DOMElementUpdate update = makeUpdate();
+
+        batcher.begin();
+        batcher.schedule(update);
+        batcher.schedule(update);
+
+        assertEquals(1,
+                     batcher.getPendingCount());
+    }
+
+    @Test
+    public void testUnchangedPropertiesAreNotWritten() {
+        final DOMElementUpdate update = makeUpdate();
+        update.setBounds(0,
+                         0,
+                         100,
+                         20);
+        update.apply();
+        calls.clear();
+
+        update.setBounds(0,
+                         20,
+                         100,
+                         20);
+        update.apply();
+
+        assertEquals(4,
+                     calls.size());
+        assertTrue(calls.contains("Style.setProperty(transform, translate(0.0px, 20.0px))"));
+    }
+
+    @Test
+    public void testHiddenUpdateOnlyWritesDisplay() {
+        final DOMElementUpdate update = makeUpdate();
+        update.apply();
+        calls.clear();
+
+        update.setBounds(0,
+                         20,
+                         100,
+                         20);
+        update.setVisible(false);
+        update.apply();
+
+        assertEquals(1,
+                     calls.size());
+        assertEquals("Style.setDisplay(NONE)",
+                     calls.get(0));
+    }
+
+    @Test
+    public void testUpdatesOutsideOfFrameAreWrittenImmediately() {
+        final DOMElementUpdate update = makeUpdate();
+
+        batcher.schedule(update);
+
+        assertFalse(calls.isEmpty());
+        assertEquals(0,
+                     batcher.getPendingCount());
+    }
+
+    @Test
+    public void testNestedFrames() {
+        final DOMElementUpdate update = makeUpdate();
+
+        batcher.begin();
+        batcher.begin();
+        batcher.schedule(update);
+        batcher.end();
+
+        assertTrue(calls.isEmpty());
+
+        batcher.end();
+
+        assertFalse(calls.isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEndWithoutBegin() {
+        batcher.end();
+    }
+
+    private DOMElementUpdate makeUpdate() {
+        final Style style = mock(Style.class,
+                                 (invocation) -> {
+                                     calls.add(describe("Style",
+                                                        invocation.getMethod().getName(),
+                                                        invocation.getArguments()));
+                                     return null;
+                                 });
+        final Element element = mock(Element.class,
+                                     (invocation) -> {
+                                         if (invocation.getMethod().getName().equals("getStyle")) {
+                                             return style;
+                                         }
+                                         calls.add(describe("Element",
+                                                            invocation.getMethod().getName(),
+                                                            invocation.getArguments()));
+                                         return null;
+                                     });
+        return new DOMElementUpdate(element);
+    }
+
+    private static String describe(final String type,
+                                   final String method,
+                                   final Object[] arguments) {
+        final StringBuilder sb = new StringBuilder(type).append(".").append(method).append("(");
+        for (int i = 0; i < arguments.length; i++) {
+            sb.append(i > 0 ? ", " : "").append(arguments[i]);
+        }
+        return sb.append(")").toString();
+    }
+
+    private void assertOnlyWrites() {
+        for (String call : calls) {
+            assertTrue(call,
+                       call.startsWith("Style.set") || call.startsWith("Style.clear"));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.dom.multiple.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.user.client.ui.Widget;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
+import org.kie.grid.client.widget.dom.impl.BaseDOMElement;
+import org.kie.grid.client.widget.grid.GridWidget;
+import org.kie.grid.client.widget.layer.GridLayer;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BaseDOMElementFactoryTest {
+
+    private static final int MAX_POOL_SIZE = 3;
+
+    @Mock
+    private GridLayer gridLayer;
+
+    @Mock
+    private GridWidget gridWidget;
+
+    @Mock
+    private GridBodyCellRenderContext context;
+
+    private final List<BaseDOMElement<String, Widget>> created = new ArrayList<>();
+
+    private BaseDOMElementFactory<String, Widget, BaseDOMElement<String, Widget>> factory;
+
+    @Before
+    public void setup() {
+        factory = new BaseDOMElementFactory<String, Widget, BaseDOMElement<String, Widget>>(gridLayer,
+                                                                                             gridWidget,
+                                                                                             MAX_POOL_SIZE) {
+            @Override
+            public Widget createWidget() {
+                return mock(Widget.class);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public BaseDOMElement<String, Widget> createDomElement(final GridLayer gridLayer,
+                                                                   final GridWidget gridWidget,
+                                                                   final GridBodyCellRenderContext context) {
+                final BaseDOMElement<String, Widget> domElement = mock(BaseDOMElement.class);
+                created.add(domElement);
+                return domElement;
+            }
+        };
+    }
+
+    @Test
+    public void testUnusedElementsAreHiddenAndReused() {
+        render(2);
+        render(1);
+
+        assertEquals(2,
+                     created.size());
+        verify(created.get(1)).hide();
+        verify(created.get(1),
+               never()).detach();
+
+        render(2);
+
+        assertEquals(2,
+                     created.size());
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        render(5);
+        render(1);
+
+        assertEquals(5,
+                     created.size());
+        assertEquals(MAX_POOL_SIZE,
+                     factory.domElements.size());
+        verify(created.get(1)).hide();
+        verify(created.get(2)).hide();
+        verify(created.get(3)).detach();
+        verify(created.get(4)).detach();
+    }
+
+    @Test
+    public void testPoolIsPrewarmed() {
+        factory.setExpectedElementCount(2);
+        render(1);
+
+        assertEquals(2,
+                     created.size());
+        verify(created.get(1)).attach();
+        verify(created.get(1),
+               atLeastOnce()).hide();
+
+        render(2);
+
+        assertEquals(2,
+                     created.size());
+    }
+
+    @Test
+    public void testPrewarmIsBounded() {
+        factory.setExpectedElementCount(10);
+        render(1);
+
+        assertEquals(MAX_POOL_SIZE,
+                     created.size());
+    }
+
+    @Test
+    public void testDestroyResources() {
+        render(2);
+
+        factory.destroyResources();
+
+        verify(created.get(0)).detach();
+        verify(created.get(1)).detach();
+        assertEquals(0,
+                     factory.domElements.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeExpectedElementCount() {
+        factory.setExpectedElementCount(-1);
+    }
+
+    private void render(final int elementCount) {
+        factory.initialiseResources();
+        for (int i = 0; i < elementCount; i++) {
+            factory.attachDomElement(context,
+                                     (domElement) -> {
+                                     },
+                                     (domElement) -> {
+                                     });
+        }
+        factory.freeUnusedResources();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GridRenderStatsTest {
+
+    private final GridRenderStats stats = new GridRenderStats();
+
+    @Test
+    public void testFrameCounts() {
+        stats.startFrame();
+        stats.setVisibleCounts(20,
+                               5);
+        stats.onCellRendered();
+        stats.onCellRendered();
+        stats.endFrame(0,
+                       0);
+
+        assertEquals(1,
+                     stats.getFrameCount());
+        assertEquals(20,
+                     stats.getVisibleRowCount());
+        assertEquals(5,
+                     stats.getVisibleColumnCount());
+        assertEquals(2,
+                     stats.getRenderedCellCount());
+
+        //Counts are for the most recent frame only
+        stats.startFrame();
+        stats.onCellRendered();
+        stats.endFrame(0,
+                       0);
+
+        assertEquals(2,
+                     stats.getFrameCount());
+        assertEquals(0,
+                     stats.getVisibleRowCount());
+        assertEquals(1,
+                     stats.getRenderedCellCount());
+    }
+
+    @Test
+    public void testPhaseTimes() {
+        stats.startFrame();
+        spin();
+        stats.endPhase(GridRenderStats.Phase.RENDERING_INFORMATION);
+        stats.endPhase(GridRenderStats.Phase.RENDERING_COMMANDS);
+        spin();
+        stats.endPhase(GridRenderStats.Phase.DRAW);
+        stats.endFrame(0,
+                       0);
+
+        assertTrue(stats.getTime(GridRenderStats.Phase.RENDERING_INFORMATION) > 0);
+        assertTrue(stats.getTime(GridRenderStats.Phase.DRAW) > 0);
+        assertEquals(0.0,
+                     stats.getTime(GridRenderStats.Phase.RENDER_QUEUE),
+                     0.0);
+        assertEquals(stats.getTime(GridRenderStats.Phase.RENDERING_INFORMATION) + stats.getTime(GridRenderStats.Phase.RENDERING_COMMANDS) + stats.getTime(GridRenderStats.Phase.DRAW),
+                     stats.getTotalTime(),
+                     0.000001);
+
+        stats.startFrame();
+        assertEquals(0.0,
+                     stats.getTotalTime(),
+                     0.0);
+    }
+
+    @Test
+    public void testDOMElementsSincePreviousFrame() {
+        stats.startFrame();
+        stats.onDOMElementAttached();
+        stats.endFrame(0,
+                       0);
+        //For example a DOMElement being detached on a MouseDownEvent
+        stats.onDOMElementDetached();
+        stats.onDOMElementAttached();
+        stats.startFrame();
+        stats.onDOMElementAttached();
+        stats.endFrame(0,
+                       0);
+
+        assertEquals(2,
+                     stats.getAttachedDOMElementCount());
+        assertEquals(1,
+                     stats.getDetachedDOMElementCount());
+
+        stats.startFrame();
+        stats.endFrame(0,
+                       0);
+
+        assertEquals(0,
+                     stats.getAttachedDOMElementCount());
+        assertEquals(0,
+                     stats.getDetachedDOMElementCount());
+    }
+
+    @Test
+    public void testRedrawsSincePreviousFrame() {
+        stats.startFrame();
+        stats.endFrame(10,
+                       3);
+
+        assertEquals(10,
+                     stats.getScheduledRedrawCount());
+        assertEquals(3,
+                     stats.getCoalescedRedrawCount());
+
+        stats.startFrame();
+        stats.endFrame(12,
+                       7);
+
+        assertEquals(2,
+                     stats.getScheduledRedrawCount());
+        assertEquals(4,
+                     stats.getCoalescedRedrawCount());
+    }
+
+    private static void spin() {
+        final long start = System.nanoTime();
+        while (System.nanoTime() == start) {
+            //Wait for the clock to advance
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid.impl;
+
+import java.util.function.Consumer;
+
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.grid.client.model.GridColumn;
+import org.kie.grid.client.model.impl.BaseHeaderMetaData;
+import org.kie.grid.client.model.impl.CountingGridData;
+import org.kie.grid.client.model.impl.CountingGridData.Operation;
+import org.kie.grid.client.widget.grid.columns.StringPopupColumn;
+import org.kie.grid.client.widget.grid.renderers.columns.impl.StringColumnRenderer;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Asserts bounds on the rows, cells, comparisons and heights visited by rendering and interacting with a GridWidget;
+ * which must depend upon the number of visible cells rather than the number of rows. Each operation is measured on
+ * a small and a large grid, such that an operation visiting every row fails regardless of how quickly it does so.
+ */
+@RunWith(LienzoMockitoTestRunner.class)
+public class BaseGridWidgetOperationCountTest {
+
+    private static final int SMALL_ROW_COUNT = 1_000;
+    private static final int LARGE_ROW_COUNT = 100_000;
+    private static final int COLUMN_COUNT = 20;
+    private static final int RUN_LENGTH = 4;
+
+    //Cells visible in GridRenderingHarness' viewport, allowing for partially visible rows and columns
+    private static final int VISIBLE_CELL_COUNT = (int) ((GridRenderingHarness.VIEWPORT_HEIGHT / 20 + 1) * (GridRenderingHarness.VIEWPORT_WIDTH / GridRenderingHarness.COLUMN_WIDTH + 1));
+
+    @Test
+    public void testRenderFlattenedFrame() {
+        assertBounded(false,
+                      GridRenderingHarness::drawFrame);
+    }
+
+    @Test
+    public void testRenderMergedFrame() {
+        assertBounded(true,
+                      GridRenderingHarness::drawFrame);
+    }
+
+    @Test
+    public void testClickCell() {
+        assertBounded(true,
+                      harness -> harness.getGridWidget().selectCell(new Point2D(250,
+                                                                                scrollY(harness.getModel().getRowCount()) + GridRenderingHarness.VIEWPORT_HEIGHT / 2),
+                                                                    false,
+                                                                    false));
+    }
+
+    //Measures an operation on a GridWidget scrolled to the middle of the grid, once an initial frame has been drawn
+    private static void assertBounded(final boolean isMerged,
+                                      final Consumer<GridRenderingHarness> operation) {
+        final CountingGridData small = measure(SMALL_ROW_COUNT,
+                                               isMerged,
+                                               operation);
+        final CountingGridData large = measure(LARGE_ROW_COUNT,
+                                               isMerged,
+                                               operation);
+
+        for (Operation o : Operation.values()) {
+            final int bound = o == Operation.EQUALS ? VISIBLE_CELL_COUNT : 10 * VISIBLE_CELL_COUNT;
+            small.assertAtMost(o,
+                               bound);
+            large.assertAtMost(o,
+                               bound);
+            assertTrue(o + " was counted " + large.getCount(o) + " times for " + LARGE_ROW_COUNT + " rows but " + small.getCount(o) + " for " + SMALL_ROW_COUNT,
+                       large.getCount(o) <= 2 * small.getCount(o) + 100);
+        }
+    }
+
+    private static double scrollY(final int rowCount) {
+        return rowCount * 10.0;
+    }
+
+    private static CountingGridData measure(final int rowCount,
+                                            final boolean isMerged,
+                                            final Consumer<GridRenderingHarness> operation) {
+        final GridColumn<?>[] columns = new GridColumn<?>[COLUMN_COUNT];
+        for (int columnIndex = 0; columnIndex < COLUMN_COUNT; columnIndex++) {
+            columns[columnIndex] = new StringPopupColumn(new BaseHeaderMetaData("Column " + columnIndex),
+                                                         new StringColumnRenderer(),
+                                                         GridRenderingHarness.COLUMN_WIDTH);
+        }
+        final CountingGridData gridData = CountingGridData.makeGridData(rowCount,
+                                                                        RUN_LENGTH,
+                                                                        isMerged,
+                                                                        columns);
+        final GridRenderingHarness harness = new GridRenderingHarness(gridData);
+        harness.scrollTo(0,
+                         scrollY(rowCount));
+
+        //The first frame indexes merged blocks, once, for every row
+        harness.drawFrame();
+        gridData.reset();
+
+        operation.accept(harness);
+        return gridData;
+    }
+}
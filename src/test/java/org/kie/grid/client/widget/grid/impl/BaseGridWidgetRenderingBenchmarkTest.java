@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.grid.client.widget.grid.impl;
+
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.grid.client.model.impl.BaseGridData;
+import org.kie.grid.client.widget.grid.GridRenderStats;
+import org.kie.grid.client.widget.grid.impl.GridRenderingHarness.FrameStats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Renders frames of typical interactions with {@link GridRenderingHarness} and checks the work done by a frame depends
+ * upon what is visible rather than the size of the grid.
+ */
+@RunWith(LienzoMockitoTestRunner.class)
+public class BaseGridWidgetRenderingBenchmarkTest {
+
+    private static final int COLUMN_COUNT = 20;
+
+    @Test
+    public void testScroll() {
+        final GridRenderingHarness harness = new GridRenderingHarness(GridRenderingHarness.makeModel(1_000,
+                                                                                                     COLUMN_COUNT,
+                                                                                                     100,
+                                                                                                     false));
+        final FrameStats first = harness.drawFrame();
+        FrameStats last = first;
+        for (int frame = 1; frame <= 10; frame++) {
+            harness.scrollTo(0,
+                             frame * 1_000.0);
+            last = harness.drawFrame();
+        }
+
+        //Scrolling shows a different, but equally sized, region of the grid
+        assertEquals(first.getNodes(),
+                     last.getNodes(),
+                     first.getNodes() / 10.0);
+        assertEquals(first.getTextDraws(),
+                     last.getTextDraws(),
+                     first.getTextDraws() / 10.0);
+    }
+
+    @Test
+    public void testFrameIsIndependentOfRowCount() {
+        final FrameStats small = new GridRenderingHarness(GridRenderingHarness.makeModel(1_000,
+                                                                                         COLUMN_COUNT,
+                                                                                         100,
+                                                                                         false)).drawFrame();
+        final FrameStats large = new GridRenderingHarness(GridRenderingHarness.makeModel(100_000,
+                                                                                         COLUMN_COUNT,
+                                                                                         100,
+                                                                                         false)).drawFrame();
+
+        assertEquals(small.getNodes(),
+                     large.getNodes());
+        assertEquals(small.getTextDraws(),
+                     large.getTextDraws());
+    }
+
+    @Test
+    public void testZoom() {
+        final GridRenderingHarness harness = new GridRenderingHarness(GridRenderingHarness.makeModel(1_000,
+                                                                                                     COLUMN_COUNT,
+                                                                                                     100,
+                                                                                                     false));
+        final FrameStats actualSize = harness.drawFrame();
+        harness.zoom(0.5);
+        final FrameStats zoomedOut = harness.drawFrame();
+
+        //Zooming out shows more rows and columns
+        assertTrue(zoomedOut.getNodes() > actualSize.getNodes());
+        assertTrue(zoomedOut.getTextDraws() > actualSize.getTextDraws());
+    }
+
+    @Test
+    public void testSelection() {
+        final GridRenderingHarness harness = new GridRenderingHarness(GridRenderingHarness.makeModel(1_000,
+                                                                                                     COLUMN_COUNT,
+                                                                                                     100,
+                                                                                                     false));
+        final FrameStats unselected = harness.drawFrame();
+        harness.getModel().selectCells(0,
+                                       0,
+                                       3,
+                                       10);
+        final FrameStats selected = harness.drawFrame();
+
+        assertTrue(selected.getNodes() > unselected.getNodes());
+    }
+
+    @Test
+    public void testMergedAndFlattened() {
+        final FrameStats flattened = new GridRenderingHarness(GridRenderingHarness.makeModel(1_000,
+                                                                                             COLUMN_COUNT,
+                                                                                             2,
+                                                                                             false)).drawFrame();
+        final FrameStats merged = new GridRenderingHarness(GridRenderingHarness.makeModel(1_000,
+                                                                                          COLUMN_COUNT,
+                                                                                          2,
+                                                                                          true)).drawFrame();
+
+        //Runs of equal values are rendered as a single cell
+        assertTrue(merged.getTextDraws() < flattened.getTextDraws());
+    }
+
+    @Test
+    public void testFloatingColumns() {
+        final BaseGridData model = GridRenderingHarness.makeModel(1_000,
+                                                                  COLUMN_COUNT,
+                                                                  100,
+                                                                  false);
+        model.getColumns().get(0).setFloatable(true);
+        final GridRenderingHarness harness = new GridRenderingHarness(model);
+
+        harness.drawFrame();
+        assertNull(harness.getGridWidget().floatingBody);
+
+        harness.scrollTo(500.0,
+                         0);
+        harness.drawFrame();
+
+        //The floatable column remains visible once scrolled out of view
+        assertNotNull(harness.getGridWidget().floatingBody);
+    }
+
+    @Test
+    public void testRenderStats() {
+        final GridRenderingHarness harness = new GridRenderingHarness(GridRenderingHarness.makeModel(1_000,
+                                                                                                     COLUMN_COUNT,
+                                                                                                     2,
+                                                                                                     true));
+        harness.getGridWidget().setRenderStatsEnabled(true);
+        harness.drawFrame();
+
+        final GridRenderStats stats = harness.getGridWidget().getRenderStats();
+        assertEquals(1,
+                     stats.getFrameCount());
+        assertTrue(stats.getVisibleColumnCount() < COLUMN_COUNT);
+        assertTrue(stats.getVisibleRowCount() > 0);
+        //Merged cells are rendered once
+        assertTrue(stats.getRenderedCellCount() > 0);
+        assertTrue(stats.getRenderedCellCount() < stats.getVisibleRowCount() * stats.getVisibleColumnCount());
+        assertTrue(stats.getTotalTime() > 0);
+        verify(harness.getGridLayer()).fireRenderStats(harness.getGridWidget(),
+                                                       stats);
+    }
+}
@@ -49,6 +49,7 @@ import org.kie.grid.client.widget.layer.GridSelectionManager;
 import org.kie.grid.client.widget.layer.impl.DefaultGridLayer;
 import org.kie.grid.client.widget.layer.pinning.GridPinnedModeManager;
 
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -188,6 +189,8 @@ public class BaseGridWidgetRenderingTest {
                                       1.0,
                                       boundingBox);
 
+        verify(column,
+               times(1)).setExpectedResourceCount(1);
         verify(column,
                times(1)).initialiseResources();
         verify(column,
@@ -227,4 +230,66 @@ public class BaseGridWidgetRenderingTest {
         verify(gridWidget,
                never()).drawBody(any(BaseGridRendererHelper.RenderingInformation.class));
     }
+
+    @Test
+    public void renderingFromRowsTransformSnapshot() {
+        final BaseGridRendererHelper.RenderingInformation ri = makeRenderingInformation(model,
+                                                                                        Collections.singletonList(0d));
+        when(rendererHelper.getRenderingInformation()).thenReturn(ri);
+
+        final BooleanDOMElementColumn column = spy(new BooleanDOMElementColumn(new BaseHeaderMetaData("col1"),
+                                                                               new CheckBoxDOMElementFactory(gridLayer,
+                                                                                                             gridWidget),
+                                                                               100.0));
+
+        model.appendColumn(column);
+        model.appendRow(new BaseGridRow(ROW_HEIGHT));
+        when(rendererHelper.getRowOffset(1)).thenReturn(ROW_HEIGHT);
+
+        final Context2D context2D = mock(Context2D.class);
+        final BoundingBox boundingBox = mock(BoundingBox.class);
+
+        assertTrue(gridWidget.startRowsTransform(0.0,
+                                                 ROW_HEIGHT,
+                                                 ROW_HEIGHT / 2));
+        verify(rendererHelper).setOverscanHeight(eq(ROW_HEIGHT));
+
+        //First draw renders the snapshot; subsequent draws reuse it
+        gridWidget.drawWithTransforms(context2D,
+                                      1.0,
+                                      boundingBox);
+        gridWidget.setRowsTransformHeight(0.0);
+        gridWidget.drawWithTransforms(context2D,
+                                      1.0,
+                                      boundingBox);
+
+        //DOMElements would not follow the snapshot and are hidden, as though unused, once it has been rendered
+        verify(column,
+               times(2)).initialiseResources();
+        verify(column,
+               times(1)).freeUnusedResources();
+        verify(gridWidget,
+               times(1)).drawBody(eq(ri));
+        verify(context2D,
+               times(4)).clip();
+        verify(context2D,
+               times(2)).translate(eq(0.0),
+                                   eq(-ROW_HEIGHT / 2));
+        verify(context2D,
+               times(2)).translate(eq(0.0),
+                                   eq(-ROW_HEIGHT));
+
+        //Stopping renders from the model again
+        gridWidget.stopRowsTransform();
+        verify(rendererHelper).setOverscanHeight(eq(0.0));
+
+        gridWidget.drawWithTransforms(context2D,
+                                      1.0,
+                                      boundingBox);
+
+        verify(gridWidget,
+               times(2)).drawBody(eq(ri));
+        verify(context2D,
+               times(4)).clip();
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.grid.client.widget.grid.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.types.PathPartList;
+import org.mockito.invocation.InvocationOnMock;
+
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+
+/**
+ * A mocked {@link Context2D} that counts the calls made to it, by method, such that rendering can be measured
+ * without a canvas. Calls that paint pixels are counted as draw calls, and calls that add to the current path
+ * as path segments; including each part of a {@link PathPartList} added at once.
+ */
+public class CountingContext2D {
+
+    private static final Set<String> DRAW_METHODS = new HashSet<>(Arrays.asList("fill",
+                                                                                "stroke",
+                                                                                "fillRect",
+                                                                                "strokeRect",
+                                                                                "clearRect",
+                                                                                "fillText",
+                                                                                "strokeText",
+                                                                                "fillTextWithGradient",
+                                                                                "drawImage",
+                                                                                "putImageData"));
+
+    private static final Set<String> TEXT_METHODS = new HashSet<>(Arrays.asList("fillText",
+                                                                                "strokeText",
+                                                                                "fillTextWithGradient"));
+
+    private static final Set<String> PATH_SEGMENT_METHODS = new HashSet<>(Arrays.asList("moveTo",
+                                                                                        "lineTo",
+                                                                                        "bezierCurveTo",
+                                                                                        "quadraticCurveTo",
+                                                                                        "arc",
+                                                                                        "arcTo",
+                                                                                        "ellipse",
+                                                                                        "rect"));
+
+    private final Map<String, Integer> calls = new HashMap<>();
+    private int drawCalls = 0;
+    private int textDraws = 0;
+    private int pathSegments = 0;
+
+    private final Context2D context = mock(Context2D.class,
+                                           this::answer);
+
+    public Context2D getContext() {
+        return context;
+    }
+
+    public void reset() {
+        calls.clear();
+        drawCalls = 0;
+        textDraws = 0;
+        pathSegments = 0;
+    }
+
+    public int getCalls(final String methodName) {
+        return calls.getOrDefault(methodName,
+                                  0);
+    }
+
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public int getTextDraws() {
+        return textDraws;
+    }
+
+    public int getPathSegments() {
+        return pathSegments;
+    }
+
+    private Object answer(final InvocationOnMock invocation) throws Throwable {
+        final String methodName = invocation.getMethod().getName();
+        calls.merge(methodName,
+                    1,
+                    Integer::sum);
+        if (DRAW_METHODS.contains(methodName)) {
+            drawCalls++;
+        }
+        if (TEXT_METHODS.contains(methodName)) {
+            textDraws++;
+        }
+        if (PATH_SEGMENT_METHODS.contains(methodName)) {
+            pathSegments++;
+        }
+        //Shapes add their path at once, and only fill or stroke it if it was added
+        if ("path".equals(methodName)) {
+            final Object path = invocation.getArguments()[0];
+            if (path instanceof PathPartList) {
+                pathSegments = pathSegments + ((PathPartList) path).size();
+            }
+            return true;
+        }
+        return RETURNS_DEFAULTS.answer(invocation);
+    }
+}
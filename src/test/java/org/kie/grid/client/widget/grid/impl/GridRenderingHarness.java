@@ -0,0 +1,257 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.grid.client.widget.grid.impl;
+
+import com.ait.lienzo.client.core.shape.GroupOf;
+import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.shape.Viewport;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.client.core.types.Transform;
+import org.kie.grid.client.model.impl.BaseBounds;
+import org.kie.grid.client.model.impl.BaseGridCellValue;
+import org.kie.grid.client.model.impl.BaseGridData;
+import org.kie.grid.client.model.impl.BaseGridRow;
+import org.kie.grid.client.model.impl.BaseHeaderMetaData;
+import org.kie.grid.client.widget.grid.columns.StringPopupColumn;
+import org.kie.grid.client.widget.grid.renderers.columns.impl.StringColumnRenderer;
+import org.kie.grid.client.widget.grid.renderers.grids.impl.BaseGridRenderer;
+import org.kie.grid.client.widget.grid.renderers.themes.impl.BlueTheme;
+import org.kie.grid.client.widget.layer.GridSelectionManager;
+import org.kie.grid.client.widget.layer.impl.DefaultGridLayer;
+import org.kie.grid.client.widget.layer.pinning.GridPinnedModeManager;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Renders frames of a {@link BaseGridWidget} headlessly; with the real {@link BaseGridRenderer}, column rendering
+ * strategies and column renderers drawing to a {@link CountingContext2D}. The visible bounds of the layer are
+ * controlled to scroll and zoom. Each frame is measured by the Lienzo nodes it creates, the calls made to the
+ * context and its wall time. Requires {@link com.ait.lienzo.test.LienzoMockitoTestRunner}.
+ */
+public class GridRenderingHarness {
+
+    public static final double VIEWPORT_WIDTH = 1000.0;
+    public static final double VIEWPORT_HEIGHT = 600.0;
+    public static final double COLUMN_WIDTH = 100.0;
+
+    private final BaseGridData model;
+    private final BaseGridWidget gridWidget;
+    private final DefaultGridLayer gridLayer = mock(DefaultGridLayer.class);
+    private final Viewport viewport = mock(Viewport.class);
+    private final Transform transform = mock(Transform.class);
+    private final Transform inverseTransform = mock(Transform.class);
+    private final BaseBounds visibleBounds = new BaseBounds(0,
+                                                            0,
+                                                            VIEWPORT_WIDTH,
+                                                            VIEWPORT_HEIGHT);
+    private final BoundingBox boundingBox = mock(BoundingBox.class);
+    private final CountingContext2D context = new CountingContext2D();
+    private double scale = 1.0;
+
+    public GridRenderingHarness(final BaseGridData model) {
+        this.model = model;
+        this.gridWidget = spy(new BaseGridWidget(model,
+                                                 mock(GridSelectionManager.class),
+                                                 mock(GridPinnedModeManager.class),
+                                                 new BaseGridRenderer(new BlueTheme())));
+        doReturn(gridLayer).when(gridWidget).getLayer();
+        doReturn(viewport).when(gridWidget).getViewport();
+        when(viewport.getTransform()).thenReturn(transform);
+        when(transform.copy()).thenReturn(transform);
+        when(transform.getInverse()).thenReturn(inverseTransform);
+        when(gridLayer.getVisibleBounds()).thenReturn(visibleBounds);
+        //Viewport coordinates are mapped to grid coordinates as the visible bounds are scrolled and zoomed
+        doAnswer((invocation) -> {
+            final Point2D source = (Point2D) invocation.getArguments()[0];
+            final Point2D target = (Point2D) invocation.getArguments()[1];
+            target.setX(source.getX() / scale + visibleBounds.getX());
+            target.setY(source.getY() / scale + visibleBounds.getY());
+            return null;
+        }).when(inverseTransform).transform(any(Point2D.class),
+                                            any(Point2D.class));
+        zoom(1.0);
+    }
+
+    /**
+     * Makes a grid of String columns. Values are in runs of four rows, cycling through a number of distinct values.
+     * @param rowCount Number of rows.
+     * @param columnCount Number of columns.
+     * @param cardinality Number of distinct values in each column.
+     * @param isMerged Whether runs of equal values are merged.
+     * @return A new grid.
+     */
+    public static BaseGridData makeModel(final int rowCount,
+                                         final int columnCount,
+                                         final int cardinality,
+                                         final boolean isMerged) {
+        final BaseGridData model = new BaseGridData(false);
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            model.appendColumn(new StringPopupColumn(new BaseHeaderMetaData("Column " + columnIndex),
+                                                     new StringColumnRenderer(),
+                                                     COLUMN_WIDTH));
+        }
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            model.appendRow(new BaseGridRow());
+            for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                model.setCellValue(rowIndex,
+                                   columnIndex,
+                                   new BaseGridCellValue<>("Value " + ((rowIndex / 4 + columnIndex) % cardinality)));
+            }
+        }
+        model.setMerged(isMerged);
+        return model;
+    }
+
+    public BaseGridData getModel() {
+        return model;
+    }
+
+    public BaseGridWidget getGridWidget() {
+        return gridWidget;
+    }
+
+    public DefaultGridLayer getGridLayer() {
+        return gridLayer;
+    }
+
+    public Viewport getViewport() {
+        return viewport;
+    }
+
+    /**
+     * Scrolls such that a position on the grid is at the top-left of the viewport.
+     */
+    public void scrollTo(final double x,
+                         final double y) {
+        visibleBounds.setX(x);
+        visibleBounds.setY(y);
+        updateTransform();
+    }
+
+    /**
+     * Scales the viewport; values less than one zoom out, hence showing more of the grid.
+     */
+    public void zoom(final double scale) {
+        this.scale = scale;
+        visibleBounds.setWidth(VIEWPORT_WIDTH / scale);
+        visibleBounds.setHeight(VIEWPORT_HEIGHT / scale);
+        updateTransform();
+    }
+
+    private void updateTransform() {
+        final double translateX = -visibleBounds.getX() * scale;
+        final double translateY = -visibleBounds.getY() * scale;
+        when(transform.getScaleX()).thenReturn(scale);
+        when(transform.getScaleY()).thenReturn(scale);
+        when(transform.getTranslateX()).thenReturn(translateX);
+        when(transform.getTranslateY()).thenReturn(translateY);
+    }
+
+    /**
+     * Renders and draws a frame.
+     * @return Measurements of the frame.
+     */
+    public FrameStats drawFrame() {
+        context.reset();
+        final long start = System.nanoTime();
+        gridWidget.drawWithoutTransforms(context.getContext(),
+                                         1.0,
+                                         boundingBox);
+        final long wallTime = System.nanoTime() - start;
+
+        final FrameStats stats = new FrameStats(context,
+                                                wallTime);
+        countNodes(gridWidget,
+                   stats);
+        return stats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void countNodes(final GroupOf<IPrimitive<?>, ?> group,
+                                   final FrameStats stats) {
+        for (int i = 0; i < group.getChildNodes().size(); i++) {
+            final IPrimitive<?> child = group.getChildNodes().get(i);
+            stats.nodes++;
+            if (child instanceof GroupOf) {
+                countNodes((GroupOf<IPrimitive<?>, ?>) child,
+                           stats);
+            }
+        }
+    }
+
+    /**
+     * Measurements of a single frame.
+     */
+    public static class FrameStats {
+
+        private int nodes = 0;
+        private final int drawCalls;
+        private final int pathSegments;
+        private final int textDraws;
+        private final long wallTime;
+
+        private FrameStats(final CountingContext2D context,
+                           final long wallTime) {
+            this.drawCalls = context.getDrawCalls();
+            this.pathSegments = context.getPathSegments();
+            this.textDraws = context.getTextDraws();
+            this.wallTime = wallTime;
+        }
+
+        /**
+         * @return Lienzo nodes in the scene graph of the GridWidget; all of which are created by the frame.
+         */
+        public int getNodes() {
+            return nodes;
+        }
+
+        public int getDrawCalls() {
+            return drawCalls;
+        }
+
+        public int getPathSegments() {
+            return pathSegments;
+        }
+
+        public int getTextDraws() {
+            return textDraws;
+        }
+
+        /**
+         * @return Wall time in nanoseconds.
+         */
+        public long getWallTime() {
+            return wallTime;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("nodes=%6d drawCalls=%6d pathSegments=%6d textDraws=%6d wallTime=%8.3f ms",
+                                 nodes,
+                                 drawCalls,
+                                 pathSegments,
+                                 textDraws,
+                                 wallTime / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid.impl;
+
+import com.ait.lienzo.client.core.shape.Layer;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.grid.client.model.impl.BaseGridDataIndexManager;
+import org.kie.grid.client.widget.grid.GridWidget;
+import org.kie.grid.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class GridWidgetIncrementalMergeCommandTest {
+
+    @Mock
+    private GridWidget gridWidget;
+
+    @Mock
+    private Layer layer;
+
+    @Mock
+    private BaseGridRendererHelper rendererHelper;
+
+    @Mock
+    private BaseGridRendererHelper.RenderingInformation renderingInformation;
+
+    @Mock
+    private BaseGridDataIndexManager.IncrementalIndex index;
+
+    private GridWidgetIncrementalMergeCommand command;
+
+    @Before
+    public void setup() {
+        when(gridWidget.getLayer()).thenReturn(layer);
+        when(gridWidget.getRendererHelper()).thenReturn(rendererHelper);
+        when(rendererHelper.getRenderingInformation()).thenReturn(renderingInformation);
+        when(renderingInformation.getMinVisibleRowIndex()).thenReturn(0);
+        when(renderingInformation.getMaxVisibleRowIndex()).thenReturn(20);
+        when(index.execute()).thenReturn(true);
+
+        command = new GridWidgetIncrementalMergeCommand(gridWidget,
+                                                        index);
+    }
+
+    @Test
+    public void testRedrawWhenColumnIndexed() {
+        when(index.isColumnIndexed()).thenReturn(true);
+
+        assertTrue(command.execute());
+
+        verify(layer).batch();
+    }
+
+    @Test
+    public void testRedrawWhenVisibleRowsIndexed() {
+        when(index.isAnyRowIndexed(0,
+                                   20)).thenReturn(true);
+
+        assertTrue(command.execute());
+
+        verify(layer).batch();
+    }
+
+    @Test
+    public void testRedrawAtIntervalWhenRowsIndexedAreNotVisible() {
+        for (int i = 1; i < GridWidgetIncrementalMergeCommand.REDRAW_INTERVAL; i++) {
+            command.execute();
+        }
+        verify(layer,
+               never()).batch();
+
+        command.execute();
+        verify(layer,
+               times(1)).batch();
+
+        //The interval restarts following a redraw
+        for (int i = 1; i < GridWidgetIncrementalMergeCommand.REDRAW_INTERVAL; i++) {
+            command.execute();
+        }
+        verify(layer,
+               times(1)).batch();
+    }
+
+    @Test
+    public void testNoRedrawWhenNotVisible() {
+        when(rendererHelper.getRenderingInformation()).thenReturn(null);
+
+        command.execute();
+
+        verify(layer,
+               never()).batch();
+        verify(index,
+               never()).isAnyRowIndexed(anyInt(),
+                                        anyInt());
+    }
+
+    @Test
+    public void testNoRedrawWhenCancelled() {
+        when(index.execute()).thenReturn(false);
+        when(index.isCancelled()).thenReturn(true);
+        when(index.isColumnIndexed()).thenReturn(true);
+
+        command.execute();
+
+        verify(layer,
+               never()).batch();
+    }
+}
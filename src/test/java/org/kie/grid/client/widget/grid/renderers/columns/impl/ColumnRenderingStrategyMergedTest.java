@@ -53,13 +53,17 @@ public class ColumnRenderingStrategyMergedTest {
     @Test
     public void testGetCellHeightCells3() throws Exception {
         doReturn(3).when(gridCell).getMergedCellCount();
-        Assertions.assertThat(ColumnRenderingStrategyMerged.getCellHeight(0, gridData, gridCell)).isEqualTo(BaseGridWidgetRenderingTestUtils.ROW_HEIGHT * 3);
+        doReturn(4).when(gridData).getRowCount();
+        doReturn(gridCell).when(gridData).getCell(0, 0);
+        Assertions.assertThat(GridData.MergedBlock.find(gridData, 0, 0).getHeight()).isEqualTo(BaseGridWidgetRenderingTestUtils.ROW_HEIGHT * 3);
     }
 
     @Test
     public void testGetCellHeightCells4() throws Exception {
         doReturn(4).when(gridCell).getMergedCellCount();
-        Assertions.assertThat(ColumnRenderingStrategyMerged.getCellHeight(0, gridData, gridCell)).isEqualTo(BaseGridWidgetRenderingTestUtils.ROW_HEIGHT * 4);
+        doReturn(4).when(gridData).getRowCount();
+        doReturn(gridCell).when(gridData).getCell(0, 0);
+        Assertions.assertThat(GridData.MergedBlock.find(gridData, 0, 0).getHeight()).isEqualTo(BaseGridWidgetRenderingTestUtils.ROW_HEIGHT * 4);
     }
 
     @Test
@@ -73,7 +77,7 @@ public class ColumnRenderingStrategyMergedTest {
         doReturn(cellThree).when(gridData).getCell(2, 0);
         doReturn(true).when(gridRow).isCollapsed();
 
-        Assertions.assertThat(ColumnRenderingStrategyMerged.isCollapsedCellMixedValue(gridData, 2, 0)).isTrue();
+        Assertions.assertThat(GridData.MergedBlock.find(gridData, 2, 0).isMixedValue()).isTrue();
     }
 
     @Test
@@ -87,7 +91,7 @@ public class ColumnRenderingStrategyMergedTest {
         doReturn(cellThree).when(gridData).getCell(2, 0);
         doReturn(true).when(gridRow).isCollapsed();
 
-        Assertions.assertThat(ColumnRenderingStrategyMerged.isCollapsedCellMixedValue(gridData, 2, 0)).isTrue();
+        Assertions.assertThat(GridData.MergedBlock.find(gridData, 2, 0).isMixedValue()).isTrue();
     }
 
     @Test
@@ -101,7 +105,7 @@ public class ColumnRenderingStrategyMergedTest {
         doReturn(cellThree).when(gridData).getCell(2, 0);
         doReturn(true).when(gridRow).isCollapsed();
 
-        Assertions.assertThat(ColumnRenderingStrategyMerged.isCollapsedCellMixedValue(gridData, 2, 0)).isTrue();
+        Assertions.assertThat(GridData.MergedBlock.find(gridData, 2, 0).isMixedValue()).isTrue();
     }
 
     @Test
@@ -115,7 +119,7 @@ public class ColumnRenderingStrategyMergedTest {
         doReturn(cellThree).when(gridData).getCell(2, 0);
         doReturn(true).when(gridRow).isCollapsed();
 
-        Assertions.assertThat(ColumnRenderingStrategyMerged.isCollapsedCellMixedValue(gridData, 2, 0)).isTrue();
+        Assertions.assertThat(GridData.MergedBlock.find(gridData, 2, 0).isMixedValue()).isTrue();
     }
 
     @Test
@@ -129,7 +133,7 @@ public class ColumnRenderingStrategyMergedTest {
         doReturn(cellThree).when(gridData).getCell(2, 0);
         doReturn(true).when(gridRow).isCollapsed();
 
-        Assertions.assertThat(ColumnRenderingStrategyMerged.isCollapsedCellMixedValue(gridData, 2, 0)).isFalse();
+        Assertions.assertThat(GridData.MergedBlock.find(gridData, 2, 0).isMixedValue()).isFalse();
     }
 
     @Test
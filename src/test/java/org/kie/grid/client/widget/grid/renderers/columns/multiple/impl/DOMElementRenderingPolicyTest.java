@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid.renderers.columns.multiple.impl;
+
+import java.util.Arrays;
+
+import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.google.gwt.user.client.Command;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.grid.client.model.GridColumn;
+import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.widget.context.GridBodyCellRenderContext;
+import org.kie.grid.client.widget.grid.GridWidget;
+import org.kie.grid.client.widget.layer.GridLayer;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class DOMElementRenderingPolicyTest {
+
+    private static final int IDLE_DELAY = 100;
+
+    @Mock
+    private GridLayer gridLayer;
+
+    @Mock
+    private GridWidget gridWidget;
+
+    @Mock
+    private GridData model;
+
+    private DOMElementRenderingPolicy policy;
+
+    @Before
+    public void setup() {
+        when(gridWidget.getModel()).thenReturn(model);
+
+        policy = spy(new DOMElementRenderingPolicy(gridLayer,
+                                                   gridWidget));
+        policy.setIdleDelay(IDLE_DELAY);
+        doNothing().when(policy).schedule(any(Command.class),
+                                          anyInt());
+        doReturn(1_000L).when(policy).now();
+        setColumns(0,
+                   1);
+    }
+
+    @Test
+    public void testDOMElementsWhenViewportHasNotMoved() {
+        assertTrue(policy.isDOMElementRequired(makeContext(0.0,
+                                                           5,
+                                                           0)));
+        assertTrue(policy.isDOMElementRequired(makeContext(0.0,
+                                                           6,
+                                                           0)));
+        assertFalse(policy.isMoving());
+        verify(policy,
+               never()).schedule(any(Command.class),
+                                 anyInt());
+    }
+
+    @Test
+    public void testPaintedWhilstViewportIsMoving() {
+        policy.isDOMElementRequired(makeContext(0.0,
+                                                5,
+                                                0));
+
+        assertFalse(policy.isDOMElementRequired(makeContext(-100.0,
+                                                            5,
+                                                            0)));
+        assertTrue(policy.isMoving());
+
+        //Still painted until idle
+        doReturn(1_000L + IDLE_DELAY - 1).when(policy).now();
+        assertFalse(policy.isDOMElementRequired(makeContext(-100.0,
+                                                            5,
+                                                            0)));
+
+        doReturn(1_000L + IDLE_DELAY).when(policy).now();
+        assertTrue(policy.isDOMElementRequired(makeContext(-100.0,
+                                                           5,
+                                                           0)));
+        assertFalse(policy.isMoving());
+    }
+
+    @Test
+    public void testDOMElementsNearSelectionWhilstViewportIsMoving() {
+        when(model.getSelectedCellsOrigin()).thenReturn(new GridData.SelectedCell(10,
+                                                                                  1));
+        policy.setSelectionProximity(2);
+        policy.isDOMElementRequired(makeContext(0.0,
+                                                5,
+                                                1));
+
+        assertTrue(policy.isDOMElementRequired(makeContext(-100.0,
+                                                           12,
+                                                           1)));
+        assertTrue(policy.isDOMElementRequired(makeContext(-100.0,
+                                                           8,
+                                                           1)));
+        assertFalse(policy.isDOMElementRequired(makeContext(-100.0,
+                                                            13,
+                                                            1)));
+        //The selected cell's column is focused
+        assertFalse(policy.isDOMElementRequired(makeContext(-100.0,
+                                                            10,
+                                                            0)));
+    }
+
+    @Test
+    public void testDOMElementsNearSelectionFollowingMoveColumn() {
+        //The column with model index 1 has been moved to the start
+        setColumns(1,
+                   0);
+        when(model.getSelectedCellsOrigin()).thenReturn(new GridData.SelectedCell(10,
+                                                                                  1));
+        policy.isDOMElementRequired(makeContext(0.0,
+                                                5,
+                                                0));
+
+        assertTrue(policy.isDOMElementRequired(makeContext(-100.0,
+                                                           10,
+                                                           0)));
+        assertFalse(policy.isDOMElementRequired(makeContext(-100.0,
+                                                            10,
+                                                            1)));
+    }
+
+    @Test
+    public void testLayerIsRedrawnWhenIdle() {
+        policy.isDOMElementRequired(makeContext(0.0,
+                                                5,
+                                                0));
+        policy.isDOMElementRequired(makeContext(-100.0,
+                                                5,
+                                                0));
+
+        final ArgumentCaptor<Command> commandCaptor = ArgumentCaptor.forClass(Command.class);
+        verify(policy).schedule(commandCaptor.capture(),
+                                eq(IDLE_DELAY));
+
+        //The Viewport moves again before the delay has elapsed
+        doReturn(1_000L + 60).when(policy).now();
+        policy.isDOMElementRequired(makeContext(-200.0,
+                                                5,
+                                                0));
+        doReturn(1_000L + IDLE_DELAY).when(policy).now();
+        commandCaptor.getValue().execute();
+
+        verify(gridLayer,
+               never()).batch();
+        verify(policy).schedule(commandCaptor.capture(),
+                                eq(60));
+
+        doReturn(1_000L + 60 + IDLE_DELAY).when(policy).now();
+        commandCaptor.getValue().execute();
+
+        verify(gridLayer,
+               times(1)).batch();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeIdleDelay() {
+        policy.setIdleDelay(-1);
+    }
+
+    //Columns in UI order, identified by their model index
+    private void setColumns(final int... columnIndexes) {
+        final GridColumn<?>[] columns = new GridColumn<?>[columnIndexes.length];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            columns[i] = mock(GridColumn.class);
+            when(columns[i].getIndex()).thenReturn(columnIndexes[i]);
+        }
+        when(model.getColumns()).thenReturn(Arrays.asList(columns));
+    }
+
+    private GridBodyCellRenderContext makeContext(final double translateY,
+                                                  final int rowIndex,
+                                                  final int columnIndex) {
+        final Transform transform = mock(Transform.class);
+        when(transform.getTranslateY()).thenReturn(translateY);
+        when(transform.getScaleX()).thenReturn(1.0);
+        when(transform.getScaleY()).thenReturn(1.0);
+        final GridBodyCellRenderContext context = mock(GridBodyCellRenderContext.class);
+        when(context.getTransform()).thenReturn(transform);
+        when(context.getRowIndex()).thenReturn(rowIndex);
+        when(context.getColumnIndex()).thenReturn(columnIndex);
+        return context;
+    }
+}
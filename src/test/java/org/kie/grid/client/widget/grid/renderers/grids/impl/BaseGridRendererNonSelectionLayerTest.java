@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
 
+import com.ait.lienzo.client.core.shape.Group;
 import com.ait.lienzo.client.core.shape.Line;
 import com.ait.lienzo.client.core.shape.MultiPath;
 import com.ait.lienzo.client.core.shape.Rectangle;
@@ -31,6 +32,7 @@ import org.junit.runner.RunWith;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
 import org.mockito.ArgumentCaptor;
 import org.kie.grid.client.model.GridColumn;
+import org.kie.grid.client.model.impl.BaseGridCellValue;
 import org.kie.grid.client.widget.context.GridBodyColumnRenderContext;
 import org.kie.grid.client.widget.context.GridBodyRenderContext;
 import org.kie.grid.client.widget.context.GridBoundaryRenderContext;
@@ -163,6 +165,36 @@ public class BaseGridRendererNonSelectionLayerTest extends BaseGridRendererTest
                                    column2.getWidth());
     }
 
+    @Test
+    public void checkHighlightedCells() {
+        model.setCellValue(0,
+                           0,
+                           new BaseGridCellValue<>("apple"));
+        model.setCellValue(1,
+                           0,
+                           new BaseGridCellValue<>("banana"));
+        model.setCellValue(2,
+                           0,
+                           new BaseGridCellValue<>("apricot"));
+        when(context.getMinVisibleRowIndex()).thenReturn(1);
+        when(context.getMaxVisibleRowIndex()).thenReturn(2);
+
+        final GridRenderer.RendererCommand command = renderer.renderHighlightedCells(model,
+                                                                                     context,
+                                                                                     rendererHelper,
+                                                                                     "ap");
+        assertRenderingCommands(Collections.singletonList(command),
+                                GridRenderer.RenderHighlightedCellsCommand.class);
+
+        command.execute(rc);
+
+        final double gridLineStrokeWidth = theme.getBodyGridLine().getStrokeWidth();
+        verify(renderer,
+               times(1)).renderHighlightedCell(eq(column.getWidth() - gridLineStrokeWidth),
+                                               eq(model.getRow(2).getHeight() - gridLineStrokeWidth));
+        verify(parent).add(any(Group.class));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void checkRenderHeader() {
@@ -27,6 +27,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
 import org.kie.grid.client.model.GridData;
+import org.kie.grid.client.model.impl.BaseGridCellValue;
 import org.kie.grid.client.widget.context.GridBodyColumnRenderContext;
 import org.kie.grid.client.widget.context.GridBodyRenderContext;
 import org.kie.grid.client.widget.context.GridBoundaryRenderContext;
@@ -43,6 +44,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyDouble;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyList;
 import static org.mockito.Matchers.anyObject;
@@ -100,6 +102,24 @@ public class BaseGridRendererSelectionLayerTest extends BaseGridRendererTest {
                                                       any(SelectedRange.class));
     }
 
+    @Test
+    public void checkHighlightedCells() {
+        model.setCellValue(0,
+                           0,
+                           new BaseGridCellValue<>("apple"));
+        when(context.getMinVisibleRowIndex()).thenReturn(0);
+        when(context.getMaxVisibleRowIndex()).thenReturn(1);
+
+        renderer.renderHighlightedCells(model,
+                                        context,
+                                        rendererHelper,
+                                        "ap").execute(rc);
+
+        verify(renderer, never()).renderHighlightedCell(anyDouble(),
+                                                        anyDouble());
+        verify(parent, never()).add(anyObject());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void checkRenderHeader() {
@@ -32,6 +32,7 @@ import org.kie.grid.client.model.GridCell;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
 import org.kie.grid.client.model.impl.BaseBounds;
+import org.kie.grid.client.model.impl.BaseGridCellValue;
 import org.kie.grid.client.model.impl.BaseGridData;
 import org.kie.grid.client.model.impl.BaseGridRow;
 import org.kie.grid.client.model.impl.BaseGridTest;
@@ -48,6 +49,7 @@ import org.mockito.Mock;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
@@ -585,6 +587,52 @@ public class BaseCellSelectionManagerTest {
         assertStartEditingCoordinateWithinGridBounds(null);
     }
 
+    @Test
+    public void copySelectedCells() {
+        gridWidgetData.setCellValue(0,
+                                    0,
+                                    new BaseGridCellValue<>("a"));
+        gridWidgetData.setCellValue(1,
+                                    1,
+                                    new BaseGridCellValue<>("b"));
+        gridWidgetData.selectCells(0,
+                                   0,
+                                   2,
+                                   2);
+
+        final StringBuilder text = new StringBuilder();
+        cellSelectionManager.copySelectedCells(text::append);
+
+        assertEquals("a\t\n\tb\n",
+                     text.toString());
+    }
+
+    @Test
+    public void pasteCellsAtSelectionOrigin() {
+        gridWidgetData.selectCell(1,
+                                  0);
+
+        assertTrue(cellSelectionManager.pasteCells("a\tb\nignored"));
+
+        assertEquals("a",
+                     gridWidgetData.getCell(1,
+                                            0).getValue().getValue());
+        assertEquals("b",
+                     gridWidgetData.getCell(1,
+                                            1).getValue().getValue());
+        assertNull(gridWidgetData.getCell(0,
+                                          0));
+        verify(gridLayer).batch();
+    }
+
+    @Test
+    public void pasteCellsWithoutSelection() {
+        assertFalse(cellSelectionManager.pasteCells("a"));
+
+        verify(gridLayer,
+               never()).batch();
+    }
+
     @SuppressWarnings("unchecked")
     private void assertStartEditingCoordinateWithinGridBounds(final Group header) {
         final ArgumentCaptor<GridBodyCellRenderContext> contextArgumentCaptor = ArgumentCaptor.forClass(GridBodyCellRenderContext.class);
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.grid.selections.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.grid.client.model.impl.BaseGridCellValue;
+import org.kie.grid.client.model.impl.BaseGridTest;
+import org.kie.grid.client.widget.grid.renderers.grids.impl.SelectedRange;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TsvReaderWriterTest extends BaseGridTest {
+
+    @Test
+    public void testWriteRanges() {
+        makeData(new Object[]{"a", "b", "c"},
+                 new Object[]{1, 2, 3},
+                 new Object[]{"x", "y", "z"});
+
+        assertEquals("a\t1\nb\t2\n",
+                     write(1000,
+                           new SelectedRange(0,
+                                             0,
+                                             2,
+                                             2)));
+        //Cells between ranges are written empty
+        assertEquals("a\t\tx\n\t\t\n\t\tz\n",
+                     write(1000,
+                           new SelectedRange(0,
+                                             0),
+                           new SelectedRange(0,
+                                             2),
+                           new SelectedRange(2,
+                                             2)));
+    }
+
+    @Test
+    public void testWriteSkipsHiddenColumns() {
+        makeData(new Object[]{"a"},
+                 new Object[]{"b"},
+                 new Object[]{"c"});
+        gridColumns[1].setVisible(false);
+
+        assertEquals("a\tc\n",
+                     write(1000,
+                           new SelectedRange(0,
+                                             0,
+                                             3,
+                                             1)));
+    }
+
+    @Test
+    public void testWriteInChunks() {
+        makeData(new Object[]{"aaaa", "bbbb", "cccc"});
+        final List<String> chunks = new ArrayList<>();
+
+        new TsvWriter(gridData,
+                      8,
+                      chunks::add).write(Collections.singletonList(new SelectedRange(0,
+                                                                                     0,
+                                                                                     1,
+                                                                                     3)));
+
+        assertEquals(Arrays.asList("aaaa\nbbbb\n",
+                                   "cccc\n"),
+                     chunks);
+    }
+
+    @Test
+    public void testRoundTripQuotedValues() {
+        makeData(new Object[]{"tab\there", "line\nbreak", "\"quoted\""},
+                 new Object[]{"plain", "", "crlf\r\n"});
+
+        final TsvReader reader = new TsvReader(write(1000,
+                                                     new SelectedRange(0,
+                                                                       0,
+                                                                       2,
+                                                                       3)));
+
+        assertEquals(Arrays.asList("tab\there",
+                                   "plain"),
+                     reader.next());
+        assertEquals(Arrays.asList("line\nbreak",
+                                   ""),
+                     reader.next());
+        assertEquals(Arrays.asList("\"quoted\"",
+                                   "crlf\r\n"),
+                     reader.next());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testReadLineEndings() {
+        final TsvReader reader = new TsvReader("a\tb\r\nc\n\nd");
+
+        assertTrue(reader.hasNext());
+        assertEquals(Arrays.asList("a",
+                                   "b"),
+                     reader.next());
+        assertEquals(Collections.singletonList("c"),
+                     reader.next());
+        assertEquals(Collections.singletonList(""),
+                     reader.next());
+        assertEquals(Collections.singletonList("d"),
+                     reader.next());
+        assertFalse(reader.hasNext());
+        assertFalse(new TsvReader("").hasNext());
+    }
+
+    private String write(final int chunkSize,
+                         final SelectedRange... ranges) {
+        final StringBuilder text = new StringBuilder();
+        new TsvWriter(gridData,
+                      chunkSize,
+                      text::append).write(Arrays.asList(ranges));
+        return text.toString();
+    }
+
+    private void makeData(final Object[]... values) {
+        constructGridData(false,
+                          values.length,
+                          values[0].length);
+        for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+            for (int rowIndex = 0; rowIndex < values[columnIndex].length; rowIndex++) {
+                gridData.setCellValue(rowIndex,
+                                      columnIndex,
+                                      new BaseGridCellValue<>(values[columnIndex][rowIndex]));
+            }
+        }
+    }
+}
@@ -32,20 +32,26 @@ import org.junit.runner.RunWith;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.impl.BaseGridWidget;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.kie.grid.client.model.GridColumn;
 import org.kie.grid.client.model.GridData;
 import org.kie.grid.client.model.impl.BaseGridData;
+import org.kie.grid.client.widget.dom.impl.DOMElementUpdateBatcher;
 import org.kie.grid.client.widget.grid.GridWidget;
 import org.kie.grid.client.widget.grid.impl.BaseGridWidget;
 import org.kie.grid.client.widget.grid.renderers.grids.GridRenderer;
+import org.kie.grid.client.widget.layer.GridRenderStatsListener;
 import org.kie.grid.client.widget.layer.pinning.impl.DefaultPinnedModeManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -458,4 +464,40 @@ public class DefaultGridLayerTest {
         assertThat(gridLayer.getGridWidgets().size()).isEqualTo(1);
         assertThat(gridLayer.getGridWidgets()).containsOnly(gridWidget1);
     }
+
+    @Test
+    public void testDrawBatchesDOMElementUpdates() {
+        final DOMElementUpdateBatcher batcher = mock(DOMElementUpdateBatcher.class);
+        gridLayer.setDomElementUpdateBatcher(batcher);
+
+        gridLayer.draw();
+
+        final InOrder inOrder = inOrder(batcher);
+        inOrder.verify(batcher).begin();
+        inOrder.verify(batcher).end();
+    }
+
+    @Test
+    public void testRenderStatsListenerEnablesCollection() {
+        final GridWidget gridWidget1 = makeGridWidget();
+        final GridWidget gridWidget2 = makeGridWidget();
+        final GridRenderStatsListener listener = mock(GridRenderStatsListener.class);
+
+        gridLayer.add(gridWidget1);
+        assertNull(gridWidget1.getRenderStats());
+
+        gridLayer.addRenderStatsListener(listener);
+        gridLayer.add(gridWidget2);
+        assertNotNull(gridWidget1.getRenderStats());
+        assertNotNull(gridWidget2.getRenderStats());
+
+        gridLayer.fireRenderStats(gridWidget1,
+                                  gridWidget1.getRenderStats());
+        verify(listener).onFrame(eq(gridWidget1),
+                                 eq(gridWidget1.getRenderStats()));
+
+        gridLayer.removeRenderStatsListener(listener);
+        assertNull(gridWidget1.getRenderStats());
+        assertNull(gridWidget2.getRenderStats());
+    }
 }
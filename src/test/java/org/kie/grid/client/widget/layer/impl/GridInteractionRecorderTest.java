@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.layer.impl;
+
+import java.util.Arrays;
+
+import com.ait.lienzo.client.core.event.NodeMouseDownEvent;
+import com.ait.lienzo.client.core.event.NodeMouseDownHandler;
+import com.ait.lienzo.client.core.event.NodeMouseMoveEvent;
+import com.ait.lienzo.client.core.event.NodeMouseMoveHandler;
+import com.ait.lienzo.client.core.event.NodeMouseUpHandler;
+import com.ait.lienzo.client.core.shape.Viewport;
+import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.google.gwt.event.dom.client.KeyDownEvent;
+import com.google.gwt.event.dom.client.KeyDownHandler;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.dom.client.ScrollHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.ui.AbsolutePanel;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class GridInteractionRecorderTest {
+
+    @Mock
+    private GridLienzoPanel panel;
+
+    @Mock
+    private AbsolutePanel scrollPanel;
+
+    @Mock
+    private DefaultGridLayer layer;
+
+    @Mock
+    private Viewport viewport;
+
+    @Mock
+    private Transform transform;
+
+    @Mock
+    private HandlerRegistration registration;
+
+    private GridInteractionRecorder recorder;
+
+    @Before
+    public void setup() {
+        when(panel.getDefaultGridLayer()).thenReturn(layer);
+        when(panel.getScrollPanel()).thenReturn(scrollPanel);
+        when(panel.addKeyDownHandler(any(KeyDownHandler.class))).thenReturn(registration);
+        when(scrollPanel.addDomHandler(any(ScrollHandler.class),
+                                       eq(ScrollEvent.getType()))).thenReturn(registration);
+        when(layer.getViewport()).thenReturn(viewport);
+        when(layer.addNodeMouseMoveHandler(any(NodeMouseMoveHandler.class))).thenReturn(registration);
+        when(layer.addNodeMouseDownHandler(any(NodeMouseDownHandler.class))).thenReturn(registration);
+        when(layer.addNodeMouseUpHandler(any(NodeMouseUpHandler.class))).thenReturn(registration);
+        when(viewport.getTransform()).thenReturn(transform);
+        when(transform.getScaleX()).thenReturn(1.0);
+        when(transform.getScaleY()).thenReturn(1.0);
+
+        recorder = new GridInteractionRecorder(panel);
+    }
+
+    @Test
+    public void testInteractionsAreRecorded() {
+        recorder.start();
+
+        final ArgumentCaptor<NodeMouseMoveHandler> mouseMoveHandler = ArgumentCaptor.forClass(NodeMouseMoveHandler.class);
+        final ArgumentCaptor<NodeMouseDownHandler> mouseDownHandler = ArgumentCaptor.forClass(NodeMouseDownHandler.class);
+        final ArgumentCaptor<KeyDownHandler> keyDownHandler = ArgumentCaptor.forClass(KeyDownHandler.class);
+        verify(layer).addNodeMouseMoveHandler(mouseMoveHandler.capture());
+        verify(layer).addNodeMouseDownHandler(mouseDownHandler.capture());
+        verify(panel).addKeyDownHandler(keyDownHandler.capture());
+
+        final NodeMouseMoveEvent mouseMoveEvent = mock(NodeMouseMoveEvent.class);
+        when(mouseMoveEvent.getX()).thenReturn(120);
+        when(mouseMoveEvent.getY()).thenReturn(18);
+        mouseMoveHandler.getValue().onNodeMouseMove(mouseMoveEvent);
+
+        //The Viewport is dragged before the next event
+        when(transform.getTranslateY()).thenReturn(-400.0);
+        final NodeMouseDownEvent mouseDownEvent = mock(NodeMouseDownEvent.class);
+        when(mouseDownEvent.getX()).thenReturn(120);
+        when(mouseDownEvent.getY()).thenReturn(100);
+        mouseDownHandler.getValue().onNodeMouseDown(mouseDownEvent);
+
+        final KeyDownEvent keyDownEvent = mock(KeyDownEvent.class);
+        when(keyDownEvent.getNativeKeyCode()).thenReturn(40);
+        when(keyDownEvent.isShiftKeyDown()).thenReturn(true);
+        keyDownHandler.getValue().onKeyDown(keyDownEvent);
+
+        recorder.recordCellEdit(3,
+                                1,
+                                "value");
+
+        assertEquals(Arrays.asList(GridInteraction.scroll(0,
+                                                          0),
+                                   GridInteraction.mouseMove(120,
+                                                             18),
+                                   GridInteraction.scroll(0,
+                                                          400),
+                                   GridInteraction.mouseDown(120,
+                                                             100),
+                                   GridInteraction.keyDown(40,
+                                                           true,
+                                                           false),
+                                   GridInteraction.cellEdit(3,
+                                                            1,
+                                                            "value")),
+                     recorder.getInteractions());
+        assertEquals(recorder.getInteractions(),
+                     GridInteraction.parse(recorder.toScript()));
+    }
+
+    @Test
+    public void testStop() {
+        recorder.start();
+        assertTrue(recorder.isRecording());
+
+        recorder.stop();
+
+        assertFalse(recorder.isRecording());
+        verify(registration,
+               times(5)).removeHandler();
+
+        recorder.recordCellEdit(3,
+                                1,
+                                "value");
+        assertEquals(1,
+                     recorder.getInteractions().size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStartWithoutLayer() {
+        when(panel.getDefaultGridLayer()).thenReturn(null);
+
+        recorder.start();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStartWhenRecording() {
+        recorder.start();
+
+        recorder.start();
+    }
+}
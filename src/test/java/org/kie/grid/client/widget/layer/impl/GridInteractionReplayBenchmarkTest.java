@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.layer.impl;
+
+import java.util.List;
+
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.grid.client.model.impl.BaseGridData;
+import org.kie.grid.client.widget.grid.columns.RowNumberColumn;
+import org.kie.grid.client.widget.grid.impl.GridRenderingHarness;
+import org.kie.grid.client.widget.layer.impl.GridInteractionReplayer.StepStats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Replays a session with {@link GridInteractionReplayer} and checks the measurements of each step. Sessions recorded
+ * with {@link GridInteractionRecorder} can be replayed in the same way to reproduce slow interactions.
+ */
+@RunWith(LienzoMockitoTestRunner.class)
+public class GridInteractionReplayBenchmarkTest {
+
+    //The row number column is 50px wide and followed by 100px wide columns. The header is 64px high and rows 20px.
+    private static final String SESSION = "SCROLL 0.0 0.0\n" +
+            //Hover over the header
+            "MOUSE_MOVE 300.0 30.0\n" +
+            "MOUSE_MOVE 400.0 30.0\n" +
+            //Resize the first column, from 100px to 150px
+            "MOUSE_MOVE 150.0 100.0\n" +
+            "MOUSE_DOWN 150.0 100.0\n" +
+            "MOUSE_MOVE 175.0 100.0\n" +
+            "MOUSE_MOVE 200.0 100.0\n" +
+            "MOUSE_UP 200.0 100.0\n" +
+            //Drag the second row down
+            "MOUSE_MOVE 25.0 90.0\n" +
+            "MOUSE_DOWN 25.0 90.0\n" +
+            "MOUSE_MOVE 25.0 130.0\n" +
+            "MOUSE_MOVE 25.0 170.0\n" +
+            "MOUSE_UP 25.0 170.0\n" +
+            //Scroll and move the selected cell
+            "SCROLL 0.0 2000.0\n" +
+            "SCROLL 0.0 4000.0\n" +
+            "KEY_DOWN 40 false false\n" +
+            "KEY_DOWN 40 false false\n" +
+            "KEY_DOWN 39 false false\n" +
+            "KEY_DOWN 40 true false\n" +
+            "CELL_EDIT 200 2 Edited value\n";
+
+    @Test
+    public void testReplaySession() {
+        final BaseGridData model = GridRenderingHarness.makeModel(10_000,
+                                                                  20,
+                                                                  100,
+                                                                  false);
+        model.insertColumn(0,
+                           new RowNumberColumn());
+        model.selectCell(0,
+                         1);
+        final GridInteractionReplayer replayer = new GridInteractionReplayer(new GridRenderingHarness(model));
+        final List<GridInteraction> interactions = GridInteraction.parse(SESSION);
+
+        final List<StepStats> steps = replayer.replay(interactions);
+
+        assertEquals(interactions.size(),
+                     steps.size());
+        assertEquals(150.0,
+                     model.getColumns().get(1).getWidth(),
+                     0.0);
+        assertEquals("Edited value",
+                     model.getCell(200,
+                                   2).getValue().getValue());
+        for (int i = 0; i < steps.size(); i++) {
+            final StepStats step = steps.get(i);
+            assertSame(interactions.get(i),
+                       step.getInteraction());
+            assertTrue(step.toString(),
+                       step.getHandlerTime() >= 0);
+            assertTrue(step.toString(),
+                       step.getFrameTime() >= 0);
+            assertEquals(step.getHandlerTime() + step.getFrameTime(),
+                         step.getLatency());
+            assertTrue(step.toString(),
+                       step.getAllocatedBytes() >= -1);
+            //Scrolling and editing always redraw the grid
+            final GridInteraction.Type type = step.getInteraction().getType();
+            if (type == GridInteraction.Type.SCROLL || type == GridInteraction.Type.CELL_EDIT) {
+                assertTrue(step.toString(),
+                           step.getFrameTime() > 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.layer.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ait.lienzo.client.core.event.NodeMouseDownEvent;
+import com.ait.lienzo.client.core.event.NodeMouseMoveEvent;
+import com.ait.lienzo.client.core.event.NodeMouseUpEvent;
+import com.ait.lienzo.client.core.mediator.Mediators;
+import com.ait.lienzo.client.core.shape.Viewport;
+import com.google.gwt.dom.client.DivElement;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.event.dom.client.KeyDownEvent;
+import org.kie.grid.client.model.impl.BaseGridCellValue;
+import org.kie.grid.client.widget.dnd.GridWidgetDnDHandlersState;
+import org.kie.grid.client.widget.dnd.GridWidgetDnDMouseDownHandler;
+import org.kie.grid.client.widget.dnd.GridWidgetDnDMouseMoveHandler;
+import org.kie.grid.client.widget.dnd.GridWidgetDnDMouseUpHandler;
+import org.kie.grid.client.widget.grid.GridWidget;
+import org.kie.grid.client.widget.grid.impl.BaseGridWidgetKeyboardHandler;
+import org.kie.grid.client.widget.grid.impl.GridRenderingHarness;
+import org.kie.grid.client.widget.grid.impl.KeyboardOperationClearCell;
+import org.kie.grid.client.widget.grid.impl.KeyboardOperationMoveDown;
+import org.kie.grid.client.widget.grid.impl.KeyboardOperationMoveLeft;
+import org.kie.grid.client.widget.grid.impl.KeyboardOperationMoveRight;
+import org.kie.grid.client.widget.grid.impl.KeyboardOperationMoveUp;
+import org.kie.grid.client.widget.grid.impl.KeyboardOperationSelectBottomRightCell;
+import org.kie.grid.client.widget.grid.impl.KeyboardOperationSelectTopLeftCell;
+import org.kie.grid.client.widget.layer.impl.GridLayerRedrawManager.PrioritizedCommand;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Replays {@link GridInteraction}s recorded by {@link GridInteractionRecorder} headlessly against a
+ * {@link GridRenderingHarness}; with the real drag-and-drop and keyboard handlers of a {@link DefaultGridLayer}.
+ * Each step is measured by the wall time and bytes allocated handling the interaction and, if the interaction
+ * caused the layer to be redrawn, drawing the next frame. Scrolling moves the Viewport directly, as
+ * {@link org.kie.grid.client.widget.scrollbars.GridLienzoScrollHandler} would once the browser had moved its
+ * scrollbars. Requires {@link com.ait.lienzo.test.LienzoMockitoTestRunner}.
+ */
+public class GridInteractionReplayer {
+
+    private static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final GridRenderingHarness harness;
+    private final GridWidgetDnDMouseDownHandler mouseDownHandler;
+    private final GridWidgetDnDMouseMoveHandler mouseMoveHandler;
+    private final GridWidgetDnDMouseUpHandler mouseUpHandler;
+    private final BaseGridWidgetKeyboardHandler keyboardHandler;
+    private boolean isRedrawRequested = false;
+
+    public GridInteractionReplayer(final GridRenderingHarness harness) {
+        this.harness = harness;
+
+        final DefaultGridLayer layer = harness.getGridLayer();
+        final Viewport viewport = harness.getViewport();
+        final DivElement element = mock(DivElement.class);
+        when(layer.getGridWidgets()).thenReturn(Collections.<GridWidget>singleton(harness.getGridWidget()));
+        when(layer.getViewport()).thenReturn(viewport);
+        when(viewport.getElement()).thenReturn(element);
+        when(viewport.getMediators()).thenReturn(new Mediators(viewport));
+        when(element.getStyle()).thenReturn(mock(Style.class));
+        doAnswer((invocation) -> {
+            isRedrawRequested = true;
+            return layer;
+        }).when(layer).batch();
+        doAnswer((invocation) -> {
+            isRedrawRequested = true;
+            return layer;
+        }).when(layer).batch(any(PrioritizedCommand.class));
+        doAnswer((invocation) -> {
+            isRedrawRequested = true;
+            return layer;
+        }).when(layer).draw();
+
+        final GridWidgetDnDHandlersState state = new GridWidgetDnDHandlersState();
+        this.mouseDownHandler = new GridWidgetDnDMouseDownHandler(layer,
+                                                                  state);
+        this.mouseMoveHandler = new GridWidgetDnDMouseMoveHandler(layer,
+                                                                  state);
+        this.mouseUpHandler = new GridWidgetDnDMouseUpHandler(layer,
+                                                              state);
+        this.keyboardHandler = new BaseGridWidgetKeyboardHandler(layer);
+        keyboardHandler.addOperation(new KeyboardOperationClearCell(layer),
+                                     new KeyboardOperationMoveLeft(layer),
+                                     new KeyboardOperationMoveRight(layer),
+                                     new KeyboardOperationMoveUp(layer),
+                                     new KeyboardOperationMoveDown(layer),
+                                     new KeyboardOperationSelectTopLeftCell(layer),
+                                     new KeyboardOperationSelectBottomRightCell(layer));
+
+        harness.getGridWidget().select();
+        harness.drawFrame();
+    }
+
+    /**
+     * Replays interactions in order.
+     * @param interactions The interactions.
+     * @return Measurements of each interaction.
+     */
+    public List<StepStats> replay(final List<GridInteraction> interactions) {
+        final List<StepStats> steps = new ArrayList<>();
+        for (GridInteraction interaction : interactions) {
+            steps.add(replay(interaction));
+        }
+        return steps;
+    }
+
+    public StepStats replay(final GridInteraction interaction) {
+        //Events are mocked before measuring, such that only the handling of the event is measured
+        final Runnable action = prepare(interaction);
+        isRedrawRequested = false;
+        final long startAllocated = getAllocatedBytes();
+        final long start = System.nanoTime();
+        action.run();
+        final long handlerTime = System.nanoTime() - start;
+
+        final long frameStart = System.nanoTime();
+        final boolean isRedrawn = isRedrawRequested;
+        if (isRedrawn) {
+            harness.drawFrame();
+        }
+        final long frameTime = System.nanoTime() - frameStart;
+        final long endAllocated = getAllocatedBytes();
+
+        return new StepStats(interaction,
+                             handlerTime,
+                             isRedrawn ? frameTime : 0,
+                             startAllocated < 0 ? -1 : endAllocated - startAllocated);
+    }
+
+    private Runnable prepare(final GridInteraction interaction) {
+        switch (interaction.getType()) {
+            case SCROLL:
+                harness.scrollTo(interaction.getX(),
+                                 interaction.getY());
+                return () -> isRedrawRequested = true;
+            case MOUSE_MOVE:
+                final NodeMouseMoveEvent mouseMoveEvent = mock(NodeMouseMoveEvent.class);
+                when(mouseMoveEvent.getX()).thenReturn((int) interaction.getX());
+                when(mouseMoveEvent.getY()).thenReturn((int) interaction.getY());
+                return () -> mouseMoveHandler.onNodeMouseMove(mouseMoveEvent);
+            case MOUSE_DOWN:
+                final NodeMouseDownEvent mouseDownEvent = mock(NodeMouseDownEvent.class);
+                when(mouseDownEvent.getX()).thenReturn((int) interaction.getX());
+                when(mouseDownEvent.getY()).thenReturn((int) interaction.getY());
+                return () -> mouseDownHandler.onNodeMouseDown(mouseDownEvent);
+            case MOUSE_UP:
+                final NodeMouseUpEvent mouseUpEvent = mock(NodeMouseUpEvent.class);
+                when(mouseUpEvent.getX()).thenReturn((int) interaction.getX());
+                when(mouseUpEvent.getY()).thenReturn((int) interaction.getY());
+                return () -> mouseUpHandler.onNodeMouseUp(mouseUpEvent);
+            case KEY_DOWN:
+                final KeyDownEvent keyDownEvent = mock(KeyDownEvent.class);
+                when(keyDownEvent.getNativeKeyCode()).thenReturn(interaction.getKeyCode());
+                when(keyDownEvent.isShiftKeyDown()).thenReturn(interaction.isShiftKeyDown());
+                when(keyDownEvent.isControlKeyDown()).thenReturn(interaction.isControlKeyDown());
+                return () -> keyboardHandler.onKeyDown(keyDownEvent);
+            default:
+                final BaseGridCellValue<String> value = new BaseGridCellValue<>(interaction.getValue());
+                return () -> {
+                    harness.getModel().setCellValue(interaction.getRowIndex(),
+                                                    interaction.getColumnIndex(),
+                                                    value);
+                    isRedrawRequested = true;
+                };
+        }
+    }
+
+    //Bytes allocated by this thread, or -1 if the JVM cannot measure them
+    private static long getAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * Measurements of a single interaction.
+     */
+    public static class StepStats {
+
+        private final GridInteraction interaction;
+        private final long handlerTime;
+        private final long frameTime;
+        private final long allocatedBytes;
+
+        private StepStats(final GridInteraction interaction,
+                          final long handlerTime,
+                          final long frameTime,
+                          final long allocatedBytes) {
+            this.interaction = interaction;
+            this.handlerTime = handlerTime;
+            this.frameTime = frameTime;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public GridInteraction getInteraction() {
+            return interaction;
+        }
+
+        /**
+         * @return Wall time handling the interaction, in nanoseconds.
+         */
+        public long getHandlerTime() {
+            return handlerTime;
+        }
+
+        /**
+         * @return Wall time drawing the frame that followed the interaction, in nanoseconds; or zero if the
+         * interaction did not cause a redraw.
+         */
+        public long getFrameTime() {
+            return frameTime;
+        }
+
+        public long getLatency() {
+            return handlerTime + frameTime;
+        }
+
+        /**
+         * @return Bytes allocated by the interaction and frame; or -1 if the JVM cannot measure allocations.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-32s handler=%8.3f ms frame=%8.3f ms allocated=%,12d B",
+                                 interaction,
+                                 handlerTime / 1_000_000.0,
+                                 frameTime / 1_000_000.0,
+                                 allocatedBytes);
+        }
+    }
+}
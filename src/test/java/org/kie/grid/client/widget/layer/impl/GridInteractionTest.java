@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.layer.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class GridInteractionTest {
+
+    @Test
+    public void testRoundTrip() {
+        final List<GridInteraction> interactions = Arrays.asList(GridInteraction.scroll(0,
+                                                                                        1200.5),
+                                                                 GridInteraction.mouseMove(312,
+                                                                                           18),
+                                                                 GridInteraction.mouseDown(312,
+                                                                                           18),
+                                                                 GridInteraction.mouseUp(400,
+                                                                                         18),
+                                                                 GridInteraction.keyDown(40,
+                                                                                         true,
+                                                                                         false),
+                                                                 GridInteraction.cellEdit(12,
+                                                                                          3,
+                                                                                          "Pending approval"));
+        final StringBuilder script = new StringBuilder();
+        interactions.forEach((interaction) -> script.append(interaction).append("\n"));
+
+        assertEquals(interactions,
+                     GridInteraction.parse(script.toString()));
+    }
+
+    @Test
+    public void testFormat() {
+        assertEquals("SCROLL 0.0 1200.5",
+                     GridInteraction.scroll(0,
+                                            1200.5).toString());
+        assertEquals("KEY_DOWN 40 true false",
+                     GridInteraction.keyDown(40,
+                                             true,
+                                             false).toString());
+        assertEquals("CELL_EDIT 12 3 two lines",
+                     GridInteraction.cellEdit(12,
+                                              3,
+                                              "two\nlines").toString());
+    }
+
+    @Test
+    public void testBlankLinesAreIgnored() {
+        assertEquals(Arrays.asList(GridInteraction.mouseMove(1,
+                                                             2),
+                                   GridInteraction.cellEdit(0,
+                                                            0,
+                                                            "")),
+                     GridInteraction.parse("\n  MOUSE_MOVE 1 2\n\nCELL_EDIT 0 0\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownInteraction() {
+        GridInteraction.parse("MOUSE_WHEEL 1 2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingArguments() {
+        GridInteraction.parse("MOUSE_MOVE 1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMalformedArguments() {
+        GridInteraction.parse("KEY_DOWN down false false");
+    }
+}
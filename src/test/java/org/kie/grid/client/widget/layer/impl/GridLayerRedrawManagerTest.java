@@ -20,6 +20,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.grid.client.widget.layer.impl.GridLayerRedrawManager.PrioritizedCommand;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
 @RunWith(LienzoMockitoTestRunner.class)
@@ -38,6 +39,38 @@ public class GridLayerRedrawManagerTest {
                    gridLayerRedrawManager.commands.first());
     }
 
+    @Test
+    public void scheduledAndCoalescedCommandsAreCounted() {
+        //Commands are de-duplicated by priority, so use priorities not scheduled by other tests
+        final TestPrioritizedCommand c1 = new TestPrioritizedCommand(101);
+        final TestPrioritizedCommand c2 = new TestPrioritizedCommand(102);
+
+        final GridLayerRedrawManager gridLayerRedrawManager = GridLayerRedrawManager.get();
+        final int scheduledCount = gridLayerRedrawManager.getScheduledCount();
+        final int coalescedCount = gridLayerRedrawManager.getCoalescedCount();
+        gridLayerRedrawManager.schedule(c1);
+        gridLayerRedrawManager.schedule(c2);
+        gridLayerRedrawManager.schedule(c1);
+
+        assertEquals(scheduledCount + 2,
+                     gridLayerRedrawManager.getScheduledCount());
+        assertEquals(coalescedCount + 1,
+                     gridLayerRedrawManager.getCoalescedCount());
+    }
+
+    @Test
+    public void pendingCommandsAreCounted() {
+        final TestPrioritizedCommand c1 = new TestPrioritizedCommand(103);
+
+        final GridLayerRedrawManager gridLayerRedrawManager = GridLayerRedrawManager.get();
+        final int pendingCount = gridLayerRedrawManager.getPendingCount();
+        gridLayerRedrawManager.schedule(c1);
+        gridLayerRedrawManager.schedule(c1);
+
+        assertEquals(pendingCount + 1,
+                     gridLayerRedrawManager.getPendingCount());
+    }
+
     private static class TestPrioritizedCommand extends GridLayerRedrawManager.PrioritizedCommand implements Comparable<GridLayerRedrawManager.PrioritizedCommand> {
 
         public TestPrioritizedCommand(int priority) {
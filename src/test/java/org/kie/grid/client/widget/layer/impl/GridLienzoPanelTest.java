@@ -32,6 +32,8 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.kie.grid.client.widget.scrollbars.GridLienzoScrollHandler;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -39,6 +41,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(LienzoMockitoTestRunner.class)
@@ -62,6 +65,12 @@ public class GridLienzoPanelTest {
     @Mock
     private LienzoPanel lienzoPanel;
 
+    @Mock
+    private DefaultGridLayer defaultGridLayer;
+
+    @Mock
+    private GridPerformanceOverlay performanceOverlay;
+
     private GridLienzoPanel gridLienzoPanel;
 
     @Before
@@ -230,4 +239,35 @@ public class GridLienzoPanelTest {
 
         verify(lienzoScrollHandler).refreshScrollPosition();
     }
+
+    @Test
+    public void testShowPerformanceOverlay() {
+
+        doReturn(defaultGridLayer).when(gridLienzoPanel).getDefaultGridLayer();
+        doReturn(performanceOverlay).when(gridLienzoPanel).makePerformanceOverlay();
+
+        gridLienzoPanel.setPerformanceOverlayVisible(true);
+        gridLienzoPanel.setPerformanceOverlayVisible(true);
+
+        assertTrue(gridLienzoPanel.isPerformanceOverlayVisible());
+        verify(lienzoPanel,
+               times(1)).add(performanceOverlay);
+        verify(defaultGridLayer,
+               times(1)).addRenderStatsListener(performanceOverlay);
+        verify(defaultGridLayer).batch();
+    }
+
+    @Test
+    public void testHidePerformanceOverlay() {
+
+        doReturn(defaultGridLayer).when(gridLienzoPanel).getDefaultGridLayer();
+        doReturn(performanceOverlay).when(gridLienzoPanel).makePerformanceOverlay();
+
+        gridLienzoPanel.setPerformanceOverlayVisible(true);
+        gridLienzoPanel.setPerformanceOverlayVisible(false);
+
+        assertFalse(gridLienzoPanel.isPerformanceOverlayVisible());
+        verify(defaultGridLayer).removeRenderStatsListener(performanceOverlay);
+        verify(performanceOverlay).removeFromParent();
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.grid.client.widget.layer.impl;
+
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.grid.client.widget.grid.GridRenderStats;
+import org.kie.grid.client.widget.grid.GridWidget;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class GridPerformanceOverlayTest {
+
+    @Mock
+    private GridWidget gridWidget;
+
+    private GridPerformanceOverlay overlay;
+
+    @Before
+    public void setup() {
+        overlay = spy(new GridPerformanceOverlay(() -> 12));
+        doReturn(overlay).when(overlay).batch();
+    }
+
+    @Test
+    public void testOverlayIsFixedAndDoesNotListen() {
+        assertFalse(overlay.isTransformable());
+        assertFalse(overlay.isListening());
+    }
+
+    @Test
+    public void testFramesOfGridWidgetsAreCombined() {
+        overlay.onFrame(gridWidget,
+                        makeStats(1.0,
+                                  2.0,
+                                  4.0,
+                                  8.0,
+                                  10,
+                                  5,
+                                  3));
+        overlay.onFrame(gridWidget,
+                        makeStats(0.5,
+                                  0.5,
+                                  1.0,
+                                  2.0,
+                                  4,
+                                  5,
+                                  1));
+        verify(overlay,
+               times(2)).batch();
+
+        overlay.update(System.nanoTime());
+
+        assertEquals("Frame: 19.0 ms (info 1.5, commands 2.5, queue 5.0, draw 10.0)",
+                     overlay.getFrameText().getText());
+        assertEquals("Cells: 70 visible, 70 rendered",
+                     overlay.getCellsText().getText());
+        assertEquals("DOM elements: 12 (+4 -0)",
+                     overlay.getDomText().getText());
+        assertTrue(overlay.getRedrawText().getText().endsWith("(2 scheduled, 0 coalesced)"));
+    }
+
+    @Test
+    public void testLastFrameIsShownUntilTheNext() {
+        overlay.onFrame(gridWidget,
+                        makeStats(1.0,
+                                  2.0,
+                                  4.0,
+                                  8.0,
+                                  10,
+                                  5,
+                                  3));
+        overlay.update(System.nanoTime());
+
+        //The overlay may be redrawn without any GridWidget having been drawn
+        overlay.update(System.nanoTime());
+
+        assertEquals("Frame: 15.0 ms (info 1.0, commands 2.0, queue 4.0, draw 8.0)",
+                     overlay.getFrameText().getText());
+    }
+
+    @Test
+    public void testFramesPerSecond() {
+        final long start = 1_000L;
+        overlay.onFrame(gridWidget,
+                        makeStats(1.0,
+                                  1.0,
+                                  1.0,
+                                  1.0,
+                                  1,
+                                  1,
+                                  0));
+        overlay.update(start);
+        for (int frame = 1; frame <= 30; frame++) {
+            overlay.onFrame(gridWidget,
+                            makeStats(1.0,
+                                      1.0,
+                                      1.0,
+                                      1.0,
+                                      1,
+                                      1,
+                                      0));
+            overlay.update(start + frame * GridPerformanceOverlay.FPS_INTERVAL / 30);
+        }
+
+        assertEquals("FPS: 30.0",
+                     overlay.getFpsText().getText());
+    }
+
+    private static GridRenderStats makeStats(final double renderingInformationTime,
+                                             final double renderingCommandsTime,
+                                             final double renderQueueTime,
+                                             final double drawTime,
+                                             final int visibleRowCount,
+                                             final int visibleColumnCount,
+                                             final int attachedDOMElementCount) {
+        final GridRenderStats stats = mock(GridRenderStats.class);
+        when(stats.getTime(GridRenderStats.Phase.RENDERING_INFORMATION)).thenReturn(renderingInformationTime);
+        when(stats.getTime(GridRenderStats.Phase.RENDERING_COMMANDS)).thenReturn(renderingCommandsTime);
+        when(stats.getTime(GridRenderStats.Phase.RENDER_QUEUE)).thenReturn(renderQueueTime);
+        when(stats.getTime(GridRenderStats.Phase.DRAW)).thenReturn(drawTime);
+        when(stats.getVisibleRowCount()).thenReturn(visibleRowCount);
+        when(stats.getVisibleColumnCount()).thenReturn(visibleColumnCount);
+        when(stats.getRenderedCellCount()).thenReturn(visibleRowCount * visibleColumnCount);
+        when(stats.getAttachedDOMElementCount()).thenReturn(attachedDOMElementCount);
+        when(stats.getScheduledRedrawCount()).thenReturn(1);
+        return stats;
+    }
+}